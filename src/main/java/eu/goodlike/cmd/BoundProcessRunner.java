@@ -41,7 +41,7 @@ public final class BoundProcessRunner implements ProcessRunner {
      * @throws NullPointerException if processRunner is null
      */
     public BoundProcessRunner(ProcessRunner processRunner) {
-        Null.check(processRunner).as("processRunner");
+        Null.require("Cannot be null: processRunner", processRunner);
         this.processRunner = processRunner;
     }
 
@@ -21,14 +21,14 @@ public final class CommandLineRunner implements ProcessRunner {
     @Override
     public Optional<Process> execute(String command, String... args) {
         assertCommandValid(command);
-        Null.checkArray(args).as("args");
+        Null.requireArray("Cannot be or contain null: args", args);
         return execute(command, Stream.of(args));
     }
 
     @Override
     public Optional<Process> execute(String command, List<String> args) {
         assertCommandValid(command);
-        Null.checkList(args).as("args");
+        Null.requireCollection("Cannot be or contain null: args", args);
         return execute(command, args.stream());
     }
 
@@ -40,7 +40,7 @@ public final class CommandLineRunner implements ProcessRunner {
     // PRIVATE
 
     private void assertCommandValid(String command) {
-        Null.check(command).as("command");
+        Null.require("Cannot be null: command", command);
         NOT_BLANK.ifInvalid(command)
                 .thenThrow(() -> new IllegalArgumentException("Cannot be blank: " + command));
     }
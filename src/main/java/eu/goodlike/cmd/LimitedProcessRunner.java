@@ -47,7 +47,7 @@ public final class LimitedProcessRunner implements ProcessRunner {
      * @throws IllegalArgumentException if maxConcurrentProcesses < 1
      */
     public LimitedProcessRunner(ProcessRunner processRunner, int maxConcurrentProcesses, ProcessHookAttacher processHookAttacher) {
-        Null.check(processRunner, processHookAttacher).as("processRunner, processHookAttacher");
+        Null.require("Cannot be null: processRunner, processHookAttacher", processRunner, processHookAttacher);
         if (maxConcurrentProcesses < 1)
             throw new IllegalArgumentException("Cannot create fewer than 1 process: " + maxConcurrentProcesses);
 
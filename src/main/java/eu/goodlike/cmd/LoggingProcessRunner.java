@@ -51,7 +51,8 @@ public final class LoggingProcessRunner implements ProcessRunner {
      * @throws NullPointerException if processRunner, log or processHookAttacher is null
      */
     public LoggingProcessRunner(ProcessRunner processRunner, Log log, ProcessHookAttacher processHookAttacher) {
-        Null.check(processRunner, log, processHookAttacher).as("processRunner, log, processHookAttacher");
+        Null.require("Cannot be null: processRunner, log, processHookAttacher",
+                processRunner, log, processHookAttacher);
 
         this.processRunner = processRunner;
         this.log = log;
@@ -61,7 +61,7 @@ public final class ProcessHookAttacher implements AutoCloseable {
      * @throws NullPointerException if executionService or processFinishService is null
      */
     public ProcessHookAttacher(ExecutorService executionService, ExecutorService processFinishService) {
-        Null.check(executionService, processFinishService).as("executionService, processFinishService");
+        Null.require("Cannot be null: executionService, processFinishService", executionService, processFinishService);
 
         this.executionService = executionService;
         this.processFinishService = processFinishService;
@@ -54,7 +54,7 @@ public final class CaseMatcher<CaseClass> {
      * @throws NullPointerException if resultClass is null
      */
     public <ResultClass> MappingBuilder<CaseClass, ResultClass> mapInto(Class<ResultClass> resultClass) {
-        Null.check(resultClass).ifAny("Cannot be null: resultClass");
+        Null.require("Cannot be null: resultClass", resultClass);
         return new MappingBuilder<>(matchableClasses, resultClass);
     }
 
@@ -67,8 +67,8 @@ public final class CaseMatcher<CaseClass> {
      */
     @SafeVarargs
     public CaseMatcher(Class<? extends CaseClass> firstCase, Class<? extends CaseClass>... otherCases) {
-        Null.check(firstCase).ifAny("Cannot be null: firstCase");
-        Null.checkArray(otherCases).ifAny("Cannot be or contain null: otherCases");
+        Null.require("Cannot be null: firstCase", firstCase);
+        Null.requireArray("Cannot be or contain null: otherCases", otherCases);
 
         ensureClassesAreImplemented(firstCase, otherCases);
 
@@ -140,7 +140,7 @@ public final class CaseMatcher<CaseClass> {
          * @throws IllegalStateException if caseClass already has a defined consumer in this builder
          */
         public <T extends CaseClass> MatcherBuilder<CaseClass> onCase(Class<T> caseClass, Consumer<? super T> onMatchConsumer) {
-            Null.check(caseClass, onMatchConsumer).ifAny("Cannot be null: caseClass, onMatchConsumer");
+            Null.require("Cannot be null: caseClass, onMatchConsumer", caseClass, onMatchConsumer);
             assertCaseIsMatchable(caseClass);
 
             if (matchers.containsKey(caseClass))
@@ -174,7 +174,7 @@ public final class CaseMatcher<CaseClass> {
          */
         @SafeVarargs
         public final MatcherBuilder<CaseClass> match(CaseClass... values) {
-            Null.checkArray(values).ifAny("Cannot be or contain null: values");
+            Null.requireArray("Cannot be or contain null: values", values);
             assertAllConsumersAreDefined(matchers.keySet());
 
             Arrays.stream(values).forEach(this::consumeCorrectValue);
@@ -211,7 +211,7 @@ public final class CaseMatcher<CaseClass> {
          */
         public <T extends CaseClass> MappingBuilder<CaseClass, ResultClass> onCase(Class<T> caseClass,
                                                                                    Function<? super T, ? extends ResultClass> mapper) {
-            Null.check(caseClass, mapper).ifAny("Cannot be null: caseClass, mapper");
+            Null.require("Cannot be null: caseClass, mapper", caseClass, mapper);
             assertCaseIsMatchable(caseClass);
 
             if (matchers.containsKey(caseClass))
@@ -245,7 +245,7 @@ public final class CaseMatcher<CaseClass> {
          * this builder
          */
         public ResultClass map(CaseClass value) {
-            Null.check(value).ifAny("Cannot be null: value");
+            Null.require("Cannot be null: value", value);
             assertAllConsumersAreDefined(matchers.keySet());
 
             return mapIntoCorrectValue(value);
@@ -43,7 +43,7 @@ public final class FutureCompleter implements AutoCloseable {
      * </pre>
      */
     public void ensureCompletion(CompletableFuture<?> future, String hangReason) {
-        Null.check(future, hangReason).ifAny("Cannot be null: future, hangReason");
+        Null.require("Cannot be null: future, hangReason", future, hangReason);
 
         if (future.isDone())
             return;
@@ -66,7 +66,7 @@ public final class FutureCompleter implements AutoCloseable {
     // CONSTRUCTORS
 
     public FutureCompleter(Duration duration, ExecutorService executorService) {
-        Null.check(duration, executorService).ifAny("Cannot be null: duration, executorService");
+        Null.require("Cannot be null: duration, executorService", duration, executorService);
         if (duration.minus(MINIMUM_DURATION).isNegative())
             throw new IllegalArgumentException("Duration must be at least " + MINIMUM_DURATION + ", not: " + duration);
 
@@ -28,7 +28,7 @@ public final class Futures {
      * @throws NullPointerException if context or supplier are null
      */
     public static <T> CompletableFuture<T> valueFromSupplierAsRunnable(Consumer<Runnable> context, Supplier<T> supplier) {
-        Null.check(context, supplier).ifAny("Context and supplier cannot be null");
+        Null.require("Context and supplier cannot be null", context, supplier);
 
         CompletableFuture<T> future = new CompletableFuture<>();
         context.accept(() -> future.complete(supplier.get()));
@@ -40,7 +40,7 @@ public final class Futures {
      * @throws NullPointerException if throwable is null
      */
     public static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
-        Null.check(throwable).ifAny("Throwable cannot be null");
+        Null.require("Throwable cannot be null", throwable);
 
         CompletableFuture<T> failedFuture = new CompletableFuture<>();
         failedFuture.completeExceptionally(throwable);
@@ -54,7 +54,7 @@ public final class Futures {
      */
     public static <Result> BiConsumer<Result, Throwable> completionHandler(Consumer<Result> resultConsumer,
                                                                               Consumer<Throwable> errorConsumer) {
-        Null.check(resultConsumer, errorConsumer).ifAny("Result consumer and error consumer cannot be null");
+        Null.require("Result consumer and error consumer cannot be null", resultConsumer, errorConsumer);
 
         return (result, error) ->  {
             if (error == null)
@@ -70,7 +70,7 @@ public final class Futures {
      */
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     public static <T> CompletableFuture<T> fromOptional(Optional<T> optional, Supplier<Throwable> onEmpty) {
-        Null.check(optional, onEmpty).ifAny("Optional and supplier cannot be null");
+        Null.require("Optional and supplier cannot be null", optional, onEmpty);
 
         return optional.isPresent()
                 ? CompletableFuture.completedFuture(optional.get())
@@ -83,7 +83,7 @@ public final class Futures {
      */
     @SafeVarargs
     public static <T> CompletableFuture<List<T>> allOf(CompletableFuture<T>... futures) {
-        Null.checkArray(futures).as("futures");
+        Null.requireArray("Cannot be or contain null: futures", futures);
 
         return CompletableFuture.allOf(futures)
                 .thenApply(all -> Arrays.stream(futures).map(CompletableFuture::join).collect(toList()));
@@ -95,7 +95,7 @@ public final class Futures {
      */
     @SafeVarargs
     public static <T> CompletableFuture<T> anyOf(CompletableFuture<T>... futures) {
-        Null.checkArray(futures).as("futures");
+        Null.requireArray("Cannot be or contain null: futures", futures);
 
         @SuppressWarnings("unchecked")
         CompletableFuture<T> future = (CompletableFuture<T>) CompletableFuture.anyOf(futures);
@@ -0,0 +1,14 @@
+package eu.goodlike.functional;
+
+/**
+ * Consumer which accepts two ints, without boxing them
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+
+    /**
+     * Same as BiConsumer.accept(t, u), except for two ints
+     */
+    void accept(int left, int right);
+
+}
@@ -20,7 +20,7 @@ public final class Optionals {
      */
     @SafeVarargs
     public static <T> Stream<T> asStream(Optional<T>... optionals) {
-        Null.checkArray(optionals).ifAny("Cannot be or contain null: optionals");
+        Null.requireArray("Cannot be or contain null: optionals", optionals);
         return Stream.of(optionals)
                 .filter(Optional::isPresent)
                 .map(Optional::get);
@@ -32,7 +32,7 @@ public final class Optionals {
      * @throws NullPointerException if singleOptional is null
      */
     public static <T> Stream<T> asStream(Optional<T> singleOptional) {
-        Null.check(singleOptional).ifAny("Cannot be null: singleOptional");
+        Null.require("Cannot be null: singleOptional", singleOptional);
         return singleOptional.isPresent()
                 ? Stream.of(singleOptional.get())
                 : Stream.empty();
@@ -44,7 +44,7 @@ public final class Optionals {
      */
     @SafeVarargs
     public static <T> Stream<T> lazyStream(Supplier<Optional<T>>... lazyOptionals) {
-        Null.checkArray(lazyOptionals).ifAny("Cannot be or contain null: lazyOptionals");
+        Null.requireArray("Cannot be or contain null: lazyOptionals", lazyOptionals);
         return Arrays.stream(lazyOptionals)
                 .map(Supplier::get)
                 .flatMap(Optionals::asStream);
@@ -66,7 +66,7 @@ public final class Optionals {
      */
     @SafeVarargs
     public static <T> Optional<T> lazyFirstNotEmpty(Supplier<Optional<T>>... lazyOptionals) {
-        Null.checkArray(lazyOptionals).ifAny("Cannot be or contain null: lazyOptionals");
+        Null.requireArray("Cannot be or contain null: lazyOptionals", lazyOptionals);
         return lazyStream(lazyOptionals).findFirst();
     }
 
@@ -78,7 +78,7 @@ public final class Predicates {
      */
     @SafeVarargs
     public static <T> Predicate<T> conjunction(Predicate<? super T>... predicates) {
-        Null.checkArray(predicates).ifAny("Predicates cannot be null");
+        Null.requireArray("Predicates cannot be null", predicates);
 
         Predicate<T> totalCondition = alwaysTrue();
         for (Predicate<? super T> nextCondition : predicates)
@@ -92,7 +92,7 @@ public final class Predicates {
      * @throws NullPointerException if predicate array is or contains null
      */
     public static DoublePredicate conjunction(DoublePredicate... predicates) {
-        Null.checkArray(predicates).ifAny("Predicates cannot be null");
+        Null.requireArray("Predicates cannot be null", predicates);
 
         DoublePredicate totalCondition = alwaysTrueForDouble();
         for (DoublePredicate nextCondition : predicates)
@@ -106,7 +106,7 @@ public final class Predicates {
      * @throws NullPointerException if predicate array is or contains null
      */
     public static IntPredicate conjunction(IntPredicate... predicates) {
-        Null.checkArray(predicates).ifAny("Predicates cannot be null");
+        Null.requireArray("Predicates cannot be null", predicates);
 
         IntPredicate totalCondition = alwaysTrueForInt();
         for (IntPredicate nextCondition : predicates)
@@ -120,7 +120,7 @@ public final class Predicates {
      * @throws NullPointerException if predicate array is or contains null
      */
     public static LongPredicate conjunction(LongPredicate... predicates) {
-        Null.checkArray(predicates).ifAny("Predicates cannot be null");
+        Null.requireArray("Predicates cannot be null", predicates);
 
         LongPredicate totalCondition = alwaysTrueForLong();
         for (LongPredicate nextCondition : predicates)
@@ -135,7 +135,7 @@ public final class Predicates {
      */
     @SafeVarargs
     public static <T> Predicate<T> disjunction(Predicate<? super T>... predicates) {
-        Null.checkArray(predicates).ifAny("Predicates cannot be null");
+        Null.requireArray("Predicates cannot be null", predicates);
 
         Predicate<T> totalCondition = alwaysFalse();
         for (Predicate<? super T> nextCondition : predicates)
@@ -149,7 +149,7 @@ public final class Predicates {
      * @throws NullPointerException if predicate array is or contains null
      */
     public static DoublePredicate disjunction(DoublePredicate... predicates) {
-        Null.checkArray(predicates).ifAny("Predicates cannot be null");
+        Null.requireArray("Predicates cannot be null", predicates);
 
         DoublePredicate totalCondition = alwaysFalseForDouble();
         for (DoublePredicate nextCondition : predicates)
@@ -163,7 +163,7 @@ public final class Predicates {
      * @throws NullPointerException if predicate array is or contains null
      */
     public static IntPredicate disjunction(IntPredicate... predicates) {
-        Null.checkArray(predicates).ifAny("Predicates cannot be null");
+        Null.requireArray("Predicates cannot be null", predicates);
 
         IntPredicate totalCondition = alwaysFalseForInt();
         for (IntPredicate nextCondition : predicates)
@@ -177,7 +177,7 @@ public final class Predicates {
      * @throws NullPointerException if predicate array is or contains null
      */
     public static LongPredicate disjunction(LongPredicate... predicates) {
-        Null.checkArray(predicates).ifAny("Predicates cannot be null");
+        Null.requireArray("Predicates cannot be null", predicates);
 
         LongPredicate totalCondition = alwaysFalseForLong();
         for (LongPredicate nextCondition : predicates)
@@ -191,7 +191,7 @@ public final class Predicates {
      * @throws NullPointerException if predicate is null
      */
     public static IntPredicate forInts(Predicate<? super Integer> predicate) {
-        Null.check(predicate).ifAny("Predicate cannot be null");
+        Null.require("Predicate cannot be null", predicate);
         return predicate::test;
     }
 
@@ -200,7 +200,7 @@ public final class Predicates {
      * @throws NullPointerException if predicate is null
      */
     public static LongPredicate forLongs(Predicate<? super Long> predicate) {
-        Null.check(predicate).ifAny("Predicate cannot be null");
+        Null.require("Predicate cannot be null", predicate);
         return predicate::test;
     }
 
@@ -209,7 +209,7 @@ public final class Predicates {
      * @throws NullPointerException if predicate is null
      */
     public static DoublePredicate forDoubles(Predicate<? super Double> predicate) {
-        Null.check(predicate).ifAny("Predicate cannot be null");
+        Null.require("Predicate cannot be null", predicate);
         return predicate::test;
     }
 
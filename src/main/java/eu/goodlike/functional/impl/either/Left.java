@@ -52,74 +52,74 @@ public final class Left<L, R> implements Either<L, R> {
 
     @Override
     public Either<L, R> ifLeft(Consumer<? super L> consumer) {
-        Null.check(consumer).as("consumer");
+        Null.require("Cannot be null: consumer", consumer);
         consumer.accept(left);
         return this;
     }
 
     @Override
     public Either<L, R> ifRight(Consumer<? super R> consumer) {
-        Null.check(consumer).as("consumer");
+        Null.require("Cannot be null: consumer", consumer);
         return this;
     }
 
     @Override
     public Either<L, R> ifNeither(Runnable action) {
-        Null.check(action).as("action");
+        Null.require("Cannot be null: action", action);
         return this;
     }
 
     @Override
     public Either<L, R> filterLeft(Predicate<? super L> predicate) {
-        Null.check(predicate).as("predicate");
+        Null.require("Cannot be null: predicate", predicate);
         return predicate.test(left) ? this : Either.neither();
     }
 
     @Override
     public Either<L, R> filterRight(Predicate<? super R> predicate) {
-        Null.check(predicate).as("predicate");
+        Null.require("Cannot be null: predicate", predicate);
         return this;
     }
 
     @Override
     public <U1> Either<U1, R> mapLeft(Function<? super L, ? extends U1> mapper) {
-        Null.check(mapper).as("mapper");
+        Null.require("Cannot be null: mapper", mapper);
         return Either.left(mapper.apply(left));
     }
 
     @Override
     public <U2> Either<L, U2> mapRight(Function<? super R, ? extends U2> mapper) {
-        Null.check(mapper).as("mapper");
+        Null.require("Cannot be null: mapper", mapper);
         return self();
     }
 
     @Override
     public <U> Optional<U> collapse(Function<? super L, ? extends U> leftMapper, Function<? super R, ? extends U> rightMapper) {
-        Null.check(leftMapper, rightMapper).as("leftMapper, rightMapper");
+        Null.require("Cannot be null: leftMapper, rightMapper", leftMapper, rightMapper);
         return Optional.ofNullable(leftMapper.apply(left));
     }
 
     @Override
     public <U> Optional<U> collapse(BiFunction<? super L, ? super R, ? extends U> mapper) {
-        Null.check(mapper).as("mapper");
+        Null.require("Cannot be null: mapper", mapper);
         return Optional.ofNullable(mapper.apply(left, null));
     }
 
     @Override
     public <U> Either<U, R> flatMapLeft(Function<? super L, Either<U, R>> mapper) {
-        Null.check(mapper).as("mapper");
+        Null.require("Cannot be null: mapper", mapper);
         return mapper.apply(left);
     }
 
     @Override
     public <U> Either<L, U> flatMapRight(Function<? super R, Either<L, U>> mapper) {
-        Null.check(mapper).as("mapper");
+        Null.require("Cannot be null: mapper", mapper);
         return self();
     }
 
     @Override
     public <U1, U2> Either<U1, U2> flatMap(BiFunction<? super L, ? super R, Either<U1, U2>> mapper) {
-        Null.check(mapper).as("mapper");
+        Null.require("Cannot be null: mapper", mapper);
         return mapper.apply(left, null);
     }
 
@@ -130,13 +130,13 @@ public final class Left<L, R> implements Either<L, R> {
 
     @Override
     public L leftOrGet(Supplier<? extends L> supplier) {
-        Null.check(supplier).as("supplier");
+        Null.require("Cannot be null: supplier", supplier);
         return left;
     }
 
     @Override
     public <X extends Throwable> L leftOrThrow(Supplier<? extends X> exceptionSupplier) throws X {
-        Null.check(exceptionSupplier).as("exceptionSupplier");
+        Null.require("Cannot be null: exceptionSupplier", exceptionSupplier);
         return left;
     }
 
@@ -147,43 +147,43 @@ public final class Left<L, R> implements Either<L, R> {
 
     @Override
     public R rightOrGet(Supplier<? extends R> supplier) {
-        Null.check(supplier).as("supplier");
+        Null.require("Cannot be null: supplier", supplier);
         return supplier.get();
     }
 
     @Override
     public <X extends Throwable> R rightOrThrow(Supplier<? extends X> exceptionSupplier) throws X {
-        Null.check(exceptionSupplier).as("exceptionSupplier");
+        Null.require("Cannot be null: exceptionSupplier", exceptionSupplier);
         throw exceptionSupplier.get();
     }
 
     @Override
     public <X extends Throwable> Either<L, R> ifLeftThrow(Supplier<? extends X> exceptionSupplier) throws X {
-        Null.check(exceptionSupplier).as("exceptionSupplier");
+        Null.require("Cannot be null: exceptionSupplier", exceptionSupplier);
         throw exceptionSupplier.get();
     }
 
     @Override
     public <X extends Throwable> Either<L, R> ifLeftThrowPass(Function<L, ? extends X> exceptionFunction) throws X {
-        Null.check(exceptionFunction).as("exceptionFunction");
+        Null.require("Cannot be null: exceptionFunction", exceptionFunction);
         throw exceptionFunction.apply(left);
     }
 
     @Override
     public <X extends Throwable> Either<L, R> ifRightThrow(Supplier<? extends X> exceptionSupplier) throws X {
-        Null.check(exceptionSupplier).as("exceptionSupplier");
+        Null.require("Cannot be null: exceptionSupplier", exceptionSupplier);
         return this;
     }
 
     @Override
     public <X extends Throwable> Either<L, R> ifRightThrowPass(Function<R, ? extends X> exceptionFunction) throws X {
-        Null.check(exceptionFunction).as("exceptionFunction");
+        Null.require("Cannot be null: exceptionFunction", exceptionFunction);
         return this;
     }
 
     @Override
     public <X extends Throwable> Either<L, R> ifNeitherThrow(Supplier<? extends X> exceptionSupplier) throws X {
-        Null.check(exceptionSupplier).as("exceptionSupplier");
+        Null.require("Cannot be null: exceptionSupplier", exceptionSupplier);
         return this;
     }
 
@@ -195,7 +195,7 @@ public final class Left<L, R> implements Either<L, R> {
     // CONSTRUCTORS
 
     public Left(L left) {
-        Null.check(left).as("left");
+        Null.require("Cannot be null: left", left);
         this.left = left;
     }
 
@@ -109,7 +109,7 @@ public final class IntSampler<T> {
      * @return stream of int function results, evaluated for all i in indexes
      */
     public Stream<T> stream(int... indexes) {
-        Null.checkAlone(indexes).ifAny("Index array cannot be null");
+        Null.require("Index array cannot be null", indexes);
         return map(IntStream.of(indexes));
     }
 
@@ -117,14 +117,14 @@ public final class IntSampler<T> {
      * @return stream of int function results, evaluated for all i in indexes
      */
     public Stream<T> stream(Collection<Integer> indexes) {
-        Null.checkCollection(indexes).ifAny("Index collection cannot be null");
+        Null.requireCollection("Index collection cannot be null", indexes);
         return map(indexes.stream().mapToInt(Integer::intValue));
     }
 
     // CONSTRUCTORS
 
     public IntSampler(IntFunction<T> anyFunction) {
-        Null.check(anyFunction).ifAny("Integer function cannot be null");
+        Null.require("Integer function cannot be null", anyFunction);
         this.anyFunction = anyFunction;
     }
 
@@ -109,7 +109,7 @@ public final class LongSampler<T> {
      * @return stream of long function results, evaluated for all i in indexes
      */
     public Stream<T> stream(long... indexes) {
-        Null.checkAlone(indexes).ifAny("Index array cannot be null");
+        Null.require("Index array cannot be null", indexes);
         return map(LongStream.of(indexes));
     }
 
@@ -117,14 +117,14 @@ public final class LongSampler<T> {
      * @return stream of long function results, evaluated for all i in indexes
      */
     public Stream<T> stream(Collection<Long> indexes) {
-        Null.checkCollection(indexes).ifAny("Index collection cannot be null");
+        Null.requireCollection("Index collection cannot be null", indexes);
         return map(indexes.stream().mapToLong(Long::intValue));
     }
 
     // CONSTRUCTORS
 
     public LongSampler(LongFunction<T> anyFunction) {
-        Null.check(anyFunction).ifAny("Long function cannot be null");
+        Null.require("Long function cannot be null", anyFunction);
         this.anyFunction = anyFunction;
     }
 
@@ -0,0 +1,173 @@
+package eu.goodlike.io;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <pre>
+ * Writer which encodes chars as UTF-8 straight into a reusable direct ByteBuffer, and writes the buffer into a
+ * FileChannel whenever it fills up, is flushed or the SyncPolicy requires the data to be forced
+ *
+ * Appending does not allocate anything; unpaired surrogates are written as '?', same as the encoder of an
+ * OutputStreamWriter would
+ * </pre>
+ */
+final class ChannelWriter extends Writer {
+
+    @Override
+    public void write(int c) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            encode((char) c);
+            afterWrite();
+        }
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            for (int index = offset; index < offset + length; index++)
+                encode(chars[index]);
+            afterWrite();
+        }
+    }
+
+    @Override
+    public void write(String string, int offset, int length) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            for (int index = offset; index < offset + length; index++)
+                encode(string.charAt(index));
+            afterWrite();
+        }
+    }
+
+    @Override
+    public Writer append(CharSequence chars) throws IOException {
+        CharSequence sequence = chars == null ? "null" : chars;
+        synchronized (lock) {
+            ensureOpen();
+            for (int index = 0; index < sequence.length(); index++)
+                encode(sequence.charAt(index));
+            afterWrite();
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            drain();
+            if (syncPolicy.shouldSync(unsyncedBytes, System.nanoTime() - lastSync))
+                sync();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (!channel.isOpen())
+                return;
+
+            try {
+                if (pendingHighSurrogate != 0) {
+                    pendingHighSurrogate = 0;
+                    drain();
+                    buffer.put(REPLACEMENT);
+                }
+                drain();
+                if (!syncPolicy.isNever() && unsyncedBytes > 0)
+                    channel.force(false);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    // CONSTRUCTORS
+
+    ChannelWriter(FileChannel channel, SyncPolicy syncPolicy) {
+        this.channel = channel;
+        this.syncPolicy = syncPolicy;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.lastSync = System.nanoTime();
+    }
+
+    // PRIVATE
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_BYTES_PER_CHAR = 4;
+    private static final byte REPLACEMENT = '?';
+
+    private final FileChannel channel;
+    private final SyncPolicy syncPolicy;
+    private final ByteBuffer buffer;
+
+    private long unsyncedBytes;
+    private long lastSync;
+    private char pendingHighSurrogate;
+
+    private void ensureOpen() throws IOException {
+        if (!channel.isOpen())
+            throw new IOException("Writer is closed");
+    }
+
+    private void encode(char c) throws IOException {
+        if (buffer.remaining() < MAX_BYTES_PER_CHAR)
+            drain();
+
+        if (pendingHighSurrogate != 0) {
+            char high = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer.put((byte) (0xF0 | codePoint >> 18))
+                        .put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3F))
+                        .put((byte) (0x80 | codePoint & 0x3F));
+                return;
+            }
+            buffer.put(REPLACEMENT);
+        }
+
+        if (c < 0x80)
+            buffer.put((byte) c);
+        else if (c < 0x800)
+            buffer.put((byte) (0xC0 | c >> 6))
+                    .put((byte) (0x80 | c & 0x3F));
+        else if (Character.isHighSurrogate(c))
+            pendingHighSurrogate = c;
+        else if (Character.isLowSurrogate(c))
+            buffer.put(REPLACEMENT);
+        else
+            buffer.put((byte) (0xE0 | c >> 12))
+                    .put((byte) (0x80 | c >> 6 & 0x3F))
+                    .put((byte) (0x80 | c & 0x3F));
+    }
+
+    private void afterWrite() throws IOException {
+        long unsynced = unsyncedBytes + buffer.position();
+        if (syncPolicy.shouldSync(unsynced, System.nanoTime() - lastSync))
+            sync();
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        unsyncedBytes += buffer.remaining();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    private void sync() throws IOException {
+        drain();
+        channel.force(false);
+        unsyncedBytes = 0;
+        lastSync = System.nanoTime();
+    }
+
+}
@@ -0,0 +1,371 @@
+package eu.goodlike.io;
+
+import eu.goodlike.neat.Null;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * <pre>
+ * Finds available file names in a single directory, same as FileUtils::findAvailableName, by adding (1), (2), etc
+ * to the name, before the extension; FileUtils keeps a few of these for recently searched directories, callers which
+ * search the same directory repeatedly can also create one and keep it
+ *
+ * Instead of checking whether every copy exists one at a time, the directory is listed once, and the copy numbers
+ * which are taken are indexed by the name and extension they are copies of; the index is kept fresh using a
+ * WatchService, so finding an available name only checks the candidate it returns, no matter how many copies
+ * already exist
+ *
+ * reserve() also creates the file atomically (CREATE_NEW), so concurrent callers, including other processes, never
+ * get the same name
+ *
+ * Close the allocator once it is no longer needed, to release the WatchService; once closed, or once the directory
+ * can no longer be watched (i.e. it was deleted), the allocator throws IllegalStateException
+ * </pre>
+ */
+public final class FileNameAllocator implements AutoCloseable {
+
+    /**
+     * @return a filename that is not taken in the directory of this allocator
+     * @throws NullPointerException if possiblyTakenName is null
+     * @throws IllegalArgumentException if possiblyTakenName is not a file name
+     * @throws IllegalStateException if this allocator is closed, or its directory is no longer watched
+     */
+    public synchronized String findAvailableName(String possiblyTakenName) {
+        Name name = nameOf(possiblyTakenName);
+        if (!Files.exists(directory.resolve(possiblyTakenName)))
+            return possiblyTakenName;
+
+        refresh();
+        CopyNumbers copies = copiesOf(name);
+        while (true) {
+            int copyNumber = copies.lowestFree();
+            String copyName = name.copy(copyNumber);
+            if (!Files.exists(directory.resolve(copyName)))
+                return copyName;
+
+            copies.take(copyNumber);
+        }
+    }
+
+    /**
+     * Finds a filename that is not taken in the directory of this allocator and creates an empty file with it
+     * @return path to the created file
+     * @throws NullPointerException if possiblyTakenName is null
+     * @throws IllegalArgumentException if possiblyTakenName is not a file name
+     * @throws IOException if the file could not be created for reasons other than the name being taken
+     * @throws IllegalStateException if this allocator is closed, or its directory is no longer watched
+     */
+    public synchronized Path reserve(String possiblyTakenName) throws IOException {
+        Name name = nameOf(possiblyTakenName);
+        try {
+            return Files.createFile(directory.resolve(possiblyTakenName));
+        } catch (FileAlreadyExistsException e) {
+            // continue with the copies
+        }
+
+        refresh();
+        CopyNumbers copies = copiesOf(name);
+        while (true) {
+            int copyNumber = copies.lowestFree();
+            copies.take(copyNumber);
+            try {
+                return Files.createFile(directory.resolve(name.copy(copyNumber)));
+            } catch (FileAlreadyExistsException e) {
+                // taken by someone else, try the next one
+            }
+        }
+    }
+
+    /**
+     * @return directory of this allocator
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ownsWatchService)
+            watchService.close();
+        else
+            key.cancel();
+    }
+
+    // CONSTRUCTORS
+
+    /**
+     * @return FileNameAllocator for given directory, assuming it can be listed and watched, Optional::empty otherwise
+     * @throws NullPointerException if directory is null
+     */
+    public static Optional<FileNameAllocator> forDirectory(Path directory) {
+        Null.require("Directory cannot be null", directory);
+        if (!Files.isDirectory(directory))
+            return Optional.empty();
+
+        WatchService watchService;
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            return Optional.empty();
+        }
+        return create(directory, watchService, true);
+    }
+
+    // PACKAGE PRIVATE
+
+    /**
+     * <pre>
+     * @return FileNameAllocator for given directory, which is watched using given WatchService, assuming it can be
+     * listed and watched, Optional::empty otherwise
+     *
+     * The WatchService can be shared by any amount of allocators, i.e. by FileUtils, since every allocator reads the
+     * events of its own directory; closing the allocator only cancels the watching of its directory
+     * </pre>
+     * @throws NullPointerException if directory or watchService is null
+     */
+    static Optional<FileNameAllocator> forDirectory(Path directory, WatchService watchService) {
+        Null.require("Directory and watch service cannot be null", directory, watchService);
+        if (!Files.isDirectory(directory))
+            return Optional.empty();
+
+        return create(directory, watchService, false);
+    }
+
+    private FileNameAllocator(Path directory, WatchService watchService, boolean ownsWatchService, WatchKey key) {
+        this.directory = directory;
+        this.watchService = watchService;
+        this.ownsWatchService = ownsWatchService;
+        this.key = key;
+    }
+
+    // PRIVATE
+
+    private static final Pattern COPY_PATTERN = Pattern.compile("(.*) \\((\\d+)\\)");
+    // larger numbers do not fit into an int; they are not indexed, but are still checked before being returned
+    private static final int MAX_COPY_DIGITS = 9;
+
+    private final Path directory;
+    private final WatchService watchService;
+    private final boolean ownsWatchService;
+    private final WatchKey key;
+    private final Map<Name, CopyNumbers> index = new HashMap<>();
+
+    private static Optional<FileNameAllocator> create(Path directory, WatchService watchService,
+                                                      boolean ownsWatchService) {
+        WatchKey key = null;
+        try {
+            // registering first, so no files are missed between the listing and the watching
+            key = directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE);
+            FileNameAllocator allocator = new FileNameAllocator(directory, watchService, ownsWatchService, key);
+            allocator.scan();
+            return Optional.of(allocator);
+        } catch (IOException | RuntimeException e) {
+            // i.e. the directory was deleted, or is not on the file system of a shared WatchService
+            if (ownsWatchService)
+                closeQuietly(watchService);
+            else if (key != null)
+                key.cancel();
+            return Optional.empty();
+        }
+    }
+
+    private static void closeQuietly(WatchService watchService) {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // nothing else to do, the allocator was not created
+        }
+    }
+
+    /**
+     * Same as FileUtils, a name is a file name if it is its own file name as a path of this file system
+     */
+    private Name nameOf(String possiblyTakenName) {
+        Null.require("Possibly taken name cannot be null", possiblyTakenName);
+        Path fileName = directory.getFileSystem().getPath(possiblyTakenName).getFileName();
+        if (possiblyTakenName.isEmpty() || fileName == null || !fileName.toString().equals(possiblyTakenName))
+            throw new IllegalArgumentException("Not a file name: " + possiblyTakenName);
+
+        return Name.of(possiblyTakenName);
+    }
+
+    private CopyNumbers copiesOf(Name name) {
+        return index.computeIfAbsent(name, any -> new CopyNumbers());
+    }
+
+    private void scan() throws IOException {
+        index.clear();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files)
+                onCreate(file.getFileName().toString());
+        }
+    }
+
+    /**
+     * <pre>
+     * Applies the changes which happened in the directory since the last refresh; if some changes were lost, the
+     * directory is listed again
+     *
+     * The events are read from the key of the directory directly, so the WatchService may be shared; the queue of
+     * signalled keys is only emptied, so it does not grow, since every allocator reads its own key the same way
+     * </pre>
+     */
+    private void refresh() {
+        if (!key.isValid())
+            throw new IllegalStateException("Allocator is closed, or its directory is no longer watched: " + directory);
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW)
+                rescan();
+            else if (event.kind() == ENTRY_CREATE)
+                onCreate(event.context().toString());
+            else if (event.kind() == ENTRY_DELETE)
+                onDelete(event.context().toString());
+        }
+        key.reset();
+
+        try {
+            while (watchService.poll() != null) {
+                // only emptying the queue
+            }
+        } catch (ClosedWatchServiceException e) {
+            throw new IllegalStateException("Allocator is closed", e);
+        }
+    }
+
+    private void rescan() {
+        try {
+            scan();
+        } catch (IOException e) {
+            // the index is only a hint, every candidate is checked before it is returned
+            index.clear();
+        }
+    }
+
+    private void onCreate(String fileName) {
+        Copy copy = Copy.parse(fileName);
+        if (copy != null)
+            copiesOf(copy.name).take(copy.number);
+    }
+
+    private void onDelete(String fileName) {
+        Copy copy = Copy.parse(fileName);
+        if (copy != null) {
+            CopyNumbers copies = index.get(copy.name);
+            if (copies != null)
+                copies.free(copy.number);
+        }
+    }
+
+    /**
+     * Name and extension which copies are made of; the same way as FileUtils does it, copies of names without an
+     * extension have no extension either
+     */
+    private static final class Name {
+        private static Name of(String fileName) {
+            return new Name(com.google.common.io.Files.getNameWithoutExtension(fileName),
+                    com.google.common.io.Files.getFileExtension(fileName));
+        }
+
+        private String copy(int number) {
+            String copy = base + " (" + number + ")";
+            return extension.isEmpty() ? copy : copy + "." + extension;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Name)) return false;
+            Name that = (Name) o;
+            return base.equals(that.base) && extension.equals(that.extension);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * base.hashCode() + extension.hashCode();
+        }
+
+        private Name(String base, String extension) {
+            this.base = base;
+            this.extension = extension;
+        }
+
+        private final String base;
+        private final String extension;
+    }
+
+    private static final class Copy {
+        /**
+         * @return copy which given file name represents, null if it is not a copy
+         */
+        private static Copy parse(String fileName) {
+            String base = com.google.common.io.Files.getNameWithoutExtension(fileName);
+            Matcher matcher = COPY_PATTERN.matcher(base);
+            if (!matcher.matches() || matcher.group(2).length() > MAX_COPY_DIGITS)
+                return null;
+
+            int number = Integer.parseInt(matcher.group(2));
+            if (number <= 0)
+                return null;
+
+            String extension = com.google.common.io.Files.getFileExtension(fileName);
+            return new Copy(new Name(matcher.group(1), extension), number);
+        }
+
+        private Copy(Name name, int number) {
+            this.name = name;
+            this.number = number;
+        }
+
+        private final Name name;
+        private final int number;
+    }
+
+    /**
+     * Copy numbers which are taken, along with the lowest one which is not; since the lowest free number only moves
+     * forward until a copy is deleted, finding it takes amortized constant time
+     *
+     * Only the numbers which are taken are stored, so the memory used depends on the amount of copies, not on how
+     * large their numbers are
+     */
+    private static final class CopyNumbers {
+        private int lowestFree() {
+            return lowestFree;
+        }
+
+        private void take(int number) {
+            taken.add(number);
+            while (taken.contains(lowestFree))
+                lowestFree++;
+        }
+
+        private void free(int number) {
+            taken.remove(number);
+            if (number < lowestFree)
+                lowestFree = number;
+        }
+
+        private final Set<Integer> taken = new HashSet<>();
+        private int lowestFree = 1;
+    }
+
+}
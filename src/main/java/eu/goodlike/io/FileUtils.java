@@ -1,12 +1,19 @@
 package eu.goodlike.io;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import eu.goodlike.neat.Null;
 
+import java.io.IOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.WatchService;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static eu.goodlike.misc.Constants.WORKING_DIRECTORY;
 
@@ -33,34 +40,39 @@ public final class FileUtils {
      * Modifies the filename, if needed, based on existing files already present in given directory.
      *
      * Adds (1), (2), etc to the filename, before the extension, until the filename is usable.
+     *
+     * The 64 most recently searched directories are indexed by a FileNameAllocator each, kept for a minute after
+     * their last use, so finding a name does not check every existing copy; all of them share a single WatchService;
+     * names with path separators, or directories which cannot be watched, have every copy checked one at a time
+     *
+     * The name is not reserved, use FileNameAllocator::reserve if multiple callers can look for the same name at once;
+     * a copy deleted a moment ago may not be noticed yet, in which case a higher copy number is returned
      * </pre>
      * @return a filename that is not taken in given directory
      * @throws NullPointerException if directory or possiblyTakenName are null
      */
     public static String findAvailableName(String directory, String possiblyTakenName) {
-        Null.check(directory, possiblyTakenName).ifAny("Directory and possibly taken name cannot be null");
-
-        String justFilename = com.google.common.io.Files.getNameWithoutExtension(possiblyTakenName);
-        String extension = com.google.common.io.Files.getFileExtension(possiblyTakenName);
-        String extensionSuffix = "." + extension;
+        Null.require("Directory and possibly taken name cannot be null", directory, possiblyTakenName);
 
-        String workingFilename = possiblyTakenName;
-        int copyCount = 0;
-        Path path = getPath(directory, workingFilename)
+        Path path = getPath(directory, possiblyTakenName)
                 .orElseThrow(() -> new IllegalArgumentException("Path not valid; dir " + directory +
                         " with name " + possiblyTakenName));
 
-        while (Files.exists(path)) {
-            if (copyCount == -1)
-                throw new AssertionError("All possible file names exhausted");
-
-            workingFilename = justFilename + " (" + ++copyCount + ")";
-            if (!extension.isEmpty())
-                workingFilename += extensionSuffix;
-
-            path = Paths.get(directory, workingFilename);
+        Path fileName = path.getFileSystem().getPath(possiblyTakenName).getFileName();
+        boolean isFileName = !possiblyTakenName.isEmpty() && fileName != null
+                && fileName.toString().equals(possiblyTakenName);
+        if (WATCH_SERVICE != null && isFileName) {
+            Path key = Paths.get(directory).toAbsolutePath().normalize();
+            FileNameAllocator allocator = ALLOCATORS.get(key, FileUtils::allocatorFor);
+            if (allocator != null)
+                try {
+                    return allocator.findAvailableName(possiblyTakenName);
+                } catch (IllegalStateException e) {
+                    // evicted after it was taken from the cache, or the directory can no longer be watched
+                    ALLOCATORS.asMap().remove(key, allocator);
+                }
         }
-        return workingFilename;
+        return probeAvailableName(directory, possiblyTakenName, path);
     }
 
     /**
@@ -85,4 +97,69 @@ public final class FileUtils {
         throw new AssertionError("Do not instantiate, use static methods!");
     }
 
+    /**
+     * One WatchService is shared by every cached allocator, so only one is ever open, no matter how many directories
+     * are searched; null if the default file system cannot be watched
+     */
+    private static final WatchService WATCH_SERVICE = newWatchService();
+
+    private static final int MAX_INDEXED_DIRECTORIES = 64;
+
+    /**
+     * Evicted allocators stop watching their directory, so the amount of watched directories is bounded too
+     */
+    private static final Cache<Path, FileNameAllocator> ALLOCATORS = Caffeine.newBuilder()
+            .maximumSize(MAX_INDEXED_DIRECTORIES)
+            .expireAfterAccess(1, TimeUnit.MINUTES)
+            .removalListener(FileUtils::closeAllocator)
+            .build();
+
+    private static WatchService newWatchService() {
+        try {
+            return FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return allocator for given directory, null if it cannot be watched, so it is not cached
+     */
+    private static FileNameAllocator allocatorFor(Path directory) {
+        return FileNameAllocator.forDirectory(directory, WATCH_SERVICE).orElse(null);
+    }
+
+    private static void closeAllocator(Path directory, FileNameAllocator allocator, RemovalCause cause) {
+        if (allocator != null)
+            try {
+                allocator.close();
+            } catch (IOException e) {
+                // nothing else to do, the allocator is no longer used
+            }
+    }
+
+    /**
+     * Checks every copy one at a time
+     */
+    private static String probeAvailableName(String directory, String possiblyTakenName, Path path) {
+        String justFilename = com.google.common.io.Files.getNameWithoutExtension(possiblyTakenName);
+        String extension = com.google.common.io.Files.getFileExtension(possiblyTakenName);
+        String extensionSuffix = "." + extension;
+
+        String workingFilename = possiblyTakenName;
+        int copyCount = 0;
+
+        while (Files.exists(path)) {
+            if (copyCount == -1)
+                throw new AssertionError("All possible file names exhausted");
+
+            workingFilename = justFilename + " (" + ++copyCount + ")";
+            if (!extension.isEmpty())
+                workingFilename += extensionSuffix;
+
+            path = Paths.get(directory, workingFilename);
+        }
+        return workingFilename;
+    }
+
 }
@@ -23,7 +23,7 @@ public final class PropertiesUtils {
      * @throws NullPointerException if filename is null
      */
     public static Optional<Properties> fileToProperties(String filename) {
-        Null.check(filename).ifAny("Filename cannot be null");
+        Null.require("Filename cannot be null", filename);
         return FileUtils.getPath(filename)
                 .flatMap(PropertiesUtils::fileToProperties);
     }
@@ -33,7 +33,7 @@ public final class PropertiesUtils {
      * @throws NullPointerException if path is null
      */
     public static Optional<Properties> fileToProperties(Path path) {
-        Null.check(path).ifAny("Path cannot be null");
+        Null.require("Path cannot be null", path);
         if (!Files.isReadable(path))
             return Optional.empty();
 
@@ -58,7 +58,7 @@ public final class PropertiesUtils {
      * @throws NullPointerException if file is null
      */
     public static Optional<Properties> fileToProperties(File file) {
-        Null.check(file).ifAny("File cannot be null");
+        Null.require("File cannot be null", file);
         return fileToProperties(file.toPath());
     }
 
@@ -67,7 +67,7 @@ public final class PropertiesUtils {
      * @throws NullPointerException if properties is null
      */
     public static Map<String, String> propertiesToMap(Properties properties) {
-        Null.check(properties).ifAny("Properties cannot be null");
+        Null.require("Properties cannot be null", properties);
         ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
         properties.stringPropertyNames()
                 .forEach(key -> builder.put(key, properties.getProperty(key)));
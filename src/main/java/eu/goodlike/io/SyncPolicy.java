@@ -0,0 +1,88 @@
+package eu.goodlike.io;
+
+import eu.goodlike.neat.Null;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * Defines how often appended data is forced onto the storage device (fsync), trading throughput for durability
+ *
+ *      never()             the data is only handed to the OS, which writes it whenever it wants; fastest
+ *      everyBytes(n)       the data is forced once at least n bytes were appended since the last time
+ *      every(n, unit)      the data is forced by the first append after n time units since the last time, so
+ *                          all the appends in between share a single force (group commit)
+ *
+ * The policy is checked when appending, so with every(), data appended right before a pause is only forced by the
+ * next append, flush or close
+ * </pre>
+ */
+public final class SyncPolicy {
+
+    public static SyncPolicy never() {
+        return NEVER;
+    }
+
+    /**
+     * @throws IllegalArgumentException if bytes is not positive
+     */
+    public static SyncPolicy everyBytes(long bytes) {
+        if (bytes <= 0)
+            throw new IllegalArgumentException("Bytes must be positive: " + bytes);
+
+        return new SyncPolicy(bytes, Long.MAX_VALUE);
+    }
+
+    /**
+     * @throws NullPointerException if unit is null
+     * @throws IllegalArgumentException if time is not positive
+     */
+    public static SyncPolicy every(long time, TimeUnit unit) {
+        Null.require("Time unit cannot be null", unit);
+        if (time <= 0)
+            throw new IllegalArgumentException("Time must be positive: " + time);
+
+        return new SyncPolicy(Long.MAX_VALUE, unit.toNanos(time));
+    }
+
+    /**
+     * @return true if this policy never forces the data, false otherwise
+     */
+    public boolean isNever() {
+        return this == NEVER;
+    }
+
+    @Override
+    public String toString() {
+        if (isNever())
+            return "SyncPolicy[never]";
+
+        return bytes != Long.MAX_VALUE
+                ? "SyncPolicy[every " + bytes + " bytes]"
+                : "SyncPolicy[every " + nanos + " ns]";
+    }
+
+    // PACKAGE PRIVATE
+
+    /**
+     * @return true if data should be forced, given the amount of bytes and time since the last force
+     */
+    boolean shouldSync(long unsyncedBytes, long nanosSinceSync) {
+        return unsyncedBytes > 0 && (unsyncedBytes >= bytes || nanosSinceSync >= nanos);
+    }
+
+    // CONSTRUCTORS
+
+    private SyncPolicy(long bytes, long nanos) {
+        this.bytes = bytes;
+        this.nanos = nanos;
+    }
+
+    // PRIVATE
+
+    private static final SyncPolicy NEVER = new SyncPolicy(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final long bytes;
+    private final long nanos;
+
+}
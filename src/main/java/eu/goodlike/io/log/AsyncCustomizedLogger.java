@@ -0,0 +1,263 @@
+package eu.goodlike.io.log;
+
+import eu.goodlike.neat.Null;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <pre>
+ * CustomizedLogger which puts the lines into a lock-free ring buffer and returns immediately; a dedicated daemon
+ * thread takes the lines out of the buffer in batches and passes them to the wrapped logger, using
+ * CustomizedLogger::logMessages
+ *
+ * The callers never wait for the wrapped logger, unless the buffer is full and the policy is BLOCK:
+ *      BLOCK           the caller waits until there is space in the buffer; nothing is lost
+ *      DROP_OLDEST     the oldest line in the buffer is dropped to make space for the new one
+ *      DROP_NEW        the new line is dropped
+ * Dropped lines are counted, see getDroppedCount()
+ *
+ * close() waits until every line logged before it is passed to the wrapped logger; it is also called when the JVM
+ * shuts down; lines logged after close() are passed to the wrapped logger on the calling thread, unless the wrapped
+ * logger is owned, and therefore already closed, in which case they are dropped and counted
+ *
+ * The wrapped logger is not closed, unless ownership of it is explicitly given, see
+ * of(logger, capacity, policy, closeWrapped); an owned logger is closed by close(), after the buffer is written out;
+ * an owned FileCustomizedLogger is no longer closed by its own shutdown hook, so it cannot be closed before the
+ * buffer is written out when the JVM shuts down; otherwise, shutdown hooks run in no particular order, so a wrapped
+ * logger which closes itself on shutdown may be closed before the buffer is written out
+ * </pre>
+ */
+public final class AsyncCustomizedLogger implements CustomizedLogger, AutoCloseable {
+
+    /**
+     * Defines what happens when a line is logged while the buffer is full
+     */
+    public enum FullQueuePolicy {
+        BLOCK, DROP_OLDEST, DROP_NEW
+    }
+
+    @Override
+    public void logMessage(String line) {
+        if (closed) {
+            if (closeWrapped)
+                dropped.increment();
+            else
+                logger.logMessage(line);
+            return;
+        }
+
+        switch (policy) {
+            case BLOCK:
+                while (!queue.offer(line)) {
+                    if (closed)
+                        drainOnCaller();
+                    LockSupport.unpark(drainer);
+                    LockSupport.parkNanos(this, BLOCKED_PARK_NANOS);
+                }
+                break;
+            case DROP_OLDEST:
+                while (!queue.offer(line))
+                    if (queue.poll() != null)
+                        dropped.increment();
+                break;
+            default:
+                if (!queue.offer(line))
+                    dropped.increment();
+        }
+
+        if (sleeping)
+            LockSupport.unpark(drainer);
+        if (closed)
+            drainOnCaller();
+    }
+
+    /**
+     * @return amount of lines dropped because the buffer was full, or because they were logged after the owned
+     * wrapped logger was closed
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops the drain thread, waiting until it passes all the lines in the buffer to the wrapped logger, then closes
+     * the wrapped logger, if this logger owns it
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed)
+                return;
+
+            closed = true;
+        }
+
+        try {
+            Runtime.getRuntime().removeShutdownHook(closeOnExit);
+        } catch (IllegalStateException e) {
+            // the JVM is already shutting down, this is most likely the hook itself
+        }
+
+        LockSupport.unpark(drainer);
+        if (Thread.currentThread() != drainer)
+            try {
+                drainer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+        drainOnCaller();
+        if (closeWrapped) {
+            wrappedClosed = true;
+            closeWrapped();
+        }
+    }
+
+    // CONSTRUCTORS
+
+    /**
+     * @return AsyncCustomizedLogger for given logger, with buffer for 8192 lines, which blocks when full
+     * @throws NullPointerException if logger is null
+     */
+    public static AsyncCustomizedLogger of(CustomizedLogger logger) {
+        return of(logger, DEFAULT_CAPACITY, FullQueuePolicy.BLOCK);
+    }
+
+    /**
+     * @return AsyncCustomizedLogger for given logger, with buffer for at least given amount of lines (rounded up to a
+     * power of two), which uses given policy when full
+     * @throws NullPointerException if logger or policy is null
+     * @throws IllegalArgumentException if capacity is not positive or too large
+     */
+    public static AsyncCustomizedLogger of(CustomizedLogger logger, int capacity, FullQueuePolicy policy) {
+        return of(logger, capacity, policy, false);
+    }
+
+    /**
+     * <pre>
+     * @return AsyncCustomizedLogger for given logger, with buffer for at least given amount of lines (rounded up to a
+     * power of two), which uses given policy when full
+     *
+     * If closeWrapped is true, this logger takes ownership of given logger: it is closed by close(), if it is
+     * AutoCloseable, after the buffer is written out; only pass true for a logger nothing else uses
+     * </pre>
+     * @throws NullPointerException if logger or policy is null
+     * @throws IllegalArgumentException if capacity is not positive or too large, or if closeWrapped is true for a
+     * logger shared by CustomizedLoggers::forFile
+     */
+    public static AsyncCustomizedLogger of(CustomizedLogger logger, int capacity, FullQueuePolicy policy,
+                                           boolean closeWrapped) {
+        Null.require("Logger and policy cannot be null", logger, policy);
+        if (capacity <= 0 || capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        if (closeWrapped && logger instanceof FileCustomizedLogger && ((FileCustomizedLogger) logger).isShared())
+            throw new IllegalArgumentException("Loggers shared by CustomizedLoggers::forFile cannot be owned");
+
+        int powerOfTwo = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        AsyncCustomizedLogger asyncLogger =
+                new AsyncCustomizedLogger(logger, new RingBuffer(powerOfTwo), policy, closeWrapped);
+        if (closeWrapped && logger instanceof FileCustomizedLogger)
+            ((FileCustomizedLogger) logger).cancelCloseOnExit();
+        asyncLogger.drainer.start();
+        Runtime.getRuntime().addShutdownHook(asyncLogger.closeOnExit);
+        return asyncLogger;
+    }
+
+    private AsyncCustomizedLogger(CustomizedLogger logger, RingBuffer queue, FullQueuePolicy policy,
+                                  boolean closeWrapped) {
+        this.logger = logger;
+        this.queue = queue;
+        this.policy = policy;
+        this.closeWrapped = closeWrapped;
+        this.drainer = new Thread(this::drain, "async-customized-logger-" + THREAD_COUNTER.incrementAndGet());
+        this.drainer.setDaemon(true);
+        this.closeOnExit = new Thread(this::close);
+    }
+
+    // PRIVATE
+
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = 100_000_000;
+    private static final long BLOCKED_PARK_NANOS = 100_000;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final CustomizedLogger logger;
+    private final RingBuffer queue;
+    private final FullQueuePolicy policy;
+    private final boolean closeWrapped;
+    private final Thread drainer;
+    private final Thread closeOnExit;
+    private final LongAdder dropped = new LongAdder();
+
+    private final Object lock = new Object();
+
+    private volatile boolean closed;
+    private volatile boolean wrappedClosed;
+    private volatile boolean sleeping;
+
+    private void drain() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            boolean stopping = closed;
+            if (pollBatch(batch)) {
+                write(batch);
+                continue;
+            }
+            if (stopping)
+                return;
+
+            // producers check this flag after adding a line, so either they see it or this thread sees their line
+            sleeping = true;
+            if (queue.isEmpty() && !closed)
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            sleeping = false;
+        }
+    }
+
+    private void drainOnCaller() {
+        List<String> batch = new ArrayList<>();
+        while (pollBatch(batch))
+            write(batch);
+    }
+
+    private boolean pollBatch(List<String> batch) {
+        batch.clear();
+        String line;
+        while (batch.size() < BATCH_SIZE && (line = queue.poll()) != null)
+            batch.add(line);
+        return !batch.isEmpty();
+    }
+
+    private void closeWrapped() {
+        if (logger instanceof AutoCloseable)
+            try {
+                ((AutoCloseable) logger).close();
+            } catch (Exception e) {
+                System.out.println("Error occurred while closing the wrapped logger");
+                e.printStackTrace();
+            }
+    }
+
+    private void write(List<String> batch) {
+        if (wrappedClosed) {
+            // lines which raced with close(), after the owned logger was closed
+            dropped.add(batch.size());
+            return;
+        }
+
+        try {
+            logger.logMessages(batch);
+        } catch (RuntimeException e) {
+            System.out.println("Error occurred while logging asynchronously");
+            e.printStackTrace();
+        }
+    }
+
+}
@@ -0,0 +1,404 @@
+package eu.goodlike.io.log;
+
+import eu.goodlike.neat.Null;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * <pre>
+ * Logger which writes binary records into memory-mapped segment files of fixed size, rather than formatted lines
+ *
+ * Every message is a pattern with {} placeholders, same as Str.format(); the patterns are registered once, and
+ * afterwards every message is only the id of its pattern, the timestamp and the raw arguments; logging a message
+ * with primitive arguments is a few puts into the mapped memory, without formatting or system calls; the OS writes
+ * the memory into the file on its own
+ *
+ * When a segment fills up, a new one is created; segments are named "name-000000.seg", "name-000001.seg", etc.;
+ * opening a log for a name which already has segments continues with the next index, so segments are never
+ * overwritten; every segment starts with the definitions of all the patterns, so it can be read on its own
+ *
+ * Use BinaryLogReader to turn the segments back into text
+ *
+ * As a CustomizedLogger, every line is logged as the argument of the pattern "{}"; lines logged after close() are
+ * ignored, while the log() methods throw IllegalStateException
+ *
+ * All methods are synchronized; for many threads logging at once, consider wrapping this in AsyncCustomizedLogger,
+ * or using separate logs per thread
+ * </pre>
+ */
+public final class BinaryLog implements CustomizedLogger, AutoCloseable {
+
+    /**
+     * <pre>
+     * Registers given pattern; registering the same pattern again returns the same id
+     *
+     * The pattern is kept in every segment, so it should be a constant, not a formatted string
+     * </pre>
+     * @return id of given pattern, which can be used to log it
+     * @throws NullPointerException if pattern is null
+     * @throws IllegalArgumentException if too many patterns are registered, or they no longer fit into a segment
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    public synchronized int register(String pattern) {
+        Null.require("Pattern cannot be null", pattern);
+        Integer id = templateIds.get(pattern);
+        if (id != null)
+            return id;
+
+        if (patterns.size() > Short.MAX_VALUE)
+            throw new IllegalArgumentException("Too many patterns registered: " + patterns.size());
+
+        int definitionSize = definitionSize(pattern);
+        if (definitionsSize + definitionSize > segmentSize / 2)
+            throw new IllegalArgumentException("Patterns would take more than half of a segment: " + pattern);
+
+        id = patterns.size();
+        patterns.add(pattern);
+        templateIds.put(pattern, id);
+        definitionsSize += definitionSize;
+
+        if (buffer.remaining() < definitionSize)
+            roll();
+        else
+            writeDefinition(id, pattern);
+
+        return id;
+    }
+
+    /**
+     * Logs given line as the argument of the pattern "{}"; same as other CustomizedLoggers, lines logged after close()
+     * are ignored
+     */
+    @Override
+    public synchronized void logMessage(String line) {
+        if (!closed)
+            log(LINE_TEMPLATE, line);
+    }
+
+    /**
+     * Logs the pattern with given id, with no arguments
+     * @throws IllegalArgumentException if there is no pattern with given id
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    public synchronized void log(int template) {
+        int start = begin(template, 0, 0);
+        end(start);
+    }
+
+    /**
+     * Logs the pattern with given id, with given argument
+     * @throws IllegalArgumentException if there is no pattern with given id
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    public synchronized void log(int template, long arg) {
+        int start = begin(template, 1, NUMBER_SIZE);
+        putLong(arg);
+        end(start);
+    }
+
+    /**
+     * Logs the pattern with given id, with given arguments
+     * @throws IllegalArgumentException if there is no pattern with given id
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    public synchronized void log(int template, long arg1, long arg2) {
+        int start = begin(template, 2, NUMBER_SIZE * 2);
+        putLong(arg1);
+        putLong(arg2);
+        end(start);
+    }
+
+    /**
+     * Logs the pattern with given id, with given argument
+     * @throws IllegalArgumentException if there is no pattern with given id
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    public synchronized void log(int template, double arg) {
+        int start = begin(template, 1, NUMBER_SIZE);
+        putDouble(arg);
+        end(start);
+    }
+
+    /**
+     * Logs the pattern with given id, with given argument; null is logged as "null"
+     * @throws IllegalArgumentException if there is no pattern with given id, or the argument does not fit into a
+     * segment
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    public synchronized void log(int template, CharSequence arg) {
+        CharSequence string = arg == null ? NULL : arg;
+        int start = begin(template, 1, stringSize(string));
+        putString(string);
+        end(start);
+    }
+
+    /**
+     * Logs the pattern with given id, with given arguments; null is logged as "null"
+     * @throws IllegalArgumentException if there is no pattern with given id, or the arguments do not fit into a
+     * segment
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    public synchronized void log(int template, CharSequence arg1, long arg2) {
+        CharSequence string = arg1 == null ? NULL : arg1;
+        int start = begin(template, 2, stringSize(string) + NUMBER_SIZE);
+        putString(string);
+        putLong(arg2);
+        end(start);
+    }
+
+    /**
+     * <pre>
+     * Logs the pattern with given id, with given arguments
+     *
+     * Integral numbers are logged as longs, floating point numbers as doubles, everything else using String::valueOf;
+     * prefer the other overloads, as this one boxes the primitives
+     * </pre>
+     * @throws NullPointerException if args is null
+     * @throws IllegalArgumentException if there is no pattern with given id, or the arguments do not fit into a
+     * segment
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    public synchronized void log(int template, Object... args) {
+        Null.require("Arguments cannot be null", args);
+        if (args.length > Byte.MAX_VALUE)
+            throw new IllegalArgumentException("Too many arguments: " + args.length);
+
+        Object[] values = new Object[args.length];
+        int size = 0;
+        for (int index = 0; index < args.length; index++) {
+            Object arg = args[index];
+            boolean isNumber = isIntegral(arg) || arg instanceof Double || arg instanceof Float;
+            values[index] = isNumber ? arg : String.valueOf(arg);
+            size += values[index] instanceof String ? stringSize((String) values[index]) : NUMBER_SIZE;
+        }
+
+        int start = begin(template, args.length, size);
+        for (Object value : values) {
+            if (value instanceof String)
+                putString((String) value);
+            else if (isIntegral(value))
+                putLong(((Number) value).longValue());
+            else
+                putDouble(((Number) value).doubleValue());
+        }
+        end(start);
+    }
+
+    /**
+     * Forces the current segment onto the storage device
+     */
+    public synchronized void force() {
+        buffer.force();
+    }
+
+    /**
+     * Forces the current segment onto the storage device and closes it; the mapped memory is released once it is
+     * garbage collected
+     */
+    @Override
+    public synchronized void close() {
+        if (closed)
+            return;
+
+        closed = true;
+        buffer.force();
+    }
+
+    // CONSTRUCTORS
+
+    /**
+     * @return BinaryLog which writes segments of 64 MiB into given directory (created if needed), assuming the first
+     * segment can be created, Optional::empty otherwise
+     * @throws NullPointerException if directory or name is null
+     */
+    public static Optional<BinaryLog> open(Path directory, String name) {
+        return open(directory, name, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @return BinaryLog which writes segments of given size into given directory (created if needed), assuming the
+     * first segment can be created, Optional::empty otherwise
+     * @throws NullPointerException if directory or name is null
+     * @throws IllegalArgumentException if segment size is smaller than 4096 bytes
+     */
+    public static Optional<BinaryLog> open(Path directory, String name, int segmentSize) {
+        Null.require("Directory and name cannot be null", directory, name);
+        if (segmentSize < MIN_SEGMENT_SIZE)
+            throw new IllegalArgumentException(
+                    "Segment size must be at least " + MIN_SEGMENT_SIZE + ": " + segmentSize);
+
+        BinaryLog log;
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = BinaryLogReader.segments(directory, name);
+            int nextIndex = segments.isEmpty() ? 0 : segmentIndex(segments.get(segments.size() - 1)) + 1;
+            log = new BinaryLog(directory, name, segmentSize, nextIndex);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        log.register(LINE_PATTERN);
+        return Optional.of(log);
+    }
+
+    private BinaryLog(Path directory, String name, int segmentSize, int segmentIndex) throws IOException {
+        this.directory = directory;
+        this.name = name;
+        this.segmentSize = segmentSize;
+        this.segmentIndex = segmentIndex;
+        this.buffer = map(segmentIndex);
+    }
+
+    // PACKAGE PRIVATE
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final int MAGIC = 0x474C4F47; // "GLOG"
+    static final short VERSION = 1;
+
+    static final byte DEFINITION = 1;
+    static final byte EVENT = 2;
+
+    static final byte LONG = 1;
+    static final byte DOUBLE = 2;
+    static final byte STRING = 3;
+
+    static String segmentName(String name, int segmentIndex) {
+        return String.format("%s-%06d%s", name, segmentIndex, SEGMENT_SUFFIX);
+    }
+
+    static int segmentIndex(Path segment) {
+        String fileName = segment.getFileName().toString();
+        int end = fileName.length() - SEGMENT_SUFFIX.length();
+        return Integer.parseInt(fileName.substring(fileName.lastIndexOf('-', end) + 1, end));
+    }
+
+    // PRIVATE
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int MIN_SEGMENT_SIZE = 4096;
+
+    private static final String LINE_PATTERN = "{}";
+    private static final int LINE_TEMPLATE = 0;
+    private static final String NULL = "null";
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+    // type, timestamp, template id, argument count
+    private static final int EVENT_HEADER_SIZE = 1 + Long.BYTES + Short.BYTES + 1;
+    private static final int NUMBER_SIZE = 1 + Long.BYTES;
+
+    private final Path directory;
+    private final String name;
+    private final int segmentSize;
+
+    private final List<String> patterns = new ArrayList<>();
+    private final Map<String, Integer> templateIds = new HashMap<>();
+    private int definitionsSize;
+
+    private int segmentIndex;
+    private MappedByteBuffer buffer;
+    private boolean closed;
+
+    private MappedByteBuffer map(int segmentIndex) throws IOException {
+        Path segment = directory.resolve(segmentName(name, segmentIndex));
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(segment, CREATE_NEW, READ, WRITE)) {
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        mapped.putInt(MAGIC).putShort(VERSION);
+        return mapped;
+    }
+
+    private void roll() {
+        buffer.force();
+        try {
+            buffer = map(++segmentIndex);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create segment " + segmentIndex + " of " + name, e);
+        }
+        for (int id = 0; id < patterns.size(); id++)
+            writeDefinition(id, patterns.get(id));
+    }
+
+    private void writeDefinition(int id, String pattern) {
+        int start = buffer.position();
+        buffer.position(start + 1);
+        buffer.putShort((short) id);
+        buffer.putInt(pattern.length());
+        for (int index = 0; index < pattern.length(); index++)
+            buffer.putChar(pattern.charAt(index));
+        buffer.put(start, DEFINITION);
+    }
+
+    /**
+     * Makes sure there is enough space for the event, then writes everything except its type
+     * @return position of the event, which should be given to end() once the arguments are written
+     */
+    private int begin(int template, int argCount, int argsSize) {
+        if (closed)
+            throw new IllegalStateException("Log is closed");
+        if (template < 0 || template >= patterns.size())
+            throw new IllegalArgumentException("No pattern is registered with id " + template);
+
+        int size = EVENT_HEADER_SIZE + argsSize;
+        if (buffer.remaining() < size) {
+            if (HEADER_SIZE + definitionsSize + size > segmentSize)
+                throw new IllegalArgumentException("Message does not fit into a segment: " + size + " bytes");
+
+            roll();
+        }
+
+        int start = buffer.position();
+        buffer.position(start + 1);
+        buffer.putLong(System.currentTimeMillis());
+        buffer.putShort((short) template);
+        buffer.put((byte) argCount);
+        return start;
+    }
+
+    /**
+     * The type is written last, so readers never see a partially written event
+     */
+    private void end(int start) {
+        buffer.put(start, EVENT);
+    }
+
+    private void putLong(long value) {
+        buffer.put(LONG).putLong(value);
+    }
+
+    private void putDouble(double value) {
+        buffer.put(DOUBLE).putDouble(value);
+    }
+
+    private void putString(CharSequence value) {
+        buffer.put(STRING).putInt(value.length());
+        for (int index = 0; index < value.length(); index++)
+            buffer.putChar(value.charAt(index));
+    }
+
+    private static int definitionSize(String pattern) {
+        return 1 + Short.BYTES + Integer.BYTES + pattern.length() * Character.BYTES;
+    }
+
+    private static int stringSize(CharSequence value) {
+        return 1 + Integer.BYTES + value.length() * Character.BYTES;
+    }
+
+    private static boolean isIntegral(Object arg) {
+        return arg instanceof Long || arg instanceof Integer || arg instanceof Short || arg instanceof Byte;
+    }
+
+}
@@ -0,0 +1,189 @@
+package eu.goodlike.io.log;
+
+import com.google.common.collect.ImmutableList;
+import eu.goodlike.neat.Null;
+import eu.goodlike.str.Str;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Reads the segments written by BinaryLog, turning them back into text
+ *
+ * Reading does not need the BinaryLog which wrote the segments; every segment contains the patterns it uses
+ * </pre>
+ */
+public final class BinaryLogReader {
+
+    /**
+     * @return segments of the log with given name in given directory, in the order they were written
+     * @throws NullPointerException if directory or name is null
+     * @throws IOException if the directory cannot be read
+     */
+    public static List<Path> segments(Path directory, String name) throws IOException {
+        Null.require("Directory and name cannot be null", directory, name);
+        List<Path> segments = new ArrayList<>();
+        String glob = name + "-*" + BinaryLog.SEGMENT_SUFFIX;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (Path segment : stream)
+                if (isSegmentOf(segment, name))
+                    segments.add(segment);
+        }
+        segments.sort(Comparator.comparingInt(BinaryLog::segmentIndex));
+        return segments;
+    }
+
+    /**
+     * @return all entries in given segment, in the order they were logged
+     * @throws NullPointerException if segment is null
+     * @throws IOException if the segment cannot be read, or is not a segment of BinaryLog
+     */
+    public static List<Entry> read(Path segment) throws IOException {
+        Null.require("Segment cannot be null", segment);
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+        if (buffer.remaining() < Integer.BYTES + Short.BYTES || buffer.getInt() != BinaryLog.MAGIC)
+            throw new IOException("Not a segment of BinaryLog: " + segment);
+
+        short version = buffer.getShort();
+        if (version != BinaryLog.VERSION)
+            throw new IOException("Unsupported segment version " + version + ": " + segment);
+
+        Map<Integer, String> patterns = new HashMap<>();
+        ImmutableList.Builder<Entry> entries = ImmutableList.builder();
+        while (buffer.hasRemaining()) {
+            byte type = buffer.get();
+            if (type == BinaryLog.DEFINITION)
+                patterns.put((int) buffer.getShort(), getString(buffer));
+            else if (type == BinaryLog.EVENT)
+                entries.add(readEvent(buffer, patterns, segment));
+            else
+                break;
+        }
+        return entries.build();
+    }
+
+    /**
+     * Appends every entry of given segment to given appendable, formatted using Entry::toString, one per line
+     * @throws NullPointerException if segment or appendable is null
+     * @throws IOException if the segment cannot be read, is not a segment of BinaryLog, or appendable throws it
+     */
+    public static void format(Path segment, Appendable appendable) throws IOException {
+        Null.require("Segment and appendable cannot be null", segment, appendable);
+        for (Entry entry : read(segment))
+            appendable.append(entry.toString()).append(System.lineSeparator());
+    }
+
+    /**
+     * Appends every entry of every segment of the log with given name in given directory to given appendable,
+     * formatted using Entry::toString, one per line
+     * @throws NullPointerException if directory, name or appendable is null
+     * @throws IOException if any segment cannot be read, is not a segment of BinaryLog, or appendable throws it
+     */
+    public static void formatAll(Path directory, String name, Appendable appendable) throws IOException {
+        Null.require("Appendable cannot be null", appendable);
+        for (Path segment : segments(directory, name))
+            format(segment, appendable);
+    }
+
+    /**
+     * Single message, read from a segment
+     */
+    public static final class Entry {
+        /**
+         * @return time of the message, in milliseconds since epoch
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        /**
+         * @return arguments of the message, as Long, Double or String
+         */
+        public List<Object> getArguments() {
+            return arguments;
+        }
+
+        /**
+         * @return pattern of the message, formatted using its arguments
+         */
+        public String getMessage() {
+            return Str.template(pattern).format(arguments.toArray());
+        }
+
+        /**
+         * @return time of the message in ISO-8601 format, followed by the formatted message
+         */
+        @Override
+        public String toString() {
+            return Instant.ofEpochMilli(timestamp) + " " + getMessage();
+        }
+
+        private Entry(long timestamp, String pattern, List<Object> arguments) {
+            this.timestamp = timestamp;
+            this.pattern = pattern;
+            this.arguments = arguments;
+        }
+
+        private final long timestamp;
+        private final String pattern;
+        private final List<Object> arguments;
+    }
+
+    // PRIVATE
+
+    private BinaryLogReader() {
+        throw new AssertionError("Do not instantiate, use static methods!");
+    }
+
+    private static boolean isSegmentOf(Path segment, String name) {
+        String fileName = segment.getFileName().toString();
+        String index = fileName.substring(name.length() + 1, fileName.length() - BinaryLog.SEGMENT_SUFFIX.length());
+        return !index.isEmpty() && index.chars().allMatch(Character::isDigit);
+    }
+
+    private static Entry readEvent(ByteBuffer buffer, Map<Integer, String> patterns, Path segment) throws IOException {
+        long timestamp = buffer.getLong();
+        int template = buffer.getShort();
+        int argCount = buffer.get();
+
+        String pattern = patterns.get(template);
+        if (pattern == null)
+            throw new IOException("Pattern " + template + " is not defined: " + segment);
+
+        ImmutableList.Builder<Object> arguments = ImmutableList.builder();
+        for (int index = 0; index < argCount; index++) {
+            byte kind = buffer.get();
+            if (kind == BinaryLog.LONG)
+                arguments.add(buffer.getLong());
+            else if (kind == BinaryLog.DOUBLE)
+                arguments.add(buffer.getDouble());
+            else if (kind == BinaryLog.STRING)
+                arguments.add(getString(buffer));
+            else
+                throw new IOException("Unknown argument kind " + kind + ": " + segment);
+        }
+        return new Entry(timestamp, pattern, arguments.build());
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        char[] chars = new char[buffer.getInt()];
+        for (int index = 0; index < chars.length; index++)
+            chars[index] = buffer.getChar();
+        return new String(chars);
+    }
+
+}
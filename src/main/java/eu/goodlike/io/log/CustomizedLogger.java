@@ -1,5 +1,7 @@
 package eu.goodlike.io.log;
 
+import java.util.List;
+
 /**
  * <pre>
  * Basic logger interface
@@ -15,4 +17,13 @@ public interface CustomizedLogger {
      */
     void logMessage(String line);
 
+    /**
+     * Logs all given lines, in order, into whatever output this logger has, if any; override if the output can handle
+     * a batch of lines better than one line at a time; the list should not be kept after this call returns
+     * @throws NullPointerException if lines is null
+     */
+    default void logMessages(List<String> lines) {
+        lines.forEach(this::logMessage);
+    }
+
 }
@@ -21,7 +21,7 @@ public final class CustomizedLoggers {
      * @throws NullPointerException if manyLoggers is or contains null
      */
     public static CustomizedLogger combine(CustomizedLogger... manyLoggers) {
-        Null.checkArray(manyLoggers).ifAny("Many loggers cannot be or contain null");
+        Null.requireArray("Many loggers cannot be or contain null", manyLoggers);
         return manyLoggers.length == 0
                 ? noLogging()
                 : combine(ImmutableList.copyOf(manyLoggers));
@@ -32,7 +32,7 @@ public final class CustomizedLoggers {
      * @throws NullPointerException if manyLoggers is or contains null
      */
     public static CustomizedLogger combine(List<CustomizedLogger> manyLoggers) {
-        Null.checkList(manyLoggers).ifAny("Many loggers cannot be or contain null");
+        Null.requireCollection("Many loggers cannot be or contain null", manyLoggers);
         if (manyLoggers.isEmpty())
             return noLogging();
 
@@ -40,6 +40,15 @@ public final class CustomizedLoggers {
         return line -> customizedLoggers.forEach(logger -> logger.logMessage(line));
     }
 
+    /**
+     * @return logger which passes the lines to given logger on a separate thread, so the callers do not wait for it;
+     * refer to AsyncCustomizedLogger
+     * @throws NullPointerException if logger is null
+     */
+    public static AsyncCustomizedLogger async(CustomizedLogger logger) {
+        return AsyncCustomizedLogger.of(logger);
+    }
+
     /**
      * @return logger which prints output to console
      */
@@ -52,7 +61,7 @@ public final class CustomizedLoggers {
      * @throws NullPointerException if filename is null
      */
     public static CustomizedLogger forFile(String filename) {
-        Null.check(filename).ifAny("Filename cannot be null");
+        Null.require("Filename cannot be null", filename);
         return FileUtils.getPath(filename)
                 .map(CustomizedLoggers::forFile)
                 .orElse(NO_LOGGER);
@@ -63,7 +72,7 @@ public final class CustomizedLoggers {
      * @throws NullPointerException if path is null
      */
     public static CustomizedLogger forFile(Path path) {
-        Null.check(path).ifAny("Path cannot be null");
+        Null.require("Path cannot be null", path);
         return CACHED_FILE_LOGGERS.get(path.normalize());
     }
 
@@ -72,7 +81,7 @@ public final class CustomizedLoggers {
      * @throws NullPointerException if file is null
      */
     public static CustomizedLogger forFile(File file) {
-        Null.check(file).ifAny("File cannot be null");
+        Null.require("File cannot be null", file);
         return forFile(file.toPath());
     }
 
@@ -96,7 +105,7 @@ public final class CustomizedLoggers {
             .build(path -> FileAppender.ofFile(path).map(CustomizedLoggers::forFileAppender).orElse(NO_LOGGER));
 
     private static CustomizedLogger forFileAppender(FileAppender fileAppender) {
-        return new FileCustomizedLogger(fileAppender);
+        return FileCustomizedLogger.shared(fileAppender);
     }
 
 }
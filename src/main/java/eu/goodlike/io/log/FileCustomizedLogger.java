@@ -1,18 +1,22 @@
 package eu.goodlike.io.log;
 
 import eu.goodlike.io.FileAppender;
-import eu.goodlike.misc.SpecialUtils;
 import eu.goodlike.neat.Null;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 /**
+ * <pre>
  * CustomizedLogger for a file; in the case where file appender returns an error, logging is stopped
+ *
+ * The file is closed when the JVM shuts down, unless close() is called first; lines logged after closing are ignored
+ * </pre>
  */
-public final class FileCustomizedLogger implements CustomizedLogger {
+public final class FileCustomizedLogger implements CustomizedLogger, AutoCloseable {
 
     @Override
     public void logMessage(String line) {
@@ -29,6 +33,37 @@ public final class FileCustomizedLogger implements CustomizedLogger {
             }
     }
 
+    @Override
+    public void logMessages(List<String> lines) {
+        if (fileAppender != null)
+            synchronized (lock) {
+                if (fileAppender != null)
+                    try {
+                        for (String line : lines)
+                            fileAppender.appendLine(line);
+                    } catch (IOException e) {
+                        System.out.println("Error occurred while logging to file");
+                        e.printStackTrace();
+                        fileAppender = null;
+                    }
+            }
+    }
+
+    /**
+     * Closes the file; lines logged afterwards are ignored
+     */
+    @Override
+    public void close() throws Exception {
+        cancelCloseOnExit();
+        if (fileAppender != null)
+            synchronized (lock) {
+                FileAppender appender = fileAppender;
+                fileAppender = null;
+                if (appender != null)
+                    appender.close();
+            }
+    }
+
     // CONSTRUCTORS
 
     public static Optional<FileCustomizedLogger> forFile(String filename) {
@@ -44,10 +79,45 @@ public final class FileCustomizedLogger implements CustomizedLogger {
     }
 
     public FileCustomizedLogger(FileAppender fileAppender) {
-        Null.check(fileAppender).ifAny("File appender cannot be null");
+        this(fileAppender, false);
+    }
+
+    private FileCustomizedLogger(FileAppender fileAppender, boolean shared) {
+        Null.require("File appender cannot be null", fileAppender);
 
         this.fileAppender = fileAppender;
-        SpecialUtils.runOnExit(this::cleanup);
+        this.shared = shared;
+        this.closeOnExit = new Thread(this::cleanup);
+        Runtime.getRuntime().addShutdownHook(closeOnExit);
+    }
+
+    // PACKAGE PRIVATE
+
+    /**
+     * @return logger for given appender, which is shared, i.e. by CustomizedLoggers::forFile, so nothing else can own
+     * it
+     */
+    static FileCustomizedLogger shared(FileAppender fileAppender) {
+        return new FileCustomizedLogger(fileAppender, true);
+    }
+
+    /**
+     * @return true if this logger is shared, i.e. by CustomizedLoggers::forFile, so nothing else can own it
+     */
+    boolean isShared() {
+        return shared;
+    }
+
+    /**
+     * Stops the file from being closed when the JVM shuts down; used when the closing is done by the owner of this
+     * logger, i.e. AsyncCustomizedLogger, which must write out its buffer before the file is closed
+     */
+    void cancelCloseOnExit() {
+        try {
+            Runtime.getRuntime().removeShutdownHook(closeOnExit);
+        } catch (IllegalStateException e) {
+            // the JVM is already shutting down, so the hook is running or has run
+        }
     }
 
     // PRIVATE
@@ -55,17 +125,15 @@ public final class FileCustomizedLogger implements CustomizedLogger {
     private volatile FileAppender fileAppender;
 
     private final Object lock = new Object();
+    private final boolean shared;
+    private final Thread closeOnExit;
 
     private void cleanup() {
-        if (fileAppender != null)
-            synchronized (lock) {
-                if (fileAppender != null)
-                    try {
-                        fileAppender.close();
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-            }
+        try {
+            close();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
     }
 
 }
@@ -0,0 +1,97 @@
+package eu.goodlike.io.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <pre>
+ * Bounded, lock-free queue of Strings backed by a ring of slots (Vyukov's bounded queue)
+ *
+ * Every slot has a sequence number, which tells whether it is ready to be written or read for the current lap, so
+ * offer() and poll() only need a single CAS to claim a slot; any thread can call either method, which lets the
+ * producers drop the oldest element when the ring is full
+ * </pre>
+ */
+final class RingBuffer {
+
+    /**
+     * @return true if the element was added, false if the ring is full
+     */
+    boolean offer(String element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0)
+                return false;
+            else
+                position = tail.get();
+        }
+    }
+
+    /**
+     * @return oldest element, null if the ring is empty
+     */
+    String poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    String element = elements.get(index);
+                    elements.lazySet(index, null);
+                    sequences.lazySet(index, position + capacity);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0)
+                return null;
+            else
+                position = head.get();
+        }
+    }
+
+    /**
+     * @return true if the ring has no elements, false otherwise; only a snapshot under concurrent use
+     */
+    boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    // CONSTRUCTORS
+
+    /**
+     * @throws IllegalArgumentException if capacity is not a positive power of two
+     */
+    RingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int index = 0; index < capacity; index++)
+            sequences.set(index, index);
+    }
+
+    // PRIVATE
+
+    private final int capacity;
+    private final long mask;
+    private final AtomicReferenceArray<String> elements;
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+}
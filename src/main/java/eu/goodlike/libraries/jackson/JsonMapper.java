@@ -1,6 +1,7 @@
 package eu.goodlike.libraries.jackson;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -51,6 +52,10 @@ public enum JsonMapper {
         return mapper.readerFor(type);
     }
 
+    public JsonFactory getFactory() {
+        return mapper.getFactory();
+    }
+
     // PRIVATE
 
     JsonMapper() {
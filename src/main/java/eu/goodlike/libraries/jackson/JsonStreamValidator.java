@@ -0,0 +1,502 @@
+package eu.goodlike.libraries.jackson;
+
+import com.fasterxml.jackson.core.*;
+import eu.goodlike.neat.Null;
+import eu.goodlike.validate.impl.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * <pre>
+ * Validates JSON while it is being parsed, without building a JsonNode tree or any other object
+ *
+ * The schema maps paths to Validators, i.e. "$.items[*].id" to MANDATORY_JSON_ID; paths consist of
+ *      $           the root value
+ *      .name       field of an object
+ *      .*          any field of an object
+ *      [*]         any element of an array
+ *
+ * Every scalar value which matches a path is converted to the type of its Validator and tested; values which do not
+ * match any path are skipped without being converted; validation stops at the first value that fails, so invalid
+ * input is only read until the error
+ *
+ * If an object does not have a field which is in the schema, the Validator of that field is tested with null, so
+ * mandatory fields can be enforced; null is also accepted in place of objects or arrays which are in the schema
+ *
+ * Malformed JSON is also reported as a violation, rather than an exception
+ * </pre>
+ */
+public final class JsonStreamValidator {
+
+    /**
+     * <pre>
+     * Validates the next value of given parser; the parser is left after the value, or after the first violation
+     *
+     * The parser is not closed
+     * </pre>
+     * @return first violation found, Optional::empty if the value is valid
+     * @throws NullPointerException if parser is null
+     * @throws IOException if reading the JSON fails for reasons other than it being malformed
+     */
+    public Optional<Violation> validate(JsonParser parser) throws IOException {
+        Null.require("Parser cannot be null", parser);
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null)
+                return Optional.of(new Violation(ROOT, "no JSON value found"));
+
+            return Optional.ofNullable(validateValue(parser, token, root));
+        } catch (JsonProcessingException e) {
+            return Optional.of(new Violation(pathOf(parser.getParsingContext()), "malformed JSON: " + e.getOriginalMessage()));
+        }
+    }
+
+    /**
+     * Refer to validate(JsonParser)
+     * @throws NullPointerException if inputStream is null
+     */
+    public Optional<Violation> validate(InputStream inputStream) throws IOException {
+        Null.require("Input stream cannot be null", inputStream);
+        try (JsonParser parser = Json.mapper().getFactory().createParser(inputStream)) {
+            return validate(parser);
+        }
+    }
+
+    /**
+     * Refer to validate(JsonParser)
+     * @throws NullPointerException if reader is null
+     */
+    public Optional<Violation> validate(Reader reader) throws IOException {
+        Null.require("Reader cannot be null", reader);
+        try (JsonParser parser = Json.mapper().getFactory().createParser(reader)) {
+            return validate(parser);
+        }
+    }
+
+    /**
+     * Refer to validate(JsonParser)
+     * @throws NullPointerException if bytes is null
+     */
+    public Optional<Violation> validate(byte[] bytes) throws IOException {
+        Null.require("Bytes cannot be null", bytes);
+        try (JsonParser parser = Json.mapper().getFactory().createParser(bytes)) {
+            return validate(parser);
+        }
+    }
+
+    /**
+     * Refer to validate(JsonParser)
+     * @throws NullPointerException if string is null
+     */
+    public Optional<Violation> validate(String string) throws IOException {
+        Null.require("String cannot be null", string);
+        try (JsonParser parser = Json.mapper().getFactory().createParser(string)) {
+            return validate(parser);
+        }
+    }
+
+    /**
+     * @return true if the next value of given parser is valid, false otherwise
+     * @throws NullPointerException if parser is null
+     * @throws IOException if reading the JSON fails for reasons other than it being malformed
+     */
+    public boolean isValid(JsonParser parser) throws IOException {
+        return !validate(parser).isPresent();
+    }
+
+    /**
+     * Value which failed validation
+     */
+    public static final class Violation {
+        /**
+         * @return path of the value which failed validation, with actual indexes of the arrays, i.e. "$.items[3].id"
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return reason why the value failed validation
+         */
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Violation)) return false;
+            Violation violation = (Violation) o;
+            return Objects.equals(path, violation.path) &&
+                    Objects.equals(reason, violation.reason);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, reason);
+        }
+
+        @Override
+        public String toString() {
+            return path + ": " + reason;
+        }
+
+        // CONSTRUCTORS
+
+        private Violation(String path, String reason) {
+            this.path = path;
+            this.reason = reason;
+        }
+
+        // PRIVATE
+
+        private final String path;
+        private final String reason;
+    }
+
+    // CONSTRUCTORS
+
+    /**
+     * @return builder for the schema of a JsonStreamValidator; this builder is not synchronized
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private JsonStreamValidator(Node root) {
+        this.root = root;
+    }
+
+    public static final class Builder {
+        public Builder path(String path, StringValidator validator) {
+            return path(path, String.class, validator);
+        }
+
+        public Builder path(String path, IntValidator validator) {
+            return path(path, Integer.class, validator);
+        }
+
+        public Builder path(String path, LongValidator validator) {
+            return path(path, Long.class, validator);
+        }
+
+        public Builder path(String path, DoubleValidator validator) {
+            return path(path, Double.class, validator);
+        }
+
+        public Builder path(String path, BigDecimalValidator validator) {
+            return path(path, BigDecimal.class, validator);
+        }
+
+        public Builder path(String path, BooleanValidator validator) {
+            return path(path, Boolean.class, validator);
+        }
+
+        /**
+         * <pre>
+         * Adds a Validator for the values at given path; values are converted to given type before they are tested:
+         *      String      JSON strings
+         *      Integer     JSON integers which fit into an int
+         *      Long        JSON integers which fit into a long
+         *      Double      JSON numbers
+         *      BigDecimal  JSON numbers
+         *      Boolean     JSON booleans
+         * JSON null is converted to null for every type; any other value fails validation
+         * </pre>
+         * @throws NullPointerException if path, type or validator is null
+         * @throws IllegalArgumentException if path is malformed, type is not supported, the path already has a
+         * Validator, or the path is used both for a scalar and for an object or array
+         */
+        public <V> Builder path(String path, Class<V> type, Predicate<? super V> validator) {
+            Null.require("Path, type and validator cannot be null", path, type, validator);
+            Converter converter = CONVERTERS.get(type);
+            if (converter == null)
+                throw new IllegalArgumentException("Unsupported type: " + type);
+
+            Node node = root;
+            for (String segment : segmentsOf(path))
+                node = node.child(segment, path);
+
+            node.setRule(new Rule(type, converter, validator), path);
+            return this;
+        }
+
+        /**
+         * @return JsonStreamValidator for the paths given so far; the builder can be used further without affecting it
+         */
+        public JsonStreamValidator build() {
+            return new JsonStreamValidator(root.copy());
+        }
+
+        // CONSTRUCTORS
+
+        private Builder() {
+            this.root = new Node(ROOT);
+        }
+
+        // PRIVATE
+
+        private final Node root;
+    }
+
+    // PRIVATE
+
+    private static final String ROOT = "$";
+    private static final String ANY_FIELD = "*";
+    private static final String ANY_ELEMENT = "[*]";
+
+    private static final Object MISMATCH = new Object();
+
+    private final Node root;
+
+    private static Violation validateValue(JsonParser parser, JsonToken token, Node node) throws IOException {
+        if (node.rule != null)
+            return node.rule.test(parser, token);
+
+        if (!node.isObject() && !node.isArray())
+            return skipWith(parser, null);
+
+        switch (token) {
+            case START_OBJECT:
+                return node.isObject()
+                        ? validateObject(parser, node)
+                        : skipWith(parser, new Violation(pathOf(parser.getParsingContext()), "expected array"));
+            case START_ARRAY:
+                return node.isArray()
+                        ? validateArray(parser, node)
+                        : skipWith(parser, new Violation(pathOf(parser.getParsingContext()), "expected object"));
+            case VALUE_NULL:
+                return null;
+            default:
+                return new Violation(pathOf(parser.getParsingContext()), node.isArray() ? "expected array" : "expected object");
+        }
+    }
+
+    private static Violation validateObject(JsonParser parser, Node node) throws IOException {
+        long seenFields = 0;
+        long[] moreSeenFields = node.scalarFields.length > Long.SIZE ? new long[node.scalarFields.length / Long.SIZE] : null;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            Node field = node.fields.get(parser.getCurrentName());
+            if (field == null)
+                field = node.anyField;
+
+            token = parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+                continue;
+            }
+
+            int index = field.scalarIndex;
+            if (index >= Long.SIZE)
+                moreSeenFields[index / Long.SIZE - 1] |= 1L << index;
+            else if (index >= 0)
+                seenFields |= 1L << index;
+
+            Violation violation = validateValue(parser, token, field);
+            if (violation != null)
+                return violation;
+        }
+
+        for (int index = 0; index < node.scalarFields.length; index++) {
+            boolean seen = index < Long.SIZE
+                    ? (seenFields & 1L << index) != 0
+                    : (moreSeenFields[index / Long.SIZE - 1] & 1L << index) != 0;
+
+            Node field = node.scalarFields[index];
+            if (!seen && !field.rule.validator.test(null))
+                return new Violation(pathOf(parser.getParsingContext()) + "." + field.name, "missing");
+        }
+        return null;
+    }
+
+    private static Violation validateArray(JsonParser parser, Node node) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null)
+                throw new JsonParseException(parser, "Unexpected end of input in an array");
+
+            Violation violation = validateValue(parser, token, node.anyElement);
+            if (violation != null)
+                return violation;
+        }
+        return null;
+    }
+
+    private static Violation skipWith(JsonParser parser, Violation violation) throws IOException {
+        parser.skipChildren();
+        return violation;
+    }
+
+    private static String pathOf(JsonStreamContext context) {
+        Deque<JsonStreamContext> contexts = new ArrayDeque<>();
+        for (; context != null && !context.inRoot(); context = context.getParent())
+            contexts.push(context);
+
+        StringBuilder path = new StringBuilder(ROOT);
+        for (JsonStreamContext next : contexts) {
+            if (next.inArray())
+                path.append('[').append(Math.max(next.getCurrentIndex(), 0)).append(']');
+            else if (next.getCurrentName() != null)
+                path.append('.').append(next.getCurrentName());
+        }
+        return path.toString();
+    }
+
+    private static List<String> segmentsOf(String path) {
+        if (!path.startsWith(ROOT))
+            throw new IllegalArgumentException("Path must start with '$': " + path);
+
+        List<String> segments = new ArrayList<>();
+        int index = ROOT.length();
+        while (index < path.length()) {
+            if (path.startsWith(ANY_ELEMENT, index)) {
+                segments.add(ANY_ELEMENT);
+                index += ANY_ELEMENT.length();
+                continue;
+            }
+
+            if (path.charAt(index) != '.')
+                throw new IllegalArgumentException("Expected '.' or '[*]' at index " + index + ": " + path);
+
+            int end = index + 1;
+            while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[')
+                end++;
+
+            if (end == index + 1)
+                throw new IllegalArgumentException("Expected field name at index " + end + ": " + path);
+
+            segments.add(path.substring(index + 1, end));
+            index = end;
+        }
+        return segments;
+    }
+
+    private interface Converter {
+        /**
+         * @return value of the current token, or MISMATCH if the token cannot be converted
+         */
+        Object convert(JsonParser parser, JsonToken token) throws IOException;
+    }
+
+    private static final Map<Class<?>, Converter> CONVERTERS = converters();
+
+    private static Map<Class<?>, Converter> converters() {
+        Map<Class<?>, Converter> converters = new HashMap<>();
+        converters.put(String.class, (parser, token) -> token == JsonToken.VALUE_STRING ? parser.getText() : MISMATCH);
+        converters.put(Integer.class, (parser, token) -> token == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() == JsonParser.NumberType.INT ? parser.getIntValue() : MISMATCH);
+        converters.put(Long.class, (parser, token) -> token == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER ? parser.getLongValue() : MISMATCH);
+        converters.put(Double.class, (parser, token) -> token.isNumeric() ? parser.getDoubleValue() : MISMATCH);
+        converters.put(BigDecimal.class, (parser, token) -> token.isNumeric() ? parser.getDecimalValue() : MISMATCH);
+        converters.put(Boolean.class, (parser, token) -> token.isBoolean() ? parser.getBooleanValue() : MISMATCH);
+        return converters;
+    }
+
+    private static final class Rule {
+        private Rule(Class<?> type, Converter converter, Predicate<?> validator) {
+            this.type = type;
+            this.converter = converter;
+            @SuppressWarnings("unchecked")
+            Predicate<Object> objectValidator = (Predicate<Object>) validator;
+            this.validator = objectValidator;
+        }
+
+        private final Class<?> type;
+        private final Converter converter;
+        private final Predicate<Object> validator;
+
+        private Violation test(JsonParser parser, JsonToken token) throws IOException {
+            if (token.isStructStart())
+                return skipWith(parser, new Violation(pathOf(parser.getParsingContext()), "expected " + type.getSimpleName()));
+
+            Object value = token == JsonToken.VALUE_NULL ? null : converter.convert(parser, token);
+            if (value == MISMATCH)
+                return new Violation(pathOf(parser.getParsingContext()), "expected " + type.getSimpleName());
+
+            return validator.test(value) ? null : new Violation(pathOf(parser.getParsingContext()), "invalid value");
+        }
+    }
+
+    private static final class Node {
+        private Node(String name) {
+            this.name = name;
+            this.fields = new HashMap<>();
+            this.scalarFields = new Node[0];
+        }
+
+        private final String name;
+        private final Map<String, Node> fields;
+        private Node anyField;
+        private Node anyElement;
+        private Rule rule;
+
+        // fields which have a Validator, to check for missing ones; scalarIndex is the index of a node in its parent
+        private Node[] scalarFields;
+        private int scalarIndex = -1;
+
+        private boolean isObject() {
+            return !fields.isEmpty() || anyField != null;
+        }
+
+        private boolean isArray() {
+            return anyElement != null;
+        }
+
+        private Node child(String segment, String path) {
+            if (rule != null)
+                throw new IllegalArgumentException("Path is already used for a scalar: " + path);
+
+            if (segment.equals(ANY_ELEMENT)) {
+                if (isObject())
+                    throw new IllegalArgumentException("Path is already used for an object: " + path);
+
+                return anyElement == null ? anyElement = new Node(segment) : anyElement;
+            }
+
+            if (isArray())
+                throw new IllegalArgumentException("Path is already used for an array: " + path);
+
+            if (segment.equals(ANY_FIELD))
+                return anyField == null ? anyField = new Node(segment) : anyField;
+
+            return fields.computeIfAbsent(segment, Node::new);
+        }
+
+        private void setRule(Rule rule, String path) {
+            if (this.rule != null)
+                throw new IllegalArgumentException("Path already has a Validator: " + path);
+            if (isObject() || isArray())
+                throw new IllegalArgumentException("Path is already used for an object or array: " + path);
+
+            this.rule = rule;
+        }
+
+        private Node copy() {
+            Node copy = new Node(name);
+            copy.rule = rule;
+            copy.anyField = anyField == null ? null : anyField.copy();
+            copy.anyElement = anyElement == null ? null : anyElement.copy();
+
+            List<Node> scalarFields = new ArrayList<>();
+            fields.forEach((fieldName, field) -> {
+                Node fieldCopy = field.copy();
+                if (fieldCopy.rule != null) {
+                    fieldCopy.scalarIndex = scalarFields.size();
+                    scalarFields.add(fieldCopy);
+                }
+                copy.fields.put(fieldName, fieldCopy);
+            });
+            copy.scalarFields = scalarFields.toArray(new Node[scalarFields.size()]);
+            return copy;
+        }
+    }
+
+}
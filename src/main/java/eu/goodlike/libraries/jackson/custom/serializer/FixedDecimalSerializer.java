@@ -0,0 +1,30 @@
+package eu.goodlike.libraries.jackson.custom.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import eu.goodlike.misc.FixedDecimal;
+
+import java.io.IOException;
+
+/**
+ * <pre>
+ * Serializes FixedDecimal as a JSON number with all of its decimal digits, i.e. 12.5000
+ *
+ * The number is written from the unscaled units directly, without converting it to BigDecimal
+ * </pre>
+ */
+public final class FixedDecimalSerializer extends StdSerializer<FixedDecimal> {
+
+    @Override
+    public void serialize(FixedDecimal value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeNumber(value.toString());
+    }
+
+    // CONSTRUCTORS
+
+    public FixedDecimalSerializer() {
+        super(FixedDecimal.class);
+    }
+
+}
@@ -17,9 +17,9 @@ public final class CommandsManyImpl<R extends Record, Left, Right>
 
     @Override
     public int create(Collection<Left> leftValues, Collection<Right> rightValues) {
-        Null.checkCollection(leftValues).ifAny("Left values cannot be null");
+        Null.requireCollection("Left values cannot be null", leftValues);
         if (leftValues.isEmpty()) throw new IllegalArgumentException("At least one value should be provided");
-        Null.checkCollection(rightValues).ifAny("Right values cannot be null");
+        Null.requireCollection("Right values cannot be null", rightValues);
         if (rightValues.isEmpty()) throw new IllegalArgumentException("At least one value should be provided");
 
         InsertValuesStep2<R, Left, Right> step = sql.insertInto(table, leftField, rightField);
@@ -32,7 +32,7 @@ public final class CommandsManyImpl<R extends Record, Left, Right>
 
     @Override
     public int deleteLeft(Collection<Left> leftValues) {
-        Null.checkCollection(leftValues).ifAny("Left values cannot be null");
+        Null.requireCollection("Left values cannot be null", leftValues);
         if (leftValues.isEmpty()) throw new IllegalArgumentException("At least one value should be provided");
         return sql.deleteFrom(table)
                 .where(condition(leftValues, leftField))
@@ -41,7 +41,7 @@ public final class CommandsManyImpl<R extends Record, Left, Right>
 
     @Override
     public int deleteRight(Collection<Right> rightValues) {
-        Null.checkCollection(rightValues).ifAny("Right values cannot be null");
+        Null.requireCollection("Right values cannot be null", rightValues);
         if (rightValues.isEmpty()) throw new IllegalArgumentException("At least one value should be provided");
         return sql.deleteFrom(table)
                 .where(condition(rightValues, rightField))
@@ -51,7 +51,7 @@ public final class CommandsManyImpl<R extends Record, Left, Right>
     // CONSTRUCTORS
 
     public CommandsManyImpl(DSLContext sql, Table<R> table, TableField<R, Left> leftField, TableField<R, Right> rightField) {
-        Null.check(sql, table, leftField, rightField).ifAny("DSLContext, table, leftField and rightField cannot be null");
+        Null.require("DSLContext, table, leftField and rightField cannot be null", sql, table, leftField, rightField);
         this.sql = sql;
         this.table = table;
         this.leftField = leftField;
@@ -142,7 +142,7 @@ public interface Queries<R extends Record, ID> extends UniversalSql {
      * @throws NullPointerException if field is null
      */
     default <F> Condition eq(TableField<R, F> field, F fieldValue) {
-        Null.check(field).ifAny("Field cannot be null");
+        Null.require("Field cannot be null", field);
         return fieldValue == null ? field.isNull() : field.eq(fieldValue);
     }
 
@@ -16,7 +16,7 @@ public final class QueriesForeignImpl<ID> extends SQL implements QueriesForeign<
 
     @Override
     public boolean isUsed(ID id) {
-        Null.check(id).ifAny("Foreign key value cannot be null");
+        Null.require("Foreign key value cannot be null", id);
         return sql.fetchExists(
                 sql.selectOne()
                         .from(tables())
@@ -27,7 +27,7 @@ public final class QueriesForeignImpl<ID> extends SQL implements QueriesForeign<
 
     @SafeVarargs
     public QueriesForeignImpl(DSLContext sql, TableField<?, ID>... foreignKeys) {
-        Null.check(sql).ifAny("DSLContext cannot be null");
+        Null.require("DSLContext cannot be null", sql);
         if (foreignKeys.length <= 0) throw new IllegalArgumentException("At least one foreign key should be provided");
 
         this.sql = sql;
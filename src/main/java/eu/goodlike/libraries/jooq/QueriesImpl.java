@@ -14,7 +14,7 @@ public final class QueriesImpl<R extends Record, ID> extends SQL implements Quer
 
     @Override
     public <T> Optional<T> read(ID id, Function<? super R, T> mapper) {
-        Null.check(id, mapper).ifAny("Primary key and mapper cannot be null");
+        Null.require("Primary key and mapper cannot be null", id, mapper);
         return sql.selectFrom(table)
                 .where(getUniversalCondition().orElse(trueCondition()).and(primary(id)))
                 .fetch().stream().findAny()
@@ -23,7 +23,7 @@ public final class QueriesImpl<R extends Record, ID> extends SQL implements Quer
 
     @Override
     public <T> List<T> read(int page, int amount, Condition condition, RecordMapper<? super R, T> mapper) {
-        Null.check(condition, mapper).ifAny("Condition and mapper cannot be null");
+        Null.require("Condition and mapper cannot be null", condition, mapper);
         return sql.selectFrom(table)
                 .where(getUniversalCondition().orElse(trueCondition()).and(condition))
                 .orderBy(keyField)
@@ -36,7 +36,7 @@ public final class QueriesImpl<R extends Record, ID> extends SQL implements Quer
     @Override
     public <T> List<T> readJoin(int page, int amount, Condition condition, RecordMapper<Record, T> mapper,
                                 Function<SelectJoinStep<Record>, SelectWhereStep<Record>> join) {
-        Null.check(condition, mapper, join).ifAny("Condition, mapper and join cannot be null");
+        Null.require("Condition, mapper and join cannot be null", condition, mapper, join);
         return join.apply(sql.select(table.fields()).from(table))
                 .where(getUniversalCondition().orElse(trueCondition()).and(condition))
                 .groupBy(keyField)
@@ -49,7 +49,7 @@ public final class QueriesImpl<R extends Record, ID> extends SQL implements Quer
 
     @Override
     public <T> Optional<T> readField(TableField<R, T> field, Condition condition) {
-        Null.check(field, condition).ifAny("Field and condition cannot be null");
+        Null.require("Field and condition cannot be null", field, condition);
         return sql.select(field)
                 .from(table)
                 .where(getUniversalCondition().orElse(trueCondition()).and(condition))
@@ -60,8 +60,8 @@ public final class QueriesImpl<R extends Record, ID> extends SQL implements Quer
 
     @Override
     public Result<Record> readFields(Collection<TableField<R, ?>> tableFields, Condition condition) {
-        Null.check(condition).ifAny("Condition cannot be null");
-        Null.checkCollection(tableFields).ifAny("Table fields cannot be null");
+        Null.require("Condition cannot be null", condition);
+        Null.requireCollection("Table fields cannot be null", tableFields);
         if (tableFields.isEmpty()) throw new IllegalArgumentException("At least one table field should be provided");
         return sql.select(tableFields)
                 .from(table)
@@ -72,26 +72,26 @@ public final class QueriesImpl<R extends Record, ID> extends SQL implements Quer
 
     @Override
     public int count(Condition condition) {
-        Null.check(condition).ifAny("Condition cannot be null");
+        Null.require("Condition cannot be null", condition);
         return sql.fetchCount(table, getUniversalCondition().orElse(trueCondition()).and(condition));
     }
 
     @Override
     public boolean exists(Condition condition) {
-        Null.check(condition).ifAny("Condition cannot be null");
+        Null.require("Condition cannot be null", condition);
         return sql.fetchExists(table, getUniversalCondition().orElse(trueCondition()).and(condition));
     }
 
     @Override
     public Condition primary(ID id) {
-        Null.check(id).ifAny("Primary key value cannot be null");
+        Null.require("Primary key value cannot be null", id);
         return keyField.eq(id);
     }
 
     // CONSTRUCTORS
 
     public QueriesImpl(DSLContext sql, Table<R> table, TableField<R, ID> keyField) {
-        Null.check(sql, table, keyField).ifAny("DSLContext, table and keyField cannot be null");
+        Null.require("DSLContext, table and keyField cannot be null", sql, table, keyField);
         this.sql = sql;
         this.table = table;
         this.keyField = keyField;
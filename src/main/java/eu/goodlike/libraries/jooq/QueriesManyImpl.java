@@ -13,26 +13,26 @@ public final class QueriesManyImpl<R extends Record, Left, Right>
 
     @Override
     public final boolean existsLeft(Left value) {
-        Null.check(value).ifAny("Left value cannot be null");
+        Null.require("Left value cannot be null", value);
         return sql.fetchExists(table, leftField.eq(value));
     }
 
     @Override
     public boolean existsLeft(Collection<Left> values) {
-        Null.checkCollection(values).ifAny("Left values cannot be null");
+        Null.requireCollection("Left values cannot be null", values);
         if (values.isEmpty()) throw new IllegalArgumentException("At least one value should be provided");
         return distinctCount(values, leftField) == values.size();
     }
 
     @Override
     public final boolean existsRight(Right value) {
-        Null.check(value).ifAny("Right value cannot be null");
+        Null.require("Right value cannot be null", value);
         return sql.fetchExists(table, rightField.eq(value));
     }
 
     @Override
     public boolean existsRight(Collection<Right> values) {
-        Null.checkCollection(values).ifAny("Right values cannot be null");
+        Null.requireCollection("Right values cannot be null", values);
         if (values.isEmpty()) throw new IllegalArgumentException("At least one value should be provided");
         return distinctCount(values, rightField) == values.size();
     }
@@ -40,7 +40,7 @@ public final class QueriesManyImpl<R extends Record, Left, Right>
     // CONSTRUCTORS
 
     public QueriesManyImpl(DSLContext sql, Table<R> table, TableField<R, Left> leftField, TableField<R, Right> rightField) {
-        Null.check(sql, table, leftField, rightField).ifAny("DSLContext, table, leftField and rightField cannot be null");
+        Null.require("DSLContext, table, leftField and rightField cannot be null", sql, table, leftField, rightField);
         this.sql = sql;
         this.table = table;
         this.leftField = leftField;
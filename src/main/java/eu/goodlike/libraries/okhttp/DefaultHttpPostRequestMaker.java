@@ -20,19 +20,19 @@ public final class DefaultHttpPostRequestMaker implements HttpPostRequestMaker {
 
     @Override
     public <T> CompletableFuture<T> postRequest(HttpUrl url, RequestBody body, Class<T> returnClass) {
-        Null.check(url, body, returnClass).as("url, body, returnClass");
+        Null.require("Cannot be null: url, body, returnClass", url, body, returnClass);
         return httpRequestCaller.callRequest(preparePostRequest(url, body), returnClass);
     }
 
     @Override
     public <T> CompletableFuture<T> postRequest(HttpUrl url, RequestBody body, TypeReference<T> returnType) {
-        Null.check(url, body, returnType).as("url, body, returnType");
+        Null.require("Cannot be null: url, body, returnType", url, body, returnType);
         return httpRequestCaller.callRequest(preparePostRequest(url, body), returnType);
     }
 
     @Override
     public CompletableFuture<Response> postRequest(HttpUrl url, RequestBody body) {
-        Null.check(url, body).as("url, body");
+        Null.require("Cannot be null: url, body", url, body);
         return httpRequestCaller.callRequest(preparePostRequest(url, body));
     }
 
@@ -20,19 +20,19 @@ public final class DefaultHttpRequestCaller implements HttpRequestCaller {
 
     @Override
     public <T> CompletableFuture<T> callRequest(Request request, Class<T> returnClass) {
-        Null.check(request, returnClass).as("request, returnClass");
+        Null.require("Cannot be null: request, returnClass", request, returnClass);
         return JacksonCallback.asFuture(sendCallToClient(request), returnClass);
     }
 
     @Override
     public <T> CompletableFuture<T> callRequest(Request request, TypeReference<T> returnType) {
-        Null.check(request, returnType).as("request, returnType");
+        Null.require("Cannot be null: request, returnType", request, returnType);
         return JacksonCallback.asFuture(sendCallToClient(request), returnType);
     }
 
     @Override
     public CompletableFuture<Response> callRequest(Request request) {
-        Null.check(request).as("request");
+        Null.require("Cannot be null: request", request);
         return ResponseCallback.asFuture(sendCallToClient(request));
     }
 
@@ -20,19 +20,19 @@ public final class DefaultHttpRequestMaker implements HttpRequestMaker {
 
     @Override
     public <T> CompletableFuture<T> makeRequest(HttpUrl url, Class<T> returnClass) {
-        Null.check(url, returnClass).as("url, returnClass");
+        Null.require("Cannot be null: url, returnClass", url, returnClass);
         return httpRequestCaller.callRequest(prepareRequest(url), returnClass);
     }
 
     @Override
     public <T> CompletableFuture<T> makeRequest(HttpUrl url, TypeReference<T> returnType) {
-        Null.check(url, returnType).as("url, returnType");
+        Null.require("Cannot be null: url, returnType", url, returnType);
         return httpRequestCaller.callRequest(prepareRequest(url), returnType);
     }
 
     @Override
     public CompletableFuture<Response> makeRequest(HttpUrl url) {
-        Null.check(url).as("url");
+        Null.require("Cannot be null: url", url);
         return httpRequestCaller.callRequest(prepareRequest(url));
     }
 
@@ -20,7 +20,7 @@ public final class HttpClients {
      * @throws NullPointerException if okHttpClient is null
      */
     public static void close(OkHttpClient okHttpClient) {
-        Null.check(okHttpClient).ifAny("Http client cannot be null");
+        Null.require("Http client cannot be null", okHttpClient);
         okHttpClient.dispatcher().executorService().shutdown();
     }
 
@@ -16,7 +16,7 @@ import java.util.Set;
 public final class HttpUrls {
 
     public static HttpUrl withoutParams(HttpUrl urlWithParams) {
-        Null.check(urlWithParams).ifAny("Cannot be null: urlWithParams");
+        Null.require("Cannot be null: urlWithParams", urlWithParams);
 
         HttpUrl.Builder builder = urlWithParams.newBuilder();
         urlWithParams.queryParameterNames()
@@ -30,7 +30,7 @@ public final class HttpUrls {
      * @throws NullPointerException if url is null
      */
     public static Optional<HttpUrl> parse(String url) {
-        Null.check(url).ifAny("Url cannot be null");
+        Null.require("Url cannot be null", url);
         return Optional.ofNullable(HttpUrl.parse(url));
     }
 
@@ -39,7 +39,7 @@ public final class HttpUrls {
      * @throws NullPointerException if url is null
      */
     public static Optional<HttpUrl> parse(URL url) {
-        Null.check(url).ifAny("Url cannot be null");
+        Null.require("Url cannot be null", url);
         return Optional.ofNullable(HttpUrl.get(url));
     }
 
@@ -48,7 +48,7 @@ public final class HttpUrls {
      * @throws NullPointerException if url is null
      */
     public static Optional<HttpUrl> parse(URI url) {
-        Null.check(url).ifAny("Url cannot be null");
+        Null.require("Url cannot be null", url);
         return Optional.ofNullable(HttpUrl.get(url));
     }
 
@@ -97,7 +97,7 @@ public final class HttpUrls {
      * @throws NullPointerException if pathPart is null
      */
     public static boolean isPathVariable(String pathPart) {
-        Null.check(pathPart).ifAny("Path part cannot be null");
+        Null.require("Path part cannot be null", pathPart);
         return isPathVariableNoNull(pathPart);
     }
 
@@ -114,7 +114,7 @@ public final class HttpUrls {
      * @throws NullPointerException if url is null
      */
     public static String getLastPathPart(HttpUrl url) {
-        Null.check(url).as("url");
+        Null.require("Cannot be null: url", url);
 
         List<String> pathSegments = url.pathSegments();
         return pathSegments.get(pathSegments.size() - 1);
@@ -133,7 +133,7 @@ public final class HttpUrls {
      * @throws NullPointerException if url is null
      */
     public static HttpUrl getLocationOfLastPathPart(HttpUrl url) {
-        Null.check(url).as("url");
+        Null.require("Cannot be null: url", url);
 
         HttpUrl.Builder builder = url.newBuilder();
 
@@ -153,7 +153,7 @@ public final class HttpUrls {
     }
 
     private static HttpUrl insertPathVariables(HttpUrl httpUrl, Map<String, String> pathVariables, AlreadyEncoded isAlreadyEncoded) {
-        Null.check(httpUrl, pathVariables).ifAny("HttpUrl and pathVariables cannot be null");
+        Null.require("HttpUrl and pathVariables cannot be null", httpUrl, pathVariables);
 
         List<String> path = httpUrl.pathSegments();
         if (path.isEmpty())
@@ -25,7 +25,7 @@ public final class JacksonCallback {
      * @throws NullPointerException if call is null
      */
     public static <T> CompletableFuture<T> asFuture(Call call, Class<T> clazz) {
-        Null.check(call, clazz).ifAny("Call and class cannot be null");
+        Null.require("Call and class cannot be null", call, clazz);
         return new JsonCallback<>(response -> Json.from(response.body().byteStream()).to(clazz)).enqueueFor(call);
     }
 
@@ -38,7 +38,7 @@ public final class JacksonCallback {
      * @throws NullPointerException if call is null
      */
     public static <T> CompletableFuture<T> asFuture(Call call, TypeReference<T> typeReference) {
-        Null.check(call, typeReference).ifAny("Call and class cannot be null");
+        Null.require("Call and class cannot be null", call, typeReference);
         return new JsonCallback<>(response -> Json.from(response.body().byteStream()).to(typeReference)).enqueueFor(call);
     }
 
@@ -48,7 +48,7 @@ public final class JsonCallback<T> implements Callback {
      * @throws NullPointerException if call is null
      */
     public static <T> CompletableFuture<T> asFuture(Call call, IOFunction<Response, T> jsonParser) {
-        Null.check(call, jsonParser).ifAny("Call and class cannot be null");
+        Null.require("Call and class cannot be null", call, jsonParser);
         return new JsonCallback<>(jsonParser).enqueueFor(call);
     }
 
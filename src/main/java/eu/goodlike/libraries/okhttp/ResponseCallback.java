@@ -40,7 +40,7 @@ public final class ResponseCallback implements Callback {
      * @throws NullPointerException if call is null
      */
     public static CompletableFuture<Response> asFuture(Call call) {
-        Null.check(call).ifAny("Call cannot be null");
+        Null.require("Call cannot be null", call);
         return new ResponseCallback().enqueueFor(call);
     }
 
@@ -30,7 +30,7 @@ public interface CookieStore {
      * @throws NullPointerException if cookie is null
      */
     default void putCookie(Cookie cookie) {
-        Null.check(cookie).ifAny("Cannot be null: cookie");
+        Null.require("Cannot be null: cookie", cookie);
         putCookies(ImmutableList.of(cookie));
     }
 
@@ -37,7 +37,7 @@ public final class StandardCookieStore implements CookieStore {
 
     @Override
     public void putCookie(Cookie cookie) {
-        Null.check(cookie).as("cookie");
+        Null.require("Cannot be null: cookie", cookie);
 
         CookieId id = new CookieId(cookie);
         cookieCache.put(id, cookie);
@@ -45,7 +45,7 @@ public final class StandardCookieStore implements CookieStore {
 
     @Override
     public void putCookies(List<Cookie> cookieList) {
-        Null.checkList(cookieList).as("cookieList");
+        Null.requireCollection("Cannot be or contain null: cookieList", cookieList);
 
         Map<CookieId, Cookie> cookieMap = new HashMap<>();
         for (Cookie cookie : cookieList) {
@@ -64,7 +64,7 @@ public final class StandardCookieStore implements CookieStore {
     // CONSTRUCTORS
 
     public StandardCookieStore(ListenerRegistry<CookieExpiryListener> listenerRegistry, Duration maxCookieDuration) {
-        Null.check(listenerRegistry).as("listenerRegistry");
+        Null.require("Cannot be null: listenerRegistry", listenerRegistry);
         this.cookieCache = Cache2kBuilder.of(CookieId.class, Cookie.class)
                 .expireAfterWrite(maxCookieDuration.toNanos(), TimeUnit.NANOSECONDS)
                 .expiryPolicy(EXPIRY_POLICY)
@@ -25,7 +25,7 @@ public final class ListenerRegistry<Listener> {
      * @throws NullPointerException if listener is null
      */
     public void addListener(Listener listener) {
-        Null.check(listener).ifAny("Cannot be null: listener");
+        Null.require("Cannot be null: listener", listener);
         listeners.add(listener);
     }
 
@@ -34,7 +34,7 @@ public final class ListenerRegistry<Listener> {
      * @throws NullPointerException if listener is null
      */
     public void removeListener(Listener listener) {
-        Null.check(listener).ifAny("Cannot be null: listener");
+        Null.require("Cannot be null: listener", listener);
         listeners.remove(listener);
     }
 
@@ -74,6 +74,16 @@ public final class Constants {
      */
     public static final String ABSOLUTE_WORKING_DIRECTORY = ABSOLUTE_WORKING_DIRECTORY_PATH.toString();
 
+    /**
+     * <pre>
+     * Default amount of elements after which bulk operations (such as validating a large list) are split into
+     * chunks and performed in parallel
+     *
+     * Below this amount, the overhead of splitting the work usually outweighs the benefit
+     * </pre>
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
     // PRIVATE
 
     private Constants() {
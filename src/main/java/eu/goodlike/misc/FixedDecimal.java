@@ -0,0 +1,286 @@
+package eu.goodlike.misc;
+
+import eu.goodlike.neat.Null;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * <pre>
+ * Decimal number with a fixed scale of SCALE digits, backed by a single long of unscaled units, i.e. 12.5 is kept as
+ * 125000
+ *
+ * Unlike BigDecimal, the scale never changes, so equals() and hashCode() do not depend on how the value was created,
+ * and arithmetic does not allocate anything but the result; for code which cannot afford even that, every operation
+ * is also available as a static method which works on unscaled longs directly
+ *
+ * Values range from Long.MIN_VALUE to Long.MAX_VALUE units, roughly +-922 trillion; operations which would exceed
+ * this range throw ArithmeticException, rather than overflowing silently
+ * </pre>
+ */
+public final class FixedDecimal implements Comparable<FixedDecimal> {
+
+    /**
+     * Amount of digits after the decimal point
+     */
+    public static final int SCALE = 4;
+
+    /**
+     * Amount of unscaled units in 1
+     */
+    public static final long UNITS_PER_ONE = 10_000;
+
+    public static final FixedDecimal ZERO = new FixedDecimal(0);
+    public static final FixedDecimal ONE = new FixedDecimal(UNITS_PER_ONE);
+
+    /**
+     * @return unscaled units of this decimal
+     */
+    public long getUnscaled() {
+        return unscaled;
+    }
+
+    /**
+     * @return sum of this and other decimal
+     * @throws NullPointerException if other is null
+     * @throws ArithmeticException if the result overflows
+     */
+    public FixedDecimal add(FixedDecimal other) {
+        return new FixedDecimal(add(unscaled, other.unscaled));
+    }
+
+    /**
+     * @return difference of this and other decimal
+     * @throws NullPointerException if other is null
+     * @throws ArithmeticException if the result overflows
+     */
+    public FixedDecimal subtract(FixedDecimal other) {
+        return new FixedDecimal(subtract(unscaled, other.unscaled));
+    }
+
+    /**
+     * @return product of this and other decimal, rounded using RoundingMode.HALF_EVEN
+     * @throws NullPointerException if other is null
+     * @throws ArithmeticException if the result overflows
+     */
+    public FixedDecimal multiply(FixedDecimal other) {
+        return new FixedDecimal(multiply(unscaled, other.unscaled));
+    }
+
+    /**
+     * @return product of this decimal and given integer
+     * @throws ArithmeticException if the result overflows
+     */
+    public FixedDecimal multiply(long integer) {
+        return new FixedDecimal(Math.multiplyExact(unscaled, integer));
+    }
+
+    /**
+     * @return negation of this decimal
+     * @throws ArithmeticException if the result overflows
+     */
+    public FixedDecimal negate() {
+        return new FixedDecimal(Math.negateExact(unscaled));
+    }
+
+    /**
+     * @return -1, 0 or 1 as this decimal is negative, zero or positive
+     */
+    public int signum() {
+        return Long.signum(unscaled);
+    }
+
+    /**
+     * @return BigDecimal with the same value, with scale SCALE
+     */
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(unscaled);
+    }
+
+    @Override
+    public int compareTo(FixedDecimal other) {
+        return Long.compare(unscaled, other.unscaled);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FixedDecimal)) return false;
+        FixedDecimal that = (FixedDecimal) o;
+        return unscaled == that.unscaled;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode(unscaled);
+    }
+
+    /**
+     * @return plain representation of this decimal, with all SCALE digits after the decimal point, i.e. "12.5000"
+     */
+    @Override
+    public String toString() {
+        return toString(unscaled);
+    }
+
+    // UNSCALED
+
+    /**
+     * @return unscaled units of given integer
+     * @throws ArithmeticException if the integer is out of range
+     */
+    public static long toUnscaled(long integer) {
+        return Math.multiplyExact(integer, UNITS_PER_ONE);
+    }
+
+    /**
+     * @return unscaled units of given BigDecimal
+     * @throws NullPointerException if bigDecimal is null
+     * @throws ArithmeticException if the BigDecimal is out of range or has more than SCALE significant digits
+     * after the decimal point
+     */
+    public static long toUnscaled(BigDecimal bigDecimal) {
+        Null.require("BigDecimal cannot be null", bigDecimal);
+        return bigDecimal.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * @return true if given BigDecimal can be converted into unscaled units without loss, false otherwise
+     * @throws NullPointerException if bigDecimal is null
+     */
+    public static boolean fits(BigDecimal bigDecimal) {
+        Null.require("BigDecimal cannot be null", bigDecimal);
+        BigDecimal stripped = bigDecimal.stripTrailingZeros();
+        return stripped.scale() <= SCALE
+                && stripped.precision() - stripped.scale() <= MAX_INTEGER_DIGITS
+                && (stripped.precision() - stripped.scale() < MAX_INTEGER_DIGITS || isInRange(stripped));
+    }
+
+    /**
+     * @return BigDecimal with the value of given unscaled units, with scale SCALE
+     */
+    public static BigDecimal toBigDecimal(long unscaled) {
+        return BigDecimal.valueOf(unscaled, SCALE);
+    }
+
+    /**
+     * @return sum of given unscaled units
+     * @throws ArithmeticException if the result overflows
+     */
+    public static long add(long unscaled, long otherUnscaled) {
+        return Math.addExact(unscaled, otherUnscaled);
+    }
+
+    /**
+     * @return difference of given unscaled units
+     * @throws ArithmeticException if the result overflows
+     */
+    public static long subtract(long unscaled, long otherUnscaled) {
+        return Math.subtractExact(unscaled, otherUnscaled);
+    }
+
+    /**
+     * <pre>
+     * Multiplies given unscaled units, rounding the result using RoundingMode.HALF_EVEN
+     *
+     * When the intermediate product does not fit into a long, BigDecimal is used to compute the result
+     * </pre>
+     * @return product of given unscaled units
+     * @throws ArithmeticException if the result overflows
+     */
+    public static long multiply(long unscaled, long otherUnscaled) {
+        long high = Math.abs(unscaled) | Math.abs(otherUnscaled);
+        if (high >>> 31 != 0 && !fitsProduct(unscaled, otherUnscaled))
+            return toUnscaled(toBigDecimal(unscaled).multiply(toBigDecimal(otherUnscaled)).setScale(SCALE, RoundingMode.HALF_EVEN));
+
+        long product = unscaled * otherUnscaled;
+        long quotient = product / UNITS_PER_ONE;
+        long remainder = Math.abs(product % UNITS_PER_ONE);
+        long half = UNITS_PER_ONE / 2;
+        if (remainder > half || remainder == half && (quotient & 1) != 0)
+            quotient += Long.signum(product);
+
+        return quotient;
+    }
+
+    /**
+     * @return hash code for given unscaled units, same as FixedDecimal::hashCode
+     */
+    public static int hashCode(long unscaled) {
+        return Long.hashCode(unscaled);
+    }
+
+    /**
+     * @return plain representation of given unscaled units, same as FixedDecimal::toString
+     */
+    public static String toString(long unscaled) {
+        long integer = unscaled / UNITS_PER_ONE;
+        long fraction = Math.abs(unscaled % UNITS_PER_ONE);
+
+        StringBuilder builder = new StringBuilder(MAX_INTEGER_DIGITS + SCALE + 2);
+        if (unscaled < 0 && integer == 0)
+            builder.append('-');
+
+        builder.append(integer).append('.');
+        for (long digit = UNITS_PER_ONE / 10; digit > fraction && digit > 1; digit /= 10)
+            builder.append('0');
+
+        return builder.append(fraction).toString();
+    }
+
+    // CONSTRUCTORS
+
+    public static FixedDecimal ofUnscaled(long unscaled) {
+        return unscaled == 0 ? ZERO : new FixedDecimal(unscaled);
+    }
+
+    /**
+     * @throws ArithmeticException if the integer is out of range
+     */
+    public static FixedDecimal of(long integer) {
+        return ofUnscaled(toUnscaled(integer));
+    }
+
+    /**
+     * @throws NullPointerException if bigDecimal is null
+     * @throws ArithmeticException if the BigDecimal is out of range or has more than SCALE significant digits
+     * after the decimal point
+     */
+    public static FixedDecimal of(BigDecimal bigDecimal) {
+        return ofUnscaled(toUnscaled(bigDecimal));
+    }
+
+    /**
+     * @throws NullPointerException if string is null
+     * @throws NumberFormatException if string is not a valid decimal
+     * @throws ArithmeticException if the decimal is out of range or has more than SCALE significant digits
+     * after the decimal point
+     */
+    public static FixedDecimal parse(String string) {
+        Null.require("String cannot be null", string);
+        return of(new BigDecimal(string));
+    }
+
+    private FixedDecimal(long unscaled) {
+        this.unscaled = unscaled;
+    }
+
+    // PRIVATE
+
+    private static final int MAX_INTEGER_DIGITS = 15;
+
+    private static final BigDecimal MIN = toBigDecimal(Long.MIN_VALUE);
+    private static final BigDecimal MAX = toBigDecimal(Long.MAX_VALUE);
+
+    private final long unscaled;
+
+    private static boolean isInRange(BigDecimal bigDecimal) {
+        return bigDecimal.compareTo(MIN) >= 0 && bigDecimal.compareTo(MAX) <= 0;
+    }
+
+    private static boolean fitsProduct(long left, long right) {
+        long product = left * right;
+        return left == 0 || product / left == right && !(left == -1 && right == Long.MIN_VALUE);
+    }
+
+}
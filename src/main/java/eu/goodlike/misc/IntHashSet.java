@@ -0,0 +1,157 @@
+package eu.goodlike.misc;
+
+import eu.goodlike.neat.Null;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * Set of ints, which does not box its values
+ *
+ * Values are kept in a single array using open addressing with linear probing; the array is at most half full, so
+ * most lookups are resolved by the first probe; 0 is used to mark empty slots, so its presence is kept separately
+ *
+ * This set is not thread-safe, unless it is no longer modified after it is safely published
+ * </pre>
+ */
+public final class IntHashSet {
+
+    /**
+     * @return true if the value was added, false if it was already in the set
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (containsZero)
+                return false;
+
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int mask = values.length - 1;
+        for (int index = indexFor(value, mask); ; index = (index + 1) & mask) {
+            int next = values[index];
+            if (next == value)
+                return false;
+
+            if (next == 0) {
+                values[index] = value;
+                if (++size > values.length >>> 1 && values.length < MAX_CAPACITY)
+                    grow();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return true if the value is in the set, false otherwise
+     */
+    public boolean contains(int value) {
+        if (value == 0)
+            return containsZero;
+
+        int mask = values.length - 1;
+        for (int index = indexFor(value, mask); ; index = (index + 1) & mask) {
+            int next = values[index];
+            if (next == value)
+                return true;
+
+            if (next == 0)
+                return false;
+        }
+    }
+
+    /**
+     * @return amount of values in the set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the set has no values, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return values of this set, sorted
+     */
+    public int[] toSortedArray() {
+        int[] array = new int[size];
+        int index = 0;
+        if (containsZero)
+            array[index++] = 0;
+
+        for (int value : values)
+            if (value != 0)
+                array[index++] = value;
+
+        Arrays.sort(array);
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toSortedArray());
+    }
+
+    // CONSTRUCTORS
+
+    public static IntHashSet of(int... values) {
+        Null.require("Values cannot be null", values);
+        IntHashSet set = new IntHashSet(values.length);
+        for (int value : values)
+            set.add(value);
+
+        return set;
+    }
+
+    public IntHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    public IntHashSet(int expectedSize) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+
+        this.values = new int[capacityFor(expectedSize)];
+    }
+
+    // PRIVATE
+
+    private int[] values;
+    private boolean containsZero;
+    private int size;
+
+    private void grow() {
+        int[] oldValues = values;
+        values = new int[oldValues.length << 1];
+        int mask = values.length - 1;
+        for (int value : oldValues)
+            if (value != 0) {
+                int index = indexFor(value, mask);
+                while (values[index] != 0)
+                    index = (index + 1) & mask;
+
+                values[index] = value;
+            }
+    }
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static int capacityFor(int expectedSize) {
+        // at least twice the expected size, so the array stays at most half full
+        long capacity = Long.highestOneBit(Math.max(expectedSize, 2) * 2L - 1) << 1;
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+
+    private static int indexFor(int value, int mask) {
+        int hash = value * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+}
@@ -0,0 +1,157 @@
+package eu.goodlike.misc;
+
+import eu.goodlike.neat.Null;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * Set of longs, which does not box its values
+ *
+ * Values are kept in a single array using open addressing with linear probing; the array is at most half full, so
+ * most lookups are resolved by the first probe; 0 is used to mark empty slots, so its presence is kept separately
+ *
+ * This set is not thread-safe, unless it is no longer modified after it is safely published
+ * </pre>
+ */
+public final class LongHashSet {
+
+    /**
+     * @return true if the value was added, false if it was already in the set
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero)
+                return false;
+
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int mask = values.length - 1;
+        for (int index = indexFor(value, mask); ; index = (index + 1) & mask) {
+            long next = values[index];
+            if (next == value)
+                return false;
+
+            if (next == 0) {
+                values[index] = value;
+                if (++size > values.length >>> 1 && values.length < MAX_CAPACITY)
+                    grow();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return true if the value is in the set, false otherwise
+     */
+    public boolean contains(long value) {
+        if (value == 0)
+            return containsZero;
+
+        int mask = values.length - 1;
+        for (int index = indexFor(value, mask); ; index = (index + 1) & mask) {
+            long next = values[index];
+            if (next == value)
+                return true;
+
+            if (next == 0)
+                return false;
+        }
+    }
+
+    /**
+     * @return amount of values in the set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the set has no values, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return values of this set, sorted
+     */
+    public long[] toSortedArray() {
+        long[] array = new long[size];
+        int index = 0;
+        if (containsZero)
+            array[index++] = 0;
+
+        for (long value : values)
+            if (value != 0)
+                array[index++] = value;
+
+        Arrays.sort(array);
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toSortedArray());
+    }
+
+    // CONSTRUCTORS
+
+    public static LongHashSet of(long... values) {
+        Null.require("Values cannot be null", values);
+        LongHashSet set = new LongHashSet(values.length);
+        for (long value : values)
+            set.add(value);
+
+        return set;
+    }
+
+    public LongHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    public LongHashSet(int expectedSize) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+
+        this.values = new long[capacityFor(expectedSize)];
+    }
+
+    // PRIVATE
+
+    private long[] values;
+    private boolean containsZero;
+    private int size;
+
+    private void grow() {
+        long[] oldValues = values;
+        values = new long[oldValues.length << 1];
+        int mask = values.length - 1;
+        for (long value : oldValues)
+            if (value != 0) {
+                int index = indexFor(value, mask);
+                while (values[index] != 0)
+                    index = (index + 1) & mask;
+
+                values[index] = value;
+            }
+    }
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static int capacityFor(int expectedSize) {
+        // at least twice the expected size, so the array stays at most half full
+        long capacity = Long.highestOneBit(Math.max(expectedSize, 2) * 2L - 1) << 1;
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+
+    private static int indexFor(long value, int mask) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+}
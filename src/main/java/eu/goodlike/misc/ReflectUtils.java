@@ -19,7 +19,7 @@ public final class ReflectUtils {
      * @throws NullPointerException if possiblyAbstractClass is null
      */
     public static boolean isAbstract(Class<?> possiblyAbstractClass) {
-        Null.check(possiblyAbstractClass).ifAny("Cannot be null: possiblyAbstractClass");
+        Null.require("Cannot be null: possiblyAbstractClass", possiblyAbstractClass);
         return Modifier.isAbstract(possiblyAbstractClass.getModifiers());
     }
 
@@ -28,7 +28,7 @@ public final class ReflectUtils {
      * @throws NullPointerException if possiblyAbstractClass is null
      */
     public static boolean isImplemented(Class<?> possiblyAbstractClass) {
-        Null.check(possiblyAbstractClass).ifAny("Cannot be null: possiblyAbstractClass");
+        Null.require("Cannot be null: possiblyAbstractClass", possiblyAbstractClass);
         return !possiblyAbstractClass.isInterface() && !isAbstract(possiblyAbstractClass);
     }
 
@@ -38,7 +38,7 @@ public final class ReflectUtils {
      */
     public static <BaseClass, ExpectedClass extends BaseClass> Optional<ExpectedClass> cast(BaseClass object,
                                                                                             Class<ExpectedClass> expectedClass) {
-        Null.check(object, expectedClass).ifAny("Cannot be null: object, expectedClass");
+        Null.require("Cannot be null: object, expectedClass", object, expectedClass);
         return expectedClass.isInstance(object)
                 ? Optional.of(expectedClass.cast(object))
                 : Optional.empty();
@@ -20,12 +20,12 @@ public final class Singleton<T> implements Supplier<T> {
     // CONSTRUCTORS
 
     public static <T> Singleton<T> of(T value) {
-        Null.check(value).ifAny("Value cannot be null");
+        Null.require("Value cannot be null", value);
         return new Singleton<>(value, null);
     }
 
     public static <T> Singleton<T> lazy(Supplier<T> supplier) {
-        Null.check(supplier).ifAny("Supplier cannot be null");
+        Null.require("Supplier cannot be null", supplier);
         return new Singleton<>(null, supplier);
     }
 
@@ -44,7 +44,7 @@ public final class Singleton<T> implements Supplier<T> {
             synchronized (this) {
                 if (value == null) {
                     value = supplier.get();
-                    Null.check(value).ifAny("Value from supplier cannot be null");
+                    Null.require("Value from supplier cannot be null", value);
                 }
             }
         }
@@ -48,7 +48,7 @@ public final class SpecialUtils {
      * @return true if objects are equal given a certain transformation, false otherwise
      */
     public static <T, U> boolean equals(T t1, T t2, Function<T, U> converter) {
-        Null.check(converter).ifAny("Converter cannot be null");
+        Null.require("Converter cannot be null", converter);
         return t1 == null ? t2 == null : converter.apply(t1).equals(converter.apply(t2));
     }
 
@@ -77,7 +77,7 @@ public final class SpecialUtils {
      * @throws NullPointerException if runnable is null
      */
     public static void runOnExit(Runnable runnable) {
-        Null.check(runnable).ifAny("Runnable cannot be null");
+        Null.require("Runnable cannot be null", runnable);
         Runtime.getRuntime().addShutdownHook(new Thread(runnable));
     }
 
@@ -5,6 +5,7 @@ import eu.goodlike.str.Str;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.function.Supplier;
 
 /**
@@ -25,6 +26,9 @@ import java.util.function.Supplier;
  *
  * This will check all the objects for null, and print them all out like this (in this example param2 and param3 == null):
  *      Cannot be null: param1, param2, param3; parameter at index 1 was null, please check: [param1Value, null, null]
+ *
+ * The same check can be performed without creating any objects, unless it fails:
+ * Null.require("Cannot be null: param1, param2, param3", param1, param2, param3);
  * </pre>
  */
 public abstract class Null {
@@ -104,8 +108,96 @@ public abstract class Null {
         if (fieldNames == null)
             throw new NullPointerException("Field names cannot be null");
 
-        String message = Str.format(genericErrorFormat(), fieldNames);
-        ifAny(message);
+        if (containsNull())
+            ifAny(Str.format(genericErrorFormat(), fieldNames));
+    }
+
+    // STATIC CHECKS
+
+    /**
+     * <pre>
+     * Same behaviour as Null.check(one).ifAny(message)
+     *
+     * The require() methods do not create any objects unless some of the checked objects are null, so they can be used
+     * in hot paths; the message should be a constant, it is only extended when the exception is thrown
+     * </pre>
+     * @throws NullPointerException if one is null
+     * @throws NullPointerException if message is null
+     */
+    public static void require(String message, Object one) {
+        requireMessage(message);
+        if (one == null)
+            check(one).ifAny(message);
+    }
+
+    /**
+     * Same behaviour as Null.check(one, two).ifAny(message), refer to Null.require(String, Object)
+     * @throws NullPointerException if any of the checked objects are null
+     * @throws NullPointerException if message is null
+     */
+    public static void require(String message, Object one, Object two) {
+        requireMessage(message);
+        if (one == null || two == null)
+            check(one, two).ifAny(message);
+    }
+
+    /**
+     * Same behaviour as Null.check(one, two, three).ifAny(message), refer to Null.require(String, Object)
+     * @throws NullPointerException if any of the checked objects are null
+     * @throws NullPointerException if message is null
+     */
+    public static void require(String message, Object one, Object two, Object three) {
+        requireMessage(message);
+        if (one == null || two == null || three == null)
+            check(one, two, three).ifAny(message);
+    }
+
+    /**
+     * Same behaviour as Null.check(one, two, three, four).ifAny(message), refer to Null.require(String, Object)
+     * @throws NullPointerException if any of the checked objects are null
+     * @throws NullPointerException if message is null
+     */
+    public static void require(String message, Object one, Object two, Object three, Object four) {
+        requireMessage(message);
+        if (one == null || two == null || three == null || four == null)
+            check(one, two, three, four).ifAny(message);
+    }
+
+    /**
+     * Same behaviour as Null.check(one, two, three, four, five).ifAny(message), refer to Null.require(String, Object)
+     * @throws NullPointerException if any of the checked objects are null
+     * @throws NullPointerException if message is null
+     */
+    public static void require(String message, Object one, Object two, Object three, Object four, Object five) {
+        requireMessage(message);
+        if (one == null || two == null || three == null || four == null || five == null)
+            check(one, two, three, four, five).ifAny(message);
+    }
+
+    /**
+     * Same behaviour as Null.checkArray(array).ifAny(message), refer to Null.require(String, Object)
+     * @throws NullPointerException if array is or contains null
+     * @throws NullPointerException if message is null
+     */
+    public static void requireArray(String message, Object[] array) {
+        requireMessage(message);
+        if (array == null)
+            checkArray(null).ifAny(message);
+
+        for (Object element : array)
+            if (element == null)
+                checkArray(array).ifAny(message);
+    }
+
+    /**
+     * Same behaviour as Null.checkCollection(collection).ifAny(message), refer to Null.require(String, Object)
+     * @throws NullPointerException if collection is or contains null
+     * @throws NullPointerException if message is null
+     */
+    public static void requireCollection(String message, Collection<?> collection) {
+        requireMessage(message);
+        if (collection == null || containsNull(collection))
+            checkCollection(collection).ifAny(message);
     }
 
     // CONSTRUCTORS
@@ -173,6 +265,32 @@ public abstract class Null {
     private static final Null DEFINITELY_NULL = new DefinitelyNull();
     private static final Null DEFINITELY_NOT_NULL = new DefinitelyNotNull();
 
+    private static void requireMessage(String message) {
+        if (message == null)
+            throw new NullPointerException("Message cannot be null");
+    }
+
+    /**
+     * Iterates the elements instead of using Collection::contains, because some collections, like TreeSet, throw
+     * NullPointerException when asked whether they contain null; random access lists are checked without an iterator
+     */
+    private static boolean containsNull(Collection<?> collection) {
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<?> list = (List<?>) collection;
+            for (int index = 0; index < list.size(); index++)
+                if (list.get(index) == null)
+                    return true;
+
+            return false;
+        }
+
+        for (Object element : collection)
+            if (element == null)
+                return true;
+
+        return false;
+    }
+
     // SUBCLASSES
 
     /**
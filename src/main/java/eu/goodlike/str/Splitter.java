@@ -0,0 +1,192 @@
+package eu.goodlike.str;
+
+import com.google.common.collect.ImmutableList;
+import eu.goodlike.functional.IntIntConsumer;
+import eu.goodlike.neat.Null;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * <pre>
+ * Immutable splitter for a literal separator; unlike String.split(), the separator is never treated as a regex
+ *
+ * Every occurrence of the separator splits the string, so tokens can be empty, including the first and the last one,
+ * i.e. splitting ":a::b:" on ':' results in "", "a", "", "b", ""; splitting an empty string results in ""
+ *
+ * Tokens can be consumed in three ways:
+ *      split()         lazily iterates CharSequence views, which share the memory of the source string
+ *      splitToList()   copies all tokens into an immutable list of Strings
+ *      forEachToken()  passes the start and end index of every token, without allocating anything
+ * </pre>
+ */
+public final class Splitter {
+
+    /**
+     * <pre>
+     * Tokens are only found when the iteration reaches them, so the iteration can be stopped early without scanning
+     * the rest of the string
+     *
+     * Tokens are CharSequence views over the source, only toString() copies them; the source should not be mutated
+     * while the views are in use; the views do not override equals(), compare them using toString() or
+     * String::contentEquals
+     * </pre>
+     * @return iterable over the tokens of given string
+     * @throws NullPointerException if string is null
+     */
+    public Iterable<CharSequence> split(CharSequence string) {
+        Null.require("String cannot be null", string);
+        return () -> new TokenIterator(string);
+    }
+
+    /**
+     * @return immutable list of the tokens of given string
+     * @throws NullPointerException if string is null
+     */
+    public List<String> splitToList(CharSequence string) {
+        Null.require("String cannot be null", string);
+        ImmutableList.Builder<String> builder = ImmutableList.builder();
+        forEachToken(string, (start, end) -> builder.add(string.subSequence(start, end).toString()));
+        return builder.build();
+    }
+
+    /**
+     * Passes the start (inclusive) and end (exclusive) index of every token in given string to given consumer, in
+     * order, without allocating anything
+     * @throws NullPointerException if string or consumer is null
+     */
+    public void forEachToken(CharSequence string, IntIntConsumer consumer) {
+        Null.require("String and consumer cannot be null", string, consumer);
+        int start = 0;
+        int end;
+        while ((end = indexOf(string, start)) >= 0) {
+            consumer.accept(start, end);
+            start = end + separator.length();
+        }
+        consumer.accept(start, string.length());
+    }
+
+    /**
+     * @return the separator of this splitter
+     */
+    @Override
+    public String toString() {
+        return separator;
+    }
+
+    // CONSTRUCTORS
+
+    public static Splitter on(char separator) {
+        return new Splitter(String.valueOf(separator));
+    }
+
+    /**
+     * @throws NullPointerException if separator is null
+     * @throws IllegalArgumentException if separator is empty
+     */
+    public static Splitter on(String separator) {
+        Null.require("Separator cannot be null", separator);
+        if (separator.isEmpty())
+            throw new IllegalArgumentException("Separator cannot be empty");
+
+        return new Splitter(separator);
+    }
+
+    private Splitter(String separator) {
+        this.separator = separator;
+    }
+
+    // PRIVATE
+
+    private final String separator;
+
+    private int indexOf(CharSequence string, int fromIndex) {
+        if (string instanceof String)
+            return separator.length() == 1
+                    ? ((String) string).indexOf(separator.charAt(0), fromIndex)
+                    : ((String) string).indexOf(separator, fromIndex);
+
+        int last = string.length() - separator.length();
+        for (int index = fromIndex; index <= last; index++)
+            if (isSeparatorAt(string, index))
+                return index;
+
+        return -1;
+    }
+
+    private boolean isSeparatorAt(CharSequence string, int index) {
+        for (int offset = 0; offset < separator.length(); offset++)
+            if (string.charAt(index + offset) != separator.charAt(offset))
+                return false;
+
+        return true;
+    }
+
+    private final class TokenIterator implements Iterator<CharSequence> {
+        @Override
+        public boolean hasNext() {
+            return start >= 0;
+        }
+
+        @Override
+        public CharSequence next() {
+            if (!hasNext())
+                throw new NoSuchElementException("There are no more tokens");
+
+            int end = indexOf(source, start);
+            Token token = new Token(source, start, end < 0 ? source.length() : end);
+            start = end < 0 ? -1 : end + separator.length();
+            return token;
+        }
+
+        private TokenIterator(CharSequence source) {
+            this.source = source;
+        }
+
+        private final CharSequence source;
+        private int start;
+    }
+
+    private static final class Token implements CharSequence {
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length())
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length());
+
+            return source.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length() || start > end)
+                throw new IndexOutOfBoundsException(
+                        "Invalid range [" + start + ", " + end + ") for length " + length());
+
+            return new Token(source, this.start + start, this.start + end);
+        }
+
+        @Override
+        public String toString() {
+            return source instanceof String
+                    ? ((String) source).substring(start, end)
+                    : source.subSequence(start, end).toString();
+        }
+
+        private Token(CharSequence source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        private final CharSequence source;
+        private final int start;
+        private final int end;
+    }
+
+}
@@ -2,11 +2,17 @@ package eu.goodlike.str;
 
 import com.google.common.collect.ImmutableList;
 import eu.goodlike.neat.Null;
+import eu.goodlike.str.impl.str.AppendableWrapper;
 import eu.goodlike.str.impl.str.StringBuilderWrapper;
 import org.slf4j.helpers.FormattingTuple;
 import org.slf4j.helpers.MessageFormatter;
 
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * <pre>
@@ -40,10 +46,67 @@ public final class Str {
      * @throws NullPointerException if customBuilder or object array is null (NOT if it contains null, that is allowed)
      */
     public static StringBuilderWrapper of(StringBuilder customBuilder, Object... objects) {
-        Null.check(customBuilder).ifAny("Custom builder cannot be null");
+        Null.require("Custom builder cannot be null", customBuilder);
         return new StringBuilderWrapper(customBuilder).and(objects);
     }
 
+    /**
+     * <pre>
+     * Appends using a StringBuilder which is reused by the current thread, rather than creating a new one every time;
+     * useful for building many small Strings, as the capacity of the builder is kept between the calls
+     *
+     * The wrapper, as well as its builder, can only be used inside the appender; calls nested within the appender
+     * are safe, they just use a new builder; builders which grow too large are not reused
+     * </pre>
+     * @return String appended by given appender
+     * @throws NullPointerException if appender is null
+     */
+    public static String pooled(Consumer<StringBuilderWrapper> appender) {
+        Null.require("Appender cannot be null", appender);
+        StringBuilder builder = POOLED_BUILDER.get();
+        if (builder == null)
+            builder = new StringBuilder();
+        else
+            POOLED_BUILDER.set(null);
+
+        try {
+            appender.accept(new StringBuilderWrapper(builder));
+            return builder.toString();
+        } finally {
+            if (builder.capacity() <= MAX_POOLED_CAPACITY) {
+                builder.setLength(0);
+                POOLED_BUILDER.set(builder);
+            }
+        }
+    }
+
+    /**
+     * <pre>
+     * Appends directly to given appendable, i.e. a Writer, without building an intermediate String
+     *
+     * If the appendable is buffered, call AppendableWrapper::flush once done appending
+     * </pre>
+     * @return AppendableWrapper for given appendable
+     * @throws NullPointerException if appendable is null
+     */
+    public static AppendableWrapper to(Appendable appendable) {
+        return new AppendableWrapper(appendable);
+    }
+
+    /**
+     * <pre>
+     * Appends directly to given output stream, encoding as UTF-8, without building an intermediate String
+     *
+     * The output is buffered, so call AppendableWrapper::flush once done appending; the stream is not closed
+     * </pre>
+     * @return AppendableWrapper for given output stream
+     * @throws NullPointerException if outputStream is null
+     */
+    public static AppendableWrapper to(OutputStream outputStream) {
+        Null.require("Output stream cannot be null", outputStream);
+        return to(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+    }
+
     /**
      * @return String, formatted using the slf4j method (replace {} with given String values)
      */
@@ -66,10 +129,19 @@ public final class Str {
     }
 
     /**
-     * @return result of string.split(pattern) in an immutable list
+     * @return pre-parsed template, which formats the same way as Str.format(), including leaving out a trailing
+     * Throwable argument, but can be reused and rendered directly into a StringBuilder or Appendable; refer to Template
+     * @throws NullPointerException if pattern is null
+     */
+    public static Template template(String pattern) {
+        return Template.of(pattern);
+    }
+
+    /**
+     * @return result of string.split(pattern) in an immutable list; for literal separators, prefer splitter()
      */
     public static List<String> split(String string, String pattern) {
-        Null.check(string, pattern).ifAny("String and pattern cannot be null");
+        Null.require("String and pattern cannot be null", string, pattern);
         return ImmutableList.copyOf(string.split(pattern));
     }
 
@@ -78,7 +150,7 @@ public final class Str {
      * the pattern
      */
     public static List<String> splitIncludingEmptyAffixes(String string, String pattern) {
-        Null.check(string, pattern).ifAny("String and pattern cannot be null");
+        Null.require("String and pattern cannot be null", string, pattern);
 
         ImmutableList.Builder<String> builder = ImmutableList.builder();
         if (string.startsWith(pattern))
@@ -92,8 +164,29 @@ public final class Str {
         return builder.build();
     }
 
+    /**
+     * @return splitter for given literal separator, which does not use regex and can iterate the tokens lazily or
+     * without allocating anything; refer to Splitter
+     * @throws NullPointerException if separator is null
+     * @throws IllegalArgumentException if separator is empty
+     */
+    public static Splitter splitter(String separator) {
+        return Splitter.on(separator);
+    }
+
+    /**
+     * @return splitter for given separator, which can iterate the tokens lazily or without allocating anything; refer
+     * to Splitter
+     */
+    public static Splitter splitter(char separator) {
+        return Splitter.on(separator);
+    }
+
     // PRIVATE
 
+    private static final int MAX_POOLED_CAPACITY = 8192;
+    private static final ThreadLocal<StringBuilder> POOLED_BUILDER = new ThreadLocal<>();
+
     private Str() {
         throw new AssertionError("Do not instantiate, use static methods!");
     }
@@ -0,0 +1,356 @@
+package eu.goodlike.str;
+
+import eu.goodlike.neat.Null;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <pre>
+ * Immutable, pre-parsed message pattern with {} placeholders, same as the ones used by Str.format() and slf4j
+ *
+ * The pattern is parsed once, into literal segments around the placeholders; rendering only appends the segments
+ * and the arguments, so it can be done directly into a StringBuilder or any other Appendable, without intermediate
+ * Strings; ints, longs and doubles can be rendered without boxing them
+ *
+ * Escaping works the same as in slf4j: \{} is rendered as literal {}, while \\{} is rendered as \ followed by the
+ * argument; arrays are rendered with their contents; if there are fewer arguments than placeholders, the rest of the
+ * pattern, starting at the first placeholder without an argument, is rendered as is, escapes included, while extra
+ * arguments are ignored; same as slf4j, if the last Object argument is a Throwable, it is not an argument at all (slf4j
+ * logs it with its stack trace instead), so its placeholder is also rendered as is
+ *
+ * Primitive arguments are appended the same way StringBuilder.append(long) or append(double) would, so chars given
+ * as primitives are rendered as numbers; box them to render them as chars
+ *
+ * For combinations of primitive arguments which do not have an overload, render the template piece by piece, i.e.
+ *      template.appendSegment(builder, 0).append(user);
+ *      template.appendSegment(builder, 1).append(failures);
+ *      template.appendSegment(builder, 2);
+ * </pre>
+ */
+public final class Template {
+
+    /**
+     * @return amount of {} placeholders in this template
+     */
+    public int getSlotCount() {
+        return segments.length - 1;
+    }
+
+    /**
+     * @return String with the placeholders of this template replaced by given argument
+     */
+    public String format(Object any) {
+        return renderTo(newBuilder(), any).toString();
+    }
+
+    /**
+     * @return String with the placeholders of this template replaced by given arguments
+     */
+    public String format(Object any1, Object any2) {
+        return renderTo(newBuilder(), any1, any2).toString();
+    }
+
+    /**
+     * @return String with the placeholders of this template replaced by given arguments
+     */
+    public String format(Object any1, Object any2, Object any3) {
+        return renderTo(newBuilder(), any1, any2, any3).toString();
+    }
+
+    /**
+     * @return String with the placeholders of this template replaced by given arguments
+     * @throws NullPointerException if any is null
+     */
+    public String format(Object... any) {
+        return renderTo(newBuilder(), any).toString();
+    }
+
+    /**
+     * Appends this template to given builder, with the placeholders replaced by given argument
+     * @return given builder
+     * @throws NullPointerException if builder is null
+     */
+    public StringBuilder renderTo(StringBuilder builder, Object any) {
+        if (any instanceof Throwable)
+            return appendRest(builder, 0);
+
+        appendArgument(builder, any, 1);
+        return appendRest(builder, 1);
+    }
+
+    /**
+     * Appends this template to given builder, with the placeholders replaced by given arguments
+     * @return given builder
+     * @throws NullPointerException if builder is null
+     */
+    public StringBuilder renderTo(StringBuilder builder, Object any1, Object any2) {
+        if (any2 instanceof Throwable)
+            return renderTo(builder, any1);
+
+        appendArgument(builder, any1, 1);
+        appendArgument(builder, any2, 2);
+        return appendRest(builder, 2);
+    }
+
+    /**
+     * Appends this template to given builder, with the placeholders replaced by given arguments
+     * @return given builder
+     * @throws NullPointerException if builder is null
+     */
+    public StringBuilder renderTo(StringBuilder builder, Object any1, Object any2, Object any3) {
+        if (any3 instanceof Throwable)
+            return renderTo(builder, any1, any2);
+
+        appendArgument(builder, any1, 1);
+        appendArgument(builder, any2, 2);
+        appendArgument(builder, any3, 3);
+        return appendRest(builder, 3);
+    }
+
+    /**
+     * Appends this template to given builder, with the placeholders replaced by given arguments
+     * @return given builder
+     * @throws NullPointerException if builder or any is null
+     */
+    public StringBuilder renderTo(StringBuilder builder, Object... any) {
+        Null.require("Arguments cannot be null", any);
+        int argumentCount = argumentCount(any);
+        int count = Math.min(argumentCount, getSlotCount());
+        for (int index = 0; index < count; index++)
+            appendArgument(builder, any[index], index + 1);
+
+        return appendRest(builder, argumentCount);
+    }
+
+    /**
+     * Appends this template to given builder, with the placeholders replaced by given argument, without boxing it
+     * @return given builder
+     * @throws NullPointerException if builder is null
+     */
+    public StringBuilder renderTo(StringBuilder builder, long any) {
+        if (getSlotCount() >= 1)
+            appendSegment(builder, 0).append(any);
+        return appendRest(builder, 1);
+    }
+
+    /**
+     * Appends this template to given builder, with the placeholders replaced by given argument, without boxing it
+     * @return given builder
+     * @throws NullPointerException if builder is null
+     */
+    public StringBuilder renderTo(StringBuilder builder, double any) {
+        if (getSlotCount() >= 1)
+            appendSegment(builder, 0).append(any);
+        return appendRest(builder, 1);
+    }
+
+    /**
+     * Appends this template to given builder, with the placeholders replaced by given arguments, without boxing the
+     * second one
+     * @return given builder
+     * @throws NullPointerException if builder is null
+     */
+    public StringBuilder renderTo(StringBuilder builder, Object any1, long any2) {
+        appendArgument(builder, any1, 1);
+        if (getSlotCount() >= 2)
+            appendSegment(builder, 1).append(any2);
+        return appendRest(builder, 2);
+    }
+
+    /**
+     * Appends this template to given builder, with the placeholders replaced by given arguments, without boxing the
+     * second one
+     * @return given builder
+     * @throws NullPointerException if builder is null
+     */
+    public StringBuilder renderTo(StringBuilder builder, Object any1, double any2) {
+        appendArgument(builder, any1, 1);
+        if (getSlotCount() >= 2)
+            appendSegment(builder, 1).append(any2);
+        return appendRest(builder, 2);
+    }
+
+    /**
+     * Appends this template to given builder, with the placeholders replaced by given arguments, without boxing them
+     * @return given builder
+     * @throws NullPointerException if builder is null
+     */
+    public StringBuilder renderTo(StringBuilder builder, long any1, long any2) {
+        if (getSlotCount() >= 1)
+            appendSegment(builder, 0).append(any1);
+        if (getSlotCount() >= 2)
+            appendSegment(builder, 1).append(any2);
+        return appendRest(builder, 2);
+    }
+
+    /**
+     * Appends this template to given appendable, with the placeholders replaced by given arguments
+     * @return given appendable
+     * @throws NullPointerException if appendable or any is null
+     * @throws IOException if appendable throws it
+     */
+    public Appendable renderTo(Appendable appendable, Object... any) throws IOException {
+        Null.require("Appendable and arguments cannot be null", appendable, any);
+        int argumentCount = argumentCount(any);
+        int count = Math.min(argumentCount, getSlotCount());
+        for (int index = 0; index < count; index++)
+            appendable.append(segments[index]).append(toString(any[index]));
+
+        return argumentCount > getSlotCount()
+                ? appendable.append(segments[getSlotCount()])
+                : appendable.append(pattern, tailStarts[argumentCount], pattern.length());
+    }
+
+    /**
+     * Appends the literal segment with given index to given builder; segment 0 precedes the first placeholder, segment
+     * N follows the Nth placeholder
+     * @return given builder
+     * @throws NullPointerException if builder is null
+     * @throws IndexOutOfBoundsException if there is no segment with given index
+     */
+    public StringBuilder appendSegment(StringBuilder builder, int index) {
+        return builder.append(segments[index]);
+    }
+
+    /**
+     * @return the pattern this template was parsed from
+     */
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    // CONSTRUCTORS
+
+    /**
+     * @throws NullPointerException if pattern is null
+     */
+    public static Template of(String pattern) {
+        Null.require("Pattern cannot be null", pattern);
+        List<Integer> tailStarts = new ArrayList<>();
+        String[] segments = parse(pattern, tailStarts);
+        return new Template(pattern, segments, tailStarts.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private Template(String pattern, String[] segments, int[] tailStarts) {
+        this.pattern = pattern;
+        this.segments = segments;
+        this.tailStarts = tailStarts;
+
+        int length = 0;
+        for (String segment : segments)
+            length += segment.length();
+        this.literalLength = length;
+    }
+
+    // PRIVATE
+
+    private static final String PLACEHOLDER = "{}";
+    private static final int EXPECTED_ARGUMENT_LENGTH = 8;
+
+    private final String pattern;
+    private final String[] segments;
+    private final int[] tailStarts;
+    private final int literalLength;
+
+    private StringBuilder newBuilder() {
+        return new StringBuilder(literalLength + getSlotCount() * EXPECTED_ARGUMENT_LENGTH);
+    }
+
+    /**
+     * Appends the segment which precedes the placeholder with given number, followed by given argument
+     */
+    private void appendArgument(StringBuilder builder, Object any, int slot) {
+        if (slot > getSlotCount())
+            return;
+
+        builder.append(segments[slot - 1]);
+        if (any instanceof CharSequence)
+            builder.append((CharSequence) any);
+        else if (any != null && any.getClass().isArray())
+            builder.append(toString(any));
+        else
+            builder.append(any);
+    }
+
+    /**
+     * Appends what follows the last argument; same as slf4j, if there are placeholders left without an argument, the
+     * rest of the pattern is appended as is, escapes included
+     */
+    private StringBuilder appendRest(StringBuilder builder, int argumentCount) {
+        return argumentCount > getSlotCount()
+                ? builder.append(segments[getSlotCount()])
+                : builder.append(pattern, tailStarts[argumentCount], pattern.length());
+    }
+
+    /**
+     * @return amount of given arguments, without the last one if it is a Throwable, same as slf4j
+     */
+    private static int argumentCount(Object[] any) {
+        return any.length > 0 && any[any.length - 1] instanceof Throwable ? any.length - 1 : any.length;
+    }
+
+    private static String toString(Object any) {
+        if (any == null || !any.getClass().isArray())
+            return String.valueOf(any);
+
+        if (any instanceof Object[])
+            return Arrays.deepToString((Object[]) any);
+        if (any instanceof int[])
+            return Arrays.toString((int[]) any);
+        if (any instanceof long[])
+            return Arrays.toString((long[]) any);
+        if (any instanceof double[])
+            return Arrays.toString((double[]) any);
+        if (any instanceof boolean[])
+            return Arrays.toString((boolean[]) any);
+        if (any instanceof char[])
+            return Arrays.toString((char[]) any);
+        if (any instanceof byte[])
+            return Arrays.toString((byte[]) any);
+        if (any instanceof short[])
+            return Arrays.toString((short[]) any);
+
+        return Arrays.toString((float[]) any);
+    }
+
+    /**
+     * @return literal segments around the placeholders of given pattern, with the escapes removed; the index in the
+     * pattern at which every segment starts is added to tailStarts, so the rest of the pattern can be appended as
+     * is when the arguments run out
+     */
+    private static String[] parse(String pattern, List<Integer> tailStarts) {
+        tailStarts.add(0);
+        List<String> segments = new ArrayList<>();
+        StringBuilder segment = new StringBuilder();
+        int start = 0;
+        int placeholder;
+        while ((placeholder = pattern.indexOf(PLACEHOLDER, start)) >= 0) {
+            if (!isEscaped(pattern, placeholder)) {
+                segments.add(segment.append(pattern, start, placeholder).toString());
+                segment.setLength(0);
+            } else if (isEscaped(pattern, placeholder - 1)) {
+                // \\{} is a backslash, followed by a placeholder
+                segments.add(segment.append(pattern, start, placeholder - 1).toString());
+                segment.setLength(0);
+            } else {
+                // \{} is a literal {}, the } will be appended with the next segment
+                segment.append(pattern, start, placeholder - 1).append('{');
+                start = placeholder + 1;
+                continue;
+            }
+            start = placeholder + PLACEHOLDER.length();
+            tailStarts.add(start);
+        }
+        segments.add(segment.append(pattern, start, pattern.length()).toString());
+        return segments.toArray(new String[segments.size()]);
+    }
+
+    private static boolean isEscaped(String pattern, int index) {
+        return index >= 1 && pattern.charAt(index - 1) == '\\';
+    }
+
+}
@@ -0,0 +1,139 @@
+package eu.goodlike.str.format;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import eu.goodlike.io.PropertiesUtils;
+import eu.goodlike.neat.Null;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * <pre>
+ * Immutable Traversable, which flattens nested Maps, Properties or a JsonNode once, into a single HashMap, keyed by
+ * the steps joined with ':', i.e. {"replace": {"me": "Just"}} is kept as "replace:me" -> "Just"
+ *
+ * Getting a value then takes a single lookup, no matter how many steps there are; this makes it a better choice
+ * than JsonTraversable when the same values are used for many formats; since it is immutable, a single instance can
+ * be shared by any amount of formatters
+ *
+ * The joined keys are interned, so instances flattened from data of the same shape share their keys
+ *
+ * Steps which contain ':' cannot be distinguished from the separate steps, i.e. key "replace:me" is the same as the
+ * nested keys "replace" and "me"; if both exist, it is not specified which value is kept
+ * </pre>
+ */
+public final class FlatTraversable implements Traversable {
+
+    @Override
+    public Optional<String> getValueAt(String firstStep, String... otherSteps) {
+        Null.require("First step cannot be null", firstStep);
+        Null.requireArray("Steps cannot be or contain null", otherSteps);
+
+        if (otherSteps.length == 0)
+            return Optional.ofNullable(values.get(firstStep));
+
+        StringBuilder key = new StringBuilder(firstStep);
+        for (String step : otherSteps)
+            key.append(NEXT_STEP).append(step);
+
+        return Optional.ofNullable(values.get(key.toString()));
+    }
+
+    /**
+     * @return amount of values in this traversable
+     */
+    public int size() {
+        return values.size();
+    }
+
+    // CONSTRUCTORS
+
+    /**
+     * <pre>
+     * Values which are Maps are flattened, using their keys as further steps; null keys and values are skipped,
+     * other keys and values are converted using String::valueOf
+     *
+     * Only the values which are not Maps can be found, i.e. for {"replace": {"me": "Just"}}, step "replace" returns
+     * Optional::empty
+     * </pre>
+     * @throws NullPointerException if map is null
+     */
+    public static FlatTraversable of(Map<String, ?> map) {
+        Null.require("Map cannot be null", map);
+        Map<String, String> values = new HashMap<>();
+        flatten(values, null, map);
+        return new FlatTraversable(values);
+    }
+
+    /**
+     * Every property is a single step, i.e. property "db.url" is found with step "db.url"
+     * @throws NullPointerException if properties is null
+     */
+    public static FlatTraversable of(Properties properties) {
+        Null.require("Properties cannot be null", properties);
+        return of(PropertiesUtils.propertiesToMap(properties));
+    }
+
+    /**
+     * <pre>
+     * Values are the same as the ones JsonTraversable would return, i.e. JsonNode::asText for every node except
+     * null nodes; only the fields of objects are flattened, as JsonTraversable cannot step into arrays either
+     * </pre>
+     * @throws NullPointerException if jsonNode is null
+     */
+    public static FlatTraversable of(JsonNode jsonNode) {
+        Null.require("Json node cannot be null", jsonNode);
+        Map<String, String> values = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = jsonNode.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            flatten(values, field.getKey(), field.getValue());
+        }
+        return new FlatTraversable(values);
+    }
+
+    private FlatTraversable(Map<String, String> values) {
+        this.values = values;
+    }
+
+    // PRIVATE
+
+    private static final char NEXT_STEP = ':';
+
+    private final Map<String, String> values;
+
+    private static void flatten(Map<String, String> values, String prefix, Map<?, ?> map) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            if (key == null || value == null)
+                continue;
+
+            String path = join(prefix, String.valueOf(key));
+            if (value instanceof Map)
+                flatten(values, path, (Map<?, ?>) value);
+            else
+                values.put(path.intern(), String.valueOf(value));
+        }
+    }
+
+    private static void flatten(Map<String, String> values, String path, JsonNode node) {
+        if (node.isNull())
+            return;
+
+        values.put(path.intern(), node.asText());
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            flatten(values, join(path, field.getKey()), field.getValue());
+        }
+    }
+
+    private static String join(String prefix, String step) {
+        return prefix == null ? step : prefix + NEXT_STEP + step;
+    }
+
+}
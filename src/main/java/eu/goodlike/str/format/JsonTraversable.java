@@ -13,8 +13,8 @@ public final class JsonTraversable implements Traversable {
 
     @Override
     public Optional<String> getValueAt(String firstStep, String... otherSteps) {
-        Null.check(firstStep).ifAny("First step cannot be null");
-        Null.checkArray(otherSteps).ifAny("Steps cannot be or contain null");
+        Null.require("First step cannot be null", firstStep);
+        Null.requireArray("Steps cannot be or contain null", otherSteps);
 
         Optional<JsonNode> subNode = getSubNode(jsonNode, firstStep);
         for (String step : otherSteps)
@@ -26,7 +26,7 @@ public final class JsonTraversable implements Traversable {
     // CONSTRUCTORS
 
     public JsonTraversable(JsonNode jsonNode) {
-        Null.check(jsonNode).ifAny("Json node cannot be null");
+        Null.require("Json node cannot be null", jsonNode);
         this.jsonNode = jsonNode;
     }
 
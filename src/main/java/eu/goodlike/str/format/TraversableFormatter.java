@@ -1,10 +1,7 @@
 package eu.goodlike.str.format;
 
-import eu.goodlike.functional.Optionals;
 import eu.goodlike.neat.Null;
-import eu.goodlike.str.Str;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,23 +30,29 @@ public final class TraversableFormatter {
      * any '<' without closing them with '>' (random ':' and '>' values are ignored, though)
      */
     public Optional<String> format(String string) {
-        Null.check(string).ifAny("String cannot be null");
-
-        StringBuilder builder = new StringBuilder();
-        String subString = string;
-        int stepStartIndex;
-        while ((stepStartIndex = subString.indexOf(STEP_START)) >= 0) {
-            builder.append(subString, 0, stepStartIndex);
-            int stepEndIndex = subString.indexOf(STEP_END, stepStartIndex);
-            if (stepEndIndex < 0)
-                return Optional.empty();
+        return TraversableTemplate.parse(string).map(this::format);
+    }
 
-            String key = subString.substring(stepStartIndex + 1, stepEndIndex);
-            getValue(key).ifPresent(builder::append);
+    /**
+     * @return template, formatted using the Traversables of this formatter
+     * @throws NullPointerException if template is null
+     */
+    public String format(TraversableTemplate template) {
+        Null.require("Template cannot be null", template);
+        return template.render(traversable, overrides);
+    }
 
-            subString = subString.substring(stepEndIndex + 1);
-        }
-        return Optional.of(builder.append(subString).toString());
+    /**
+     * <pre>
+     * Parses given string into a template, which can then be rendered using any Traversable, without parsing the
+     * string again; useful when the same string is formatted many times
+     * </pre>
+     * @throws NullPointerException if string is null
+     * @throws IllegalArgumentException if the string contains any '<' without closing them with '>'
+     */
+    public static TraversableTemplate compile(String string) {
+        return TraversableTemplate.parse(string)
+                .orElseThrow(() -> new IllegalArgumentException("String contains '<' without closing '>': " + string));
     }
 
     // CONSTRUCTORS
@@ -59,7 +62,7 @@ public final class TraversableFormatter {
     }
 
     public TraversableFormatter(Traversable traversable, Traversable overrides) {
-        Null.check(traversable).ifAny("Traversable cannot be null");
+        Null.require("Traversable cannot be null", traversable);
         this.traversable = traversable;
         this.overrides = overrides;
     }
@@ -69,25 +72,4 @@ public final class TraversableFormatter {
     private final Traversable traversable;
     private final Traversable overrides;
 
-    private Optional<String> getValue(String key) {
-        List<String> paths = Str.splitIncludingEmptyAffixes(key, NEXT_STEP);
-
-        String firstElement = paths.get(0);
-        String[] elementsAfterFirst = paths.subList(1, paths.size()).toArray(new String[paths.size() - 1]);
-
-        return Optionals.lazyFirstNotEmpty(
-                () -> getValueFromOverrides(firstElement, elementsAfterFirst),
-                () -> traversable.getValueAt(firstElement, elementsAfterFirst)
-        );
-    }
-
-    private Optional<String> getValueFromOverrides(String firstStep, String... otherSteps) {
-        return Optional.ofNullable(overrides)
-                .flatMap(override -> override.getValueAt(firstStep, otherSteps));
-    }
-
-    private static final char STEP_START = '<';
-    private static final char STEP_END = '>';
-    private static final String NEXT_STEP = ":";
-
 }
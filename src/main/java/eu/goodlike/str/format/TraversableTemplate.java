@@ -0,0 +1,187 @@
+package eu.goodlike.str.format;
+
+import eu.goodlike.neat.Null;
+import eu.goodlike.str.Str;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <pre>
+ * Template for TraversableFormatter, which is parsed once and can then be rendered using any Traversable
+ *
+ * The template is split into literal segments and steps; every step is already split into the first step and the
+ * array of other steps, so rendering only appends the literals and the values found by the Traversable
+ *
+ * Refer to TraversableFormatter for the format of the template
+ * </pre>
+ */
+public final class TraversableTemplate {
+
+    /**
+     * @return this template, with the steps replaced by the values of given Traversable
+     * @throws NullPointerException if traversable is null
+     */
+    public String render(Traversable traversable) {
+        return render(traversable, null);
+    }
+
+    /**
+     * @return this template, with the steps replaced by the values of overrides Traversable, if it has them, or main
+     * Traversable otherwise; overrides can be null
+     * @throws NullPointerException if traversable is null
+     */
+    public String render(Traversable traversable, Traversable overrides) {
+        StringBuilder builder = new StringBuilder(expectedLength);
+        try {
+            renderTo(builder, traversable, overrides);
+        } catch (IOException e) {
+            throw new UncheckedIOException("StringBuilder should never throw IOException", e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends this template to given appendable, with the steps replaced by the values of given Traversable
+     * @return given appendable
+     * @throws NullPointerException if appendable or traversable is null
+     * @throws IOException if appendable throws it
+     */
+    public <A extends Appendable> A renderTo(A appendable, Traversable traversable) throws IOException {
+        return renderTo(appendable, traversable, null);
+    }
+
+    /**
+     * Appends this template to given appendable, with the steps replaced by the values of overrides Traversable, if it
+     * has them, or main Traversable otherwise; overrides can be null
+     * @return given appendable
+     * @throws NullPointerException if appendable or traversable is null
+     * @throws IOException if appendable throws it
+     */
+    public <A extends Appendable> A renderTo(A appendable, Traversable traversable, Traversable overrides)
+            throws IOException {
+        Null.require("Appendable and traversable cannot be null", appendable, traversable);
+        for (int index = 0; index < firstSteps.length; index++) {
+            appendable.append(literals[index]);
+            Optional<String> value = getValue(traversable, overrides, firstSteps[index], otherSteps[index]);
+            if (value.isPresent())
+                appendable.append(value.get());
+        }
+        appendable.append(literals[firstSteps.length]);
+        return appendable;
+    }
+
+    /**
+     * <pre>
+     * Renders this template for every given Traversable, in parallel
+     *
+     * The template is shared by all the renders, so it is only parsed once per batch
+     * </pre>
+     * @return rendered templates, in the same order as the Traversables
+     * @throws NullPointerException if traversables is or contains null
+     */
+    public List<String> renderAll(List<? extends Traversable> traversables) {
+        return renderAll(traversables, null);
+    }
+
+    /**
+     * Same as renderAll(List), using the same overrides for every Traversable; overrides can be null
+     * @return rendered templates, in the same order as the Traversables
+     * @throws NullPointerException if traversables is or contains null
+     */
+    public List<String> renderAll(List<? extends Traversable> traversables, Traversable overrides) {
+        Null.requireCollection("Traversables cannot be or contain null", traversables);
+        return traversables.parallelStream()
+                .map(traversable -> render(traversable, overrides))
+                .collect(toList());
+    }
+
+    /**
+     * @return the template this was parsed from
+     */
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    // CONSTRUCTORS
+
+    /**
+     * @return template parsed from given string, Optional::empty if the string contains any '<' without closing them
+     * with '>'
+     * @throws NullPointerException if template is null
+     */
+    static Optional<TraversableTemplate> parse(String template) {
+        Null.require("Template cannot be null", template);
+
+        List<String> literals = new ArrayList<>();
+        List<String> firstSteps = new ArrayList<>();
+        List<String[]> otherSteps = new ArrayList<>();
+
+        int start = 0;
+        int stepStartIndex;
+        while ((stepStartIndex = template.indexOf(STEP_START, start)) >= 0) {
+            int stepEndIndex = template.indexOf(STEP_END, stepStartIndex);
+            if (stepEndIndex < 0)
+                return Optional.empty();
+
+            literals.add(template.substring(start, stepStartIndex));
+            String key = template.substring(stepStartIndex + 1, stepEndIndex);
+            List<String> steps = Str.splitIncludingEmptyAffixes(key, NEXT_STEP);
+            firstSteps.add(steps.get(0));
+            otherSteps.add(steps.subList(1, steps.size()).toArray(new String[steps.size() - 1]));
+
+            start = stepEndIndex + 1;
+        }
+        literals.add(template.substring(start));
+
+        return Optional.of(new TraversableTemplate(template,
+                literals.toArray(new String[literals.size()]),
+                firstSteps.toArray(new String[firstSteps.size()]),
+                otherSteps.toArray(new String[otherSteps.size()][])));
+    }
+
+    private TraversableTemplate(String template, String[] literals, String[] firstSteps, String[][] otherSteps) {
+        this.template = template;
+        this.literals = literals;
+        this.firstSteps = firstSteps;
+        this.otherSteps = otherSteps;
+
+        int literalLength = 0;
+        for (String literal : literals)
+            literalLength += literal.length();
+        this.expectedLength = literalLength + firstSteps.length * EXPECTED_VALUE_LENGTH;
+    }
+
+    // PRIVATE
+
+    private static final char STEP_START = '<';
+    private static final char STEP_END = '>';
+    private static final String NEXT_STEP = ":";
+
+    private static final int EXPECTED_VALUE_LENGTH = 16;
+
+    private final String template;
+
+    // literals[i] precedes step i; the last literal follows the last step
+    private final String[] literals;
+    private final String[] firstSteps;
+    private final String[][] otherSteps;
+    private final int expectedLength;
+
+    private static Optional<String> getValue(Traversable traversable, Traversable overrides,
+                                             String firstStep, String[] otherSteps) {
+        if (overrides != null) {
+            Optional<String> value = overrides.getValueAt(firstStep, otherSteps);
+            if (value.isPresent())
+                return value;
+        }
+        return traversable.getValueAt(firstStep, otherSteps);
+    }
+
+}
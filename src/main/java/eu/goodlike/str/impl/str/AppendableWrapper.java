@@ -0,0 +1,191 @@
+package eu.goodlike.str.impl.str;
+
+import eu.goodlike.neat.Null;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+
+/**
+ * <pre>
+ * Wraps any Appendable (i.e. a Writer) the same way StringBuilderWrapper wraps StringBuilder, except every object is
+ * written to the Appendable as soon as it is appended, so large outputs never have to be kept in memory
+ *
+ * Use Str::to to create instances
+ *
+ * IOExceptions of the Appendable are re-thrown as UncheckedIOException, so the methods can be chained; if the
+ * Appendable is buffered, call flush() once done appending
+ * </pre>
+ */
+public final class AppendableWrapper implements Flushable {
+
+    /**
+     * Appends all the objects, one after another, to the wrapped Appendable
+     * @throws NullPointerException if object array is null (NOT if it contains null, that is allowed)
+     * @throws UncheckedIOException if the Appendable throws IOException
+     */
+    public AppendableWrapper and(Object... objects) {
+        Null.require("Object array cannot be null", objects);
+        for (Object o : objects)
+            append(o);
+        return this;
+    }
+
+    /**
+     * Appends all the objects in the collection, one after another, to the wrapped Appendable
+     * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed)
+     * @throws UncheckedIOException if the Appendable throws IOException
+     */
+    public AppendableWrapper andSome(Collection<?> collection) {
+        Null.require("Collection cannot be null", collection);
+        for (Object o : collection)
+            append(o);
+        return this;
+    }
+
+    /**
+     * <pre>
+     * Appends all the objects in the collection to the wrapped Appendable
+     * Every object will have a prefix appended before it (can be null)
+     * </pre>
+     * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed)
+     * @throws UncheckedIOException if the Appendable throws IOException
+     */
+    public AppendableWrapper andSome(Object prefix, Collection<?> collection) {
+        Null.require("Collection cannot be null", collection);
+        for (Object o : collection)
+            append(prefix).append(o);
+        return this;
+    }
+
+    /**
+     * <pre>
+     * Appends all the objects in the collection to the wrapped Appendable
+     * Every object will have a suffix appended after it (can be null)
+     * </pre>
+     * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed)
+     * @throws UncheckedIOException if the Appendable throws IOException
+     */
+    public AppendableWrapper andSome(Collection<?> collection, Object suffix) {
+        Null.require("Collection cannot be null", collection);
+        for (Object o : collection)
+            append(o).append(suffix);
+        return this;
+    }
+
+    /**
+     * <pre>
+     * Appends all the objects in the collection to the wrapped Appendable
+     * Every object will have a prefix and suffix appended before and after it (can be null)
+     * </pre>
+     * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed)
+     * @throws UncheckedIOException if the Appendable throws IOException
+     */
+    public AppendableWrapper andSome(Object prefix, Collection<?> collection, Object suffix) {
+        Null.require("Collection cannot be null", collection);
+        for (Object o : collection)
+            append(prefix).append(o).append(suffix);
+        return this;
+    }
+
+    /**
+     * Appends all the objects, one after another, to the wrapped Appendable, but only if condition is true
+     * @throws NullPointerException if object array is null (NOT if it contains null, that is allowed); ONLY IF CONDITION IS TRUE
+     * @throws UncheckedIOException if the Appendable throws IOException
+     */
+    public AppendableWrapper andIf(boolean condition, Object... objects) {
+        return condition ? and(objects) : this;
+    }
+
+    /**
+     * Appends all the objects in the collection, one after another, to the wrapped Appendable,
+     * but only if condition is true
+     * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed); ONLY IF CONDITION IS TRUE
+     * @throws UncheckedIOException if the Appendable throws IOException
+     */
+    public AppendableWrapper andSomeIf(boolean condition, Collection<?> collection) {
+        return condition ? andSome(collection) : this;
+    }
+
+    /**
+     * <pre>
+     * Appends all the objects in the collection to the wrapped Appendable, but only if condition is true
+     * Every object will have a prefix appended before it (can be null)
+     * </pre>
+     * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed); ONLY IF CONDITION IS TRUE
+     * @throws UncheckedIOException if the Appendable throws IOException
+     */
+    public AppendableWrapper andSomeIf(boolean condition, Object prefix, Collection<?> collection) {
+        return condition ? andSome(prefix, collection) : this;
+    }
+
+    /**
+     * <pre>
+     * Appends all the objects in the collection to the wrapped Appendable, but only if condition is true
+     * Every object will have a suffix appended after it (can be null)
+     * </pre>
+     * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed); ONLY IF CONDITION IS TRUE
+     * @throws UncheckedIOException if the Appendable throws IOException
+     */
+    public AppendableWrapper andSomeIf(boolean condition, Collection<?> collection, Object suffix) {
+        return condition ? andSome(collection, suffix) : this;
+    }
+
+    /**
+     * <pre>
+     * Appends all the objects in the collection to the wrapped Appendable, but only if condition is true
+     * Every object will have a prefix and suffix appended before and after it (can be null)
+     * </pre>
+     * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed); ONLY IF CONDITION IS TRUE
+     * @throws UncheckedIOException if the Appendable throws IOException
+     */
+    public AppendableWrapper andSomeIf(boolean condition, Object prefix, Collection<?> collection, Object suffix) {
+        return condition ? andSome(prefix, collection, suffix) : this;
+    }
+
+    /**
+     * Flushes the wrapped Appendable, if it is Flushable; does nothing otherwise
+     * @throws UncheckedIOException if the Appendable throws IOException
+     */
+    @Override
+    public void flush() {
+        if (!(appendable instanceof Flushable))
+            return;
+
+        try {
+            ((Flushable) appendable).flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not flush the appendable", e);
+        }
+    }
+
+    /**
+     * This is a terminal operation, in case you want to append additional objects in a custom way
+     * @return the wrapped appendable
+     */
+    public Appendable toAppendable() {
+        return appendable;
+    }
+
+    // CONSTRUCTORS
+
+    public AppendableWrapper(Appendable appendable) {
+        Null.require("Appendable cannot be null", appendable);
+        this.appendable = appendable;
+    }
+
+    // PRIVATE
+
+    private final Appendable appendable;
+
+    private AppendableWrapper append(Object o) {
+        try {
+            appendable.append(o instanceof CharSequence ? (CharSequence) o : String.valueOf(o));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to the appendable", e);
+        }
+        return this;
+    }
+
+}
@@ -24,7 +24,7 @@ public final class StringBuilderWrapper {
      * @throws NullPointerException if object array is null (NOT if it contains null, that is allowed)
      */
     public StringBuilderWrapper and(Object... objects) {
-        Null.checkAlone(objects).ifAny("Object array cannot be null");
+        Null.require("Object array cannot be null", objects);
         for (Object o : objects)
             builder.append(o);
         return this;
@@ -35,7 +35,7 @@ public final class StringBuilderWrapper {
      * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed)
      */
     public StringBuilderWrapper andSome(Collection<?> collection) {
-        Null.check(collection).ifAny("Collection cannot be null");
+        Null.require("Collection cannot be null", collection);
         collection.forEach(builder::append);
         return this;
     }
@@ -48,7 +48,7 @@ public final class StringBuilderWrapper {
      * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed)
      */
     public StringBuilderWrapper andSome(Object prefix, Collection<?> collection) {
-        Null.check(collection).ifAny("Collection cannot be null");
+        Null.require("Collection cannot be null", collection);
         collection.forEach(o -> builder.append(prefix).append(o));
         return this;
     }
@@ -61,7 +61,7 @@ public final class StringBuilderWrapper {
      * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed)
      */
     public StringBuilderWrapper andSome(Collection<?> collection, Object suffix) {
-        Null.check(collection).ifAny("Collection cannot be null");
+        Null.require("Collection cannot be null", collection);
         collection.forEach(o -> builder.append(o).append(suffix));
         return this;
     }
@@ -74,7 +74,7 @@ public final class StringBuilderWrapper {
      * @throws NullPointerException if collection is null (NOT if it contains null, that is allowed)
      */
     public StringBuilderWrapper andSome(Object prefix, Collection<?> collection, Object suffix) {
-        Null.check(collection).ifAny("Collection cannot be null");
+        Null.require("Collection cannot be null", collection);
         collection.forEach(o -> builder.append(prefix).append(o).append(suffix));
         return this;
     }
@@ -87,7 +87,7 @@ public final class StringBuilderWrapper {
      * @throws NullPointerException if customAppender or collection is null (NOT if it contains null, that is allowed)
      */
     public <T> StringBuilderWrapper andSome(Collection<T> collection, BiConsumer<StringBuilder, T> customAppender) {
-        Null.check(collection, customAppender).ifAny("Collection and customAppender cannot be null");
+        Null.require("Collection and customAppender cannot be null", collection, customAppender);
         for (T t : collection)
             customAppender.accept(builder, t);
         return this;
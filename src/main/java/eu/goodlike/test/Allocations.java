@@ -0,0 +1,68 @@
+package eu.goodlike.test;
+
+import eu.goodlike.neat.Null;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * <pre>
+ * Measures the memory allocated by the current thread, which can be used to verify that some code produces no garbage
+ *
+ * Relies on com.sun.management.ThreadMXBean, which is available in HotSpot based JVMs; if it is not available or
+ * allocation measurement is disabled, isSupported() returns false
+ * </pre>
+ */
+public final class Allocations {
+
+    /**
+     * @return true if allocations of the current thread can be measured, false otherwise
+     */
+    public static boolean isSupported() {
+        return THREAD_BEAN != null && THREAD_BEAN.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * <pre>
+     * Runs the action given amount of times to warm it up, then runs it the same amount of times again, measuring
+     * the allocations
+     *
+     * The warm up is needed, because first calls may allocate while loading classes or linking lambdas
+     * </pre>
+     * @return amount of bytes allocated by the current thread during the measured runs
+     * @throws NullPointerException if action is null
+     * @throws UnsupportedOperationException if allocations cannot be measured
+     */
+    public static long measure(int times, Runnable action) {
+        Null.require("Action cannot be null", action);
+        if (!isSupported())
+            throw new UnsupportedOperationException("Thread allocation measurement is not supported by this JVM");
+
+        for (int i = 0; i < times; i++)
+            action.run();
+
+        long threadId = Thread.currentThread().getId();
+        long before = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < times; i++)
+            action.run();
+        long after = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+
+        return after - before;
+    }
+
+    // PRIVATE
+
+    private Allocations() {
+        throw new AssertionError("Do not instantiate, use static methods!");
+    }
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = getThreadBean();
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        return threadBean instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threadBean
+                : null;
+    }
+
+}
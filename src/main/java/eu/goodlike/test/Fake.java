@@ -1,5 +1,6 @@
 package eu.goodlike.test;
 
+import eu.goodlike.misc.FixedDecimal;
 import eu.goodlike.time.Time;
 
 import java.math.BigDecimal;
@@ -67,6 +68,10 @@ public final class Fake {
         return BigDecimal.valueOf(id).setScale(4, ROUND_UNNECESSARY);
     }
 
+    public static FixedDecimal fixedWage(long id) {
+        return FixedDecimal.of(id);
+    }
+
     public static int day(long id) {
         if (id == 0) return 31;
         return (int)((id - 1) % 31) + 1;
@@ -60,12 +60,12 @@ public final class TestableConsumer<T> implements Consumer<T> {
 
     @SafeVarargs
     public TestableConsumer(T... alreadyAcceptedValues) {
-        Null.checkAlone(alreadyAcceptedValues).ifAny("Cannot be null: alreadyAcceptedValues");
+        Null.require("Cannot be null: alreadyAcceptedValues", alreadyAcceptedValues);
         this.acceptedValues = ConcurrentHashMultiset.create(Arrays.asList(alreadyAcceptedValues));
     }
 
     public TestableConsumer(List<T> alreadyAcceptedValues) {
-        Null.checkList(alreadyAcceptedValues).ifAny("Cannot be or contain null: alreadyAcceptedValues");
+        Null.requireCollection("Cannot be or contain null: alreadyAcceptedValues", alreadyAcceptedValues);
         this.acceptedValues = ConcurrentHashMultiset.create(alreadyAcceptedValues);
     }
 
@@ -59,12 +59,12 @@ public final class TestableIntConsumer implements IntConsumer {
     }
 
     public TestableIntConsumer(int... alreadyAcceptedValues) {
-        Null.checkAlone(alreadyAcceptedValues).ifAny("Cannot be null: alreadyAcceptedValues");
+        Null.require("Cannot be null: alreadyAcceptedValues", alreadyAcceptedValues);
         this.acceptedValues = ConcurrentHashMultiset.create(Ints.asList(alreadyAcceptedValues));
     }
 
     public TestableIntConsumer(List<Integer> alreadyAcceptedValues) {
-        Null.checkList(alreadyAcceptedValues).ifAny("Cannot be or contain null: alreadyAcceptedValues");
+        Null.requireCollection("Cannot be or contain null: alreadyAcceptedValues", alreadyAcceptedValues);
         this.acceptedValues = ConcurrentHashMultiset.create(alreadyAcceptedValues);
     }
 
@@ -30,7 +30,7 @@ public final class Time {
      * @throws NullPointerException if timezone is null
      */
     public static TimeHandler at(ZoneId timezone) {
-        Null.check(timezone).ifAny("Timezone cannot be null");
+        Null.require("Timezone cannot be null", timezone);
         return HANDLER_CACHE.get(timezone);
     }
 
@@ -46,7 +46,7 @@ public final class Time {
      * @throws NullPointerException if timezone is null
      */
     public static TimeHandler at(String timezone) {
-        Null.check(timezone).ifAny("Timezone cannot be null");
+        Null.require("Timezone cannot be null", timezone);
         return at(ZoneId.of(timezone));
     }
 
@@ -29,7 +29,7 @@ public final class TimeHandler {
      * @throws NullPointerException if instant is null
      */
     public TimeConverter from(Instant instant) {
-        Null.check(instant).ifAny("Instant cannot be null");
+        Null.require("Instant cannot be null", instant);
         return new TimeConverter(timezone, instant, null, null, null, null, null);
     }
 
@@ -41,7 +41,7 @@ public final class TimeHandler {
      * @throws NullPointerException if dateTime is null
      */
     public TimeConverter from(ZonedDateTime dateTime) {
-        Null.check(dateTime).ifAny("DateTime cannot be null");
+        Null.require("DateTime cannot be null", dateTime);
         return new TimeConverter(timezone, dateTime.toInstant(), null, dateTime, null, null, null);
     }
 
@@ -50,7 +50,7 @@ public final class TimeHandler {
      * @throws NullPointerException if localDate is null
      */
     public TimeConverter from(LocalDate localDate) {
-        Null.check(localDate).ifAny("LocalDate cannot be null");
+        Null.require("LocalDate cannot be null", localDate);
         ZonedDateTime dateTime = localDate.atStartOfDay(timezone);
         return new TimeConverter(timezone, dateTime.toInstant(), null, dateTime, localDate, null, null);
     }
@@ -59,7 +59,7 @@ public final class TimeHandler {
      * @throws NullPointerException if localDate or localTime is null
      */
     public TimeConverter from(LocalDate localDate, LocalTime localTime) {
-        Null.check(localDate, localTime).ifAny("LocalDate and LocalTime cannot be null");
+        Null.require("LocalDate and LocalTime cannot be null", localDate, localTime);
         ZonedDateTime dateTime = localDate.atTime(localTime).atZone(timezone);
         return new TimeConverter(timezone, dateTime.toInstant(), null, dateTime, localDate, localTime, null);
     }
@@ -70,7 +70,7 @@ public final class TimeHandler {
      *          exceeds a day's worth of time (essentially, overflowing into the next day)
      */
     public TimeConverter from(LocalDate localDate, int hours, int minutes, int seconds, int milliseconds) {
-        Null.check(localDate).ifAny("LocalDate cannot be null");
+        Null.require("LocalDate cannot be null", localDate);
         ZonedDateTime dateTimeAtStartOfDay = localDate.atStartOfDay(timezone);
         ZonedDateTime dateTime = dateTimeAtStartOfDay.plusHours(hours).plusMinutes(minutes).plusSeconds(seconds).plus(milliseconds, MILLIS);
         if (!dateTimeAtStartOfDay.toLocalDate().equals(dateTime.toLocalDate()))
@@ -120,7 +120,7 @@ public final class TimeHandler {
         if (date instanceof java.sql.Date)
             return from((java.sql.Date) date);
 
-        Null.check(date).ifAny("java.util.Date cannot be null");
+        Null.require("java.util.Date cannot be null", date);
         return new TimeConverter(timezone, date.toInstant(), null, null, null, null, date);
     }
 
@@ -137,7 +137,7 @@ public final class TimeHandler {
      * @throws NullPointerException if date is null
      */
     public TimeConverter from(java.sql.Date date) {
-        Null.check(date).ifAny("java.sql.Date cannot be null");
+        Null.require("java.sql.Date cannot be null", date);
         return from(date.toString());
     }
 
@@ -151,7 +151,7 @@ public final class TimeHandler {
      * @throws NullPointerException if dateString is null
      */
     public TimeConverter from(String dateString) {
-        Null.check(dateString).ifAny("Date string cannot be null");
+        Null.require("Date string cannot be null", dateString);
         return from(LocalDate.parse(dateString));
     }
 
@@ -0,0 +1,105 @@
+package eu.goodlike.validate;
+
+import eu.goodlike.neat.Null;
+
+import java.util.BitSet;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntPredicate;
+
+/**
+ * <pre>
+ * Utility methods to validate many values at once, collecting the failures into a BitSet
+ *
+ * If the amount of values exceeds given threshold, the work is split into chunks and performed using the common
+ * ForkJoinPool; every chunk is aligned to 64 values, so the chunks can mark their failures into the same array
+ * of words without any synchronization
+ * </pre>
+ */
+public final class BulkValidation {
+
+    /**
+     * Marks the failures among values from index "from" (inclusive) to index "to" (exclusive)
+     */
+    @FunctionalInterface
+    public interface FailureMarker {
+        /**
+         * Marks failures by setting bits in the given array of words, i.e. failures[i >>> 6] |= 1L << i
+         */
+        void mark(int from, int to, long[] failures);
+    }
+
+    /**
+     * @return BitSet with the indexes of values which failed to pass given index predicate
+     * @throws NullPointerException if isValidAt is null
+     * @throws IllegalArgumentException if size is negative or parallelThreshold is not positive
+     */
+    public static BitSet failures(int size, int parallelThreshold, IntPredicate isValidAt) {
+        Null.require("Index predicate cannot be null", isValidAt);
+        return failures(size, parallelThreshold, (from, to, failures) -> {
+            for (int i = from; i < to; i++)
+                if (!isValidAt.test(i))
+                    failures[i >>> 6] |= 1L << i;
+        });
+    }
+
+    /**
+     * @return BitSet with the failures marked by given marker
+     * @throws NullPointerException if failureMarker is null
+     * @throws IllegalArgumentException if size is negative or parallelThreshold is not positive
+     */
+    public static BitSet failures(int size, int parallelThreshold, FailureMarker failureMarker) {
+        Null.require("Failure marker cannot be null", failureMarker);
+        if (size < 0)
+            throw new IllegalArgumentException("Size cannot be negative: " + size);
+        if (parallelThreshold <= 0)
+            throw new IllegalArgumentException("Parallel threshold must be positive: " + parallelThreshold);
+
+        long[] failures = new long[(size + 63) >>> 6];
+        if (size <= parallelThreshold)
+            failureMarker.mark(0, size, failures);
+        else
+            new MarkingTask(0, size, parallelThreshold, failureMarker, failures).invoke();
+
+        return BitSet.valueOf(failures);
+    }
+
+    // PRIVATE
+
+    private BulkValidation() {
+        throw new AssertionError("Do not instantiate, use static methods!");
+    }
+
+    private static final class MarkingTask extends RecursiveAction {
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                failureMarker.mark(from, to, failures);
+                return;
+            }
+
+            int middle = (from + (to - from) / 2) & ~63;
+            if (middle <= from) {
+                failureMarker.mark(from, to, failures);
+                return;
+            }
+
+            invokeAll(new MarkingTask(from, middle, threshold, failureMarker, failures),
+                    new MarkingTask(middle, to, threshold, failureMarker, failures));
+        }
+
+        private MarkingTask(int from, int to, int threshold, FailureMarker failureMarker, long[] failures) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.failureMarker = failureMarker;
+            this.failures = failures;
+        }
+
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final FailureMarker failureMarker;
+        private final long[] failures;
+    }
+
+}
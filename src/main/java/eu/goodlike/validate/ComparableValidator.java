@@ -13,8 +13,8 @@ public abstract class ComparableValidator<T extends Comparable<T>, V extends Com
      * Adds a predicate which tests if the comparable being validated is equal based on its comparison
      */
     public final V isEqualComparably(T other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> t.compareTo(other) == 0);
+        Null.require("Other comparable cannot be null", other);
+        return registerCondition(Rules.range(other, true, other, true));
     }
 
     /**
@@ -22,8 +22,8 @@ public abstract class ComparableValidator<T extends Comparable<T>, V extends Com
      * based on their comparison
      */
     public final V isLessThan(T other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> t.compareTo(other) < 0);
+        Null.require("Other comparable cannot be null", other);
+        return registerCondition(Rules.range(null, false, other, false));
     }
 
     /**
@@ -31,8 +31,8 @@ public abstract class ComparableValidator<T extends Comparable<T>, V extends Com
      * based on their comparison
      */
     public final V isMoreThan(T other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> t.compareTo(other) > 0);
+        Null.require("Other comparable cannot be null", other);
+        return registerCondition(Rules.range(other, false, null, false));
     }
 
     /**
@@ -40,8 +40,8 @@ public abstract class ComparableValidator<T extends Comparable<T>, V extends Com
      * based on their comparison
      */
     public final V isAtLeast(T other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> t.compareTo(other) >= 0);
+        Null.require("Other comparable cannot be null", other);
+        return registerCondition(Rules.range(other, true, null, false));
     }
 
     /**
@@ -49,8 +49,8 @@ public abstract class ComparableValidator<T extends Comparable<T>, V extends Com
      * based on their comparison
      */
     public final V isAtMost(T other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> t.compareTo(other) <= 0);
+        Null.require("Other comparable cannot be null", other);
+        return registerCondition(Rules.range(null, false, other, true));
     }
 
     /**
@@ -62,8 +62,8 @@ public abstract class ComparableValidator<T extends Comparable<T>, V extends Com
      * </pre>
      */
     public final V isBetween(T left, T right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> t.compareTo(left) >= 0, t -> t.compareTo(right) <= 0);
+        Null.require("Left and right comparable cannot be null", left, right);
+        return registerCondition(Rules.range(left, true, right, true));
     }
 
     /**
@@ -75,8 +75,8 @@ public abstract class ComparableValidator<T extends Comparable<T>, V extends Com
      * </pre>
      */
     public final V isBetweenExclusive(T left, T right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> t.compareTo(left) > 0, t -> t.compareTo(right) < 0);
+        Null.require("Left and right comparable cannot be null", left, right);
+        return registerCondition(Rules.range(left, false, right, false));
     }
 
     /**
@@ -88,8 +88,8 @@ public abstract class ComparableValidator<T extends Comparable<T>, V extends Com
      * </pre>
      */
     public final V isBetweenExclusiveLeft(T left, T right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> t.compareTo(left) > 0, t -> t.compareTo(right) <= 0);
+        Null.require("Left and right comparable cannot be null", left, right);
+        return registerCondition(Rules.range(left, false, right, true));
     }
 
     /**
@@ -101,8 +101,8 @@ public abstract class ComparableValidator<T extends Comparable<T>, V extends Com
      * </pre>
      */
     public final V isBetweenExclusiveRight(T left, T right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> t.compareTo(left) >= 0, t -> t.compareTo(right) < 0);
+        Null.require("Left and right comparable cannot be null", left, right);
+        return registerCondition(Rules.range(left, true, right, false));
     }
 
     // CONSTRUCTORS
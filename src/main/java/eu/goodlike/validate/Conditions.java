@@ -0,0 +1,256 @@
+package eu.goodlike.validate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static eu.goodlike.functional.Predicates.alwaysFalse;
+import static eu.goodlike.functional.Predicates.alwaysTrue;
+
+/**
+ * <pre>
+ * Predicates which are used by Validator to combine its conditions
+ *
+ * They are evaluated the same way as Predicate.and() and Predicate.or(), but they retain the structure of the
+ * combination, which allows it to be flattened into disjunctive normal form (an array of blocks, where the blocks
+ * are arrays of conditions) when the Validator is compiled
+ * </pre>
+ */
+final class Conditions {
+
+    /**
+     * @return predicate which evaluates left && right
+     */
+    static <T> Predicate<T> and(Predicate<T> left, Predicate<? super T> right) {
+        if (left == alwaysTrue())
+            return cast(right);
+
+        if (left == alwaysFalse())
+            return left;
+
+        return new And<>(left, right);
+    }
+
+    /**
+     * @return predicate which evaluates left || right; if both predicates are compiled (or optimized), so is the result
+     */
+    static <T> Predicate<T> or(Predicate<T> left, Predicate<T> right) {
+        if (left == alwaysFalse())
+            return right;
+
+        if (left == alwaysTrue())
+            return left;
+
+        if (left instanceof Compiled && right instanceof Compiled) {
+            Compiled<T> compiledLeft = (Compiled<T>) left;
+            Compiled<T> compiledRight = (Compiled<T>) right;
+            if (compiledLeft.optimized && compiledRight.optimized)
+                return optimize(new Or<>(left, right));
+
+            return new Compiled<>(concat(compiledLeft.blocks, compiledRight.blocks), false);
+        }
+
+        return new Or<>(left, right);
+    }
+
+    /**
+     * @return predicate equivalent to the given one, flattened into disjunctive normal form
+     */
+    static <T> Compiled<T> compile(Predicate<T> condition) {
+        return toCompiled(toBlocks(condition), false);
+    }
+
+    /**
+     * @return predicate equivalent to the given one, flattened into disjunctive normal form and optimized using
+     * the symbolic descriptions of its conditions (refer to Rules::optimizeBlocks)
+     */
+    static <T> Compiled<T> optimize(Predicate<T> condition) {
+        return toCompiled(Rules.optimizeBlocks(toBlocks(condition)), true);
+    }
+
+    /**
+     * @return predicate equivalent to the given one, flattened into disjunctive normal form, with every condition
+     * recording its statistics into given instrumentation
+     */
+    static <T> Compiled<T> instrument(Predicate<T> condition, Instrumentation instrumentation) {
+        List<List<Predicate<? super T>>> blocks = toBlocks(condition);
+        for (List<Predicate<? super T>> block : blocks) {
+            instrumentation.startBlock();
+            block.replaceAll(instrumentation::instrument);
+        }
+        return toCompiled(blocks, false);
+    }
+
+    /**
+     * <pre>
+     * Evaluates a predicate in disjunctive normal form
+     *
+     * The blocks are evaluated in order, until one of them passes; conditions in a block are evaluated in order,
+     * until one of them fails
+     * </pre>
+     */
+    static final class Compiled<T> implements Predicate<T> {
+        @Override
+        public boolean test(T t) {
+            for (Predicate<? super T>[] block : blocks)
+                if (passesAll(block, t))
+                    return true;
+
+            return false;
+        }
+
+        // CONSTRUCTORS
+
+        private Compiled(Predicate<? super T>[][] blocks, boolean optimized) {
+            this.blocks = blocks;
+            this.optimized = optimized;
+        }
+
+        // PRIVATE
+
+        private final Predicate<? super T>[][] blocks;
+        private final boolean optimized;
+
+        private static <T> boolean passesAll(Predicate<? super T>[] block, T t) {
+            for (Predicate<? super T> condition : block)
+                if (!condition.test(t))
+                    return false;
+
+            return true;
+        }
+    }
+
+    // PRIVATE
+
+    private Conditions() {
+        throw new AssertionError("Do not instantiate, use static methods!");
+    }
+
+    private static final class And<T> implements Predicate<T> {
+        @Override
+        public boolean test(T t) {
+            return left.test(t) && right.test(t);
+        }
+
+        private And(Predicate<T> left, Predicate<? super T> right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        private final Predicate<T> left;
+        private final Predicate<? super T> right;
+    }
+
+    private static final class Or<T> implements Predicate<T> {
+        @Override
+        public boolean test(T t) {
+            return left.test(t) || right.test(t);
+        }
+
+        private Or(Predicate<T> left, Predicate<T> right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        private final Predicate<T> left;
+        private final Predicate<T> right;
+    }
+
+    private static <T> List<List<Predicate<? super T>>> toBlocks(Predicate<T> condition) {
+        List<List<Predicate<? super T>>> blocks = new ArrayList<>();
+        for (Predicate<? super T> block : split(condition, Or.class))
+            addBlocks(block, blocks);
+
+        return blocks;
+    }
+
+    private static <T> Compiled<T> toCompiled(List<List<Predicate<? super T>>> blocks, boolean optimized) {
+        Predicate<? super T>[][] compiled = newBlockArray(blocks.size());
+        for (int i = 0; i < compiled.length; i++)
+            compiled[i] = blocks.get(i).toArray(newConditionArray(blocks.get(i).size()));
+
+        return new Compiled<>(compiled, optimized);
+    }
+
+    private static <T> void addBlocks(Predicate<? super T> condition, List<List<Predicate<? super T>>> blocks) {
+        if (condition instanceof Compiled) {
+            for (Predicate<?>[] block : ((Compiled<?>) condition).blocks)
+                blocks.add(asList(block));
+            return;
+        }
+
+        if (condition == alwaysFalse())
+            return;
+
+        List<Predicate<? super T>> conditions = new ArrayList<>();
+        for (Predicate<? super T> next : split(condition, And.class))
+            addConditions(next, conditions);
+
+        blocks.add(conditions);
+    }
+
+    private static <T> void addConditions(Predicate<? super T> condition, List<Predicate<? super T>> conditions) {
+        if (condition instanceof Compiled && ((Compiled<?>) condition).blocks.length == 1) {
+            conditions.addAll(asList(((Compiled<?>) condition).blocks[0]));
+            return;
+        }
+
+        if (condition != alwaysTrue())
+            conditions.add(condition);
+    }
+
+    /**
+     * Splits nested And or Or predicates into a list of their operands, keeping the order of evaluation; this is
+     * done without recursion, because the chains built by Validator are as deep as the amount of its conditions
+     */
+    private static <T> List<Predicate<? super T>> split(Predicate<? super T> condition, Class<?> nodeClass) {
+        List<Predicate<? super T>> operands = new ArrayList<>();
+        Deque<Predicate<? super T>> remaining = new ArrayDeque<>();
+        remaining.push(condition);
+        while (!remaining.isEmpty()) {
+            Predicate<? super T> next = remaining.pop();
+            if (next instanceof And && nodeClass == And.class) {
+                remaining.push(cast(((And<?>) next).right));
+                remaining.push(cast(((And<?>) next).left));
+            }
+            else if (next instanceof Or && nodeClass == Or.class) {
+                remaining.push(cast(((Or<?>) next).right));
+                remaining.push(cast(((Or<?>) next).left));
+            }
+            else
+                operands.add(next);
+        }
+        return operands;
+    }
+
+    private static <T> Predicate<? super T>[][] concat(Predicate<? super T>[][] left, Predicate<? super T>[][] right) {
+        Predicate<? super T>[][] blocks = newBlockArray(left.length + right.length);
+        System.arraycopy(left, 0, blocks, 0, left.length);
+        System.arraycopy(right, 0, blocks, left.length, right.length);
+        return blocks;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Predicate<T> cast(Predicate<?> predicate) {
+        return (Predicate<T>) predicate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<Predicate<? super T>> asList(Predicate<?>[] block) {
+        return new ArrayList<>(Arrays.asList((Predicate<? super T>[]) block));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Predicate<? super T>[] newConditionArray(int size) {
+        return (Predicate<? super T>[]) new Predicate<?>[size];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Predicate<? super T>[][] newBlockArray(int size) {
+        return (Predicate<? super T>[][]) new Predicate<?>[size][];
+    }
+
+}
@@ -0,0 +1,421 @@
+package eu.goodlike.validate;
+
+import eu.goodlike.neat.Null;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * <pre>
+ * Per rule statistics of an instrumented Validator (refer to Validator::instrumented)
+ *
+ * For every rule, the amount of invocations and rejections is counted; the time spent by the rule is measured for
+ * roughly one out of SAMPLE_RATE invocations, so the measurement itself does not dominate cheap rules; all of the
+ * counters are striped (LongAdder), so concurrent validations do not contend on them
+ *
+ * Rules are identified by the or() block they belong to and their position in it, same as in a compiled Validator;
+ * built-in rules, such as null checks, isIn() or comparisons, also have a description
+ *
+ * Instrumentations are registered by name, so they can be looked up and exported without holding onto the Validator;
+ * a name can only be registered once, so instrumenting another Validator with the same name fails, until the name is
+ * unregistered
+ *
+ * The registry holds onto every instrumentation until its name is unregistered, even after its Validator is no longer
+ * used; instrumentations are meant for long-lived validators, i.e. constants, so names should not be generated, or,
+ * if they are, they should be unregistered once the Validator is discarded
+ * </pre>
+ */
+public final class Instrumentation {
+
+    /**
+     * Timing is sampled for roughly one out of this many invocations of a rule
+     */
+    public static final int SAMPLE_RATE = 64;
+
+    /**
+     * @return instrumentation registered with given name, if any
+     * @throws NullPointerException if name is null
+     */
+    public static Optional<Instrumentation> forName(String name) {
+        Null.require("Name cannot be null", name);
+        return Optional.ofNullable(REGISTRY.get(name));
+    }
+
+    /**
+     * @return snapshots of all registered instrumentations, by name
+     */
+    public static Map<String, List<RuleSnapshot>> snapshotAll() {
+        Map<String, List<RuleSnapshot>> snapshots = new TreeMap<>();
+        REGISTRY.forEach((name, instrumentation) -> snapshots.put(name, instrumentation.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Removes the instrumentation with given name from the registry, so it can be garbage collected along with its
+     * validators, and the name can be registered again; validators which use it keep recording
+     * @throws NullPointerException if name is null
+     */
+    public static void unregister(String name) {
+        Null.require("Name cannot be null", name);
+        REGISTRY.remove(name);
+    }
+
+    /**
+     * @return name of this instrumentation
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return current statistics of every rule, ordered by block and position
+     */
+    public List<RuleSnapshot> snapshot() {
+        List<RuleSnapshot> snapshots = new ArrayList<>();
+        for (RuleStats stats : rules)
+            snapshots.add(stats.snapshot());
+
+        return Collections.unmodifiableList(snapshots);
+    }
+
+    /**
+     * Resets the statistics of every rule to zero
+     */
+    public void reset() {
+        rules.forEach(RuleStats::reset);
+    }
+
+    /**
+     * Statistics of a single rule at the time of the snapshot
+     */
+    public static final class RuleSnapshot {
+        /**
+         * @return index of the or() block this rule belongs to
+         */
+        public int getBlock() {
+            return block;
+        }
+
+        /**
+         * @return index of this rule in its block
+         */
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * @return description of this rule; "custom" for rules which were given as lambdas
+         */
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * @return amount of times this rule was invoked
+         */
+        public long getInvocations() {
+            return invocations;
+        }
+
+        /**
+         * @return amount of times this rule rejected the value
+         */
+        public long getRejections() {
+            return rejections;
+        }
+
+        /**
+         * @return amount of invocations which were timed
+         */
+        public long getSamples() {
+            return samples;
+        }
+
+        /**
+         * @return total nanoseconds spent by the timed invocations
+         */
+        public long getSampledNanos() {
+            return sampledNanos;
+        }
+
+        /**
+         * @return average nanoseconds spent by a timed invocation, 0 if none were timed
+         */
+        public double getAverageNanos() {
+            return samples == 0 ? 0 : (double) sampledNanos / samples;
+        }
+
+        @Override
+        public String toString() {
+            return "RuleSnapshot{" +
+                    "block=" + block +
+                    ", position=" + position +
+                    ", description='" + description + '\'' +
+                    ", invocations=" + invocations +
+                    ", rejections=" + rejections +
+                    ", samples=" + samples +
+                    ", sampledNanos=" + sampledNanos +
+                    '}';
+        }
+
+        // CONSTRUCTORS
+
+        private RuleSnapshot(int block, int position, String description, long invocations, long rejections,
+                             long samples, long sampledNanos) {
+            this.block = block;
+            this.position = position;
+            this.description = description;
+            this.invocations = invocations;
+            this.rejections = rejections;
+            this.samples = samples;
+            this.sampledNanos = sampledNanos;
+        }
+
+        // PRIVATE
+
+        private final int block;
+        private final int position;
+        private final String description;
+        private final long invocations;
+        private final long rejections;
+        private final long samples;
+        private final long sampledNanos;
+    }
+
+    // CONSTRUCTORS
+
+    /**
+     * <pre>
+     * Creates a new instrumentation, registers it with given name, then instruments given blocks of rules with it,
+     * in place; the blocks of the main condition come before the blocks of the accumulated condition
+     *
+     * Used by primitive validators, which cannot instrument their rules one at a time, since they are in another
+     * package; the instrumentation cannot be changed afterwards
+     * </pre>
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if an instrumentation with given name is already registered
+     */
+    public static Instrumentation registerInts(String name, List<List<IntPredicate>> mainBlocks,
+                                               List<List<IntPredicate>> accumulatedBlocks) {
+        Null.require("Blocks cannot be null", mainBlocks, accumulatedBlocks);
+        Instrumentation instrumentation = register(name);
+        instrumentation.instrumentBlocks(mainBlocks, instrumentation::instrument);
+        instrumentation.instrumentBlocks(accumulatedBlocks, instrumentation::instrument);
+        return instrumentation;
+    }
+
+    /**
+     * Refer to registerInts()
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if an instrumentation with given name is already registered
+     */
+    public static Instrumentation registerLongs(String name, List<List<LongPredicate>> mainBlocks,
+                                                List<List<LongPredicate>> accumulatedBlocks) {
+        Null.require("Blocks cannot be null", mainBlocks, accumulatedBlocks);
+        Instrumentation instrumentation = register(name);
+        instrumentation.instrumentBlocks(mainBlocks, instrumentation::instrument);
+        instrumentation.instrumentBlocks(accumulatedBlocks, instrumentation::instrument);
+        return instrumentation;
+    }
+
+    /**
+     * Refer to registerInts()
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if an instrumentation with given name is already registered
+     */
+    public static Instrumentation registerDoubles(String name, List<List<DoublePredicate>> mainBlocks,
+                                                  List<List<DoublePredicate>> accumulatedBlocks) {
+        Null.require("Blocks cannot be null", mainBlocks, accumulatedBlocks);
+        Instrumentation instrumentation = register(name);
+        instrumentation.instrumentBlocks(mainBlocks, instrumentation::instrument);
+        instrumentation.instrumentBlocks(accumulatedBlocks, instrumentation::instrument);
+        return instrumentation;
+    }
+
+    private Instrumentation(String name) {
+        this.name = name;
+        this.rules = new CopyOnWriteArrayList<>();
+    }
+
+    // PACKAGE PRIVATE
+
+    /**
+     * Creates a new instrumentation and registers it with given name
+     * @throws NullPointerException if name is null
+     * @throws IllegalArgumentException if an instrumentation with given name is already registered
+     */
+    static Instrumentation register(String name) {
+        Null.require("Name cannot be null", name);
+        Instrumentation instrumentation = new Instrumentation(name);
+        if (REGISTRY.putIfAbsent(name, instrumentation) != null)
+            throw new IllegalArgumentException("Instrumentation is already registered with name: " + name);
+
+        return instrumentation;
+    }
+
+    /**
+     * <pre>
+     * Starts a new or() block; following rules are added to it
+     *
+     * Only used while the validator is being instrumented
+     * </pre>
+     */
+    void startBlock() {
+        block++;
+        position = 0;
+    }
+
+    /**
+     * <pre>
+     * Returns a predicate which records the statistics of given rule, in the current block
+     *
+     * Only used while the validator is being instrumented
+     * </pre>
+     * @throws NullPointerException if rule is null
+     */
+    <T> Predicate<T> instrument(Predicate<T> rule) {
+        RuleStats stats = newRule(rule);
+        return t -> {
+            if (!stats.sampled())
+                return stats.record(rule.test(t));
+
+            long start = System.nanoTime();
+            boolean passed = rule.test(t);
+            return stats.record(passed, System.nanoTime() - start);
+        };
+    }
+
+    /**
+     * Refer to instrument(Predicate)
+     * @throws NullPointerException if rule is null
+     */
+    IntPredicate instrument(IntPredicate rule) {
+        RuleStats stats = newRule(rule);
+        return i -> {
+            if (!stats.sampled())
+                return stats.record(rule.test(i));
+
+            long start = System.nanoTime();
+            boolean passed = rule.test(i);
+            return stats.record(passed, System.nanoTime() - start);
+        };
+    }
+
+    /**
+     * Refer to instrument(Predicate)
+     * @throws NullPointerException if rule is null
+     */
+    LongPredicate instrument(LongPredicate rule) {
+        RuleStats stats = newRule(rule);
+        return l -> {
+            if (!stats.sampled())
+                return stats.record(rule.test(l));
+
+            long start = System.nanoTime();
+            boolean passed = rule.test(l);
+            return stats.record(passed, System.nanoTime() - start);
+        };
+    }
+
+    /**
+     * Refer to instrument(Predicate)
+     * @throws NullPointerException if rule is null
+     */
+    DoublePredicate instrument(DoublePredicate rule) {
+        RuleStats stats = newRule(rule);
+        return d -> {
+            if (!stats.sampled())
+                return stats.record(rule.test(d));
+
+            long start = System.nanoTime();
+            boolean passed = rule.test(d);
+            return stats.record(passed, System.nanoTime() - start);
+        };
+    }
+
+
+    // PRIVATE
+
+    private static final Map<String, Instrumentation> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final List<RuleStats> rules;
+
+    // only used while the validator is being instrumented
+    private int block = -1;
+    private int position;
+
+    private <P> void instrumentBlocks(List<List<P>> blocks, UnaryOperator<P> instrument) {
+        for (List<P> block : blocks) {
+            startBlock();
+            block.replaceAll(instrument);
+        }
+    }
+
+    private RuleStats newRule(Object rule) {
+        Null.require("Rule cannot be null", rule);
+        RuleStats stats = new RuleStats(Math.max(block, 0), position++, describe(rule));
+        rules.add(stats);
+        return stats;
+    }
+
+    private static String describe(Object rule) {
+        return rule.getClass().isSynthetic() ? "custom" : rule.toString();
+    }
+
+    private static final class RuleStats {
+        private RuleStats(int block, int position, String description) {
+            this.block = block;
+            this.position = position;
+            this.description = description;
+        }
+
+        private final int block;
+        private final int position;
+        private final String description;
+
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder rejections = new LongAdder();
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder sampledNanos = new LongAdder();
+
+        private boolean sampled() {
+            return ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0;
+        }
+
+        private boolean record(boolean passed) {
+            invocations.increment();
+            if (!passed)
+                rejections.increment();
+
+            return passed;
+        }
+
+        private boolean record(boolean passed, long nanos) {
+            samples.increment();
+            sampledNanos.add(nanos);
+            return record(passed);
+        }
+
+        private RuleSnapshot snapshot() {
+            return new RuleSnapshot(block, position, description, invocations.sum(), rejections.sum(),
+                    samples.sum(), sampledNanos.sum());
+        }
+
+        private void reset() {
+            invocations.reset();
+            rejections.reset();
+            samples.reset();
+            sampledNanos.reset();
+        }
+    }
+
+}
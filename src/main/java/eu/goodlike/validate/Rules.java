@@ -0,0 +1,477 @@
+package eu.goodlike.validate;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static eu.goodlike.functional.Predicates.alwaysFalse;
+import static eu.goodlike.functional.Predicates.alwaysTrue;
+
+/**
+ * <pre>
+ * Predicates which are used by Validator to describe common conditions symbolically, rather than as lambdas
+ *
+ * They are evaluated exactly like the lambdas they replace, but their description allows a compiled Validator to
+ * be optimized: constants folded, ranges and memberships merged, dominated conditions dropped
+ * </pre>
+ */
+final class Rules {
+
+    /**
+     * @return predicate which tests if the object is null
+     */
+    static <T> Predicate<T> isNull() {
+        @SuppressWarnings("unchecked")
+        Predicate<T> isNull = (Predicate<T>) IS_NULL;
+        return isNull;
+    }
+
+    /**
+     * @return predicate which tests if the object is not null
+     */
+    static <T> Predicate<T> notNull() {
+        @SuppressWarnings("unchecked")
+        Predicate<T> notNull = (Predicate<T>) NOT_NULL;
+        return notNull;
+    }
+
+    /**
+     * @return predicate which tests if the object is equal to one of the given values, using Object::hashCode and
+     * Object::equals
+     */
+    static <T> Predicate<T> isIn(Collection<?> values) {
+        return new Membership<>(values);
+    }
+
+    /**
+     * @return predicate which tests if the comparable is within given bounds; null bound means no bound
+     */
+    static <T extends Comparable<T>> Predicate<T> range(T lower, boolean lowerInclusive, T upper, boolean upperInclusive) {
+        return new Range<>(lower, lowerInclusive, upper, upperInclusive);
+    }
+
+    /**
+     * <pre>
+     * Optimizes a block of conditions, all of which must pass; the following optimizations are performed:
+     *      1) alwaysTrue() conditions are dropped
+     *      2) repeated null checks are dropped, not null checks are dropped when a membership check already
+     *         excludes null
+     *      3) membership checks are intersected into the first of them
+     *      4) range checks are intersected into the first of them
+     * If the optimizer can tell the block will never pass, null is returned instead; an exception is a block where
+     * a range check would throw NullPointerException for null values, which is kept up to that check (followed by
+     * alwaysFalse(), unless the range check is empty)
+     *
+     * Custom conditions are assumed to have no side effects, therefore merged conditions can be moved ahead of them
+     * </pre>
+     */
+    static <T> List<Predicate<? super T>> optimize(List<Predicate<? super T>> block) {
+        List<Predicate<? super T>> conditions = new ArrayList<>();
+        int nullCheck = -1;
+        int membership = -1;
+        int range = -1;
+        for (Predicate<? super T> condition : block) {
+            if (condition == alwaysTrue())
+                continue;
+
+            if (condition == alwaysFalse())
+                return neverPasses(conditions);
+
+            if (condition == IS_NULL || condition == NOT_NULL) {
+                if (nullCheck >= 0) {
+                    if (conditions.get(nullCheck) != condition)
+                        return neverPasses(conditions);
+
+                    continue;
+                }
+
+                if (membership >= 0) {
+                    boolean allowsNull = ((Membership<?>) conditions.get(membership)).values.contains(null);
+                    if (condition == IS_NULL && !allowsNull)
+                        return neverPasses(conditions);
+
+                    if (condition == NOT_NULL && !allowsNull)
+                        continue;
+                }
+
+                nullCheck = conditions.size();
+            }
+            else if (condition instanceof Membership) {
+                Membership<?> next = (Membership<?>) condition;
+                if (membership >= 0) {
+                    next = ((Membership<?>) conditions.get(membership)).intersect(next);
+                    if (next.values.isEmpty())
+                        return neverPasses(conditions);
+
+                    conditions.set(membership, cast(next));
+                    continue;
+                }
+
+                if (nullCheck >= 0) {
+                    boolean allowsNull = next.values.contains(null);
+                    if (conditions.get(nullCheck) == IS_NULL && !allowsNull)
+                        return neverPasses(conditions);
+
+                    if (conditions.get(nullCheck) == NOT_NULL && !allowsNull) {
+                        conditions.set(nullCheck, cast(next));
+                        membership = nullCheck;
+                        nullCheck = -1;
+                        continue;
+                    }
+                }
+
+                membership = conditions.size();
+            }
+            else if (condition instanceof Range) {
+                if (range >= 0) {
+                    Range<?> next = ((Range<?>) conditions.get(range)).intersect((Range<?>) condition);
+                    if (next.isEmpty()) {
+                        List<Predicate<? super T>> throwsForNull = new ArrayList<>(conditions.subList(0, range));
+                        throwsForNull.add(cast(next));
+                        return isNullSafe(throwsForNull) ? null : throwsForNull;
+                    }
+
+                    conditions.set(range, cast(next));
+                    continue;
+                }
+
+                range = conditions.size();
+            }
+
+            conditions.add(condition);
+        }
+        return conditions;
+    }
+
+    /**
+     * <pre>
+     * Optimizes the blocks of a compiled Validator, at least one of which must pass; first every block is optimized
+     * on its own, then:
+     *      1) blocks which will never pass are dropped
+     *      2) if any block will always pass, it replaces all the blocks; if some earlier block would throw
+     *         NullPointerException for null values, the earlier blocks are kept, and only the later ones are dropped
+     *      3) repeated blocks are dropped
+     *      4) blocks which consist only of a membership check are merged into the first such block, unless that would
+     *         let null pass before a block which throws NullPointerException for it
+     * </pre>
+     */
+    static <T> List<List<Predicate<? super T>>> optimizeBlocks(List<List<Predicate<? super T>>> blocks) {
+        List<List<Predicate<? super T>>> optimized = new ArrayList<>();
+        int membershipBlock = -1;
+        int lastThrowingBlock = -1;
+        for (List<Predicate<? super T>> block : blocks) {
+            List<Predicate<? super T>> next = optimize(block);
+            if (next == null || optimized.contains(next))
+                continue;
+
+            if (next.isEmpty()) {
+                if (lastThrowingBlock < 0)
+                    return Collections.singletonList(next);
+
+                optimized.add(next);
+                return optimized;
+            }
+
+            if (next.size() == 1 && next.get(0) instanceof Membership) {
+                Membership<?> membership = (Membership<?>) next.get(0);
+                boolean canMerge = lastThrowingBlock < membershipBlock || !membership.values.contains(null);
+                if (membershipBlock >= 0 && canMerge) {
+                    Membership<?> merged = ((Membership<?>) optimized.get(membershipBlock).get(0)).union(membership);
+                    optimized.set(membershipBlock, Collections.singletonList(cast(merged)));
+                    continue;
+                }
+                membershipBlock = optimized.size();
+            }
+
+            if (!isNullSafe(next))
+                lastThrowingBlock = optimized.size();
+            optimized.add(next);
+        }
+        return optimized;
+    }
+
+    // PRIVATE
+
+    private Rules() {
+        throw new AssertionError("Do not instantiate, use static methods!");
+    }
+
+    private static final Predicate<Object> IS_NULL = new Predicate<Object>() {
+        @Override
+        public boolean test(Object o) {
+            return o == null;
+        }
+
+        @Override
+        public String toString() {
+            return "isNull";
+        }
+
+        @Override
+        public Predicate<Object> negate() {
+            return notNull();
+        }
+    };
+
+    private static final Predicate<Object> NOT_NULL = new Predicate<Object>() {
+        @Override
+        public boolean test(Object o) {
+            return o != null;
+        }
+
+        @Override
+        public String toString() {
+            return "notNull";
+        }
+
+        @Override
+        public Predicate<Object> negate() {
+            return isNull();
+        }
+    };
+
+    private static final class Membership<T> implements Predicate<T> {
+        @Override
+        public boolean test(T t) {
+            return lookup.test(t);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Membership)) return false;
+            Membership<?> that = (Membership<?>) o;
+            return Objects.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(values);
+        }
+
+        @Override
+        public String toString() {
+            return "isIn " + values;
+        }
+
+        private Membership(Collection<?> values) {
+            this.values = Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(values)));
+            this.lookup = lookupFor(this.values);
+        }
+
+        private final List<?> values;
+        private final Predicate<Object> lookup;
+
+        /**
+         * <pre>
+         * Chooses the structure for membership tests once, when the membership is created:
+         *      1) a single value is compared directly
+         *      2) enum constants of the same type are kept in an EnumSet
+         *      3) up to MAX_SCANNED_MEMBERSHIP values are kept in the list, which is scanned
+         *      4) anything else is kept in an immutable hash set
+         * Null is never put into the structure, it is checked separately
+         * </pre>
+         */
+        private static Predicate<Object> lookupFor(List<?> values) {
+            if (values.size() == 1) {
+                Object value = values.get(0);
+                return o -> Objects.equals(o, value);
+            }
+
+            boolean allowsNull = values.contains(null);
+            Set<?> set = enumSetOf(values);
+            if (set == null && values.size() <= MAX_SCANNED_MEMBERSHIP)
+                return values::contains;
+
+            if (set == null)
+                set = values.stream().filter(Objects::nonNull).collect(ImmutableSet.toImmutableSet());
+
+            Set<?> lookup = set;
+            return o -> o == null ? allowsNull : lookup.contains(o);
+        }
+
+        /**
+         * @return EnumSet with given values, excluding null, if all of them are constants of the same enum, null otherwise
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Set<?> enumSetOf(List<?> values) {
+            Class<? extends Enum> enumClass = null;
+            for (Object value : values) {
+                if (value == null)
+                    continue;
+
+                if (!(value instanceof Enum))
+                    return null;
+
+                Class<? extends Enum> nextClass = ((Enum<?>) value).getDeclaringClass();
+                if (enumClass != null && enumClass != nextClass)
+                    return null;
+
+                enumClass = nextClass;
+            }
+
+            if (enumClass == null)
+                return null;
+
+            EnumSet enumSet = EnumSet.noneOf(enumClass);
+            for (Object value : values)
+                if (value != null)
+                    enumSet.add(value);
+
+            return enumSet;
+        }
+
+        private Membership<T> intersect(Membership<?> other) {
+            List<Object> intersection = new ArrayList<>(values);
+            intersection.retainAll(other.values);
+            return new Membership<>(intersection);
+        }
+
+        private Membership<T> union(Membership<?> other) {
+            List<Object> union = new ArrayList<>(values);
+            union.addAll(other.values);
+            return new Membership<>(union);
+        }
+    }
+
+    private static final class Range<T extends Comparable<T>> implements Predicate<T> {
+        @Override
+        public boolean test(T t) {
+            if (lower != null) {
+                int comparison = t.compareTo(lower);
+                if (comparison < 0 || comparison == 0 && !lowerInclusive)
+                    return false;
+            }
+            if (upper != null) {
+                int comparison = t.compareTo(upper);
+                if (comparison > 0 || comparison == 0 && !upperInclusive)
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Range)) return false;
+            Range<?> range = (Range<?>) o;
+            return lowerInclusive == range.lowerInclusive &&
+                    upperInclusive == range.upperInclusive &&
+                    Objects.equals(lower, range.lower) &&
+                    Objects.equals(upper, range.upper);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lower, lowerInclusive, upper, upperInclusive);
+        }
+
+        @Override
+        public String toString() {
+            return "range " + (lower == null ? "(" + null : (lowerInclusive ? "[" : "(") + lower) + ", "
+                    + (upper == null ? null + ")" : upper + (upperInclusive ? "]" : ")"));
+        }
+
+        private Range(T lower, boolean lowerInclusive, T upper, boolean upperInclusive) {
+            this.lower = lower;
+            this.lowerInclusive = lowerInclusive;
+            this.upper = upper;
+            this.upperInclusive = upperInclusive;
+        }
+
+        private final T lower;
+        private final boolean lowerInclusive;
+        private final T upper;
+        private final boolean upperInclusive;
+
+        private boolean isBounded() {
+            return lower != null || upper != null;
+        }
+
+        private boolean isEmpty() {
+            if (lower == null || upper == null)
+                return false;
+
+            int comparison = lower.compareTo(upper);
+            return comparison > 0 || comparison == 0 && !(lowerInclusive && upperInclusive);
+        }
+
+        private Range<T> intersect(Range<?> range) {
+            @SuppressWarnings("unchecked")
+            Range<T> other = (Range<T>) range;
+
+            T lower = this.lower;
+            boolean lowerInclusive = this.lowerInclusive;
+            if (lower == null || other.lower != null && other.lower.compareTo(lower) >= 0) {
+                lowerInclusive = lower != null && other.lower.compareTo(lower) == 0
+                        ? lowerInclusive && other.lowerInclusive
+                        : other.lowerInclusive;
+                lower = other.lower;
+            }
+
+            T upper = this.upper;
+            boolean upperInclusive = this.upperInclusive;
+            if (upper == null || other.upper != null && other.upper.compareTo(upper) <= 0) {
+                upperInclusive = upper != null && other.upper.compareTo(upper) == 0
+                        ? upperInclusive && other.upperInclusive
+                        : other.upperInclusive;
+                upper = other.upper;
+            }
+
+            return new Range<>(lower, lowerInclusive, upper, upperInclusive);
+        }
+    }
+
+    /**
+     * Up to this many values, scanning a list is about as fast as a hash lookup
+     */
+    private static final int MAX_SCANNED_MEMBERSHIP = 8;
+
+    /**
+     * @return false if given conditions, evaluated in order, would throw NullPointerException for null values, that is,
+     * a bounded range check is reached before null is rejected; custom conditions are assumed to not throw
+     */
+    private static boolean isNullSafe(List<? extends Predicate<?>> conditions) {
+        return indexOfThrowingRange(conditions) < 0;
+    }
+
+    /**
+     * @return index of the bounded range check which would throw NullPointerException for null values, if it is
+     * reached before null is rejected, -1 otherwise
+     */
+    private static int indexOfThrowingRange(List<? extends Predicate<?>> conditions) {
+        for (int index = 0; index < conditions.size(); index++) {
+            Predicate<?> condition = conditions.get(index);
+            if (condition == NOT_NULL)
+                return -1;
+
+            if (condition instanceof Membership && !((Membership<?>) condition).values.contains(null))
+                return -1;
+
+            if (condition instanceof Range && ((Range<?>) condition).isBounded())
+                return index;
+        }
+        return -1;
+    }
+
+    /**
+     * @return null for a block which will never pass, unless the conditions so far would throw NullPointerException
+     * for null values; then they are kept up to the throwing check, followed by alwaysFalse()
+     */
+    private static <T> List<Predicate<? super T>> neverPasses(List<Predicate<? super T>> conditions) {
+        int throwingRange = indexOfThrowingRange(conditions);
+        if (throwingRange < 0)
+            return null;
+
+        List<Predicate<? super T>> throwsForNull = new ArrayList<>(conditions.subList(0, throwingRange + 1));
+        throwsForNull.add(alwaysFalse());
+        return throwsForNull;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Predicate<T> cast(Predicate<?> predicate) {
+        return (Predicate<T>) predicate;
+    }
+
+}
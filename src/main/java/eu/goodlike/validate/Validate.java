@@ -18,6 +18,10 @@ public final class Validate {
         return new BigDecimalValidator();
     }
 
+    public static FixedDecimalValidator fixedDecimal() {
+        return new FixedDecimalValidator();
+    }
+
     public static BooleanValidator aBoolean() {
         return new BooleanValidator();
     }
@@ -58,6 +62,10 @@ public final class Validate {
         return new ObjectValidator<>();
     }
 
+    public static <T> BeanValidator<T> bean(Class<T> beanClass) {
+        return new BeanValidator<>(beanClass);
+    }
+
     public static <T> OptionalValidator<T> optional(Class<T> clazz) {
         return new OptionalValidator<>();
     }
@@ -3,14 +3,12 @@ package eu.goodlike.validate;
 import eu.goodlike.misc.SpecialUtils;
 import eu.goodlike.neat.Null;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 import java.util.function.*;
 import java.util.stream.Stream;
 
 import static eu.goodlike.functional.Predicates.*;
+import static eu.goodlike.misc.Constants.DEFAULT_PARALLEL_THRESHOLD;
 
 /**
  * <pre>
@@ -40,7 +38,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * Adds a predicate which tests if the object being validated is null
      */
     public final V isNull() {
-        return registerCondition(o -> o == null);
+        return registerCondition(Rules.isNull());
     }
 
     /**
@@ -51,7 +49,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * </pre>
      */
     public final V isEqual(T t) {
-        return registerCondition(o -> Objects.equals(o, t));
+        return registerCondition(Rules.isIn(Collections.singletonList(t)));
     }
 
     /**
@@ -63,7 +61,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if customEqualityCheck is null
      */
     public final V isEqual(T t, BiPredicate<? super T, ? super T> customEqualityCheck) {
-        Null.check(customEqualityCheck).ifAny("Custom equality check cannot be null");
+        Null.require("Custom equality check cannot be null", customEqualityCheck);
         return registerCondition(o -> customEqualityCheck.test(o, t));
     }
 
@@ -77,7 +75,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if converter is null
      */
     public final <U> V isEqualAs(T t, Function<? super T, ? extends U> converter) {
-        Null.check(converter).ifAny("Converter cannot be null");
+        Null.require("Converter cannot be null", converter);
         return registerCondition(o -> SpecialUtils.equals(o, t, converter));
     }
 
@@ -94,7 +92,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if collection is null
      */
     public final V isIn(Collection<? super T> collection) {
-        Null.check(collection).ifAny("Collection cannot be null");
+        Null.require("Collection cannot be null", collection);
         return registerCondition(collection::contains);
     }
 
@@ -104,8 +102,8 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      */
     @SafeVarargs
     public final V isIn(T... array) {
-        Null.checkAlone(array).ifAny("Array cannot be null");
-        return isIn(Arrays.asList(array));
+        Null.require("Array cannot be null", array);
+        return registerCondition(Rules.isIn(Arrays.asList(array)));
     }
 
     /**
@@ -113,7 +111,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if map is null
      */
     public final V isKeyOf(Map<? super T, ?> map) {
-        Null.check(map).ifAny("Map cannot be null");
+        Null.require("Map cannot be null", map);
         return isIn(map.keySet());
     }
 
@@ -122,7 +120,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if map is null
      */
     public final V isValueIn(Map<?, ? super T> map) {
-        Null.check(map).ifAny("Map cannot be null");
+        Null.require("Map cannot be null", map);
         return isIn(map.values());
     }
 
@@ -139,7 +137,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final <U> V passesAs(Function<? super T, ? extends U> mapper, Predicate<? super U> customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.apply(o)));
     }
 
@@ -148,7 +146,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final V passesAsInt(ToIntFunction<? super T> mapper, IntPredicate customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.applyAsInt(o)));
     }
 
@@ -157,7 +155,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final V passesAsLong(ToLongFunction<? super T> mapper, LongPredicate customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.applyAsLong(o)));
     }
 
@@ -166,7 +164,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final V passesAsDouble(ToDoubleFunction<? super T> mapper, DoublePredicate customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.applyAsDouble(o)));
     }
 
@@ -175,7 +173,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if clazz is null
      */
     public final V isInstanceOf(Class<?> clazz) {
-        Null.check(clazz).ifAny("Class cannot be null");
+        Null.require("Class cannot be null", clazz);
         return registerCondition(clazz::isInstance);
     }
 
@@ -185,7 +183,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if clazz is null
      */
     public final V isExactlyInstanceOf(Class<?> clazz) {
-        Null.check(clazz).ifAny("Class cannot be null");
+        Null.require("Class cannot be null", clazz);
         return passesAs(Object::getClass, clazz::equals);
     }
 
@@ -194,7 +192,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if classes is or contains null
      */
     public final V isInstanceOfAny(Class<?>... classes) {
-        Null.checkArray(classes).ifAny("Classes cannot be null");
+        Null.requireArray("Classes cannot be null", classes);
         return registerCondition(o -> Stream.of(classes).anyMatch(c -> c.isInstance(o)));
     }
 
@@ -204,7 +202,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if classes is or contains null
      */
     public final V isExactlyInstanceOfAny(Class<?>... classes) {
-        Null.checkArray(classes).ifAny("Classes cannot be null");
+        Null.requireArray("Classes cannot be null", classes);
         return passesAs(Object::getClass, clazz -> Stream.of(classes).anyMatch(clazz::equals));
     }
 
@@ -228,7 +226,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * </pre>
      */
     public final V or() {
-        return newValidator(fullCondition(), alwaysTrue(), false);
+        return newValidator(fullCondition, alwaysTrue(), false);
     }
 
     /**
@@ -244,9 +242,60 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
         return newValidator(mainCondition, accumulatedCondition, !negateNext);
     }
 
+    /**
+     * <pre>
+     * Returns a Validator which is equivalent to this one, but has all of its predicates flattened into disjunctive
+     * normal form: an array of or() blocks, each of which is an array of predicates
+     *
+     * Such a Validator evaluates its predicates in a single loop rather than a chain of nested predicates, which
+     * makes it preferable for Validators that are cached and used often
+     *
+     * Predicates can still be added to the compiled Validator; they will be flattened by the next call to compile()
+     * </pre>
+     */
+    public final V compile() {
+        return newValidator(Conditions.compile(mainCondition), Conditions.compile(accumulatedCondition), negateNext);
+    }
+
+    /**
+     * <pre>
+     * Returns a compiled Validator (refer to Validator::compile), which is further optimized using the built-in
+     * predicates of this Validator, such as null checks, isIn() or comparisons:
+     *      1) always true predicates are dropped, blocks with always false predicates are dropped
+     *      2) repeated null checks are dropped, not null checks are dropped when isIn() already excludes null
+     *      3) multiple isIn() or isEqual() predicates are intersected into one; or() blocks which only contain such a
+     *         predicate are merged into one
+     *      4) multiple comparisons (i.e. isAtLeast(), isAtMost()) are intersected into a single range check
+     *
+     * The resulting Validator accepts exactly the same objects, but makes fewer predicate calls to do so. Custom
+     * predicates are assumed to not have side effects, therefore they may be skipped or evaluated in a different
+     * order relative to the built-in ones
+     * </pre>
+     */
+    public final V optimize() {
+        return newValidator(Conditions.optimize(mainCondition), Conditions.optimize(accumulatedCondition), negateNext);
+    }
+
+    /**
+     * <pre>
+     * Returns a compiled Validator (refer to Validator::compile), which records invocations, rejections and sampled
+     * timings of every one of its predicates; the statistics are registered under given name, refer to
+     * Instrumentation
+     *
+     * Validators which are not instrumented are not affected in any way
+     * </pre>
+     * @throws NullPointerException if name is null
+     * @throws IllegalArgumentException if an instrumentation with given name is already registered
+     */
+    public final V instrumented(String name) {
+        Instrumentation instrumentation = Instrumentation.register(name);
+        return newValidator(Conditions.instrument(mainCondition, instrumentation),
+                Conditions.instrument(accumulatedCondition, instrumentation), negateNext);
+    }
+
     @Override
     public final boolean test(T object) {
-        return fullCondition().test(object);
+        return fullCondition.test(object);
     }
 
     /**
@@ -263,6 +312,111 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
         return !test(object);
     }
 
+    /**
+     * <pre>
+     * Validates every object in the list; the list is validated in parallel if it has more than
+     * DEFAULT_PARALLEL_THRESHOLD objects
+     *
+     * Lists which are not RandomAccess are copied into an array first
+     * </pre>
+     * @return BitSet with the indexes of objects which did not pass this Validator
+     * @throws NullPointerException if objects is null
+     */
+    public final BitSet testAll(List<? extends T> objects) {
+        return testAll(objects, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * <pre>
+     * Validates every object in the list; the list is validated in parallel if it has more than parallelThreshold
+     * objects
+     *
+     * Lists which are not RandomAccess are copied into an array first
+     * </pre>
+     * @return BitSet with the indexes of objects which did not pass this Validator
+     * @throws NullPointerException if objects is null
+     * @throws IllegalArgumentException if parallelThreshold is not positive
+     */
+    public final BitSet testAll(List<? extends T> objects, int parallelThreshold) {
+        Null.require("List cannot be null", objects);
+        if (!(objects instanceof RandomAccess))
+            return testAllObjects(objects.toArray(), parallelThreshold);
+
+        return BulkValidation.failures(objects.size(), parallelThreshold, i -> test(objects.get(i)));
+    }
+
+    /**
+     * Validates every object in the array; the array is validated in parallel if it has more than
+     * DEFAULT_PARALLEL_THRESHOLD objects
+     * @return BitSet with the indexes of objects which did not pass this Validator
+     * @throws NullPointerException if objects is null
+     */
+    public final BitSet testAll(T[] objects) {
+        return testAll(objects, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Validates every object in the array; the array is validated in parallel if it has more than
+     * parallelThreshold objects
+     * @return BitSet with the indexes of objects which did not pass this Validator
+     * @throws NullPointerException if objects is null
+     * @throws IllegalArgumentException if parallelThreshold is not positive
+     */
+    public final BitSet testAll(T[] objects, int parallelThreshold) {
+        Null.require("Array cannot be null", objects);
+        return testAllObjects(objects, parallelThreshold);
+    }
+
+    /**
+     * <pre>
+     * Filters the stream, leaving only the objects which pass this Validator
+     *
+     * If the stream is parallel, so is the validation
+     * </pre>
+     * @throws NullPointerException if objects is null
+     */
+    public final Stream<T> filterValid(Stream<T> objects) {
+        Null.require("Stream cannot be null", objects);
+        return objects.filter(this);
+    }
+
+    /**
+     * Partitions the objects into valid (true) and invalid (false) ones, keeping their order; the objects are
+     * validated in parallel if there are more than DEFAULT_PARALLEL_THRESHOLD of them
+     * @throws NullPointerException if objects is null
+     */
+    public final Map<Boolean, List<T>> partition(Collection<? extends T> objects) {
+        return partition(objects, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Partitions the objects into valid (true) and invalid (false) ones, keeping their order; the objects are
+     * validated in parallel if there are more than parallelThreshold of them
+     * @throws NullPointerException if objects is null
+     * @throws IllegalArgumentException if parallelThreshold is not positive
+     */
+    public final Map<Boolean, List<T>> partition(Collection<? extends T> objects, int parallelThreshold) {
+        Null.require("Collection cannot be null", objects);
+        Object[] array = objects.toArray();
+        BitSet failures = testAllObjects(array, parallelThreshold);
+
+        List<T> valid = new ArrayList<>(array.length - failures.cardinality());
+        List<T> invalid = new ArrayList<>(failures.cardinality());
+        for (int i = 0; i < array.length; i++) {
+            @SuppressWarnings("unchecked")
+            T object = (T) array[i];
+            if (failures.get(i))
+                invalid.add(object);
+            else
+                valid.add(object);
+        }
+
+        Map<Boolean, List<T>> partition = new HashMap<>(4);
+        partition.put(true, valid);
+        partition.put(false, invalid);
+        return partition;
+    }
+
     /**
      * @return ValidatorActor for this Validator and given object
      */
@@ -275,7 +429,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if customAction is null
      */
     public final V ifInvalidRun(T object, Runnable customAction) {
-        Null.check(customAction).ifAny("Runnable cannot be null");
+        Null.require("Runnable cannot be null", customAction);
 
         if (isInvalid(object))
             customAction.run();
@@ -288,7 +442,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if valueConsumer is null
      */
     public final <E extends T> V ifInvalidAccept(E object, Consumer<? super E> valueConsumer) {
-        Null.check(valueConsumer).ifAny("Consumer cannot be null");
+        Null.require("Consumer cannot be null", valueConsumer);
 
         if (isInvalid(object))
             valueConsumer.accept(object);
@@ -301,7 +455,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if exceptionSupplier is null
      */
     public final <X extends Throwable> V ifInvalidThrow(T object, Supplier<? extends X> exceptionSupplier) throws X {
-        Null.check(exceptionSupplier).ifAny("Exception supplier cannot be null");
+        Null.require("Exception supplier cannot be null", exceptionSupplier);
 
         if (isInvalid(object))
             throw exceptionSupplier.get();
@@ -315,7 +469,7 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if exceptionFunction is null
      */
     public final <E extends T, X extends Throwable> V ifInvalidThrowWith(E object, Function<? super E, ? extends X> exceptionFunction) throws X {
-        Null.check(exceptionFunction).ifAny("Exception supplier cannot be null");
+        Null.require("Exception supplier cannot be null", exceptionFunction);
 
         if (isInvalid(object))
             throw exceptionFunction.apply(object);
@@ -333,6 +487,16 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
         this.mainCondition = mainCondition;
         this.accumulatedCondition = accumulatedCondition;
         this.negateNext = negateNext;
+
+        this.fullCondition = Conditions.or(mainCondition, accumulatedCondition);
+    }
+
+    /**
+     * Creates a Validator with the same predicates as the given one; intended for Validators which carry some
+     * settings in addition to their predicates, to create a copy with different settings
+     */
+    protected Validator(Validator<T, ?> validator) {
+        this(validator.mainCondition, validator.accumulatedCondition, validator.negateNext);
     }
 
     // PROTECTED
@@ -345,12 +509,12 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      * @throws NullPointerException if customPredicate is null
      */
     protected final V registerCondition(Predicate<? super T> condition) {
-        Null.check(condition).ifAny("Predicate cannot be null");
+        Null.require("Predicate cannot be null", condition);
 
         if (negateNext)
             condition = condition.negate();
 
-        return newValidator(mainCondition, accumulatedCondition.and(condition), false);
+        return newValidator(mainCondition, Conditions.and(accumulatedCondition, condition), false);
     }
 
     /**
@@ -362,7 +526,15 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
      */
     @SafeVarargs
     protected final V registerConditions(Predicate<? super T>... conditions) {
-        return registerCondition(conjunction(conditions));
+        if (negateNext)
+            return registerCondition(conjunction(conditions));
+
+        Null.requireArray("Predicates cannot be null", conditions);
+        Predicate<T> condition = accumulatedCondition;
+        for (Predicate<? super T> nextCondition : conditions)
+            condition = Conditions.and(condition, nextCondition);
+
+        return newValidator(mainCondition, condition, false);
     }
 
     // PRIVATE
@@ -371,8 +543,11 @@ public abstract class Validator<T, V extends Validator<T, V>> implements Predica
     private final Predicate<T> accumulatedCondition;
     private final boolean negateNext;
 
-    private Predicate<T> fullCondition() {
-        return mainCondition.or(accumulatedCondition);
+    private final Predicate<T> fullCondition;
+
+    @SuppressWarnings("unchecked")
+    private BitSet testAllObjects(Object[] objects, int parallelThreshold) {
+        return BulkValidation.failures(objects.length, parallelThreshold, i -> test((T) objects[i]));
     }
 
 }
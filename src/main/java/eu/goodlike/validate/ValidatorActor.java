@@ -46,7 +46,7 @@ public final class ValidatorActor<T, E extends T, V extends Validator<T, V>> {
     // CONSTRUCTORS
 
     public static <T, E extends T, V extends Validator<T, V>> ValidatorActor<T, E, V> of(E value, V validator) {
-        Null.check(validator).ifAny("Validator cannot be null");
+        Null.require("Validator cannot be null", validator);
         return new ValidatorActor<>(value, validator);
     }
 
@@ -0,0 +1,259 @@
+package eu.goodlike.validate.impl;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * <pre>
+ * Readable property of some bean class, which is bound to a function once, so reading it does not use reflection
+ *
+ * The property is read using the first of these which exists:
+ *      1) public getter getName()
+ *      2) public getter isName(), if it returns a boolean
+ *      3) public accessor name(), i.e. as in records or fluent beans
+ *      4) public field name
+ *
+ * Getters are bound using LambdaMetafactory, which produces the same kind of class as a method reference, so the JIT
+ * can inline the getter into the validation; if that is not possible (i.e. the bean class is not public, is loaded by a
+ * class loader this library cannot see, or the property is a field), the property is read through a cached
+ * MethodHandle instead
+ * </pre>
+ */
+final class BeanProperty {
+
+    /**
+     * @return property of given bean class with given name
+     * @throws IllegalArgumentException if the bean class has no such property
+     */
+    static BeanProperty of(Class<?> beanClass, String name) {
+        if (name.isEmpty())
+            throw new IllegalArgumentException("Property name cannot be empty");
+
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Method getter = findGetter(beanClass, "get" + capitalized);
+        if (getter == null) {
+            getter = findGetter(beanClass, "is" + capitalized);
+            if (getter != null && getter.getReturnType() != boolean.class && getter.getReturnType() != Boolean.class)
+                getter = null;
+        }
+        if (getter == null)
+            getter = findGetter(beanClass, name);
+
+        Field field = getter == null ? findField(beanClass, name) : null;
+        if (getter == null && field == null)
+            throw new IllegalArgumentException("No public getter or field found for property '" + name + "' of " + beanClass);
+
+        return new BeanProperty(beanClass, name, getter, field);
+    }
+
+    /**
+     * @return function which reads this property
+     */
+    @SuppressWarnings("unchecked")
+    Function<Object, Object> toFunction() {
+        Object function = metafactory(Function.class, "apply", Object.class, getType().isPrimitive()
+                ? MethodType.methodType(getType()).wrap().returnType()
+                : getType());
+        if (function != null)
+            return (Function<Object, Object>) function;
+
+        MethodHandle handle = handle(Object.class);
+        return bean -> {
+            try {
+                return (Object) handle.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * @return function which reads this property as an int, without boxing it
+     * @throws IllegalArgumentException if this property cannot be converted to an int without loss
+     */
+    @SuppressWarnings("unchecked")
+    ToIntFunction<Object> toIntFunction() {
+        Object function = metafactory(ToIntFunction.class, "applyAsInt", int.class, int.class);
+        if (function != null)
+            return (ToIntFunction<Object>) function;
+
+        MethodHandle handle = handle(int.class);
+        return bean -> {
+            try {
+                return (int) handle.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * @return function which reads this property as a long, without boxing it
+     * @throws IllegalArgumentException if this property cannot be converted to a long without loss
+     */
+    @SuppressWarnings("unchecked")
+    ToLongFunction<Object> toLongFunction() {
+        Object function = metafactory(ToLongFunction.class, "applyAsLong", long.class, long.class);
+        if (function != null)
+            return (ToLongFunction<Object>) function;
+
+        MethodHandle handle = handle(long.class);
+        return bean -> {
+            try {
+                return (long) handle.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * @return function which reads this property as a double, without boxing it
+     * @throws IllegalArgumentException if this property cannot be converted to a double
+     */
+    @SuppressWarnings("unchecked")
+    ToDoubleFunction<Object> toDoubleFunction() {
+        Object function = metafactory(ToDoubleFunction.class, "applyAsDouble", double.class, double.class);
+        if (function != null)
+            return (ToDoubleFunction<Object>) function;
+
+        MethodHandle handle = handle(double.class);
+        return bean -> {
+            try {
+                return (double) handle.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    // CONSTRUCTORS
+
+    private BeanProperty(Class<?> beanClass, String name, Method getter, Field field) {
+        this.beanClass = beanClass;
+        this.name = name;
+        this.getter = getter;
+        this.field = field;
+    }
+
+    // PRIVATE
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Class<?> beanClass;
+    private final String name;
+    private final Method getter;
+    private final Field field;
+
+    private Class<?> getType() {
+        return getter == null ? field.getType() : getter.getReturnType();
+    }
+
+    /**
+     * @return instance of given functional interface which calls the getter, or null if the getter cannot be bound
+     * this way
+     */
+    private Object metafactory(Class<?> functionalInterface, String methodName, Class<?> erasedReturnType,
+                               Class<?> returnType) {
+        if (getter == null || !isVisible(beanClass) || !isVisible(getter.getDeclaringClass())
+                || !isVisible(returnType) || !isAccessible(beanClass))
+            return null;
+
+        try {
+            MethodHandle handle = LOOKUP.unreflect(getter);
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, methodName,
+                    MethodType.methodType(functionalInterface),
+                    MethodType.methodType(erasedReturnType, Object.class),
+                    handle,
+                    MethodType.methodType(returnType, beanClass));
+            return callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return handle which reads this property, adapted to take an Object and return given type
+     * @throws IllegalArgumentException if this property cannot be converted to given type
+     */
+    private MethodHandle handle(Class<?> returnType) {
+        MethodHandle handle;
+        try {
+            if (getter != null) {
+                getter.setAccessible(true);
+                handle = LOOKUP.unreflect(getter);
+            } else {
+                field.setAccessible(true);
+                handle = LOOKUP.unreflectGetter(field);
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot access property '" + name + "' of " + beanClass, e);
+        }
+
+        try {
+            return handle.asType(MethodType.methodType(returnType, Object.class));
+        } catch (WrongMethodTypeException e) {
+            throw new IllegalArgumentException("Property '" + name + "' of " + beanClass + " has type " +
+                    getType().getName() + ", which cannot be read as " + returnType.getName(), e);
+        }
+    }
+
+    private static Method findGetter(Class<?> beanClass, String methodName) {
+        try {
+            Method method = beanClass.getMethod(methodName);
+            return Modifier.isStatic(method.getModifiers()) || method.getReturnType() == void.class ? null : method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Field findField(Class<?> beanClass, String fieldName) {
+        try {
+            Field field = beanClass.getField(fieldName);
+            return Modifier.isStatic(field.getModifiers()) ? null : field;
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The class generated by LambdaMetafactory resolves the classes it uses through the class loader of this library,
+     * so classes it cannot see, or sees as different classes with the same name (i.e. loaded by a child class loader
+     * of a container or a plugin system), would fail when the function is first called, rather than when it is bound
+     */
+    private static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive())
+            return true;
+
+        try {
+            return Class.forName(type.getName(), false, BeanProperty.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static boolean isAccessible(Class<?> beanClass) {
+        for (Class<?> c = beanClass; c != null; c = c.getEnclosingClass())
+            if (!Modifier.isPublic(c.getModifiers()))
+                return false;
+
+        return true;
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException)
+            throw (RuntimeException) e;
+        if (e instanceof Error)
+            throw (Error) e;
+
+        throw new UndeclaredThrowableException(e);
+    }
+
+}
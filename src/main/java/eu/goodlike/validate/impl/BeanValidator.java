@@ -0,0 +1,164 @@
+package eu.goodlike.validate.impl;
+
+import eu.goodlike.neat.Null;
+import eu.goodlike.validate.Validator;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * <pre>
+ * Validator implementation for beans, which validates the properties of the bean one by one
+ *
+ * Every property is resolved when it is added (refer to field()), so validation only calls the getter and the
+ * validator of the property, without any reflection
+ *
+ * As a Validator, this is fail-fast: properties are validated in the order they were added, and validation stops at
+ * the first property that fails; to find out which properties fail, use failures() or firstFailure()
+ * </pre>
+ */
+public final class BeanValidator<T> extends Validator<T, BeanValidator<T>> {
+
+    /**
+     * <pre>
+     * Adds a predicate which tests if given property of the bean passes given validator
+     *
+     * The property is read using getProperty(), isProperty() (for booleans), property() or a public field, whichever
+     * is found first; null beans always fail this predicate
+     *
+     * The value of the property is cast to the type of the validator; if it is of some other type, validation will
+     * throw ClassCastException
+     * </pre>
+     * @throws NullPointerException if property or validator is null
+     * @throws IllegalArgumentException if the bean has no such property
+     */
+    @SuppressWarnings("unchecked")
+    public <F> BeanValidator<T> field(String property, Predicate<? super F> validator) {
+        Null.require("Property and validator cannot be null", property, validator);
+        Function<Object, Object> getter = BeanProperty.of(beanClass, property).toFunction();
+        return withField(property, bean -> bean != null && validator.test((F) getter.apply(bean)));
+    }
+
+    /**
+     * Same as field(), but the property is read as an int, without boxing it
+     * @throws NullPointerException if property or validator is null
+     * @throws IllegalArgumentException if the bean has no such property, or it cannot be read as an int
+     */
+    public BeanValidator<T> intField(String property, IntPredicate validator) {
+        Null.require("Property and validator cannot be null", property, validator);
+        ToIntFunction<Object> getter = BeanProperty.of(beanClass, property).toIntFunction();
+        return withField(property, bean -> bean != null && validator.test(getter.applyAsInt(bean)));
+    }
+
+    /**
+     * Same as field(), but the property is read as a long, without boxing it
+     * @throws NullPointerException if property or validator is null
+     * @throws IllegalArgumentException if the bean has no such property, or it cannot be read as a long
+     */
+    public BeanValidator<T> longField(String property, LongPredicate validator) {
+        Null.require("Property and validator cannot be null", property, validator);
+        ToLongFunction<Object> getter = BeanProperty.of(beanClass, property).toLongFunction();
+        return withField(property, bean -> bean != null && validator.test(getter.applyAsLong(bean)));
+    }
+
+    /**
+     * Same as field(), but the property is read as a double, without boxing it
+     * @throws NullPointerException if property or validator is null
+     * @throws IllegalArgumentException if the bean has no such property, or it cannot be read as a double
+     */
+    public BeanValidator<T> doubleField(String property, DoublePredicate validator) {
+        Null.require("Property and validator cannot be null", property, validator);
+        ToDoubleFunction<Object> getter = BeanProperty.of(beanClass, property).toDoubleFunction();
+        return withField(property, bean -> bean != null && validator.test(getter.applyAsDouble(bean)));
+    }
+
+    /**
+     * <pre>
+     * Validates every property of the bean, rather than stopping at the first one that fails
+     *
+     * Only the predicates added by field() and its variants are considered, as they were given, i.e. not() has no
+     * effect on them; other predicates of this Validator are ignored
+     * </pre>
+     * @return names of the properties which failed validation, in the order they were added
+     */
+    public List<String> failures(T bean) {
+        List<String> failures = null;
+        for (BeanField<T> field : fields)
+            if (!field.check.test(bean)) {
+                if (failures == null)
+                    failures = new ArrayList<>();
+                failures.add(field.property);
+            }
+
+        return failures == null ? Collections.emptyList() : failures;
+    }
+
+    /**
+     * Same as failures(), but stops at the first property which fails validation
+     * @return name of the first property which failed validation, Optional::empty if all of them passed
+     */
+    public Optional<String> firstFailure(T bean) {
+        for (BeanField<T> field : fields)
+            if (!field.check.test(bean))
+                return Optional.of(field.property);
+
+        return Optional.empty();
+    }
+
+    // CONSTRUCTORS
+
+    @SuppressWarnings("unchecked")
+    public BeanValidator(Class<T> beanClass) {
+        super();
+        Null.require("Bean class cannot be null", beanClass);
+        this.beanClass = beanClass;
+        this.fields = new BeanField[0];
+    }
+
+    private BeanValidator(Predicate<T> mainCondition, Predicate<T> accumulatedCondition, boolean negateNext,
+                          Class<T> beanClass, BeanField<T>[] fields) {
+        super(mainCondition, accumulatedCondition, negateNext);
+        this.beanClass = beanClass;
+        this.fields = fields;
+    }
+
+    private BeanValidator(BeanValidator<T> validator, BeanField<T>[] fields) {
+        super(validator);
+        this.beanClass = validator.beanClass;
+        this.fields = fields;
+    }
+
+    // PROTECTED
+
+    @Override
+    protected BeanValidator<T> thisValidator() {
+        return this;
+    }
+
+    @Override
+    protected BeanValidator<T> newValidator(Predicate<T> mainCondition, Predicate<T> accumulatedCondition, boolean negateNext) {
+        return new BeanValidator<>(mainCondition, accumulatedCondition, negateNext, beanClass, fields);
+    }
+
+    // PRIVATE
+
+    private final Class<T> beanClass;
+    private final BeanField<T>[] fields;
+
+    private BeanValidator<T> withField(String property, Predicate<T> check) {
+        BeanField<T>[] fields = Arrays.copyOf(this.fields, this.fields.length + 1);
+        fields[this.fields.length] = new BeanField<>(property, check);
+        return new BeanValidator<>(registerCondition(check), fields);
+    }
+
+    private static final class BeanField<T> {
+        private BeanField(String property, Predicate<T> check) {
+            this.property = property;
+            this.check = check;
+        }
+
+        private final String property;
+        private final Predicate<T> check;
+    }
+
+}
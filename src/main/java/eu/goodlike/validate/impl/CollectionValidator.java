@@ -1,21 +1,66 @@
 package eu.goodlike.validate.impl;
 
 import com.google.common.collect.Sets;
+import eu.goodlike.misc.IntHashSet;
+import eu.goodlike.misc.LongHashSet;
 import eu.goodlike.neat.Null;
 import eu.goodlike.validate.Validator;
 
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.*;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static eu.goodlike.misc.Constants.DEFAULT_PARALLEL_THRESHOLD;
+
 /**
  * Validator implementation for any Collection
  */
 public final class CollectionValidator<T> extends Validator<Collection<T>, CollectionValidator<T>> {
 
+    /**
+     * <pre>
+     * Returns a Validator, which evaluates the element-wise predicates added after this call in parallel, for
+     * collections which have more than given amount of elements; the predicates added before this call are not
+     * affected
+     *
+     * The element-wise predicates are allMatch(), anyMatch(), hasAmountMatching() (and its shorthands), as well as
+     * the forEachFailing/forFirstFailing ones (and their actors). Parallel evaluation uses parallel streams, so the
+     * collection is split using its spliterator, allMatch() and anyMatch() stop all the workers as soon as the result
+     * is known, and the amounts are summed up from all the workers
+     *
+     * Predicates, actions and consumers will be called from multiple threads, so they must be thread-safe; the
+     * forFirstFailing predicates throw for any failing element, not necessarily the first one
+     * </pre>
+     * @throws IllegalArgumentException if threshold is not positive
+     */
+    public CollectionValidator<T> parallel(int threshold) {
+        if (threshold <= 0)
+            throw new IllegalArgumentException("Parallel threshold must be positive: " + threshold);
+
+        return new CollectionValidator<>(this, threshold);
+    }
+
+    /**
+     * Returns a Validator, which evaluates the element-wise predicates added after this call in parallel, for
+     * collections which have more than DEFAULT_PARALLEL_THRESHOLD elements; refer to parallel(int)
+     */
+    public CollectionValidator<T> parallel() {
+        return parallel(DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns a Validator, which evaluates the element-wise predicates added after this call sequentially; this is
+     * the default, refer to parallel(int)
+     */
+    public CollectionValidator<T> sequential() {
+        return new CollectionValidator<>(this, SEQUENTIAL);
+    }
+
     /**
      * Adds a predicate which tests if the collection being validated is empty
      */
@@ -80,7 +125,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if optional is null
      */
     public CollectionValidator<T> contains(Optional<? extends T> optional) {
-        Null.check(optional).ifAny("Optional cannot be null");
+        Null.require("Optional cannot be null", optional);
         return optional.isPresent()
                 ? contains(optional.get())
                 : this;
@@ -92,7 +137,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if customEqualityCheck is null
      */
     public CollectionValidator<T> contains(T t, BiPredicate<? super T, ? super T> customEqualityCheck) {
-        Null.check(customEqualityCheck).ifAny("Custom equality check cannot be null");
+        Null.require("Custom equality check cannot be null", customEqualityCheck);
         return anyMatch(e -> customEqualityCheck.test(t, e));
     }
 
@@ -102,7 +147,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if optional or customEqualityCheck is null
      */
     public CollectionValidator<T> contains(Optional<? extends T> optional, BiPredicate<? super T, ? super T> customEqualityCheck) {
-        Null.check(optional).ifAny("Optional cannot be null");
+        Null.require("Optional cannot be null", optional);
         return optional.isPresent()
                 ? contains(optional.get(), customEqualityCheck)
                 : this;
@@ -115,7 +160,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      */
     @SafeVarargs
     public final CollectionValidator<T> containsAll(T... array) {
-        Null.checkAlone(array).ifAny("Array cannot be null");
+        Null.require("Array cannot be null", array);
         return containsAll(Sets.newHashSet(array));
     }
 
@@ -125,7 +170,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if collection is null
      */
     public CollectionValidator<T> containsAll(Collection<? extends T> collection) {
-        Null.check(collection).ifAny("Collection cannot be null");
+        Null.require("Collection cannot be null", collection);
         return registerCondition(c -> c.containsAll(collection));
     }
 
@@ -135,7 +180,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if iterable is null
      */
     public CollectionValidator<T> containsAll(Iterable<? extends T> iterable) {
-        Null.check(iterable).ifAny("Iterable cannot be null");
+        Null.require("Iterable cannot be null", iterable);
         return containsAll(Sets.newHashSet(iterable));
     }
 
@@ -146,7 +191,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      */
     @SafeVarargs
     public final CollectionValidator<T> containsAll(BiPredicate<? super T, ? super T> customEqualityCheck, T... array) {
-        Null.check(array, customEqualityCheck).ifAny("Array and custom equality check cannot be null");
+        Null.require("Array and custom equality check cannot be null", array, customEqualityCheck);
         return registerCondition(c -> Stream.of(array).allMatch(
                 givenElement -> c.stream().anyMatch(
                         collectionElement -> customEqualityCheck.test(collectionElement, givenElement))));
@@ -158,7 +203,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if array or customEqualityCheck is null
      */
     public CollectionValidator<T> containsAll(Collection<? extends T> collection, BiPredicate<? super T, ? super T> customEqualityCheck) {
-        Null.check(collection, customEqualityCheck).ifAny("Collection and custom equality check cannot be null");
+        Null.require("Collection and custom equality check cannot be null", collection, customEqualityCheck);
         return registerCondition(c -> collection.stream().allMatch(
                 givenElement -> c.stream().anyMatch(
                         collectionElement -> customEqualityCheck.test(collectionElement, givenElement))));
@@ -170,7 +215,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if array or customEqualityCheck is null
      */
     public CollectionValidator<T> containsAll(Iterable<? extends T> iterable, BiPredicate<? super T, ? super T> customEqualityCheck) {
-        Null.check(iterable, customEqualityCheck).ifAny("Iterable and custom equality check cannot be null");
+        Null.require("Iterable and custom equality check cannot be null", iterable, customEqualityCheck);
         return registerCondition(c -> StreamSupport.stream(iterable.spliterator(), false).allMatch(
                 givenElement -> c.stream().anyMatch(
                         collectionElement -> customEqualityCheck.test(collectionElement, givenElement))));
@@ -183,7 +228,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      */
     @SafeVarargs
     public final CollectionValidator<T> containsAny(T... array) {
-        Null.checkAlone(array).ifAny("Array cannot be null");
+        Null.require("Array cannot be null", array);
         return registerCondition(c -> Stream.of(array).anyMatch(c::contains));
     }
 
@@ -193,7 +238,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if array is null
      */
     public CollectionValidator<T> containsAny(Collection<? extends T> collection) {
-        Null.checkAlone(collection).ifAny("Collection cannot be null");
+        Null.require("Collection cannot be null", collection);
         return registerCondition(c -> collection.stream().anyMatch(c::contains));
     }
 
@@ -203,7 +248,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if array is null
      */
     public CollectionValidator<T> containsAny(Iterable<? extends T> iterable) {
-        Null.checkAlone(iterable).ifAny("Iterable cannot be null");
+        Null.require("Iterable cannot be null", iterable);
         return registerCondition(c -> StreamSupport.stream(iterable.spliterator(), false).anyMatch(c::contains));
     }
 
@@ -214,7 +259,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      */
     @SafeVarargs
     public final CollectionValidator<T> containsAny(BiPredicate<? super T, ? super T> customEqualityCheck, T... array) {
-        Null.check(array, customEqualityCheck).ifAny("Array and custom equality check cannot be null");
+        Null.require("Array and custom equality check cannot be null", array, customEqualityCheck);
         return registerCondition(c -> Stream.of(array).anyMatch(
                 givenElement -> c.stream().anyMatch(
                         collectionElement -> customEqualityCheck.test(collectionElement, givenElement))));
@@ -226,7 +271,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if collection or customEqualityCheck is null
      */
     public CollectionValidator<T> containsAny(Collection<? extends T> collection, BiPredicate<? super T, ? super T> customEqualityCheck) {
-        Null.check(collection, customEqualityCheck).ifAny("Collection and custom equality check cannot be null");
+        Null.require("Collection and custom equality check cannot be null", collection, customEqualityCheck);
         return registerCondition(c -> collection.stream().anyMatch(
                 givenElement -> c.stream().anyMatch(
                         collectionElement -> customEqualityCheck.test(collectionElement, givenElement))));
@@ -238,7 +283,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if iterable or customEqualityCheck is null
      */
     public CollectionValidator<T> containsAny(Iterable<? extends T> iterable, BiPredicate<? super T, ? super T> customEqualityCheck) {
-        Null.check(iterable, customEqualityCheck).ifAny("Iterable and custom equality check cannot be null");
+        Null.require("Iterable and custom equality check cannot be null", iterable, customEqualityCheck);
         return registerCondition(c -> StreamSupport.stream(iterable.spliterator(), false).anyMatch(
                 givenElement -> c.stream().anyMatch(
                         collectionElement -> customEqualityCheck.test(collectionElement, givenElement))));
@@ -251,7 +296,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      */
     @SafeVarargs
     public final CollectionValidator<T> isSubsetOf(T... array) {
-        Null.checkAlone(array).ifAny("Array cannot be null");
+        Null.require("Array cannot be null", array);
         return isSubsetOf(Sets.newHashSet(array));
     }
 
@@ -261,7 +306,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if collection is null
      */
     public CollectionValidator<T> isSubsetOf(Collection<? extends T> collection) {
-        Null.check(collection).ifAny("Collection cannot be null");
+        Null.require("Collection cannot be null", collection);
         return isSubsetOf(Sets.newHashSet(collection));
     }
 
@@ -271,7 +316,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if iterable is null
      */
     public CollectionValidator<T> isSubsetOf(Iterable<? extends T> iterable) {
-        Null.check(iterable).ifAny("Iterable cannot be null");
+        Null.require("Iterable cannot be null", iterable);
         return isSubsetOf(Sets.newHashSet(iterable));
     }
 
@@ -281,7 +326,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if hashSet is null
      */
     public CollectionValidator<T> isSubsetOf(HashSet<? extends T> hashSet) {
-        Null.check(hashSet).ifAny("Hash set cannot be null");
+        Null.require("Hash set cannot be null", hashSet);
         return registerCondition(hashSet::containsAll);
     }
 
@@ -292,7 +337,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      */
     @SafeVarargs
     public final CollectionValidator<T> isSubsetOf(BiPredicate<? super T, ? super T> customEqualityCheck, T... array) {
-        Null.check(array, customEqualityCheck).ifAny("Array and custom equality check cannot be null");
+        Null.require("Array and custom equality check cannot be null", array, customEqualityCheck);
         return registerCondition(c -> c.stream().allMatch(
                 collectionElement -> Stream.of(array).anyMatch(
                         givenElement -> customEqualityCheck.test(collectionElement, givenElement))));
@@ -304,7 +349,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if collection is null
      */
     public CollectionValidator<T> isSubsetOf(Collection<? extends T> collection, BiPredicate<? super T, ? super T> customEqualityCheck) {
-        Null.check(collection, customEqualityCheck).ifAny("Collection and custom equality check cannot be null");
+        Null.require("Collection and custom equality check cannot be null", collection, customEqualityCheck);
         return registerCondition(c -> c.stream().allMatch(
                 collectionElement -> collection.stream().anyMatch(
                         givenElement -> customEqualityCheck.test(collectionElement, givenElement))));
@@ -316,19 +361,123 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if iterable is null
      */
     public CollectionValidator<T> isSubsetOf(Iterable<? extends T> iterable, BiPredicate<? super T, ? super T> customEqualityCheck) {
-        Null.check(iterable, customEqualityCheck).ifAny("Iterable and custom equality check cannot be null");
+        Null.require("Iterable and custom equality check cannot be null", iterable, customEqualityCheck);
         return registerCondition(c -> c.stream().allMatch(
                 collectionElement -> StreamSupport.stream(iterable.spliterator(), false).anyMatch(
                         givenElement -> customEqualityCheck.test(collectionElement, givenElement))));
     }
 
+    /**
+     * <pre>
+     * Adds a predicate which tests if the collection being validated contains all elements from given collection,
+     * using the keys extracted by given function to establish equality
+     *
+     * The keys of given collection are indexed when this method is called; the keys of the collection being validated
+     * are extracted once, stopping as soon as every key is found
+     * </pre>
+     * @throws NullPointerException if collection or keyExtractor is null
+     */
+    public CollectionValidator<T> containsAllBy(Collection<? extends T> collection, Function<? super T, ?> keyExtractor) {
+        Set<Object> keys = keys(collection, keyExtractor);
+        return registerCondition(c -> containsAllKeys(c, keyExtractor, keys));
+    }
+
+    /**
+     * Adds a predicate which tests if the collection being validated contains all elements from given collection,
+     * using the int keys extracted by given function to establish equality; refer to containsAllBy() for details
+     * @throws NullPointerException if collection or keyExtractor is null
+     */
+    public CollectionValidator<T> containsAllByInt(Collection<? extends T> collection, ToIntFunction<? super T> keyExtractor) {
+        IntHashSet keys = intKeys(collection, keyExtractor);
+        return registerCondition(c -> containsAllIntKeys(c, keyExtractor, keys));
+    }
+
+    /**
+     * Adds a predicate which tests if the collection being validated contains all elements from given collection,
+     * using the long keys extracted by given function to establish equality; refer to containsAllBy() for details
+     * @throws NullPointerException if collection or keyExtractor is null
+     */
+    public CollectionValidator<T> containsAllByLong(Collection<? extends T> collection, ToLongFunction<? super T> keyExtractor) {
+        LongHashSet keys = longKeys(collection, keyExtractor);
+        return registerCondition(c -> containsAllLongKeys(c, keyExtractor, keys));
+    }
+
+    /**
+     * <pre>
+     * Adds a predicate which tests if the collection being validated contains any elements from given collection,
+     * using the keys extracted by given function to establish equality
+     *
+     * The keys of given collection are indexed when this method is called
+     * </pre>
+     * @throws NullPointerException if collection or keyExtractor is null
+     */
+    public CollectionValidator<T> containsAnyBy(Collection<? extends T> collection, Function<? super T, ?> keyExtractor) {
+        Set<Object> keys = keys(collection, keyExtractor);
+        return registerCondition(c -> c.stream().anyMatch(e -> keys.contains(keyExtractor.apply(e))));
+    }
+
+    /**
+     * Adds a predicate which tests if the collection being validated contains any elements from given collection,
+     * using the int keys extracted by given function to establish equality; refer to containsAnyBy() for details
+     * @throws NullPointerException if collection or keyExtractor is null
+     */
+    public CollectionValidator<T> containsAnyByInt(Collection<? extends T> collection, ToIntFunction<? super T> keyExtractor) {
+        IntHashSet keys = intKeys(collection, keyExtractor);
+        return registerCondition(c -> c.stream().anyMatch(e -> keys.contains(keyExtractor.applyAsInt(e))));
+    }
+
+    /**
+     * Adds a predicate which tests if the collection being validated contains any elements from given collection,
+     * using the long keys extracted by given function to establish equality; refer to containsAnyBy() for details
+     * @throws NullPointerException if collection or keyExtractor is null
+     */
+    public CollectionValidator<T> containsAnyByLong(Collection<? extends T> collection, ToLongFunction<? super T> keyExtractor) {
+        LongHashSet keys = longKeys(collection, keyExtractor);
+        return registerCondition(c -> c.stream().anyMatch(e -> keys.contains(keyExtractor.applyAsLong(e))));
+    }
+
+    /**
+     * <pre>
+     * Adds a predicate which tests if the elements of collection being validated are all contained in given collection,
+     * using the keys extracted by given function to establish equality
+     *
+     * The keys of given collection are indexed when this method is called
+     * </pre>
+     * @throws NullPointerException if collection or keyExtractor is null
+     */
+    public CollectionValidator<T> isSubsetOfBy(Collection<? extends T> collection, Function<? super T, ?> keyExtractor) {
+        Set<Object> keys = keys(collection, keyExtractor);
+        return registerCondition(c -> c.stream().allMatch(e -> keys.contains(keyExtractor.apply(e))));
+    }
+
+    /**
+     * Adds a predicate which tests if the elements of collection being validated are all contained in given collection,
+     * using the int keys extracted by given function to establish equality; refer to isSubsetOfBy() for details
+     * @throws NullPointerException if collection or keyExtractor is null
+     */
+    public CollectionValidator<T> isSubsetOfByInt(Collection<? extends T> collection, ToIntFunction<? super T> keyExtractor) {
+        IntHashSet keys = intKeys(collection, keyExtractor);
+        return registerCondition(c -> c.stream().allMatch(e -> keys.contains(keyExtractor.applyAsInt(e))));
+    }
+
+    /**
+     * Adds a predicate which tests if the elements of collection being validated are all contained in given collection,
+     * using the long keys extracted by given function to establish equality; refer to isSubsetOfBy() for details
+     * @throws NullPointerException if collection or keyExtractor is null
+     */
+    public CollectionValidator<T> isSubsetOfByLong(Collection<? extends T> collection, ToLongFunction<? super T> keyExtractor) {
+        LongHashSet keys = longKeys(collection, keyExtractor);
+        return registerCondition(c -> c.stream().allMatch(e -> keys.contains(keyExtractor.applyAsLong(e))));
+    }
+
     /**
      * Adds a predicate which tests if all the elements of the collection being validated pass given predicate
      * @throws NullPointerException if predicate is null
      */
     public CollectionValidator<T> allMatch(Predicate<? super T> predicate) {
-        Null.check(predicate).ifAny("Predicate cannot be null");
-        return registerCondition(c -> c.stream().allMatch(predicate));
+        Null.require("Predicate cannot be null", predicate);
+        int parallelThreshold = this.parallelThreshold;
+        return registerCondition(c -> stream(c, parallelThreshold).allMatch(predicate));
     }
 
     /**
@@ -336,8 +485,9 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if predicate is null
      */
     public CollectionValidator<T> anyMatch(Predicate<? super T> predicate) {
-        Null.check(predicate).ifAny("Predicate cannot be null");
-        return registerCondition(c -> c.stream().anyMatch(predicate));
+        Null.require("Predicate cannot be null", predicate);
+        int parallelThreshold = this.parallelThreshold;
+        return registerCondition(c -> stream(c, parallelThreshold).anyMatch(predicate));
     }
 
     /**
@@ -346,8 +496,9 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if predicate is null
      */
     public CollectionValidator<T> hasAmountMatching(IntPredicate amountPredicate, Predicate<? super T> predicate) {
-        Null.check(amountPredicate, predicate).ifAny("Predicates cannot be null");
-        return passesAsInt(c -> (int) c.stream().filter(predicate).count(), amountPredicate);
+        Null.require("Predicates cannot be null", amountPredicate, predicate);
+        int parallelThreshold = this.parallelThreshold;
+        return passesAsInt(c -> (int) stream(c, parallelThreshold).filter(predicate).count(), amountPredicate);
     }
 
     /**
@@ -395,11 +546,78 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
     }
 
     /**
-     * Adds a predicate which tests if the collection being validated contains any duplicates using Object.equals()
-     * to determine equality
+     * <pre>
+     * Adds a predicate which tests the collection being validated for duplicates using Object.equals() to determine
+     * equality; the check stops at the first duplicate
+     *
+     * Despite the name, the predicate passes when the collection contains NO duplicates
+     * </pre>
+     * @deprecated the name says the opposite of what the predicate tests; use hasNoDuplicates() for the same
+     * behaviour, or hasDuplicates() for what the name says
      */
+    @Deprecated
     public CollectionValidator<T> containsDuplicates() {
-        return registerCondition(c -> c.stream().distinct().count() == c.size());
+        return hasNoDuplicates();
+    }
+
+    /**
+     * Adds a predicate which tests if the collection being validated contains any duplicates using Object.equals()
+     * to determine equality; the check stops at the first duplicate
+     */
+    public CollectionValidator<T> hasDuplicates() {
+        return registerCondition(c -> !hasNoDuplicateKeys(c, Function.identity()));
+    }
+
+    /**
+     * Adds a predicate which tests if the collection being validated contains no duplicates using Object.equals()
+     * to determine equality; the check stops at the first duplicate
+     */
+    public CollectionValidator<T> hasNoDuplicates() {
+        return registerCondition(c -> hasNoDuplicateKeys(c, Function.identity()));
+    }
+
+    /**
+     * Adds a predicate which tests if the collection being validated contains no elements with equal keys, extracted
+     * by given function; the check stops at the first duplicate
+     * @throws NullPointerException if keyExtractor is null
+     */
+    public CollectionValidator<T> hasNoDuplicatesBy(Function<? super T, ?> keyExtractor) {
+        Null.require("Key extractor cannot be null", keyExtractor);
+        return registerCondition(c -> hasNoDuplicateKeys(c, keyExtractor));
+    }
+
+    /**
+     * Adds a predicate which tests if the collection being validated contains no elements with equal int keys,
+     * extracted by given function; the check stops at the first duplicate
+     * @throws NullPointerException if keyExtractor is null
+     */
+    public CollectionValidator<T> hasNoDuplicatesByInt(ToIntFunction<? super T> keyExtractor) {
+        Null.require("Key extractor cannot be null", keyExtractor);
+        return registerCondition(c -> {
+            IntHashSet keys = new IntHashSet(c.size());
+            for (T e : c)
+                if (!keys.add(keyExtractor.applyAsInt(e)))
+                    return false;
+
+            return true;
+        });
+    }
+
+    /**
+     * Adds a predicate which tests if the collection being validated contains no elements with equal long keys,
+     * extracted by given function; the check stops at the first duplicate
+     * @throws NullPointerException if keyExtractor is null
+     */
+    public CollectionValidator<T> hasNoDuplicatesByLong(ToLongFunction<? super T> keyExtractor) {
+        Null.require("Key extractor cannot be null", keyExtractor);
+        return registerCondition(c -> {
+            LongHashSet keys = new LongHashSet(c.size());
+            for (T e : c)
+                if (!keys.add(keyExtractor.applyAsLong(e)))
+                    return false;
+
+            return true;
+        });
     }
 
     /**
@@ -416,8 +634,9 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if predicate or customAction is null
      */
     public CollectionValidator<T> forEachFailingRun(Predicate<? super T> predicate, Runnable customAction) {
-        Null.check(predicate, customAction).ifAny("Predicate and runnable cannot be null");
-        return registerCondition(c -> forEachRun(c, predicate, customAction));
+        Null.require("Predicate and runnable cannot be null", predicate, customAction);
+        int parallelThreshold = this.parallelThreshold;
+        return registerCondition(c -> forEachRun(c, predicate, customAction, parallelThreshold));
     }
 
     /**
@@ -426,8 +645,9 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      * @throws NullPointerException if predicate or customAction is null
      */
     public CollectionValidator<T> forEachFailingAccept(Predicate<? super T> predicate, Consumer<? super T> customConsumer) {
-        Null.check(predicate, customConsumer).ifAny("Predicate and consumer cannot be null");
-        return registerCondition(c -> forEachAccept(c, predicate, customConsumer));
+        Null.require("Predicate and consumer cannot be null", predicate, customConsumer);
+        int parallelThreshold = this.parallelThreshold;
+        return registerCondition(c -> forEachAccept(c, predicate, customConsumer, parallelThreshold));
     }
 
     /**
@@ -437,8 +657,9 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      */
     public <X extends RuntimeException> CollectionValidator<T> forFirstFailingThrow(Predicate<? super T> predicate,
                                                                                     Supplier<? extends X> customException) {
-        Null.check(predicate, customException).ifAny("Predicate and supplier cannot be null");
-        return registerCondition(c -> forFirstThrow(c, predicate, customException));
+        Null.require("Predicate and supplier cannot be null", predicate, customException);
+        int parallelThreshold = this.parallelThreshold;
+        return registerCondition(c -> forFirstThrow(c, predicate, customException, parallelThreshold));
     }
 
     /**
@@ -448,18 +669,31 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
      */
     public <X extends RuntimeException> CollectionValidator<T> forFirstFailingThrowWith(Predicate<? super T> predicate,
                                                                                         Function<? super T, ? extends X> customException) {
-        Null.check(predicate, customException).ifAny("Predicate and function cannot be null");
-        return registerCondition(c -> forFirstThrowWith(c, predicate, customException));
+        Null.require("Predicate and function cannot be null", predicate, customException);
+        int parallelThreshold = this.parallelThreshold;
+        return registerCondition(c -> forFirstThrowWith(c, predicate, customException, parallelThreshold));
     }
 
     // CONSTRUCTORS
 
     public CollectionValidator() {
         super();
+        this.parallelThreshold = SEQUENTIAL;
     }
 
     protected CollectionValidator(Predicate<Collection<T>> mainCondition, Predicate<Collection<T>> accumulatedCondition, boolean negateNext) {
+        this(mainCondition, accumulatedCondition, negateNext, SEQUENTIAL);
+    }
+
+    private CollectionValidator(Predicate<Collection<T>> mainCondition, Predicate<Collection<T>> accumulatedCondition, boolean negateNext,
+                                int parallelThreshold) {
         super(mainCondition, accumulatedCondition, negateNext);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    private CollectionValidator(CollectionValidator<T> validator, int parallelThreshold) {
+        super(validator);
+        this.parallelThreshold = parallelThreshold;
     }
 
     // PROTECTED
@@ -471,14 +705,101 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
 
     @Override
     protected CollectionValidator<T> newValidator(Predicate<Collection<T>> mainCondition, Predicate<Collection<T>> accumulatedCondition, boolean negateNext) {
-        return new CollectionValidator<>(mainCondition, accumulatedCondition, negateNext);
+        return new CollectionValidator<>(mainCondition, accumulatedCondition, negateNext, parallelThreshold);
     }
 
     // PRIVATE
 
+    private static final int SEQUENTIAL = Integer.MAX_VALUE;
+
+    private final int parallelThreshold;
+
+    private static <T> Stream<T> stream(Collection<T> collection, int parallelThreshold) {
+        return collection.size() > parallelThreshold ? collection.parallelStream() : collection.stream();
+    }
+
+    private static <T> Set<Object> keys(Collection<? extends T> collection, Function<? super T, ?> keyExtractor) {
+        Null.require("Collection and key extractor cannot be null", collection, keyExtractor);
+        Set<Object> keys = new HashSet<>();
+        for (T e : collection)
+            keys.add(keyExtractor.apply(e));
+
+        return keys;
+    }
+
+    private static <T> IntHashSet intKeys(Collection<? extends T> collection, ToIntFunction<? super T> keyExtractor) {
+        Null.require("Collection and key extractor cannot be null", collection, keyExtractor);
+        IntHashSet keys = new IntHashSet(collection.size());
+        for (T e : collection)
+            keys.add(keyExtractor.applyAsInt(e));
+
+        return keys;
+    }
+
+    private static <T> LongHashSet longKeys(Collection<? extends T> collection, ToLongFunction<? super T> keyExtractor) {
+        Null.require("Collection and key extractor cannot be null", collection, keyExtractor);
+        LongHashSet keys = new LongHashSet(collection.size());
+        for (T e : collection)
+            keys.add(keyExtractor.applyAsLong(e));
+
+        return keys;
+    }
+
+    private static <T> boolean containsAllKeys(Collection<T> collection, Function<? super T, ?> keyExtractor, Set<Object> keys) {
+        if (keys.isEmpty())
+            return true;
+
+        Set<Object> found = new HashSet<>();
+        for (T e : collection) {
+            Object key = keyExtractor.apply(e);
+            if (keys.contains(key) && found.add(key) && found.size() == keys.size())
+                return true;
+        }
+        return false;
+    }
+
+    private static <T> boolean containsAllIntKeys(Collection<T> collection, ToIntFunction<? super T> keyExtractor, IntHashSet keys) {
+        if (keys.isEmpty())
+            return true;
+
+        IntHashSet found = new IntHashSet(keys.size());
+        for (T e : collection) {
+            int key = keyExtractor.applyAsInt(e);
+            if (keys.contains(key) && found.add(key) && found.size() == keys.size())
+                return true;
+        }
+        return false;
+    }
+
+    private static <T> boolean containsAllLongKeys(Collection<T> collection, ToLongFunction<? super T> keyExtractor, LongHashSet keys) {
+        if (keys.isEmpty())
+            return true;
+
+        LongHashSet found = new LongHashSet(keys.size());
+        for (T e : collection) {
+            long key = keyExtractor.applyAsLong(e);
+            if (keys.contains(key) && found.add(key) && found.size() == keys.size())
+                return true;
+        }
+        return false;
+    }
+
+    private static <T> boolean hasNoDuplicateKeys(Collection<T> collection, Function<? super T, ?> keyExtractor) {
+        Set<Object> keys = new HashSet<>();
+        for (T e : collection)
+            if (!keys.add(keyExtractor.apply(e)))
+                return false;
+
+        return true;
+    }
+
     private static <T> boolean forEachRun(Collection<T> collection,
                                           Predicate<? super T> condition,
-                                          Runnable customAction) {
+                                          Runnable customAction,
+                                          int parallelThreshold) {
+        if (collection.size() > parallelThreshold)
+            return forEachAccept(collection, condition, e -> customAction.run(), parallelThreshold);
+
         boolean result = true;
         for (T e : collection)
             if (!condition.test(e)) {
@@ -491,7 +812,17 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
 
     private static <T> boolean forEachAccept(Collection<T> collection,
                                              Predicate<? super T> condition,
-                                             Consumer<? super T> customConsumer) {
+                                             Consumer<? super T> customConsumer,
+                                             int parallelThreshold) {
+        if (collection.size() > parallelThreshold)
+            return collection.parallelStream().mapToInt(e -> {
+                if (condition.test(e))
+                    return 0;
+
+                customConsumer.accept(e);
+                return 1;
+            }).sum() == 0;
+
         boolean result = true;
         for (T e : collection)
             if (!condition.test(e)) {
@@ -504,7 +835,16 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
 
     private static <T, X extends RuntimeException> boolean forFirstThrow(Collection<T> collection,
                                                                          Predicate<? super T> condition,
-                                                                         Supplier<? extends X> customException) {
+                                                                         Supplier<? extends X> customException,
+                                                                         int parallelThreshold) {
+        if (collection.size() > parallelThreshold) {
+            // the exception is thrown on the calling thread, so it does not get wrapped by the fork join framework
+            if (!collection.parallelStream().allMatch(condition))
+                throw customException.get();
+
+            return true;
+        }
+
         for (T e : collection)
             if (!condition.test(e))
                 throw customException.get();
@@ -514,7 +854,21 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
 
     private static <T, X extends RuntimeException> boolean forFirstThrowWith(Collection<T> collection,
                                                                              Predicate<? super T> condition,
-                                                                             Function<? super T, ? extends X> customException) {
+                                                                             Function<? super T, ? extends X> customException,
+                                                                             int parallelThreshold) {
+        if (collection.size() > parallelThreshold) {
+            // the failing element can be null, so it is wrapped to tell it apart from no element
+            AtomicReference<Object[]> failing = new AtomicReference<>();
+            collection.parallelStream().anyMatch(e -> !condition.test(e) && failing.compareAndSet(null, new Object[] {e}));
+
+            if (failing.get() != null) {
+                @SuppressWarnings("unchecked")
+                T e = (T) failing.get()[0];
+                throw customException.apply(e);
+            }
+            return true;
+        }
+
         for (T e : collection)
             if (!condition.test(e))
                 throw customException.apply(e);
@@ -561,7 +915,7 @@ public final class CollectionValidator<T> extends Validator<Collection<T>, Colle
         // CONSTRUCTORS
 
         public static <T> CollectionValidatorActor<T> of(Predicate<? super T> predicate, CollectionValidator<T> validator) {
-            Null.check(predicate, validator).ifAny("Predicate and validator cannot be null");
+            Null.require("Predicate and validator cannot be null", predicate, validator);
             return new CollectionValidatorActor<>(predicate, validator);
         }
 
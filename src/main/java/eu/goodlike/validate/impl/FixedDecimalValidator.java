@@ -0,0 +1,65 @@
+package eu.goodlike.validate.impl;
+
+import eu.goodlike.misc.FixedDecimal;
+import eu.goodlike.validate.ComparableValidator;
+
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Validator implementation for FixedDecimal
+ */
+public final class FixedDecimalValidator extends ComparableValidator<FixedDecimal, FixedDecimalValidator> {
+
+    /**
+     * Adds a predicate which tests if the FixedDecimal being validated is positive
+     */
+    public FixedDecimalValidator isPositive() {
+        return registerCondition(dec -> dec.getUnscaled() > 0);
+    }
+
+    /**
+     * Adds a predicate which tests if the FixedDecimal being validated is zero
+     */
+    public FixedDecimalValidator isZero() {
+        return registerCondition(dec -> dec.getUnscaled() == 0);
+    }
+
+    /**
+     * Adds a predicate which tests if the FixedDecimal being validated is negative
+     */
+    public FixedDecimalValidator isNegative() {
+        return registerCondition(dec -> dec.getUnscaled() < 0);
+    }
+
+    /**
+     * Adds a predicate which tests if the unscaled units of the FixedDecimal being validated pass the given predicate
+     * @throws NullPointerException if predicate is null
+     */
+    public FixedDecimalValidator isUnscaled(LongPredicate predicate) {
+        return passesAsLong(FixedDecimal::getUnscaled, predicate);
+    }
+
+    // CONSTRUCTORS
+
+    public FixedDecimalValidator() {
+        super();
+    }
+
+    protected FixedDecimalValidator(Predicate<FixedDecimal> mainCondition, Predicate<FixedDecimal> accumulatedCondition, boolean negateNext) {
+        super(mainCondition, accumulatedCondition, negateNext);
+    }
+
+    // PROTECTED
+
+    @Override
+    protected FixedDecimalValidator thisValidator() {
+        return this;
+    }
+
+    @Override
+    protected FixedDecimalValidator newValidator(Predicate<FixedDecimal> mainCondition, Predicate<FixedDecimal> accumulatedCondition, boolean negateNext) {
+        return new FixedDecimalValidator(mainCondition, accumulatedCondition, negateNext);
+    }
+
+}
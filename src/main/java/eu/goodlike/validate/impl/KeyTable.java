@@ -0,0 +1,116 @@
+package eu.goodlike.validate.impl;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Immutable table which maps a fixed set of keys to their indexes in the list they were given in
+ *
+ * The table is built with the smallest capacity (up to MAX_SPREAD times the amount of keys) at which no two keys share
+ * a slot, so every lookup takes a single probe; if no such capacity exists, lookups use linear probing instead
+ *
+ * Hash codes of the keys are kept, so keys which are not in the table are usually rejected without calling equals()
+ * </pre>
+ */
+final class KeyTable {
+
+    /**
+     * @return table for given keys; null is allowed as a key
+     * @throws IllegalArgumentException if keys contain duplicates
+     */
+    static KeyTable of(List<?> keys) {
+        int minCapacity = capacityFor(keys.size());
+        for (int capacity = minCapacity; capacity <= minCapacity * MAX_SPREAD; capacity <<= 1) {
+            KeyTable table = new KeyTable(capacity, true);
+            if (table.putAll(keys))
+                return table;
+        }
+
+        KeyTable table = new KeyTable(minCapacity, false);
+        table.putAll(keys);
+        return table;
+    }
+
+    /**
+     * @return index of given key in the list this table was built from, -1 if the key is not in this table
+     */
+    int indexOf(Object key) {
+        if (key == null)
+            return nullIndex;
+
+        int hash = key.hashCode();
+        for (int slot = slotFor(hash); ; slot = (slot + 1) & mask) {
+            Object next = keys[slot];
+            if (next == null)
+                return -1;
+
+            if (hashes[slot] == hash && next.equals(key))
+                return indexes[slot];
+
+            if (perfect)
+                return -1;
+        }
+    }
+
+    // CONSTRUCTORS
+
+    private KeyTable(int capacity, boolean perfect) {
+        this.keys = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.indexes = new int[capacity];
+        this.mask = capacity - 1;
+        this.perfect = perfect;
+    }
+
+    // PRIVATE
+
+    private static final int MAX_SPREAD = 8;
+
+    private final Object[] keys;
+    private final int[] hashes;
+    private final int[] indexes;
+    private final int mask;
+    private final boolean perfect;
+    private int nullIndex = -1;
+
+    /**
+     * @return false if this table is perfect and two of the keys share a slot, true otherwise
+     */
+    private boolean putAll(List<?> keys) {
+        for (int index = 0; index < keys.size(); index++) {
+            Object key = keys.get(index);
+            if (indexOf(key) >= 0)
+                throw new IllegalArgumentException("Duplicate key: " + key);
+
+            if (key == null) {
+                nullIndex = index;
+                continue;
+            }
+
+            int hash = key.hashCode();
+            int slot = slotFor(hash);
+            while (this.keys[slot] != null) {
+                if (perfect)
+                    return false;
+
+                slot = (slot + 1) & mask;
+            }
+
+            this.keys[slot] = key;
+            this.hashes[slot] = hash;
+            this.indexes[slot] = index;
+        }
+        return true;
+    }
+
+    private int slotFor(int hash) {
+        int spread = hash * 0x9E3779B9;
+        return (spread ^ (spread >>> 16)) & mask;
+    }
+
+    private static int capacityFor(int size) {
+        // at least twice the size, so probing always finds an empty slot
+        return Integer.highestOneBit(Math.max(size, 2) * 2 - 1) << 1;
+    }
+
+}
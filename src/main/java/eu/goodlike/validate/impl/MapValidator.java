@@ -1,10 +1,9 @@
 package eu.goodlike.validate.impl;
 
+import eu.goodlike.neat.Null;
 import eu.goodlike.validate.Validator;
 
-import java.util.Collection;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.function.Predicate;
 
 /**
@@ -36,6 +35,94 @@ public final class MapValidator<K, V> extends Validator<Map<K, V>, MapValidator<
         return passesAs(Map::entrySet, predicate);
     }
 
+    /**
+     * <pre>
+     * Returns a builder for a predicate which tests the map against a schema of keys: required keys must be present,
+     * optional keys may be absent, and, unless allowed, keys which are not in the schema fail the predicate; values of
+     * the present keys must pass the validators of their keys
+     *
+     * The map is validated in a single pass over its entries; the keys of the schema are put into a table which is
+     * built once, so every entry is matched to its validator using a single lookup
+     *
+     * The predicate is added to this Validator by KeySchema::build; not() applies to it as a whole
+     * </pre>
+     */
+    public KeySchema<K, V> schema() {
+        return new KeySchema<>(this);
+    }
+
+    /**
+     * Builder for a schema of keys, refer to MapValidator::schema; this builder is not synchronized
+     */
+    public static final class KeySchema<K, V> {
+        /**
+         * Adds a key which must be present in the map, with a validator for its value
+         * @throws NullPointerException if validator is null
+         * @throws IllegalArgumentException if the key is already in the schema
+         */
+        public KeySchema<K, V> required(K key, Predicate<? super V> validator) {
+            Null.require("Validator cannot be null", validator);
+            if (requiredKeys.containsKey(key) || optionalKeys.containsKey(key))
+                throw new IllegalArgumentException("Key is already in the schema: " + key);
+
+            requiredKeys.put(key, validator);
+            return this;
+        }
+
+        /**
+         * Adds a key which may be absent from the map, with a validator for its value, if present
+         * @throws NullPointerException if validator is null
+         * @throws IllegalArgumentException if the key is already in the schema
+         */
+        public KeySchema<K, V> optional(K key, Predicate<? super V> validator) {
+            Null.require("Validator cannot be null", validator);
+            if (requiredKeys.containsKey(key) || optionalKeys.containsKey(key))
+                throw new IllegalArgumentException("Key is already in the schema: " + key);
+
+            optionalKeys.put(key, validator);
+            return this;
+        }
+
+        /**
+         * Allows keys which are not in the schema; their values are not validated
+         */
+        public KeySchema<K, V> allowUnknownKeys() {
+            this.allowUnknownKeys = true;
+            return this;
+        }
+
+        /**
+         * @return MapValidator with a predicate for this schema added
+         */
+        public MapValidator<K, V> build() {
+            List<K> keys = new ArrayList<>(requiredKeys.keySet());
+            keys.addAll(optionalKeys.keySet());
+
+            List<Predicate<? super V>> validators = new ArrayList<>(requiredKeys.values());
+            validators.addAll(optionalKeys.values());
+
+            @SuppressWarnings("unchecked")
+            Predicate<Object>[] validatorArray = validators.toArray(new Predicate[validators.size()]);
+            return validator.registerCondition(new SchemaCondition<>(KeyTable.of(keys), validatorArray,
+                    requiredKeys.size(), allowUnknownKeys));
+        }
+
+        // CONSTRUCTORS
+
+        private KeySchema(MapValidator<K, V> validator) {
+            this.validator = validator;
+            this.requiredKeys = new LinkedHashMap<>();
+            this.optionalKeys = new LinkedHashMap<>();
+        }
+
+        // PRIVATE
+
+        private final MapValidator<K, V> validator;
+        private final Map<K, Predicate<? super V>> requiredKeys;
+        private final Map<K, Predicate<? super V>> optionalKeys;
+        private boolean allowUnknownKeys;
+    }
+
     // CONSTRUCTORS
 
     public MapValidator() {
@@ -58,4 +145,54 @@ public final class MapValidator<K, V> extends Validator<Map<K, V>, MapValidator<
         return new MapValidator<>(mainCondition, accumulatedCondition, negateNext);
     }
 
+    // PRIVATE
+
+    /**
+     * Keys of the table are indexed so that required keys come first; since keys of a map are unique, counting the
+     * required keys that were found is enough to tell if any of them are missing
+     */
+    private static final class SchemaCondition<K, V> implements Predicate<Map<K, V>> {
+        private SchemaCondition(KeyTable keys, Predicate<Object>[] validators, int requiredCount, boolean allowUnknownKeys) {
+            this.keys = keys;
+            this.validators = validators;
+            this.requiredCount = requiredCount;
+            this.allowUnknownKeys = allowUnknownKeys;
+        }
+
+        private final KeyTable keys;
+        private final Predicate<Object>[] validators;
+        private final int requiredCount;
+        private final boolean allowUnknownKeys;
+
+        @Override
+        public boolean test(Map<K, V> map) {
+            if (map == null || map.size() < requiredCount || !allowUnknownKeys && map.size() > validators.length)
+                return false;
+
+            int requiredFound = 0;
+            for (Map.Entry<K, V> entry : map.entrySet()) {
+                int index = keys.indexOf(entry.getKey());
+                if (index < 0) {
+                    if (allowUnknownKeys)
+                        continue;
+
+                    return false;
+                }
+
+                if (!validators[index].test(entry.getValue()))
+                    return false;
+
+                if (index < requiredCount)
+                    requiredFound++;
+            }
+            return requiredFound == requiredCount;
+        }
+
+        @Override
+        public String toString() {
+            return "schema [" + validators.length + " keys, " + requiredCount + " required" +
+                    (allowUnknownKeys ? ", unknown keys allowed]" : "]");
+        }
+    }
+
 }
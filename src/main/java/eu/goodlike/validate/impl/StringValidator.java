@@ -4,14 +4,12 @@ import com.google.common.collect.Lists;
 import eu.goodlike.neat.Null;
 import eu.goodlike.validate.ComparableValidator;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
-import static eu.goodlike.validate.Validate.Collections.chars;
-import static eu.goodlike.validate.Validate.Collections.codePoints;
 import static eu.goodlike.validate.Validate.*;
 import static java.util.stream.Collectors.toList;
 
@@ -36,6 +34,36 @@ public final class StringValidator extends ComparableValidator<String, StringVal
         return passesAs(csq -> csq.codePoints().boxed().collect(toList()), predicate);
     }
 
+    /**
+     * Adds a predicate which tests if the amount of code points in the string being validated passes the given
+     * predicate; unlike passesAsCodePoints(), the code points are counted without any allocations
+     * @throws NullPointerException if predicate is null
+     */
+    public StringValidator passesAsCodePointCount(IntPredicate predicate) {
+        Null.require("Predicate cannot be null", predicate);
+        return registerCondition(str -> predicate.test(codePointsUpTo(str, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Adds a predicate which tests if every code point of the string being validated passes the given predicate;
+     * unlike passesAsCodePoints(), the code points are not boxed or collected
+     * @throws NullPointerException if predicate is null
+     */
+    public StringValidator allCodePointsPass(IntPredicate predicate) {
+        Null.require("Predicate cannot be null", predicate);
+        return registerCondition(str -> allCodePointsPass(str, predicate));
+    }
+
+    /**
+     * Adds a predicate which tests if any code point of the string being validated passes the given predicate;
+     * unlike passesAsCodePoints(), the code points are not boxed or collected
+     * @throws NullPointerException if predicate is null
+     */
+    public StringValidator anyCodePointPasses(IntPredicate predicate) {
+        Null.require("Predicate cannot be null", predicate);
+        return registerCondition(str -> anyCodePointPasses(str, predicate));
+    }
+
     /**
      * Adds a predicate which tests if the string being validated is empty
      */
@@ -82,35 +110,35 @@ public final class StringValidator extends ComparableValidator<String, StringVal
      * Adds a predicate which tests if the string being validated has a specific amount of code points
      */
     public StringValidator hasCodePoints(int amount) {
-        return passesAsCodePoints(codePoints().hasSizeOf(amount));
+        return registerCondition(str -> amount >= 0 && codePointsUpTo(str, amount + 1) == amount);
     }
 
     /**
      * Adds a predicate which tests if the string being validated has at least a specific amount of code points
      */
     public StringValidator hasAtLeastCodePoints(int amount) {
-        return passesAsCodePoints(codePoints().hasSizeAtLeast(amount));
+        return registerCondition(str -> codePointsUpTo(str, amount) >= amount);
     }
 
     /**
      * Adds a predicate which tests if the string being validated has at most a specific amount of code points
      */
     public StringValidator hasAtMostCodePoints(int amount) {
-        return passesAsCodePoints(codePoints().hasSizeAtMost(amount));
+        return registerCondition(str -> amount >= 0 && (str.length() <= amount || codePointsUpTo(str, amount + 1) <= amount));
     }
 
     /**
      * Adds a predicate which tests if the string being validated has less than a specific amount of code points
      */
     public StringValidator hasLessThanCodePoints(int amount) {
-        return passesAsCodePoints(codePoints().hasSizeSmallerThan(amount));
+        return registerCondition(str -> codePointsUpTo(str, amount) < amount);
     }
 
     /**
      * Adds a predicate which tests if the string being validated has more than a specific amount of code points
      */
     public StringValidator hasMoreThanCodePoints(int amount) {
-        return passesAsCodePoints(codePoints().hasSizeLargerThan(amount));
+        return registerCondition(str -> amount < 0 || amount < Integer.MAX_VALUE && codePointsUpTo(str, amount + 1) > amount);
     }
 
     /**
@@ -120,11 +148,55 @@ public final class StringValidator extends ComparableValidator<String, StringVal
         return registerCondition(str -> str.contains(subSequence));
     }
 
+    /**
+     * <pre>
+     * Adds a predicate which tests if the string being validated contains a sub sequence of any of given strings
+     *
+     * The sub sequences are compiled into an automaton when this method is called, so every check takes a single
+     * pass over the string, regardless of how many sub sequences are given
+     * </pre>
+     * @throws NullPointerException if subSequences is or contains null
+     */
+    public StringValidator containsAny(Collection<String> subSequences) {
+        SubstringAutomaton automaton = substringAutomaton(subSequences, false);
+        return registerCondition(automaton::foundIn);
+    }
+
+    /**
+     * Adds a predicate which tests if the string being validated contains no sub sequence of any of given strings;
+     * refer to containsAny() for details
+     * @throws NullPointerException if subSequences is or contains null
+     */
+    public StringValidator containsNone(Collection<String> subSequences) {
+        SubstringAutomaton automaton = substringAutomaton(subSequences, false);
+        return registerCondition(str -> !automaton.foundIn(str));
+    }
+
+    /**
+     * Adds a predicate which tests if the string being validated contains a sub sequence of any of given strings,
+     * treating ASCII letters 'A' to 'Z' as 'a' to 'z'; refer to containsAny() for details
+     * @throws NullPointerException if subSequences is or contains null
+     */
+    public StringValidator containsAnyIgnoringAsciiCase(Collection<String> subSequences) {
+        SubstringAutomaton automaton = substringAutomaton(subSequences, true);
+        return registerCondition(automaton::foundIn);
+    }
+
+    /**
+     * Adds a predicate which tests if the string being validated contains no sub sequence of any of given strings,
+     * treating ASCII letters 'A' to 'Z' as 'a' to 'z'; refer to containsAny() for details
+     * @throws NullPointerException if subSequences is or contains null
+     */
+    public StringValidator containsNoneIgnoringAsciiCase(Collection<String> subSequences) {
+        SubstringAutomaton automaton = substringAutomaton(subSequences, true);
+        return registerCondition(str -> !automaton.foundIn(str));
+    }
+
     /**
      * Adds a predicate which tests if the string being validated contains only whitespace
      */
     public StringValidator isBlank() {
-        return passesAsCodePoints(codePoints().allMatch(Character::isWhitespace));
+        return allCodePointsPass(Character::isWhitespace);
     }
 
     /**
@@ -159,8 +231,11 @@ public final class StringValidator extends ComparableValidator<String, StringVal
      * Refer to StingValidator::isInt; also adds an additional check for the parsed int
      */
     public StringValidator isInt(IntPredicate customCheck) {
-        Null.check(customCheck).ifAny("Cannot be null: customCheck");
-        return registerConditions(StringValidator::isInt, str -> customCheck.test(Integer.parseInt(str)));
+        Null.require("Cannot be null: customCheck", customCheck);
+        return registerCondition(str -> {
+            long value = parseIntOrSentinel(str);
+            return value != NOT_AN_INT && customCheck.test((int) value);
+        });
     }
 
     /**
@@ -174,8 +249,11 @@ public final class StringValidator extends ComparableValidator<String, StringVal
      * Refer to StingValidator::isInt; also adds an additional check for the parsed int
      */
     public StringValidator isLong(LongPredicate customCheck) {
-        Null.check(customCheck).ifAny("Cannot be null: customCheck");
-        return registerConditions(StringValidator::isLong, str -> customCheck.test(Long.parseLong(str)));
+        Null.require("Cannot be null: customCheck", customCheck);
+        return registerCondition(str -> {
+            long negatedValue = negatedValue(str, 0, str.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+            return negatedValue != NOT_PARSED && customCheck.test(toValue(str, 0, negatedValue));
+        });
     }
 
     /**
@@ -192,13 +270,70 @@ public final class StringValidator extends ComparableValidator<String, StringVal
         return registerCondition(StringValidator::isDate);
     }
 
+    /**
+     * <pre>
+     * Counts the code points in the string, in a single pass and without allocations; the counting stops as soon as
+     * the limit is reached
+     *
+     * Unpaired surrogates are counted as separate code points, same as String::codePoints
+     * </pre>
+     * @return amount of code points in the string, or limit, whichever is smaller
+     * @throws NullPointerException if string is null
+     */
+    public static int codePointsUpTo(String string, int limit) {
+        int length = string.length();
+        if (limit <= 0)
+            return Math.max(limit, 0);
+
+        // every code point takes at most two chars
+        if (length - length / 2 >= limit)
+            return limit;
+
+        int count = 0;
+        for (int i = 0; i < length && count < limit; count++)
+            if (Character.isHighSurrogate(string.charAt(i++)) && i < length && Character.isLowSurrogate(string.charAt(i)))
+                i++;
+
+        return count;
+    }
+
+    /**
+     * @return true if every code point in the string passes the predicate, false otherwise
+     * @throws NullPointerException if string or predicate is null
+     */
+    public static boolean allCodePointsPass(String string, IntPredicate predicate) {
+        for (int i = 0, length = string.length(); i < length; ) {
+            int codePoint = string.codePointAt(i);
+            if (!predicate.test(codePoint))
+                return false;
+
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+
+    /**
+     * @return true if at least one code point in the string passes the predicate, false otherwise
+     * @throws NullPointerException if string or predicate is null
+     */
+    public static boolean anyCodePointPasses(String string, IntPredicate predicate) {
+        for (int i = 0, length = string.length(); i < length; ) {
+            int codePoint = string.codePointAt(i);
+            if (predicate.test(codePoint))
+                return true;
+
+            i += Character.charCount(codePoint);
+        }
+        return false;
+    }
+
     /**
      * ASSUMES string has been checked for null/blank
      * @return true if given string starts, ends or contains consecutive given pattern, false otherwise
      * @throws NullPointerException if string or pattern is null
      */
     public static boolean startsEndsOrContainsConsecutive(String string, String pattern) {
-        Null.check(pattern).ifAny("Pattern cannot be null");
+        Null.require("Pattern cannot be null", pattern);
         return string.startsWith(pattern) || string.endsWith(pattern) || string.contains(pattern + pattern);
     }
 
@@ -222,10 +357,31 @@ public final class StringValidator extends ComparableValidator<String, StringVal
      * @throws NullPointerException if string is null
      */
     public static boolean isSimpleEmail(String email) {
-        int index = email.indexOf('@');
-        return index >= 0
-                && SUB_EMAIL_VALIDATOR.isValid(email.substring(0, index))
-                && SUB_EMAIL_VALIDATOR.isValid(email.substring(index + 1));
+        boolean foundAt = false;
+        int partStart = 0;
+        boolean blank = true;
+        char previous = 0;
+        for (int i = 0; i < email.length(); i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (foundAt || !isSimpleEmailPart(partStart, i, blank, previous))
+                    return false;
+
+                foundAt = true;
+                partStart = i + 1;
+                blank = true;
+                previous = 0;
+                continue;
+            }
+
+            if (c == '.' && (i == partStart || previous == '.'))
+                return false;
+
+            // there are no whitespace code points outside of BMP, so checking chars is enough
+            blank &= Character.isWhitespace(c);
+            previous = c;
+        }
+        return foundAt && isSimpleEmailPart(partStart, email.length(), blank, previous);
     }
 
     /**
@@ -234,7 +390,7 @@ public final class StringValidator extends ComparableValidator<String, StringVal
      * @throws NullPointerException if string is null
      */
     public static boolean isInteger(String string) {
-        return Prefix.forString(string).removeFrom(string).codePoints().allMatch(codePoint().isSimpleDigit());
+        return isInteger(string, 0, string.length());
     }
 
     /**
@@ -243,7 +399,7 @@ public final class StringValidator extends ComparableValidator<String, StringVal
      * @throws NullPointerException if string is null
      */
     public static boolean isInt(String string) {
-        return isInteger(string) && fitsIntoInt(string);
+        return negatedValue(string, 0, string.length(), Integer.MIN_VALUE, Integer.MAX_VALUE) != NOT_PARSED;
     }
 
     /**
@@ -252,7 +408,36 @@ public final class StringValidator extends ComparableValidator<String, StringVal
      * @throws NullPointerException if string is null
      */
     public static boolean isLong(String string) {
-        return isInteger(string) && fitsIntoLong(string);
+        return negatedValue(string, 0, string.length(), Long.MIN_VALUE, Long.MAX_VALUE) != NOT_PARSED;
+    }
+
+    /**
+     * <pre>
+     * Validates and parses the string as int in a single pass; the string is valid if StringValidator::isInt
+     * returns true for it
+     *
+     * The result is a long, so that the sentinel cannot be confused with any valid int:
+     *      long value = StringValidator.parseIntOrSentinel(string);
+     *      if (value != StringValidator.NOT_AN_INT)
+     *          use((int) value);
+     * </pre>
+     * @return int value of the string, or NOT_AN_INT if the string is not an int
+     * @throws NullPointerException if string is null
+     */
+    public static long parseIntOrSentinel(String string) {
+        long negatedValue = negatedValue(string, 0, string.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return negatedValue == NOT_PARSED ? NOT_AN_INT : toValue(string, 0, negatedValue);
+    }
+
+    /**
+     * Validates and parses the string as long in a single pass; the string is valid if StringValidator::isLong
+     * returns true for it
+     * @return long value of the string, or defaultValue if the string is not a long
+     * @throws NullPointerException if string is null
+     */
+    public static long parseLongOrDefault(String string, long defaultValue) {
+        long negatedValue = negatedValue(string, 0, string.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+        return negatedValue == NOT_PARSED ? defaultValue : toValue(string, 0, negatedValue);
     }
 
     /**
@@ -261,7 +446,16 @@ public final class StringValidator extends ComparableValidator<String, StringVal
      * @throws NullPointerException if string is null
      */
     public static boolean isCommaSeparatedListOfIntegers(String string) {
-        return Stream.of(string.split(",")).allMatch(string().not().isBlank().isInteger());
+        int end = withoutTrailingCommas(string);
+        if (end == 0)
+            return !string.isEmpty();
+
+        for (int from = 0, to; from <= end; from = to + 1) {
+            to = indexOfComma(string, from, end);
+            if (!isInteger(string, from, to))
+                return false;
+        }
+        return true;
     }
 
     /**
@@ -270,8 +464,18 @@ public final class StringValidator extends ComparableValidator<String, StringVal
      * @throws NullPointerException if string or intPredicate is null
      */
     public static boolean isCommaSeparatedListOfIntegers(String string, IntPredicate intPredicate) {
-        Null.check(intPredicate).ifAny("IntPredicate cannot be null");
-        return Stream.of(string.split(",")).allMatch(string().not().isBlank().isInt(intPredicate));
+        Null.require("IntPredicate cannot be null", intPredicate);
+        int end = withoutTrailingCommas(string);
+        if (end == 0)
+            return !string.isEmpty();
+
+        for (int from = 0, to; from <= end; from = to + 1) {
+            to = indexOfComma(string, from, end);
+            long negatedValue = negatedValue(string, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            if (negatedValue == NOT_PARSED || !intPredicate.test((int) toValue(string, from, negatedValue)))
+                return false;
+        }
+        return true;
     }
 
     /**
@@ -309,6 +513,12 @@ public final class StringValidator extends ComparableValidator<String, StringVal
                 && dayValidator(year, month).isValid(day);
     }
 
+    /**
+     * Returned by parseIntOrSentinel() when the string is not an int; it is outside of int range, so it can never
+     * be a valid result
+     */
+    public static final long NOT_AN_INT = Long.MIN_VALUE;
+
     // CONSTRUCTORS
 
     public StringValidator() {
@@ -336,17 +546,6 @@ public final class StringValidator extends ComparableValidator<String, StringVal
     private enum Prefix {
         PLUS, MINUS, NEITHER;
 
-        public String removeFrom(String string) {
-            int prefixEndIndex = 0;
-            if (anyPrefix())
-                prefixEndIndex++;
-
-            while (prefixEndIndex < string.length() - 1 && string.charAt(prefixEndIndex) == '0')
-                prefixEndIndex++;
-
-            return string.substring(prefixEndIndex);
-        }
-
         private boolean isPositive() {
             return this == PLUS;
         }
@@ -370,12 +569,7 @@ public final class StringValidator extends ComparableValidator<String, StringVal
         }
     }
 
-    private static final StringValidator SUB_EMAIL_VALIDATOR = string()
-            .not().isBlank()
-            .not().contains("@")
-            .not().startsEndsOrContainsConsecutive(".");
-
-    private static final StringValidator ONLY_ZERO = string().passesAsChars(chars().allMatch(c -> c == '0'));
+    private static final StringValidator ONLY_ZERO = string().allCodePointsPass(c -> c == '0');
 
     private static final StringValidator YEAR_VALIDATOR = string().not().isBlank()
             .isInt(aPrimInt().isBetween(0, 999999999));
@@ -390,23 +584,99 @@ public final class StringValidator extends ComparableValidator<String, StringVal
         return DATE_PART_VALIDATOR.isInt(aPrimInt().isDayOfMonth(Integer.parseInt(year), Integer.parseInt(month)));
     }
 
-    private static final String MIN_INT = String.valueOf(Integer.MIN_VALUE).substring(1);
+    /**
+     * Returned by negatedValue() when the chars are not an integer or do not fit into the bounds; since the results
+     * are negated, it can never be a valid result
+     */
+    private static final long NOT_PARSED = 1;
+
+    /**
+     * <pre>
+     * Scans the chars from index "from" (inclusive) to index "to" (exclusive) as an integer with an optional prefix
+     * of '-' or '+', in a single pass
+     *
+     * The value is accumulated as a negative number, same as Long::parseLong does, because the negative range is
+     * larger; this way both bounds can be checked for overflow before it happens
+     * </pre>
+     * @return negated value of the integer, or NOT_PARSED if it is not an integer or does not fit between min and max
+     */
+    private static long negatedValue(String string, int from, int to, long min, long max) {
+        if (from >= to)
+            return NOT_PARSED;
+
+        char first = string.charAt(from);
+        boolean negative = first == '-';
+        if (negative || first == '+')
+            from++;
+
+        if (from >= to)
+            return NOT_PARSED;
+
+        long limit = negative ? min : -max;
+        long limitBeforeMultiplying = limit / 10;
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            int digit = string.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < limitBeforeMultiplying)
+                return NOT_PARSED;
+
+            result *= 10;
+            if (result < limit + digit)
+                return NOT_PARSED;
+
+            result -= digit;
+        }
+        return result;
+    }
+
+    /**
+     * @return value of the integer starting at given index, given its negated value from negatedValue()
+     */
+    private static long toValue(String string, int from, long negatedValue) {
+        return string.charAt(from) == '-' ? negatedValue : -negatedValue;
+    }
+
+    private static boolean isInteger(String string, int from, int to) {
+        if (from < to && (string.charAt(from) == '-' || string.charAt(from) == '+'))
+            from++;
+
+        if (from >= to)
+            return false;
+
+        for (int i = from; i < to; i++)
+            if (string.charAt(i) < '0' || string.charAt(i) > '9')
+                return false;
+
+        return true;
+    }
+
+    /**
+     * String::split drops trailing empty parts, so trailing commas were always allowed in the lists
+     * @return index at which trailing commas start
+     */
+    private static int withoutTrailingCommas(String string) {
+        int end = string.length();
+        while (end > 0 && string.charAt(end - 1) == ',')
+            end--;
 
-    private static final String MIN_LONG = String.valueOf(Long.MIN_VALUE).substring(1);
+        return end;
+    }
+
+    private static int indexOfComma(String string, int from, int to) {
+        while (from < to && string.charAt(from) != ',')
+            from++;
 
-    private static boolean fitsIntoInt(String string) {
-        return fitsInto(string, MIN_INT);
+        return from;
     }
 
-    private static boolean fitsIntoLong(String string) {
-        return fitsInto(string, MIN_LONG);
+    private static SubstringAutomaton substringAutomaton(Collection<String> subSequences, boolean ignoreAsciiCase) {
+        Null.require("Sub sequences cannot be null", subSequences);
+        Null.requireCollection("Sub sequences cannot contain null", subSequences);
+        return SubstringAutomaton.of(subSequences, ignoreAsciiCase);
     }
 
-    private static boolean fitsInto(String string, String min) {
-        Prefix prefix = Prefix.forString(string);
-        string = prefix.removeFrom(string);
-        return string.length() < min.length()
-                || string.length() == min.length() && (prefix.isNegative() && string.equals(min) || string.compareTo(min) < 0);
+    private static boolean isSimpleEmailPart(int from, int to, boolean blank, char last) {
+        return from < to && !blank && last != '.';
     }
 
 }
@@ -0,0 +1,156 @@
+package eu.goodlike.validate.impl;
+
+import java.util.*;
+
+/**
+ * <pre>
+ * Aho-Corasick automaton, which finds if any of the given patterns is a substring of some text
+ *
+ * The automaton is built once, then every search takes a single pass over the text, regardless of the amount of
+ * patterns; the transitions of every state are kept sorted in flat arrays, so the automaton stays compact even with
+ * thousands of patterns
+ *
+ * When the automaton ignores ASCII case, letters 'A' to 'Z' are treated as 'a' to 'z', both in the patterns and in
+ * the text; other chars are matched exactly
+ * </pre>
+ */
+final class SubstringAutomaton {
+
+    /**
+     * @return automaton which finds any of the given patterns
+     * @throws NullPointerException if patterns or any of them are null
+     */
+    static SubstringAutomaton of(Collection<String> patterns, boolean ignoreAsciiCase) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> matches = new ArrayList<>();
+        trie.add(new HashMap<>());
+        matches.add(false);
+
+        for (String pattern : patterns) {
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = normalize(pattern.charAt(i), ignoreAsciiCase);
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new HashMap<>());
+                    matches.add(false);
+                }
+                state = next;
+            }
+            matches.set(state, true);
+        }
+
+        return new SubstringAutomaton(trie, matches, ignoreAsciiCase);
+    }
+
+    /**
+     * @return true if any of the patterns is a substring of given text, false otherwise
+     * @throws NullPointerException if text is null
+     */
+    boolean foundIn(CharSequence text) {
+        if (matches[ROOT])
+            return true;
+
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = normalize(text.charAt(i), ignoreAsciiCase);
+            int next;
+            while ((next = transition(state, c)) < 0 && state != ROOT)
+                state = failures[state];
+
+            state = next < 0 ? ROOT : next;
+            if (matches[state])
+                return true;
+        }
+        return false;
+    }
+
+    // CONSTRUCTORS
+
+    private SubstringAutomaton(List<Map<Character, Integer>> trie, List<Boolean> matches, boolean ignoreAsciiCase) {
+        int states = trie.size();
+        this.offsets = new int[states + 1];
+        for (int state = 0; state < states; state++)
+            offsets[state + 1] = offsets[state] + trie.get(state).size();
+
+        this.keys = new char[offsets[states]];
+        this.targets = new int[offsets[states]];
+        for (int state = 0; state < states; state++) {
+            int index = offsets[state];
+            for (Map.Entry<Character, Integer> entry : new TreeMap<>(trie.get(state)).entrySet()) {
+                keys[index] = entry.getKey();
+                targets[index++] = entry.getValue();
+            }
+        }
+
+        this.matches = new boolean[states];
+        for (int state = 0; state < states; state++)
+            this.matches[state] = matches.get(state);
+
+        this.failures = new int[states];
+        this.ignoreAsciiCase = ignoreAsciiCase;
+        linkFailures();
+    }
+
+    // PRIVATE
+
+    private static final int ROOT = 0;
+
+    private final int[] offsets;
+    private final char[] keys;
+    private final int[] targets;
+    private final int[] failures;
+    private final boolean[] matches;
+    private final boolean ignoreAsciiCase;
+
+    /**
+     * Links every state to the state of its longest proper suffix, visiting the states breadth first; a state also
+     * matches if the state it is linked to matches, so the search can stop at the first matching state
+     */
+    private void linkFailures() {
+        Deque<Integer> remaining = new ArrayDeque<>();
+        for (int index = offsets[ROOT]; index < offsets[ROOT + 1]; index++)
+            remaining.add(targets[index]);
+
+        while (!remaining.isEmpty()) {
+            int state = remaining.poll();
+            for (int index = offsets[state]; index < offsets[state + 1]; index++) {
+                int child = targets[index];
+                int failure = failures[state];
+                int next;
+                while ((next = transition(failure, keys[index])) < 0 && failure != ROOT)
+                    failure = failures[failure];
+
+                failures[child] = next < 0 ? ROOT : next;
+                matches[child] |= matches[failures[child]];
+                remaining.add(child);
+            }
+        }
+    }
+
+    /**
+     * @return state reached from given state using given char, or -1 if there is no such transition
+     */
+    private int transition(int state, char c) {
+        int low = offsets[state];
+        int high = offsets[state + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char key = keys[middle];
+            if (key < c)
+                low = middle + 1;
+            else if (key > c)
+                high = middle - 1;
+            else
+                return targets[middle];
+        }
+        return -1;
+    }
+
+    private static char normalize(char c, boolean ignoreAsciiCase) {
+        return ignoreAsciiCase && c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+}
@@ -0,0 +1,468 @@
+package eu.goodlike.validate.primitive;
+
+import eu.goodlike.misc.LongHashSet;
+
+import java.util.*;
+import java.util.function.DoublePredicate;
+
+import static eu.goodlike.functional.Predicates.alwaysFalseForDouble;
+import static eu.goodlike.functional.Predicates.alwaysTrueForDouble;
+
+/**
+ * <pre>
+ * Predicates which are used by PrimitiveDoubleValidator to combine its conditions
+ *
+ * They are evaluated the same way as DoublePredicate.and() and DoublePredicate.or(), but they retain the structure of the
+ * combination, which allows it to be flattened into disjunctive normal form (an array of blocks, where the blocks
+ * are arrays of conditions) when the Validator is compiled
+ * </pre>
+ */
+final class DoubleConditions {
+
+    /**
+     * @return predicate which evaluates left && right
+     */
+    static DoublePredicate and(DoublePredicate left, DoublePredicate right) {
+        if (left == alwaysTrueForDouble())
+            return right;
+
+        if (left == alwaysFalseForDouble())
+            return left;
+
+        return new And(left, right);
+    }
+
+    /**
+     * @return predicate which evaluates left || right; if both predicates are compiled (or optimized), so is the result
+     */
+    static DoublePredicate or(DoublePredicate left, DoublePredicate right) {
+        if (left == alwaysFalseForDouble())
+            return right;
+
+        if (left == alwaysTrueForDouble())
+            return left;
+
+        if (left instanceof Compiled && right instanceof Compiled) {
+            Compiled compiledLeft = (Compiled) left;
+            Compiled compiledRight = (Compiled) right;
+            if (compiledLeft.optimized && compiledRight.optimized)
+                return optimize(new Or(left, right));
+
+            return new Compiled(concat(compiledLeft.blocks, compiledRight.blocks), false);
+        }
+
+        return new Or(left, right);
+    }
+
+    /**
+     * <pre>
+     * Returns a predicate which tests if the value is between min and max, using Double.compare(); this means NaN
+     * is considered to be larger than any other value, and -0.0 is considered to be less than 0.0
+     *
+     * Range without a lower bound can be expressed as (NEGATIVE_INFINITY, inclusive), without an upper bound as
+     * (NaN, inclusive)
+     * </pre>
+     */
+    static DoublePredicate range(double min, boolean minInclusive, double max, boolean maxInclusive) {
+        return new Range(min, minInclusive, max, maxInclusive);
+    }
+
+    /**
+     * <pre>
+     * Returns a predicate which tests if the value is one of the given values, using Double::equals semantics; the
+     * structure used for the test is chosen once, based on the values:
+     *      1) no values always fail
+     *      2) a single value becomes a range check, which can be optimized further
+     *      3) up to MAX_SCANNED_MEMBERSHIP values are kept in an array of their bits, which is scanned
+     *      4) more values are kept in an open addressing hash set of their bits
+     * </pre>
+     */
+    static DoublePredicate isIn(double[] values) {
+        LongHashSet bits = new LongHashSet(values.length);
+        for (double value : values)
+            bits.add(Double.doubleToLongBits(value));
+
+        if (bits.isEmpty())
+            return alwaysFalseForDouble();
+
+        if (bits.size() > MAX_SCANNED_MEMBERSHIP)
+            return value -> bits.contains(Double.doubleToLongBits(value));
+
+        long[] array = bits.toSortedArray();
+        if (array.length == 1) {
+            double value = Double.longBitsToDouble(array[0]);
+            return range(value, true, value, true);
+        }
+
+        return value -> contains(array, Double.doubleToLongBits(value));
+    }
+
+    /**
+     * @return predicate equivalent to the given one, flattened into disjunctive normal form
+     */
+    static Compiled compile(DoublePredicate condition) {
+        return new Compiled(toArray(toBlocks(condition)), false);
+    }
+
+    /**
+     * <pre>
+     * Returns a predicate equivalent to the given one, flattened into disjunctive normal form and optimized:
+     *      1) always true predicates are dropped, blocks with always false predicates are dropped
+     *      2) range checks in a block are intersected into the first of them; blocks with empty ranges are dropped
+     *      3) repeated blocks are dropped
+     *      4) if any block will always pass, it replaces all the blocks
+     *
+     * Custom predicates are assumed to have no side effects, therefore merged range checks can be moved ahead of them
+     * </pre>
+     */
+    static Compiled optimize(DoublePredicate condition) {
+        List<List<DoublePredicate>> blocks = new ArrayList<>();
+        for (List<DoublePredicate> block : toBlocks(condition)) {
+            List<DoublePredicate> next = optimizeBlock(block);
+            if (next == null || blocks.contains(next))
+                continue;
+
+            if (next.isEmpty()) {
+                blocks.clear();
+                blocks.add(next);
+                break;
+            }
+
+            blocks.add(next);
+        }
+        return new Compiled(toArray(blocks), true);
+    }
+
+    /**
+     * @return blocks of given predicate, flattened into disjunctive normal form; used to instrument the conditions,
+     * refer to Instrumentation::registerDoubles
+     */
+    static List<List<DoublePredicate>> toBlocks(DoublePredicate condition) {
+        List<List<DoublePredicate>> blocks = new ArrayList<>();
+        for (DoublePredicate block : split(condition, Or.class))
+            addBlocks(block, blocks);
+
+        return blocks;
+    }
+
+    /**
+     * @return predicate which evaluates given blocks as they are, i.e. after they were instrumented
+     */
+    static Compiled fromBlocks(List<List<DoublePredicate>> blocks) {
+        return new Compiled(toArray(blocks), false);
+    }
+
+    /**
+     * <pre>
+     * Evaluates a predicate in disjunctive normal form
+     *
+     * The blocks are evaluated in order, until one of them passes; conditions in a block are evaluated in order,
+     * until one of them fails
+     * </pre>
+     */
+    static final class Compiled implements DoublePredicate {
+        @Override
+        public boolean test(double value) {
+            for (DoublePredicate[] block : blocks)
+                if (passesAll(block, value))
+                    return true;
+
+            return false;
+        }
+
+        /**
+         * Marks the values from index "from" (inclusive) to index "to" (exclusive) which fail this predicate by
+         * setting bits in the given array of words
+         */
+        void markFailures(double[] values, int from, int to, long[] failures) {
+            if (ranges != null && ranges.length == 1) {
+                Range range = ranges[0];
+                for (int i = from; i < to; i++)
+                    failures[i >>> 6] |= (range.test(values[i]) ? 0L : 1L) << i;
+            }
+            else if (ranges != null) {
+                for (int i = from; i < to; i++)
+                    if (!inAnyRange(values[i]))
+                        failures[i >>> 6] |= 1L << i;
+            }
+            else {
+                for (int i = from; i < to; i++)
+                    if (!test(values[i]))
+                        failures[i >>> 6] |= 1L << i;
+            }
+        }
+
+        /**
+         * @return index of first value from index "from" (inclusive) to index "to" (exclusive) which fails this
+         * predicate, -1 if there is no such value
+         */
+        int firstFailure(double[] values, int from, int to) {
+            if (ranges != null && ranges.length == 1) {
+                Range range = ranges[0];
+                for (int i = from; i < to; i++)
+                    if (!range.test(values[i]))
+                        return i;
+            }
+            else if (ranges != null) {
+                for (int i = from; i < to; i++)
+                    if (!inAnyRange(values[i]))
+                        return i;
+            }
+            else {
+                for (int i = from; i < to; i++)
+                    if (!test(values[i]))
+                        return i;
+            }
+            return -1;
+        }
+
+        // CONSTRUCTORS
+
+        private Compiled(DoublePredicate[][] blocks, boolean optimized) {
+            this.blocks = blocks;
+            this.optimized = optimized;
+
+            boolean onlyRanges = blocks.length > 0;
+            for (DoublePredicate[] block : blocks)
+                onlyRanges &= block.length == 1 && block[0] instanceof Range;
+
+            this.ranges = onlyRanges ? new Range[blocks.length] : null;
+            for (int i = 0; onlyRanges && i < blocks.length; i++)
+                ranges[i] = (Range) blocks[i][0];
+        }
+
+        // PRIVATE
+
+        private final DoublePredicate[][] blocks;
+        private final boolean optimized;
+
+        // when every block is a single range check, the bulk operations call them directly
+        private final Range[] ranges;
+
+        private boolean inAnyRange(double value) {
+            for (Range range : ranges)
+                if (range.test(value))
+                    return true;
+
+            return false;
+        }
+
+        private static boolean passesAll(DoublePredicate[] block, double value) {
+            for (DoublePredicate condition : block)
+                if (!condition.test(value))
+                    return false;
+
+            return true;
+        }
+    }
+
+    // PRIVATE
+
+    private DoubleConditions() {
+        throw new AssertionError("Do not instantiate, use static methods!");
+    }
+
+    /**
+     * Up to this many values, scanning an array is at least as fast as a hash lookup; binary search was slower than
+     * both at every size, because its branches cannot be predicted
+     */
+    private static final int MAX_SCANNED_MEMBERSHIP = 8;
+
+    private static boolean contains(long[] values, long value) {
+        for (long next : values)
+            if (next == value)
+                return true;
+
+        return false;
+    }
+
+    private static final class And implements DoublePredicate {
+        @Override
+        public boolean test(double value) {
+            return left.test(value) && right.test(value);
+        }
+
+        private And(DoublePredicate left, DoublePredicate right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        private final DoublePredicate left;
+        private final DoublePredicate right;
+    }
+
+    private static final class Or implements DoublePredicate {
+        @Override
+        public boolean test(double value) {
+            return left.test(value) || right.test(value);
+        }
+
+        private Or(DoublePredicate left, DoublePredicate right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        private final DoublePredicate left;
+        private final DoublePredicate right;
+    }
+
+    private static final class Range implements DoublePredicate {
+        @Override
+        public boolean test(double value) {
+            int comparison = Double.compare(value, min);
+            if (comparison < 0 || comparison == 0 && !minInclusive)
+                return false;
+
+            comparison = Double.compare(value, max);
+            return comparison < 0 || comparison == 0 && maxInclusive;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Range)) return false;
+            Range range = (Range) o;
+            return Double.compare(min, range.min) == 0 &&
+                    minInclusive == range.minInclusive &&
+                    Double.compare(max, range.max) == 0 &&
+                    maxInclusive == range.maxInclusive;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(min, minInclusive, max, maxInclusive);
+        }
+
+        @Override
+        public String toString() {
+            return "range " + (minInclusive ? "[" : "(") + min + ", " + max + (maxInclusive ? "]" : ")");
+        }
+
+        private Range(double min, boolean minInclusive, double max, boolean maxInclusive) {
+            this.min = min;
+            this.minInclusive = minInclusive;
+            this.max = max;
+            this.maxInclusive = maxInclusive;
+        }
+
+        private final double min;
+        private final boolean minInclusive;
+        private final double max;
+        private final boolean maxInclusive;
+
+        private boolean isEmpty() {
+            int comparison = Double.compare(min, max);
+            return comparison > 0 || comparison == 0 && !(minInclusive && maxInclusive);
+        }
+
+        private Range intersect(Range other) {
+            int minComparison = Double.compare(min, other.min);
+            double min = minComparison >= 0 ? this.min : other.min;
+            boolean minInclusive = minComparison == 0
+                    ? this.minInclusive && other.minInclusive
+                    : minComparison > 0 ? this.minInclusive : other.minInclusive;
+
+            int maxComparison = Double.compare(max, other.max);
+            double max = maxComparison <= 0 ? this.max : other.max;
+            boolean maxInclusive = maxComparison == 0
+                    ? this.maxInclusive && other.maxInclusive
+                    : maxComparison < 0 ? this.maxInclusive : other.maxInclusive;
+
+            return new Range(min, minInclusive, max, maxInclusive);
+        }
+    }
+
+    private static List<DoublePredicate> optimizeBlock(List<DoublePredicate> block) {
+        List<DoublePredicate> conditions = new ArrayList<>();
+        int range = -1;
+        for (DoublePredicate condition : block) {
+            if (condition == alwaysFalseForDouble())
+                return null;
+
+            if (condition instanceof Range) {
+                Range next = (Range) condition;
+                if (range >= 0) {
+                    next = ((Range) conditions.get(range)).intersect(next);
+                    conditions.set(range, next);
+                }
+                else {
+                    range = conditions.size();
+                    conditions.add(next);
+                }
+
+                if (next.isEmpty())
+                    return null;
+            }
+            else
+                conditions.add(condition);
+        }
+        return conditions;
+    }
+
+    private static DoublePredicate[][] toArray(List<List<DoublePredicate>> blocks) {
+        DoublePredicate[][] array = new DoublePredicate[blocks.size()][];
+        for (int i = 0; i < array.length; i++)
+            array[i] = blocks.get(i).toArray(new DoublePredicate[blocks.get(i).size()]);
+
+        return array;
+    }
+
+    private static void addBlocks(DoublePredicate condition, List<List<DoublePredicate>> blocks) {
+        if (condition instanceof Compiled) {
+            for (DoublePredicate[] block : ((Compiled) condition).blocks)
+                blocks.add(new ArrayList<>(Arrays.asList(block)));
+            return;
+        }
+
+        if (condition == alwaysFalseForDouble())
+            return;
+
+        List<DoublePredicate> conditions = new ArrayList<>();
+        for (DoublePredicate next : split(condition, And.class))
+            addConditions(next, conditions);
+
+        blocks.add(conditions);
+    }
+
+    private static void addConditions(DoublePredicate condition, List<DoublePredicate> conditions) {
+        if (condition instanceof Compiled && ((Compiled) condition).blocks.length == 1) {
+            conditions.addAll(Arrays.asList(((Compiled) condition).blocks[0]));
+            return;
+        }
+
+        if (condition != alwaysTrueForDouble())
+            conditions.add(condition);
+    }
+
+    /**
+     * Splits nested And or Or predicates into a list of their operands, keeping the order of evaluation; this is
+     * done without recursion, because the chains built by the Validator are as deep as the amount of its conditions
+     */
+    private static List<DoublePredicate> split(DoublePredicate condition, Class<?> nodeClass) {
+        List<DoublePredicate> operands = new ArrayList<>();
+        Deque<DoublePredicate> remaining = new ArrayDeque<>();
+        remaining.push(condition);
+        while (!remaining.isEmpty()) {
+            DoublePredicate next = remaining.pop();
+            if (next instanceof And && nodeClass == And.class) {
+                remaining.push(((And) next).right);
+                remaining.push(((And) next).left);
+            }
+            else if (next instanceof Or && nodeClass == Or.class) {
+                remaining.push(((Or) next).right);
+                remaining.push(((Or) next).left);
+            }
+            else
+                operands.add(next);
+        }
+        return operands;
+    }
+
+    private static DoublePredicate[][] concat(DoublePredicate[][] left, DoublePredicate[][] right) {
+        DoublePredicate[][] blocks = new DoublePredicate[left.length + right.length][];
+        System.arraycopy(left, 0, blocks, 0, left.length);
+        System.arraycopy(right, 0, blocks, left.length, right.length);
+        return blocks;
+    }
+
+}
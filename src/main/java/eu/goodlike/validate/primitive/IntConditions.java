@@ -0,0 +1,434 @@
+package eu.goodlike.validate.primitive;
+
+import eu.goodlike.misc.IntHashSet;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+
+import static eu.goodlike.functional.Predicates.alwaysFalseForInt;
+import static eu.goodlike.functional.Predicates.alwaysTrueForInt;
+
+/**
+ * <pre>
+ * Predicates which are used by PrimitiveIntValidator to combine its conditions
+ *
+ * They are evaluated the same way as IntPredicate.and() and IntPredicate.or(), but they retain the structure of the
+ * combination, which allows it to be flattened into disjunctive normal form (an array of blocks, where the blocks
+ * are arrays of conditions) when the Validator is compiled
+ * </pre>
+ */
+final class IntConditions {
+
+    /**
+     * @return predicate which evaluates left && right
+     */
+    static IntPredicate and(IntPredicate left, IntPredicate right) {
+        if (left == alwaysTrueForInt())
+            return right;
+
+        if (left == alwaysFalseForInt())
+            return left;
+
+        return new And(left, right);
+    }
+
+    /**
+     * @return predicate which evaluates left || right; if both predicates are compiled (or optimized), so is the result
+     */
+    static IntPredicate or(IntPredicate left, IntPredicate right) {
+        if (left == alwaysFalseForInt())
+            return right;
+
+        if (left == alwaysTrueForInt())
+            return left;
+
+        if (left instanceof Compiled && right instanceof Compiled) {
+            Compiled compiledLeft = (Compiled) left;
+            Compiled compiledRight = (Compiled) right;
+            if (compiledLeft.optimized && compiledRight.optimized)
+                return optimize(new Or(left, right));
+
+            return new Compiled(concat(compiledLeft.blocks, compiledRight.blocks), false);
+        }
+
+        return new Or(left, right);
+    }
+
+    /**
+     * @return predicate which tests if the value is between min and max, inclusive; if min is more than max, it
+     * always fails
+     */
+    static IntPredicate range(int min, int max) {
+        return new Range(min, max);
+    }
+
+    /**
+     * <pre>
+     * Returns a predicate which tests if the value is one of the given values; the structure used for the test is
+     * chosen once, based on the values:
+     *      1) no values always fail
+     *      2) values without gaps (including a single value) become a range check, which can be optimized further
+     *      3) up to MAX_SCANNED_MEMBERSHIP values are kept in an array, which is scanned
+     *      4) more values are kept in an open addressing hash set
+     * </pre>
+     */
+    static IntPredicate isIn(int[] values) {
+        int[] sorted = IntHashSet.of(values).toSortedArray();
+        if (sorted.length == 0)
+            return alwaysFalseForInt();
+
+        if (sorted[sorted.length - 1] - sorted[0] == sorted.length - 1)
+            return range(sorted[0], sorted[sorted.length - 1]);
+
+        if (sorted.length <= MAX_SCANNED_MEMBERSHIP)
+            return value -> contains(sorted, value);
+
+        IntHashSet set = IntHashSet.of(sorted);
+        return set::contains;
+    }
+
+    /**
+     * @return predicate equivalent to the given one, flattened into disjunctive normal form
+     */
+    static Compiled compile(IntPredicate condition) {
+        return new Compiled(toArray(toBlocks(condition)), false);
+    }
+
+    /**
+     * <pre>
+     * Returns a predicate equivalent to the given one, flattened into disjunctive normal form and optimized:
+     *      1) always true predicates are dropped, blocks with always false predicates are dropped
+     *      2) range checks in a block are intersected into the first of them; blocks with empty ranges are dropped
+     *      3) repeated blocks are dropped
+     *      4) if any block will always pass, it replaces all the blocks
+     *
+     * Custom predicates are assumed to have no side effects, therefore merged range checks can be moved ahead of them
+     * </pre>
+     */
+    static Compiled optimize(IntPredicate condition) {
+        List<List<IntPredicate>> blocks = new ArrayList<>();
+        for (List<IntPredicate> block : toBlocks(condition)) {
+            List<IntPredicate> next = optimizeBlock(block);
+            if (next == null || blocks.contains(next))
+                continue;
+
+            if (next.isEmpty()) {
+                blocks.clear();
+                blocks.add(next);
+                break;
+            }
+
+            blocks.add(next);
+        }
+        return new Compiled(toArray(blocks), true);
+    }
+
+    /**
+     * @return blocks of given predicate, flattened into disjunctive normal form; used to instrument the conditions,
+     * refer to Instrumentation::registerInts
+     */
+    static List<List<IntPredicate>> toBlocks(IntPredicate condition) {
+        List<List<IntPredicate>> blocks = new ArrayList<>();
+        for (IntPredicate block : split(condition, Or.class))
+            addBlocks(block, blocks);
+
+        return blocks;
+    }
+
+    /**
+     * @return predicate which evaluates given blocks as they are, i.e. after they were instrumented
+     */
+    static Compiled fromBlocks(List<List<IntPredicate>> blocks) {
+        return new Compiled(toArray(blocks), false);
+    }
+
+    /**
+     * <pre>
+     * Evaluates a predicate in disjunctive normal form
+     *
+     * The blocks are evaluated in order, until one of them passes; conditions in a block are evaluated in order,
+     * until one of them fails
+     * </pre>
+     */
+    static final class Compiled implements IntPredicate {
+        @Override
+        public boolean test(int value) {
+            for (IntPredicate[] block : blocks)
+                if (passesAll(block, value))
+                    return true;
+
+            return false;
+        }
+
+        /**
+         * Marks the values from index "from" (inclusive) to index "to" (exclusive) which fail this predicate by
+         * setting bits in the given array of words
+         */
+        void markFailures(int[] values, int from, int to, long[] failures) {
+            if (mins != null && mins.length == 1) {
+                int min = mins[0];
+                int max = maxes[0];
+                for (int i = from; i < to; i++) {
+                    int value = values[i];
+                    failures[i >>> 6] |= (value < min | value > max ? 1L : 0L) << i;
+                }
+            }
+            else if (mins != null) {
+                for (int i = from; i < to; i++)
+                    if (!inAnyRange(values[i]))
+                        failures[i >>> 6] |= 1L << i;
+            }
+            else {
+                for (int i = from; i < to; i++)
+                    if (!test(values[i]))
+                        failures[i >>> 6] |= 1L << i;
+            }
+        }
+
+        /**
+         * @return index of first value from index "from" (inclusive) to index "to" (exclusive) which fails this
+         * predicate, -1 if there is no such value
+         */
+        int firstFailure(int[] values, int from, int to) {
+            if (mins != null && mins.length == 1) {
+                int min = mins[0];
+                int max = maxes[0];
+                for (int i = from; i < to; i++)
+                    if (values[i] < min | values[i] > max)
+                        return i;
+            }
+            else if (mins != null) {
+                for (int i = from; i < to; i++)
+                    if (!inAnyRange(values[i]))
+                        return i;
+            }
+            else {
+                for (int i = from; i < to; i++)
+                    if (!test(values[i]))
+                        return i;
+            }
+            return -1;
+        }
+
+        // CONSTRUCTORS
+
+        private Compiled(IntPredicate[][] blocks, boolean optimized) {
+            this.blocks = blocks;
+            this.optimized = optimized;
+
+            boolean onlyRanges = blocks.length > 0;
+            for (IntPredicate[] block : blocks)
+                onlyRanges &= block.length == 1 && block[0] instanceof Range;
+
+            this.mins = onlyRanges ? new int[blocks.length] : null;
+            this.maxes = onlyRanges ? new int[blocks.length] : null;
+            for (int i = 0; onlyRanges && i < blocks.length; i++) {
+                mins[i] = ((Range) blocks[i][0]).min;
+                maxes[i] = ((Range) blocks[i][0]).max;
+            }
+        }
+
+        // PRIVATE
+
+        private final IntPredicate[][] blocks;
+        private final boolean optimized;
+
+        // when every block is a single range check, the bulk operations use these bounds directly
+        private final int[] mins;
+        private final int[] maxes;
+
+        private boolean inAnyRange(int value) {
+            for (int i = 0; i < mins.length; i++)
+                if (value >= mins[i] && value <= maxes[i])
+                    return true;
+
+            return false;
+        }
+
+        private static boolean passesAll(IntPredicate[] block, int value) {
+            for (IntPredicate condition : block)
+                if (!condition.test(value))
+                    return false;
+
+            return true;
+        }
+    }
+
+    // PRIVATE
+
+    private IntConditions() {
+        throw new AssertionError("Do not instantiate, use static methods!");
+    }
+
+    /**
+     * Up to this many values, scanning an array is at least as fast as a hash lookup; binary search was slower than
+     * both at every size, because its branches cannot be predicted
+     */
+    private static final int MAX_SCANNED_MEMBERSHIP = 8;
+
+    private static boolean contains(int[] values, int value) {
+        for (int next : values)
+            if (next == value)
+                return true;
+
+        return false;
+    }
+
+    private static final class And implements IntPredicate {
+        @Override
+        public boolean test(int value) {
+            return left.test(value) && right.test(value);
+        }
+
+        private And(IntPredicate left, IntPredicate right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        private final IntPredicate left;
+        private final IntPredicate right;
+    }
+
+    private static final class Or implements IntPredicate {
+        @Override
+        public boolean test(int value) {
+            return left.test(value) || right.test(value);
+        }
+
+        private Or(IntPredicate left, IntPredicate right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        private final IntPredicate left;
+        private final IntPredicate right;
+    }
+
+    private static final class Range implements IntPredicate {
+        @Override
+        public boolean test(int value) {
+            return value >= min && value <= max;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Range)) return false;
+            Range range = (Range) o;
+            return min == range.min && max == range.max;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(min, max);
+        }
+
+        @Override
+        public String toString() {
+            return "range [" + min + ", " + max + "]";
+        }
+
+        private Range(int min, int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        private final int min;
+        private final int max;
+    }
+
+    private static List<IntPredicate> optimizeBlock(List<IntPredicate> block) {
+        List<IntPredicate> conditions = new ArrayList<>();
+        int range = -1;
+        for (IntPredicate condition : block) {
+            if (condition == alwaysFalseForInt())
+                return null;
+
+            if (condition instanceof Range) {
+                Range next = (Range) condition;
+                if (range >= 0) {
+                    Range previous = (Range) conditions.get(range);
+                    next = new Range(Math.max(previous.min, next.min), Math.min(previous.max, next.max));
+                    conditions.set(range, next);
+                }
+                else {
+                    range = conditions.size();
+                    conditions.add(next);
+                }
+
+                if (next.min > next.max)
+                    return null;
+            }
+            else
+                conditions.add(condition);
+        }
+        return conditions;
+    }
+
+    private static IntPredicate[][] toArray(List<List<IntPredicate>> blocks) {
+        IntPredicate[][] array = new IntPredicate[blocks.size()][];
+        for (int i = 0; i < array.length; i++)
+            array[i] = blocks.get(i).toArray(new IntPredicate[blocks.get(i).size()]);
+
+        return array;
+    }
+
+    private static void addBlocks(IntPredicate condition, List<List<IntPredicate>> blocks) {
+        if (condition instanceof Compiled) {
+            for (IntPredicate[] block : ((Compiled) condition).blocks)
+                blocks.add(new ArrayList<>(Arrays.asList(block)));
+            return;
+        }
+
+        if (condition == alwaysFalseForInt())
+            return;
+
+        List<IntPredicate> conditions = new ArrayList<>();
+        for (IntPredicate next : split(condition, And.class))
+            addConditions(next, conditions);
+
+        blocks.add(conditions);
+    }
+
+    private static void addConditions(IntPredicate condition, List<IntPredicate> conditions) {
+        if (condition instanceof Compiled && ((Compiled) condition).blocks.length == 1) {
+            conditions.addAll(Arrays.asList(((Compiled) condition).blocks[0]));
+            return;
+        }
+
+        if (condition != alwaysTrueForInt())
+            conditions.add(condition);
+    }
+
+    /**
+     * Splits nested And or Or predicates into a list of their operands, keeping the order of evaluation; this is
+     * done without recursion, because the chains built by the Validator are as deep as the amount of its conditions
+     */
+    private static List<IntPredicate> split(IntPredicate condition, Class<?> nodeClass) {
+        List<IntPredicate> operands = new ArrayList<>();
+        Deque<IntPredicate> remaining = new ArrayDeque<>();
+        remaining.push(condition);
+        while (!remaining.isEmpty()) {
+            IntPredicate next = remaining.pop();
+            if (next instanceof And && nodeClass == And.class) {
+                remaining.push(((And) next).right);
+                remaining.push(((And) next).left);
+            }
+            else if (next instanceof Or && nodeClass == Or.class) {
+                remaining.push(((Or) next).right);
+                remaining.push(((Or) next).left);
+            }
+            else
+                operands.add(next);
+        }
+        return operands;
+    }
+
+    private static IntPredicate[][] concat(IntPredicate[][] left, IntPredicate[][] right) {
+        IntPredicate[][] blocks = new IntPredicate[left.length + right.length][];
+        System.arraycopy(left, 0, blocks, 0, left.length);
+        System.arraycopy(right, 0, blocks, left.length, right.length);
+        return blocks;
+    }
+
+}
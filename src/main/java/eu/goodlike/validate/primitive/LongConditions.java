@@ -0,0 +1,434 @@
+package eu.goodlike.validate.primitive;
+
+import eu.goodlike.misc.LongHashSet;
+
+import java.util.*;
+import java.util.function.LongPredicate;
+
+import static eu.goodlike.functional.Predicates.alwaysFalseForLong;
+import static eu.goodlike.functional.Predicates.alwaysTrueForLong;
+
+/**
+ * <pre>
+ * Predicates which are used by PrimitiveLongValidator to combine its conditions
+ *
+ * They are evaluated the same way as LongPredicate.and() and LongPredicate.or(), but they retain the structure of the
+ * combination, which allows it to be flattened into disjunctive normal form (an array of blocks, where the blocks
+ * are arrays of conditions) when the Validator is compiled
+ * </pre>
+ */
+final class LongConditions {
+
+    /**
+     * @return predicate which evaluates left && right
+     */
+    static LongPredicate and(LongPredicate left, LongPredicate right) {
+        if (left == alwaysTrueForLong())
+            return right;
+
+        if (left == alwaysFalseForLong())
+            return left;
+
+        return new And(left, right);
+    }
+
+    /**
+     * @return predicate which evaluates left || right; if both predicates are compiled (or optimized), so is the result
+     */
+    static LongPredicate or(LongPredicate left, LongPredicate right) {
+        if (left == alwaysFalseForLong())
+            return right;
+
+        if (left == alwaysTrueForLong())
+            return left;
+
+        if (left instanceof Compiled && right instanceof Compiled) {
+            Compiled compiledLeft = (Compiled) left;
+            Compiled compiledRight = (Compiled) right;
+            if (compiledLeft.optimized && compiledRight.optimized)
+                return optimize(new Or(left, right));
+
+            return new Compiled(concat(compiledLeft.blocks, compiledRight.blocks), false);
+        }
+
+        return new Or(left, right);
+    }
+
+    /**
+     * @return predicate which tests if the value is between min and max, inclusive; if min is more than max, it
+     * always fails
+     */
+    static LongPredicate range(long min, long max) {
+        return new Range(min, max);
+    }
+
+    /**
+     * <pre>
+     * Returns a predicate which tests if the value is one of the given values; the structure used for the test is
+     * chosen once, based on the values:
+     *      1) no values always fail
+     *      2) values without gaps (including a single value) become a range check, which can be optimized further
+     *      3) up to MAX_SCANNED_MEMBERSHIP values are kept in an array, which is scanned
+     *      4) more values are kept in an open addressing hash set
+     * </pre>
+     */
+    static LongPredicate isIn(long[] values) {
+        long[] sorted = LongHashSet.of(values).toSortedArray();
+        if (sorted.length == 0)
+            return alwaysFalseForLong();
+
+        if (sorted[sorted.length - 1] - sorted[0] == sorted.length - 1)
+            return range(sorted[0], sorted[sorted.length - 1]);
+
+        if (sorted.length <= MAX_SCANNED_MEMBERSHIP)
+            return value -> contains(sorted, value);
+
+        LongHashSet set = LongHashSet.of(sorted);
+        return set::contains;
+    }
+
+    /**
+     * @return predicate equivalent to the given one, flattened into disjunctive normal form
+     */
+    static Compiled compile(LongPredicate condition) {
+        return new Compiled(toArray(toBlocks(condition)), false);
+    }
+
+    /**
+     * <pre>
+     * Returns a predicate equivalent to the given one, flattened into disjunctive normal form and optimized:
+     *      1) always true predicates are dropped, blocks with always false predicates are dropped
+     *      2) range checks in a block are intersected into the first of them; blocks with empty ranges are dropped
+     *      3) repeated blocks are dropped
+     *      4) if any block will always pass, it replaces all the blocks
+     *
+     * Custom predicates are assumed to have no side effects, therefore merged range checks can be moved ahead of them
+     * </pre>
+     */
+    static Compiled optimize(LongPredicate condition) {
+        List<List<LongPredicate>> blocks = new ArrayList<>();
+        for (List<LongPredicate> block : toBlocks(condition)) {
+            List<LongPredicate> next = optimizeBlock(block);
+            if (next == null || blocks.contains(next))
+                continue;
+
+            if (next.isEmpty()) {
+                blocks.clear();
+                blocks.add(next);
+                break;
+            }
+
+            blocks.add(next);
+        }
+        return new Compiled(toArray(blocks), true);
+    }
+
+    /**
+     * @return blocks of given predicate, flattened into disjunctive normal form; used to instrument the conditions,
+     * refer to Instrumentation::registerLongs
+     */
+    static List<List<LongPredicate>> toBlocks(LongPredicate condition) {
+        List<List<LongPredicate>> blocks = new ArrayList<>();
+        for (LongPredicate block : split(condition, Or.class))
+            addBlocks(block, blocks);
+
+        return blocks;
+    }
+
+    /**
+     * @return predicate which evaluates given blocks as they are, i.e. after they were instrumented
+     */
+    static Compiled fromBlocks(List<List<LongPredicate>> blocks) {
+        return new Compiled(toArray(blocks), false);
+    }
+
+    /**
+     * <pre>
+     * Evaluates a predicate in disjunctive normal form
+     *
+     * The blocks are evaluated in order, until one of them passes; conditions in a block are evaluated in order,
+     * until one of them fails
+     * </pre>
+     */
+    static final class Compiled implements LongPredicate {
+        @Override
+        public boolean test(long value) {
+            for (LongPredicate[] block : blocks)
+                if (passesAll(block, value))
+                    return true;
+
+            return false;
+        }
+
+        /**
+         * Marks the values from index "from" (inclusive) to index "to" (exclusive) which fail this predicate by
+         * setting bits in the given array of words
+         */
+        void markFailures(long[] values, int from, int to, long[] failures) {
+            if (mins != null && mins.length == 1) {
+                long min = mins[0];
+                long max = maxes[0];
+                for (int i = from; i < to; i++) {
+                    long value = values[i];
+                    failures[i >>> 6] |= (value < min | value > max ? 1L : 0L) << i;
+                }
+            }
+            else if (mins != null) {
+                for (int i = from; i < to; i++)
+                    if (!inAnyRange(values[i]))
+                        failures[i >>> 6] |= 1L << i;
+            }
+            else {
+                for (int i = from; i < to; i++)
+                    if (!test(values[i]))
+                        failures[i >>> 6] |= 1L << i;
+            }
+        }
+
+        /**
+         * @return index of first value from index "from" (inclusive) to index "to" (exclusive) which fails this
+         * predicate, -1 if there is no such value
+         */
+        int firstFailure(long[] values, int from, int to) {
+            if (mins != null && mins.length == 1) {
+                long min = mins[0];
+                long max = maxes[0];
+                for (int i = from; i < to; i++)
+                    if (values[i] < min | values[i] > max)
+                        return i;
+            }
+            else if (mins != null) {
+                for (int i = from; i < to; i++)
+                    if (!inAnyRange(values[i]))
+                        return i;
+            }
+            else {
+                for (int i = from; i < to; i++)
+                    if (!test(values[i]))
+                        return i;
+            }
+            return -1;
+        }
+
+        // CONSTRUCTORS
+
+        private Compiled(LongPredicate[][] blocks, boolean optimized) {
+            this.blocks = blocks;
+            this.optimized = optimized;
+
+            boolean onlyRanges = blocks.length > 0;
+            for (LongPredicate[] block : blocks)
+                onlyRanges &= block.length == 1 && block[0] instanceof Range;
+
+            this.mins = onlyRanges ? new long[blocks.length] : null;
+            this.maxes = onlyRanges ? new long[blocks.length] : null;
+            for (int i = 0; onlyRanges && i < blocks.length; i++) {
+                mins[i] = ((Range) blocks[i][0]).min;
+                maxes[i] = ((Range) blocks[i][0]).max;
+            }
+        }
+
+        // PRIVATE
+
+        private final LongPredicate[][] blocks;
+        private final boolean optimized;
+
+        // when every block is a single range check, the bulk operations use these bounds directly
+        private final long[] mins;
+        private final long[] maxes;
+
+        private boolean inAnyRange(long value) {
+            for (int i = 0; i < mins.length; i++)
+                if (value >= mins[i] && value <= maxes[i])
+                    return true;
+
+            return false;
+        }
+
+        private static boolean passesAll(LongPredicate[] block, long value) {
+            for (LongPredicate condition : block)
+                if (!condition.test(value))
+                    return false;
+
+            return true;
+        }
+    }
+
+    // PRIVATE
+
+    private LongConditions() {
+        throw new AssertionError("Do not instantiate, use static methods!");
+    }
+
+    /**
+     * Up to this many values, scanning an array is at least as fast as a hash lookup; binary search was slower than
+     * both at every size, because its branches cannot be predicted
+     */
+    private static final int MAX_SCANNED_MEMBERSHIP = 8;
+
+    private static boolean contains(long[] values, long value) {
+        for (long next : values)
+            if (next == value)
+                return true;
+
+        return false;
+    }
+
+    private static final class And implements LongPredicate {
+        @Override
+        public boolean test(long value) {
+            return left.test(value) && right.test(value);
+        }
+
+        private And(LongPredicate left, LongPredicate right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        private final LongPredicate left;
+        private final LongPredicate right;
+    }
+
+    private static final class Or implements LongPredicate {
+        @Override
+        public boolean test(long value) {
+            return left.test(value) || right.test(value);
+        }
+
+        private Or(LongPredicate left, LongPredicate right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        private final LongPredicate left;
+        private final LongPredicate right;
+    }
+
+    private static final class Range implements LongPredicate {
+        @Override
+        public boolean test(long value) {
+            return value >= min && value <= max;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Range)) return false;
+            Range range = (Range) o;
+            return min == range.min && max == range.max;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(min, max);
+        }
+
+        @Override
+        public String toString() {
+            return "range [" + min + ", " + max + "]";
+        }
+
+        private Range(long min, long max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        private final long min;
+        private final long max;
+    }
+
+    private static List<LongPredicate> optimizeBlock(List<LongPredicate> block) {
+        List<LongPredicate> conditions = new ArrayList<>();
+        int range = -1;
+        for (LongPredicate condition : block) {
+            if (condition == alwaysFalseForLong())
+                return null;
+
+            if (condition instanceof Range) {
+                Range next = (Range) condition;
+                if (range >= 0) {
+                    Range previous = (Range) conditions.get(range);
+                    next = new Range(Math.max(previous.min, next.min), Math.min(previous.max, next.max));
+                    conditions.set(range, next);
+                }
+                else {
+                    range = conditions.size();
+                    conditions.add(next);
+                }
+
+                if (next.min > next.max)
+                    return null;
+            }
+            else
+                conditions.add(condition);
+        }
+        return conditions;
+    }
+
+    private static LongPredicate[][] toArray(List<List<LongPredicate>> blocks) {
+        LongPredicate[][] array = new LongPredicate[blocks.size()][];
+        for (int i = 0; i < array.length; i++)
+            array[i] = blocks.get(i).toArray(new LongPredicate[blocks.get(i).size()]);
+
+        return array;
+    }
+
+    private static void addBlocks(LongPredicate condition, List<List<LongPredicate>> blocks) {
+        if (condition instanceof Compiled) {
+            for (LongPredicate[] block : ((Compiled) condition).blocks)
+                blocks.add(new ArrayList<>(Arrays.asList(block)));
+            return;
+        }
+
+        if (condition == alwaysFalseForLong())
+            return;
+
+        List<LongPredicate> conditions = new ArrayList<>();
+        for (LongPredicate next : split(condition, And.class))
+            addConditions(next, conditions);
+
+        blocks.add(conditions);
+    }
+
+    private static void addConditions(LongPredicate condition, List<LongPredicate> conditions) {
+        if (condition instanceof Compiled && ((Compiled) condition).blocks.length == 1) {
+            conditions.addAll(Arrays.asList(((Compiled) condition).blocks[0]));
+            return;
+        }
+
+        if (condition != alwaysTrueForLong())
+            conditions.add(condition);
+    }
+
+    /**
+     * Splits nested And or Or predicates into a list of their operands, keeping the order of evaluation; this is
+     * done without recursion, because the chains built by the Validator are as deep as the amount of its conditions
+     */
+    private static List<LongPredicate> split(LongPredicate condition, Class<?> nodeClass) {
+        List<LongPredicate> operands = new ArrayList<>();
+        Deque<LongPredicate> remaining = new ArrayDeque<>();
+        remaining.push(condition);
+        while (!remaining.isEmpty()) {
+            LongPredicate next = remaining.pop();
+            if (next instanceof And && nodeClass == And.class) {
+                remaining.push(((And) next).right);
+                remaining.push(((And) next).left);
+            }
+            else if (next instanceof Or && nodeClass == Or.class) {
+                remaining.push(((Or) next).right);
+                remaining.push(((Or) next).left);
+            }
+            else
+                operands.add(next);
+        }
+        return operands;
+    }
+
+    private static LongPredicate[][] concat(LongPredicate[][] left, LongPredicate[][] right) {
+        LongPredicate[][] blocks = new LongPredicate[left.length + right.length][];
+        System.arraycopy(left, 0, blocks, 0, left.length);
+        System.arraycopy(right, 0, blocks, left.length, right.length);
+        return blocks;
+    }
+
+}
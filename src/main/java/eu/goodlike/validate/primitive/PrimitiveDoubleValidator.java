@@ -1,14 +1,20 @@
 package eu.goodlike.validate.primitive;
 
-import com.google.common.primitives.Doubles;
 import eu.goodlike.neat.Null;
+import eu.goodlike.validate.BulkValidation;
+import eu.goodlike.validate.Instrumentation;
 
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
 
 import static eu.goodlike.functional.Predicates.*;
+import static eu.goodlike.misc.Constants.DEFAULT_PARALLEL_THRESHOLD;
 
 /**
  * Validator for double (primitive)
@@ -35,7 +41,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if collection is null
      */
     public final PrimitiveDoubleValidator isIn(Collection<Double> collection) {
-        Null.check(collection).ifAny("Collection cannot be null");
+        Null.require("Collection cannot be null", collection);
         return registerCondition(collection::contains);
     }
 
@@ -44,8 +50,8 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if array is null
      */
     public final PrimitiveDoubleValidator isIn(double... array) {
-        Null.checkAlone(array).ifAny("Array cannot be null");
-        return isIn(Doubles.asList(array));
+        Null.require("Array cannot be null", array);
+        return registerCondition(DoubleConditions.isIn(array));
     }
 
     /**
@@ -53,8 +59,8 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if array is null
      */
     public final PrimitiveDoubleValidator isIn(Double[] array) {
-        Null.checkAlone(array).ifAny("Array cannot be null");
-        return isIn(Arrays.asList(array));
+        Null.require("Array cannot be null", array);
+        return isIn(Stream.of(array).filter(Objects::nonNull).mapToDouble(Double::doubleValue).toArray());
     }
 
     /**
@@ -62,7 +68,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if map is null
      */
     public final PrimitiveDoubleValidator isKeyOf(Map<Double, ?> map) {
-        Null.check(map).ifAny("Map cannot be null");
+        Null.require("Map cannot be null", map);
         return isIn(map.keySet());
     }
 
@@ -71,7 +77,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if map is null
      */
     public final PrimitiveDoubleValidator isValueIn(Map<?, Double> map) {
-        Null.check(map).ifAny("Map cannot be null");
+        Null.require("Map cannot be null", map);
         return isIn(map.values());
     }
 
@@ -88,7 +94,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final <U> PrimitiveDoubleValidator passesAs(DoubleFunction<? extends U> mapper, Predicate<? super U> customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.apply(o)));
     }
 
@@ -97,7 +103,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final PrimitiveDoubleValidator passesAsInt(DoubleToIntFunction mapper, IntPredicate customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.applyAsInt(o)));
     }
 
@@ -106,7 +112,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final PrimitiveDoubleValidator passesAsLong(DoubleToLongFunction mapper, LongPredicate customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.applyAsLong(o)));
     }
 
@@ -114,8 +120,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * Adds a predicate which tests if the comparable being validated is equal based on its comparison
      */
     public final PrimitiveDoubleValidator isEqualComparably(double other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Double.compare(t, other) == 0);
+        return registerRange(other, true, other, true);
     }
 
     /**
@@ -123,8 +128,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * based on their comparison
      */
     public final PrimitiveDoubleValidator isLessThan(double other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Double.compare(t, other) < 0);
+        return registerRange(Double.NEGATIVE_INFINITY, true, other, false);
     }
 
     /**
@@ -132,8 +136,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * based on their comparison
      */
     public final PrimitiveDoubleValidator isMoreThan(double other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Double.compare(t, other) > 0);
+        return registerRange(other, false, Double.NaN, true);
     }
 
     /**
@@ -141,16 +144,14 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * based on their comparison
      */
     public final PrimitiveDoubleValidator isAtLeast(double other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Double.compare(t, other) >= 0);
+        return registerRange(other, true, Double.NaN, true);
     }
     /**
      * Adds a predicate which tests if the comparable being validated is at most as big given comparable
      * based on their comparison
      */
     public final PrimitiveDoubleValidator isAtMost(double other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Double.compare(t, other) <= 0);
+        return registerRange(Double.NEGATIVE_INFINITY, true, other, true);
     }
 
     /**
@@ -162,8 +163,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * </pre>
      */
     public final PrimitiveDoubleValidator isBetween(double left, double right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Double.compare(t, left) >= 0, t -> Double.compare(t, right) <= 0);
+        return registerRange(left, true, right, true);
     }
 
     /**
@@ -175,8 +175,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * </pre>
      */
     public final PrimitiveDoubleValidator isBetweenExclusive(double left, double right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Double.compare(t, left) > 0, t -> Double.compare(t, right) < 0);
+        return registerRange(left, false, right, false);
     }
 
     /**
@@ -188,8 +187,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * </pre>
      */
     public final PrimitiveDoubleValidator isBetweenExclusiveLeft(double left, double right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Double.compare(t, left) > 0, t -> Double.compare(t, right) <= 0);
+        return registerRange(left, false, right, true);
     }
 
     /**
@@ -201,8 +199,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * </pre>
      */
     public final PrimitiveDoubleValidator isBetweenExclusiveRight(double left, double right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Double.compare(t, left) >= 0, t -> Double.compare(t, right) < 0);
+        return registerRange(left, true, right, false);
     }
 
     /**
@@ -225,7 +222,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * </pre>
      */
     public final PrimitiveDoubleValidator or() {
-        return new PrimitiveDoubleValidator(fullCondition(), alwaysTrueForDouble(), false);
+        return new PrimitiveDoubleValidator(fullCondition, alwaysTrueForDouble(), false);
     }
 
     /**
@@ -241,9 +238,148 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
         return new PrimitiveDoubleValidator(mainCondition, accumulatedCondition, !negateNext);
     }
 
+    /**
+     * <pre>
+     * Returns a Validator which is equivalent to this one, but has all of its predicates flattened into disjunctive
+     * normal form: an array of or() blocks, each of which is an array of predicates
+     *
+     * Such a Validator evaluates its predicates in a single loop rather than a chain of nested predicates, which
+     * makes it preferable for Validators that are cached and used often
+     *
+     * Predicates can still be added to the compiled Validator; they will be flattened by the next call to compile()
+     * </pre>
+     */
+    public final PrimitiveDoubleValidator compile() {
+        return new PrimitiveDoubleValidator(DoubleConditions.compile(mainCondition), DoubleConditions.compile(accumulatedCondition), negateNext);
+    }
+
+    /**
+     * <pre>
+     * Returns a compiled Validator (refer to compile()), which is further optimized using the built-in predicates
+     * of this Validator, such as comparisons:
+     *      1) always true predicates are dropped, blocks with always false predicates are dropped
+     *      2) multiple comparisons (i.e. isAtLeast(), isAtMost(), isBetween()) are intersected into a single range check
+     *      3) repeated blocks are dropped; if any block always passes, the Validator always passes
+     *
+     * The resulting Validator accepts exactly the same values, but makes fewer predicate calls to do so. Custom
+     * predicates are assumed to not have side effects, therefore they may be skipped or evaluated in a different
+     * order relative to the built-in ones
+     * </pre>
+     */
+    public final PrimitiveDoubleValidator optimize() {
+        return new PrimitiveDoubleValidator(DoubleConditions.optimize(mainCondition), DoubleConditions.optimize(accumulatedCondition), negateNext);
+    }
+
+    /**
+     * <pre>
+     * Returns a compiled Validator (refer to compile()), which records invocations, rejections and sampled timings
+     * of every one of its predicates; the statistics are registered under given name, refer to Instrumentation
+     *
+     * Validators which are not instrumented are not affected in any way
+     * </pre>
+     * @throws NullPointerException if name is null
+     * @throws IllegalArgumentException if an instrumentation with given name is already registered
+     */
+    public final PrimitiveDoubleValidator instrumented(String name) {
+        List<List<DoublePredicate>> mainBlocks = DoubleConditions.toBlocks(mainCondition);
+        List<List<DoublePredicate>> accumulatedBlocks = DoubleConditions.toBlocks(accumulatedCondition);
+        Instrumentation.registerDoubles(name, mainBlocks, accumulatedBlocks);
+        return new PrimitiveDoubleValidator(DoubleConditions.fromBlocks(mainBlocks),
+                DoubleConditions.fromBlocks(accumulatedBlocks), negateNext);
+    }
+
+    /**
+     * <pre>
+     * Validates every value in the array; the array is validated in parallel if it has more than
+     * DEFAULT_PARALLEL_THRESHOLD values
+     *
+     * Bulk operations use the optimized form of this Validator (refer to optimize()); if it consists only of range
+     * checks, they are evaluated as plain comparisons, without calling any predicates
+     * </pre>
+     * @return BitSet with the indexes of values which did not pass this Validator
+     * @throws NullPointerException if values is null
+     */
+    public final BitSet testAll(double[] values) {
+        return testAll(values, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * <pre>
+     * Validates every value in the array; the array is validated in parallel if it has more than parallelThreshold
+     * values
+     *
+     * Bulk operations use the optimized form of this Validator (refer to optimize()); if it consists only of range
+     * checks, they are evaluated as plain comparisons, without calling any predicates
+     * </pre>
+     * @return BitSet with the indexes of values which did not pass this Validator
+     * @throws NullPointerException if values is null
+     * @throws IllegalArgumentException if parallelThreshold is not positive
+     */
+    public final BitSet testAll(double[] values, int parallelThreshold) {
+        Null.require("Array cannot be null", values);
+        DoubleConditions.Compiled condition = bulkCondition();
+        return BulkValidation.failures(values.length, parallelThreshold,
+                (from, to, failures) -> condition.markFailures(values, from, to, failures));
+    }
+
+    /**
+     * @return true if every value in the array passes this Validator, false otherwise
+     * @throws NullPointerException if values is null
+     */
+    public final boolean allValid(double[] values) {
+        Null.require("Array cannot be null", values);
+        return allValid(values, 0, values.length);
+    }
+
+    /**
+     * @return true if every value in the array from index "from" (inclusive) to index "to" (exclusive) passes this
+     * Validator, false otherwise
+     * @throws NullPointerException if values is null
+     * @throws IndexOutOfBoundsException if from or to are out of bounds of the array, or from is more than to
+     */
+    public final boolean allValid(double[] values, int from, int to) {
+        return firstInvalidIndex(values, from, to) < 0;
+    }
+
+    /**
+     * @return index of the first value in the array which does not pass this Validator, -1 if all values pass
+     * @throws NullPointerException if values is null
+     */
+    public final int firstInvalidIndex(double[] values) {
+        Null.require("Array cannot be null", values);
+        return firstInvalidIndex(values, 0, values.length);
+    }
+
+    /**
+     * @return index of the first value in the array from index "from" (inclusive) to index "to" (exclusive) which
+     * does not pass this Validator, -1 if all values pass
+     * @throws NullPointerException if values is null
+     * @throws IndexOutOfBoundsException if from or to are out of bounds of the array, or from is more than to
+     */
+    public final int firstInvalidIndex(double[] values, int from, int to) {
+        Null.require("Array cannot be null", values);
+        if (from < 0 || to > values.length || from > to)
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for array of length " + values.length);
+
+        return bulkCondition().firstFailure(values, from, to);
+    }
+
+    /**
+     * <pre>
+     * Filters the stream, leaving only the values which pass this Validator
+     *
+     * If the stream is parallel, so is the validation
+     * </pre>
+     * @throws NullPointerException if values is null
+     */
+    public final DoubleStream filterValid(DoubleStream values) {
+        Null.require("Stream cannot be null", values);
+        return values.filter(bulkCondition());
+    }
+
     @Override
     public boolean test(double value) {
-        return fullCondition().test(value);
+        return fullCondition.test(value);
     }
 
     /**
@@ -272,7 +408,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if customAction is null
      */
     public final PrimitiveDoubleValidator ifInvalidRun(double value, Runnable customAction) {
-        Null.check(customAction).ifAny("Runnable cannot be null");
+        Null.require("Runnable cannot be null", customAction);
 
         if (isInvalid(value))
             customAction.run();
@@ -285,7 +421,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if valueConsumer is null
      */
     public final PrimitiveDoubleValidator ifInvalidAccept(double value, DoubleConsumer valueConsumer) {
-        Null.check(valueConsumer).ifAny("Consumer cannot be null");
+        Null.require("Consumer cannot be null", valueConsumer);
 
         if (isInvalid(value))
             valueConsumer.accept(value);
@@ -298,7 +434,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if exceptionSupplier is null
      */
     public final <X extends Throwable> PrimitiveDoubleValidator ifInvalidThrow(double value, Supplier<? extends X> exceptionSupplier) throws X {
-        Null.check(exceptionSupplier).ifAny("Exception supplier cannot be null");
+        Null.require("Exception supplier cannot be null", exceptionSupplier);
 
         if (isInvalid(value))
             throw exceptionSupplier.get();
@@ -312,7 +448,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
      * @throws NullPointerException if exceptionFunction is null
      */
     public final <X extends Throwable> PrimitiveDoubleValidator ifInvalidThrowWith(double value, DoubleFunction<? extends X> exceptionFunction) throws X {
-        Null.check(exceptionFunction).ifAny("Exception supplier cannot be null");
+        Null.require("Exception supplier cannot be null", exceptionFunction);
 
         if (isInvalid(value))
             throw exceptionFunction.apply(value);
@@ -330,6 +466,8 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
         this.mainCondition = mainCondition;
         this.accumulatedCondition = accumulatedCondition;
         this.negateNext = negateNext;
+
+        this.fullCondition = DoubleConditions.or(mainCondition, accumulatedCondition);
     }
 
     // PRIVATE
@@ -338,21 +476,30 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
     private final DoublePredicate accumulatedCondition;
     private final boolean negateNext;
 
-    private DoublePredicate fullCondition() {
-        return mainCondition.or(accumulatedCondition);
+    private final DoublePredicate fullCondition;
+
+    // optimized fullCondition, used by bulk operations; it is only created when needed
+    private DoubleConditions.Compiled bulkCondition;
+
+    private DoubleConditions.Compiled bulkCondition() {
+        DoubleConditions.Compiled condition = bulkCondition;
+        if (condition == null)
+            bulkCondition = condition = DoubleConditions.optimize(fullCondition);
+
+        return condition;
     }
 
     private PrimitiveDoubleValidator registerCondition(DoublePredicate condition) {
-        Null.check(condition).ifAny("Predicate cannot be null");
+        Null.require("Predicate cannot be null", condition);
 
         if (negateNext)
             condition = condition.negate();
 
-        return new PrimitiveDoubleValidator(mainCondition, accumulatedCondition.and(condition), false);
+        return new PrimitiveDoubleValidator(mainCondition, DoubleConditions.and(accumulatedCondition, condition), false);
     }
 
-    private PrimitiveDoubleValidator registerConditions(DoublePredicate... conditions) {
-        return registerCondition(conjunction(conditions));
+    private PrimitiveDoubleValidator registerRange(double min, boolean minInclusive, double max, boolean maxInclusive) {
+        return registerCondition(DoubleConditions.range(min, minInclusive, max, maxInclusive));
     }
 
     /**
@@ -394,7 +541,7 @@ public final class PrimitiveDoubleValidator implements DoublePredicate {
         // CONSTRUCTORS
 
         public static PrimitiveDoubleValidatorActor of(int value, PrimitiveDoubleValidator validator) {
-            Null.check(value, validator).ifAny("Value and validator cannot be null");
+            Null.require("Validator cannot be null", validator);
             return new PrimitiveDoubleValidatorActor(value, validator);
         }
 
@@ -1,17 +1,23 @@
 package eu.goodlike.validate.primitive;
 
-import com.google.common.primitives.Ints;
 import eu.goodlike.neat.Null;
+import eu.goodlike.validate.BulkValidation;
+import eu.goodlike.validate.Instrumentation;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ValueRange;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static eu.goodlike.functional.Predicates.*;
+import static eu.goodlike.misc.Constants.DEFAULT_PARALLEL_THRESHOLD;
 
 /**
  * Validator for int (primitive)
@@ -85,7 +91,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * Adds a predicate which tests if the int being validated is equal to some other int
      */
     public final PrimitiveIntValidator isEqual(int t) {
-        return registerCondition(o -> o == t);
+        return registerRange(t, true, t, true);
     }
 
     /**
@@ -93,7 +99,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if collection is null
      */
     public final PrimitiveIntValidator isIn(Collection<Integer> collection) {
-        Null.check(collection).ifAny("Collection cannot be null");
+        Null.require("Collection cannot be null", collection);
         return registerCondition(collection::contains);
     }
 
@@ -102,8 +108,8 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if array is null
      */
     public final PrimitiveIntValidator isIn(int... array) {
-        Null.checkAlone(array).ifAny("Array cannot be null");
-        return isIn(Ints.asList(array));
+        Null.require("Array cannot be null", array);
+        return registerCondition(IntConditions.isIn(array));
     }
 
     /**
@@ -111,8 +117,8 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if array is null
      */
     public final PrimitiveIntValidator isIn(Integer[] array) {
-        Null.checkAlone(array).ifAny("Array cannot be null");
-        return isIn(Arrays.asList(array));
+        Null.require("Array cannot be null", array);
+        return isIn(Stream.of(array).filter(Objects::nonNull).mapToInt(Integer::intValue).toArray());
     }
 
     /**
@@ -120,7 +126,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if map is null
      */
     public final PrimitiveIntValidator isKeyOf(Map<Integer, ?> map) {
-        Null.check(map).ifAny("Map cannot be null");
+        Null.require("Map cannot be null", map);
         return isIn(map.keySet());
     }
 
@@ -129,7 +135,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if map is null
      */
     public final PrimitiveIntValidator isValueIn(Map<?, Integer> map) {
-        Null.check(map).ifAny("Map cannot be null");
+        Null.require("Map cannot be null", map);
         return isIn(map.values());
     }
 
@@ -146,7 +152,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final <U> PrimitiveIntValidator passesAs(IntFunction<? extends U> mapper, Predicate<? super U> customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.apply(o)));
     }
 
@@ -155,7 +161,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final PrimitiveIntValidator passesAsLong(IntToLongFunction mapper, LongPredicate customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.applyAsLong(o)));
     }
 
@@ -164,7 +170,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final PrimitiveIntValidator passesAsDouble(IntToDoubleFunction mapper, DoublePredicate customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.applyAsDouble(o)));
     }
 
@@ -172,8 +178,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * Adds a predicate which tests if the comparable being validated is equal based on its comparison
      */
     public final PrimitiveIntValidator isEqualComparably(int other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Integer.compare(t, other) == 0);
+        return registerRange(other, true, other, true);
     }
 
     /**
@@ -181,8 +186,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * based on their comparison
      */
     public final PrimitiveIntValidator isLessThan(int other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Integer.compare(t, other) < 0);
+        return registerRange(Integer.MIN_VALUE, true, other, false);
     }
 
     /**
@@ -190,8 +194,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * based on their comparison
      */
     public final PrimitiveIntValidator isMoreThan(int other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Integer.compare(t, other) > 0);
+        return registerRange(other, false, Integer.MAX_VALUE, true);
     }
 
     /**
@@ -199,8 +202,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * based on their comparison
      */
     public final PrimitiveIntValidator isAtLeast(int other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Integer.compare(t, other) >= 0);
+        return registerRange(other, true, Integer.MAX_VALUE, true);
     }
 
     /**
@@ -208,8 +210,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * based on their comparison
      */
     public final PrimitiveIntValidator isAtMost(int other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Integer.compare(t, other) <= 0);
+        return registerRange(Integer.MIN_VALUE, true, other, true);
     }
 
     /**
@@ -221,8 +222,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * </pre>
      */
     public final PrimitiveIntValidator isBetween(int left, int right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Integer.compare(t, left) >= 0, t -> Integer.compare(t, right) <= 0);
+        return registerRange(left, true, right, true);
     }
 
     /**
@@ -234,8 +234,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * </pre>
      */
     public final PrimitiveIntValidator isBetweenExclusive(int left, int right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Integer.compare(t, left) > 0, t -> Integer.compare(t, right) < 0);
+        return registerRange(left, false, right, false);
     }
 
     /**
@@ -247,8 +246,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * </pre>
      */
     public final PrimitiveIntValidator isBetweenExclusiveLeft(int left, int right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Integer.compare(t, left) > 0, t -> Integer.compare(t, right) <= 0);
+        return registerRange(left, false, right, true);
     }
 
     /**
@@ -260,8 +258,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * </pre>
      */
     public final PrimitiveIntValidator isBetweenExclusiveRight(int left, int right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Integer.compare(t, left) >= 0, t -> Integer.compare(t, right) < 0);
+        return registerRange(left, true, right, false);
     }
 
     /**
@@ -284,7 +281,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * </pre>
      */
     public final PrimitiveIntValidator or() {
-        return new PrimitiveIntValidator(fullCondition(), alwaysTrueForInt(), false);
+        return new PrimitiveIntValidator(fullCondition, alwaysTrueForInt(), false);
     }
 
     /**
@@ -300,9 +297,148 @@ public final class PrimitiveIntValidator implements IntPredicate {
         return new PrimitiveIntValidator(mainCondition, accumulatedCondition, !negateNext);
     }
 
+    /**
+     * <pre>
+     * Returns a Validator which is equivalent to this one, but has all of its predicates flattened into disjunctive
+     * normal form: an array of or() blocks, each of which is an array of predicates
+     *
+     * Such a Validator evaluates its predicates in a single loop rather than a chain of nested predicates, which
+     * makes it preferable for Validators that are cached and used often
+     *
+     * Predicates can still be added to the compiled Validator; they will be flattened by the next call to compile()
+     * </pre>
+     */
+    public final PrimitiveIntValidator compile() {
+        return new PrimitiveIntValidator(IntConditions.compile(mainCondition), IntConditions.compile(accumulatedCondition), negateNext);
+    }
+
+    /**
+     * <pre>
+     * Returns a compiled Validator (refer to compile()), which is further optimized using the built-in predicates
+     * of this Validator, such as comparisons:
+     *      1) always true predicates are dropped, blocks with always false predicates are dropped
+     *      2) multiple comparisons (i.e. isAtLeast(), isAtMost(), isBetween()) are intersected into a single range check
+     *      3) repeated blocks are dropped; if any block always passes, the Validator always passes
+     *
+     * The resulting Validator accepts exactly the same values, but makes fewer predicate calls to do so. Custom
+     * predicates are assumed to not have side effects, therefore they may be skipped or evaluated in a different
+     * order relative to the built-in ones
+     * </pre>
+     */
+    public final PrimitiveIntValidator optimize() {
+        return new PrimitiveIntValidator(IntConditions.optimize(mainCondition), IntConditions.optimize(accumulatedCondition), negateNext);
+    }
+
+    /**
+     * <pre>
+     * Returns a compiled Validator (refer to compile()), which records invocations, rejections and sampled timings
+     * of every one of its predicates; the statistics are registered under given name, refer to Instrumentation
+     *
+     * Validators which are not instrumented are not affected in any way
+     * </pre>
+     * @throws NullPointerException if name is null
+     * @throws IllegalArgumentException if an instrumentation with given name is already registered
+     */
+    public final PrimitiveIntValidator instrumented(String name) {
+        List<List<IntPredicate>> mainBlocks = IntConditions.toBlocks(mainCondition);
+        List<List<IntPredicate>> accumulatedBlocks = IntConditions.toBlocks(accumulatedCondition);
+        Instrumentation.registerInts(name, mainBlocks, accumulatedBlocks);
+        return new PrimitiveIntValidator(IntConditions.fromBlocks(mainBlocks),
+                IntConditions.fromBlocks(accumulatedBlocks), negateNext);
+    }
+
+    /**
+     * <pre>
+     * Validates every value in the array; the array is validated in parallel if it has more than
+     * DEFAULT_PARALLEL_THRESHOLD values
+     *
+     * Bulk operations use the optimized form of this Validator (refer to optimize()); if it consists only of range
+     * checks, they are evaluated as plain comparisons, without calling any predicates
+     * </pre>
+     * @return BitSet with the indexes of values which did not pass this Validator
+     * @throws NullPointerException if values is null
+     */
+    public final BitSet testAll(int[] values) {
+        return testAll(values, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * <pre>
+     * Validates every value in the array; the array is validated in parallel if it has more than parallelThreshold
+     * values
+     *
+     * Bulk operations use the optimized form of this Validator (refer to optimize()); if it consists only of range
+     * checks, they are evaluated as plain comparisons, without calling any predicates
+     * </pre>
+     * @return BitSet with the indexes of values which did not pass this Validator
+     * @throws NullPointerException if values is null
+     * @throws IllegalArgumentException if parallelThreshold is not positive
+     */
+    public final BitSet testAll(int[] values, int parallelThreshold) {
+        Null.require("Array cannot be null", values);
+        IntConditions.Compiled condition = bulkCondition();
+        return BulkValidation.failures(values.length, parallelThreshold,
+                (from, to, failures) -> condition.markFailures(values, from, to, failures));
+    }
+
+    /**
+     * @return true if every value in the array passes this Validator, false otherwise
+     * @throws NullPointerException if values is null
+     */
+    public final boolean allValid(int[] values) {
+        Null.require("Array cannot be null", values);
+        return allValid(values, 0, values.length);
+    }
+
+    /**
+     * @return true if every value in the array from index "from" (inclusive) to index "to" (exclusive) passes this
+     * Validator, false otherwise
+     * @throws NullPointerException if values is null
+     * @throws IndexOutOfBoundsException if from or to are out of bounds of the array, or from is more than to
+     */
+    public final boolean allValid(int[] values, int from, int to) {
+        return firstInvalidIndex(values, from, to) < 0;
+    }
+
+    /**
+     * @return index of the first value in the array which does not pass this Validator, -1 if all values pass
+     * @throws NullPointerException if values is null
+     */
+    public final int firstInvalidIndex(int[] values) {
+        Null.require("Array cannot be null", values);
+        return firstInvalidIndex(values, 0, values.length);
+    }
+
+    /**
+     * @return index of the first value in the array from index "from" (inclusive) to index "to" (exclusive) which
+     * does not pass this Validator, -1 if all values pass
+     * @throws NullPointerException if values is null
+     * @throws IndexOutOfBoundsException if from or to are out of bounds of the array, or from is more than to
+     */
+    public final int firstInvalidIndex(int[] values, int from, int to) {
+        Null.require("Array cannot be null", values);
+        if (from < 0 || to > values.length || from > to)
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for array of length " + values.length);
+
+        return bulkCondition().firstFailure(values, from, to);
+    }
+
+    /**
+     * <pre>
+     * Filters the stream, leaving only the values which pass this Validator
+     *
+     * If the stream is parallel, so is the validation
+     * </pre>
+     * @throws NullPointerException if values is null
+     */
+    public final IntStream filterValid(IntStream values) {
+        Null.require("Stream cannot be null", values);
+        return values.filter(bulkCondition());
+    }
+
     @Override
     public boolean test(int value) {
-        return fullCondition().test(value);
+        return fullCondition.test(value);
     }
 
     /**
@@ -331,7 +467,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if customAction is null
      */
     public final PrimitiveIntValidator ifInvalidRun(int value, Runnable customAction) {
-        Null.check(customAction).ifAny("Runnable cannot be null");
+        Null.require("Runnable cannot be null", customAction);
 
         if (isInvalid(value))
             customAction.run();
@@ -344,7 +480,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if valueConsumer is null
      */
     public final PrimitiveIntValidator ifInvalidAccept(int value, IntConsumer valueConsumer) {
-        Null.check(valueConsumer).ifAny("Consumer cannot be null");
+        Null.require("Consumer cannot be null", valueConsumer);
 
         if (isInvalid(value))
             valueConsumer.accept(value);
@@ -357,7 +493,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if exceptionSupplier is null
      */
     public final <X extends Throwable> PrimitiveIntValidator ifInvalidThrow(int value, Supplier<? extends X> exceptionSupplier) throws X {
-        Null.check(exceptionSupplier).ifAny("Exception supplier cannot be null");
+        Null.require("Exception supplier cannot be null", exceptionSupplier);
 
         if (isInvalid(value))
             throw exceptionSupplier.get();
@@ -371,7 +507,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
      * @throws NullPointerException if exceptionFunction is null
      */
     public final <X extends Throwable> PrimitiveIntValidator ifInvalidThrowWith(int value, IntFunction<? extends X> exceptionFunction) throws X {
-        Null.check(exceptionFunction).ifAny("Exception supplier cannot be null");
+        Null.require("Exception supplier cannot be null", exceptionFunction);
 
         if (isInvalid(value))
             throw exceptionFunction.apply(value);
@@ -389,6 +525,8 @@ public final class PrimitiveIntValidator implements IntPredicate {
         this.mainCondition = mainCondition;
         this.accumulatedCondition = accumulatedCondition;
         this.negateNext = negateNext;
+
+        this.fullCondition = IntConditions.or(mainCondition, accumulatedCondition);
     }
 
     // PRIVATE
@@ -397,21 +535,40 @@ public final class PrimitiveIntValidator implements IntPredicate {
     private final IntPredicate accumulatedCondition;
     private final boolean negateNext;
 
-    private IntPredicate fullCondition() {
-        return mainCondition.or(accumulatedCondition);
+    private final IntPredicate fullCondition;
+
+    // optimized fullCondition, used by bulk operations; it is only created when needed
+    private IntConditions.Compiled bulkCondition;
+
+    private IntConditions.Compiled bulkCondition() {
+        IntConditions.Compiled condition = bulkCondition;
+        if (condition == null)
+            bulkCondition = condition = IntConditions.optimize(fullCondition);
+
+        return condition;
     }
 
     private PrimitiveIntValidator registerCondition(IntPredicate condition) {
-        Null.check(condition).ifAny("Predicate cannot be null");
+        Null.require("Predicate cannot be null", condition);
 
         if (negateNext)
             condition = condition.negate();
 
-        return new PrimitiveIntValidator(mainCondition, accumulatedCondition.and(condition), false);
+        return new PrimitiveIntValidator(mainCondition, IntConditions.and(accumulatedCondition, condition), false);
     }
 
-    private PrimitiveIntValidator registerConditions(IntPredicate... conditions) {
-        return registerCondition(conjunction(conditions));
+    private PrimitiveIntValidator registerRange(int min, boolean minInclusive, int max, boolean maxInclusive) {
+        if (!minInclusive) {
+            if (min == Integer.MAX_VALUE)
+                return registerCondition(alwaysFalseForInt());
+            min++;
+        }
+        if (!maxInclusive) {
+            if (max == Integer.MIN_VALUE)
+                return registerCondition(alwaysFalseForInt());
+            max--;
+        }
+        return registerCondition(IntConditions.range(min, max));
     }
 
     /**
@@ -453,7 +610,7 @@ public final class PrimitiveIntValidator implements IntPredicate {
         // CONSTRUCTORS
 
         public static PrimitiveIntValidatorActor of(int value, PrimitiveIntValidator validator) {
-            Null.check(value, validator).ifAny("Value and validator cannot be null");
+            Null.require("Validator cannot be null", validator);
             return new PrimitiveIntValidatorActor(value, validator);
         }
 
@@ -1,17 +1,23 @@
 package eu.goodlike.validate.primitive;
 
-import com.google.common.primitives.Longs;
 import eu.goodlike.neat.Null;
+import eu.goodlike.validate.BulkValidation;
+import eu.goodlike.validate.Instrumentation;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ValueRange;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.*;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static eu.goodlike.functional.Predicates.*;
+import static eu.goodlike.misc.Constants.DEFAULT_PARALLEL_THRESHOLD;
 
 /**
  * Validator for long (primitive)
@@ -78,7 +84,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * Adds a predicate which tests if the long being validated is equal to some other long
      */
     public final PrimitiveLongValidator isEqual(long t) {
-        return registerCondition(o -> o == t);
+        return registerRange(t, true, t, true);
     }
 
     /**
@@ -86,7 +92,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if collection is null
      */
     public final PrimitiveLongValidator isIn(Collection<Long> collection) {
-        Null.check(collection).ifAny("Collection cannot be null");
+        Null.require("Collection cannot be null", collection);
         return registerCondition(collection::contains);
     }
 
@@ -95,8 +101,8 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if array is null
      */
     public final PrimitiveLongValidator isIn(long... array) {
-        Null.checkAlone(array).ifAny("Array cannot be null");
-        return isIn(Longs.asList(array));
+        Null.require("Array cannot be null", array);
+        return registerCondition(LongConditions.isIn(array));
     }
 
     /**
@@ -104,8 +110,8 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if array is null
      */
     public final PrimitiveLongValidator isIn(Long[] array) {
-        Null.checkAlone(array).ifAny("Array cannot be null");
-        return isIn(Arrays.asList(array));
+        Null.require("Array cannot be null", array);
+        return isIn(Stream.of(array).filter(Objects::nonNull).mapToLong(Long::longValue).toArray());
     }
 
     /**
@@ -113,7 +119,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if map is null
      */
     public final PrimitiveLongValidator isKeyOf(Map<Long, ?> map) {
-        Null.check(map).ifAny("Map cannot be null");
+        Null.require("Map cannot be null", map);
         return isIn(map.keySet());
     }
 
@@ -122,7 +128,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if map is null
      */
     public final PrimitiveLongValidator isValueIn(Map<?, Long> map) {
-        Null.check(map).ifAny("Map cannot be null");
+        Null.require("Map cannot be null", map);
         return isIn(map.values());
     }
 
@@ -139,7 +145,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final <U> PrimitiveLongValidator passesAs(LongFunction<? extends U> mapper, Predicate<? super U> customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.apply(o)));
     }
 
@@ -148,7 +154,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final PrimitiveLongValidator passesAsInt(LongToIntFunction mapper, IntPredicate customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.applyAsInt(o)));
     }
 
@@ -157,7 +163,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if mapper or customPredicate is null
      */
     public final PrimitiveLongValidator passesAsDouble(LongToDoubleFunction mapper, DoublePredicate customPredicate) {
-        Null.check(mapper, customPredicate).ifAny("Mapper and predicate cannot be null");
+        Null.require("Mapper and predicate cannot be null", mapper, customPredicate);
         return registerCondition(o -> customPredicate.test(mapper.applyAsDouble(o)));
     }
 
@@ -165,8 +171,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * Adds a predicate which tests if the comparable being validated is equal based on its comparison
      */
     public final PrimitiveLongValidator isEqualComparably(long other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Long.compare(t, other) == 0);
+        return registerRange(other, true, other, true);
     }
 
     /**
@@ -174,8 +179,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * based on their comparison
      */
     public final PrimitiveLongValidator isLessThan(long other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Long.compare(t, other) < 0);
+        return registerRange(Long.MIN_VALUE, true, other, false);
     }
 
     /**
@@ -183,8 +187,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * based on their comparison
      */
     public final PrimitiveLongValidator isMoreThan(long other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Long.compare(t, other) > 0);
+        return registerRange(other, false, Long.MAX_VALUE, true);
     }
 
     /**
@@ -192,8 +195,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * based on their comparison
      */
     public final PrimitiveLongValidator isAtLeast(long other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Long.compare(t, other) >= 0);
+        return registerRange(other, true, Long.MAX_VALUE, true);
     }
 
     /**
@@ -201,8 +203,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * based on their comparison
      */
     public final PrimitiveLongValidator isAtMost(long other) {
-        Null.check(other).ifAny("Other comparable cannot be null");
-        return registerCondition(t -> Long.compare(t, other) <= 0);
+        return registerRange(Long.MIN_VALUE, true, other, true);
     }
 
     /**
@@ -214,8 +215,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * </pre>
      */
     public final PrimitiveLongValidator isBetween(long left, long right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Long.compare(t, left) >= 0, t -> Long.compare(t, right) <= 0);
+        return registerRange(left, true, right, true);
     }
 
     /**
@@ -227,8 +227,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * </pre>
      */
     public final PrimitiveLongValidator isBetweenExclusive(long left, long right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Long.compare(t, left) > 0, t -> Long.compare(t, right) < 0);
+        return registerRange(left, false, right, false);
     }
 
     /**
@@ -240,8 +239,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * </pre>
      */
     public final PrimitiveLongValidator isBetweenExclusiveLeft(long left, long right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Long.compare(t, left) > 0, t -> Long.compare(t, right) <= 0);
+        return registerRange(left, false, right, true);
     }
 
     /**
@@ -253,8 +251,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * </pre>
      */
     public final PrimitiveLongValidator isBetweenExclusiveRight(long left, long right) {
-        Null.check(left, right).ifAny("Left and right comparable cannot be null");
-        return registerConditions(t -> Long.compare(t, left) >= 0, t -> Long.compare(t, right) < 0);
+        return registerRange(left, true, right, false);
     }
 
     /**
@@ -277,7 +274,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * </pre>
      */
     public final PrimitiveLongValidator or() {
-        return new PrimitiveLongValidator(fullCondition(), alwaysTrueForLong(), false);
+        return new PrimitiveLongValidator(fullCondition, alwaysTrueForLong(), false);
     }
 
     /**
@@ -293,9 +290,148 @@ public final class PrimitiveLongValidator implements LongPredicate {
         return new PrimitiveLongValidator(mainCondition, accumulatedCondition, !negateNext);
     }
 
+    /**
+     * <pre>
+     * Returns a Validator which is equivalent to this one, but has all of its predicates flattened into disjunctive
+     * normal form: an array of or() blocks, each of which is an array of predicates
+     *
+     * Such a Validator evaluates its predicates in a single loop rather than a chain of nested predicates, which
+     * makes it preferable for Validators that are cached and used often
+     *
+     * Predicates can still be added to the compiled Validator; they will be flattened by the next call to compile()
+     * </pre>
+     */
+    public final PrimitiveLongValidator compile() {
+        return new PrimitiveLongValidator(LongConditions.compile(mainCondition), LongConditions.compile(accumulatedCondition), negateNext);
+    }
+
+    /**
+     * <pre>
+     * Returns a compiled Validator (refer to compile()), which is further optimized using the built-in predicates
+     * of this Validator, such as comparisons:
+     *      1) always true predicates are dropped, blocks with always false predicates are dropped
+     *      2) multiple comparisons (i.e. isAtLeast(), isAtMost(), isBetween()) are intersected into a single range check
+     *      3) repeated blocks are dropped; if any block always passes, the Validator always passes
+     *
+     * The resulting Validator accepts exactly the same values, but makes fewer predicate calls to do so. Custom
+     * predicates are assumed to not have side effects, therefore they may be skipped or evaluated in a different
+     * order relative to the built-in ones
+     * </pre>
+     */
+    public final PrimitiveLongValidator optimize() {
+        return new PrimitiveLongValidator(LongConditions.optimize(mainCondition), LongConditions.optimize(accumulatedCondition), negateNext);
+    }
+
+    /**
+     * <pre>
+     * Returns a compiled Validator (refer to compile()), which records invocations, rejections and sampled timings
+     * of every one of its predicates; the statistics are registered under given name, refer to Instrumentation
+     *
+     * Validators which are not instrumented are not affected in any way
+     * </pre>
+     * @throws NullPointerException if name is null
+     * @throws IllegalArgumentException if an instrumentation with given name is already registered
+     */
+    public final PrimitiveLongValidator instrumented(String name) {
+        List<List<LongPredicate>> mainBlocks = LongConditions.toBlocks(mainCondition);
+        List<List<LongPredicate>> accumulatedBlocks = LongConditions.toBlocks(accumulatedCondition);
+        Instrumentation.registerLongs(name, mainBlocks, accumulatedBlocks);
+        return new PrimitiveLongValidator(LongConditions.fromBlocks(mainBlocks),
+                LongConditions.fromBlocks(accumulatedBlocks), negateNext);
+    }
+
+    /**
+     * <pre>
+     * Validates every value in the array; the array is validated in parallel if it has more than
+     * DEFAULT_PARALLEL_THRESHOLD values
+     *
+     * Bulk operations use the optimized form of this Validator (refer to optimize()); if it consists only of range
+     * checks, they are evaluated as plain comparisons, without calling any predicates
+     * </pre>
+     * @return BitSet with the indexes of values which did not pass this Validator
+     * @throws NullPointerException if values is null
+     */
+    public final BitSet testAll(long[] values) {
+        return testAll(values, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * <pre>
+     * Validates every value in the array; the array is validated in parallel if it has more than parallelThreshold
+     * values
+     *
+     * Bulk operations use the optimized form of this Validator (refer to optimize()); if it consists only of range
+     * checks, they are evaluated as plain comparisons, without calling any predicates
+     * </pre>
+     * @return BitSet with the indexes of values which did not pass this Validator
+     * @throws NullPointerException if values is null
+     * @throws IllegalArgumentException if parallelThreshold is not positive
+     */
+    public final BitSet testAll(long[] values, int parallelThreshold) {
+        Null.require("Array cannot be null", values);
+        LongConditions.Compiled condition = bulkCondition();
+        return BulkValidation.failures(values.length, parallelThreshold,
+                (from, to, failures) -> condition.markFailures(values, from, to, failures));
+    }
+
+    /**
+     * @return true if every value in the array passes this Validator, false otherwise
+     * @throws NullPointerException if values is null
+     */
+    public final boolean allValid(long[] values) {
+        Null.require("Array cannot be null", values);
+        return allValid(values, 0, values.length);
+    }
+
+    /**
+     * @return true if every value in the array from index "from" (inclusive) to index "to" (exclusive) passes this
+     * Validator, false otherwise
+     * @throws NullPointerException if values is null
+     * @throws IndexOutOfBoundsException if from or to are out of bounds of the array, or from is more than to
+     */
+    public final boolean allValid(long[] values, int from, int to) {
+        return firstInvalidIndex(values, from, to) < 0;
+    }
+
+    /**
+     * @return index of the first value in the array which does not pass this Validator, -1 if all values pass
+     * @throws NullPointerException if values is null
+     */
+    public final int firstInvalidIndex(long[] values) {
+        Null.require("Array cannot be null", values);
+        return firstInvalidIndex(values, 0, values.length);
+    }
+
+    /**
+     * @return index of the first value in the array from index "from" (inclusive) to index "to" (exclusive) which
+     * does not pass this Validator, -1 if all values pass
+     * @throws NullPointerException if values is null
+     * @throws IndexOutOfBoundsException if from or to are out of bounds of the array, or from is more than to
+     */
+    public final int firstInvalidIndex(long[] values, int from, int to) {
+        Null.require("Array cannot be null", values);
+        if (from < 0 || to > values.length || from > to)
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for array of length " + values.length);
+
+        return bulkCondition().firstFailure(values, from, to);
+    }
+
+    /**
+     * <pre>
+     * Filters the stream, leaving only the values which pass this Validator
+     *
+     * If the stream is parallel, so is the validation
+     * </pre>
+     * @throws NullPointerException if values is null
+     */
+    public final LongStream filterValid(LongStream values) {
+        Null.require("Stream cannot be null", values);
+        return values.filter(bulkCondition());
+    }
+
     @Override
     public boolean test(long value) {
-        return fullCondition().test(value);
+        return fullCondition.test(value);
     }
 
     /**
@@ -324,7 +460,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if customAction is null
      */
     public final PrimitiveLongValidator ifInvalidRun(long value, Runnable customAction) {
-        Null.check(customAction).ifAny("Runnable cannot be null");
+        Null.require("Runnable cannot be null", customAction);
 
         if (isInvalid(value))
             customAction.run();
@@ -337,7 +473,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if valueConsumer is null
      */
     public final PrimitiveLongValidator ifInvalidAccept(long value, LongConsumer valueConsumer) {
-        Null.check(valueConsumer).ifAny("Consumer cannot be null");
+        Null.require("Consumer cannot be null", valueConsumer);
 
         if (isInvalid(value))
             valueConsumer.accept(value);
@@ -350,7 +486,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if exceptionSupplier is null
      */
     public final <X extends Throwable> PrimitiveLongValidator ifInvalidThrow(long value, Supplier<? extends X> exceptionSupplier) throws X {
-        Null.check(exceptionSupplier).ifAny("Exception supplier cannot be null");
+        Null.require("Exception supplier cannot be null", exceptionSupplier);
 
         if (isInvalid(value))
             throw exceptionSupplier.get();
@@ -364,7 +500,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
      * @throws NullPointerException if exceptionFunction is null
      */
     public final <X extends Throwable> PrimitiveLongValidator ifInvalidThrowWith(long value, LongFunction<? extends X> exceptionFunction) throws X {
-        Null.check(exceptionFunction).ifAny("Exception supplier cannot be null");
+        Null.require("Exception supplier cannot be null", exceptionFunction);
 
         if (isInvalid(value))
             throw exceptionFunction.apply(value);
@@ -382,6 +518,8 @@ public final class PrimitiveLongValidator implements LongPredicate {
         this.mainCondition = mainCondition;
         this.accumulatedCondition = accumulatedCondition;
         this.negateNext = negateNext;
+
+        this.fullCondition = LongConditions.or(mainCondition, accumulatedCondition);
     }
 
     // PRIVATE
@@ -390,21 +528,40 @@ public final class PrimitiveLongValidator implements LongPredicate {
     private final LongPredicate accumulatedCondition;
     private final boolean negateNext;
 
-    private LongPredicate fullCondition() {
-        return mainCondition.or(accumulatedCondition);
+    private final LongPredicate fullCondition;
+
+    // optimized fullCondition, used by bulk operations; it is only created when needed
+    private LongConditions.Compiled bulkCondition;
+
+    private LongConditions.Compiled bulkCondition() {
+        LongConditions.Compiled condition = bulkCondition;
+        if (condition == null)
+            bulkCondition = condition = LongConditions.optimize(fullCondition);
+
+        return condition;
     }
 
     private PrimitiveLongValidator registerCondition(LongPredicate condition) {
-        Null.check(condition).ifAny("Predicate cannot be null");
+        Null.require("Predicate cannot be null", condition);
 
         if (negateNext)
             condition = condition.negate();
 
-        return new PrimitiveLongValidator(mainCondition, accumulatedCondition.and(condition), false);
+        return new PrimitiveLongValidator(mainCondition, LongConditions.and(accumulatedCondition, condition), false);
     }
 
-    private PrimitiveLongValidator registerConditions(LongPredicate... conditions) {
-        return registerCondition(conjunction(conditions));
+    private PrimitiveLongValidator registerRange(long min, boolean minInclusive, long max, boolean maxInclusive) {
+        if (!minInclusive) {
+            if (min == Long.MAX_VALUE)
+                return registerCondition(alwaysFalseForLong());
+            min++;
+        }
+        if (!maxInclusive) {
+            if (max == Long.MIN_VALUE)
+                return registerCondition(alwaysFalseForLong());
+            max--;
+        }
+        return registerCondition(LongConditions.range(min, max));
     }
 
     /**
@@ -446,7 +603,7 @@ public final class PrimitiveLongValidator implements LongPredicate {
         // CONSTRUCTORS
 
         public static PrimitiveLongValidatorActor of(int value, PrimitiveLongValidator validator) {
-            Null.check(value, validator).ifAny("Value and validator cannot be null");
+            Null.require("Validator cannot be null", validator);
             return new PrimitiveLongValidatorActor(value, validator);
         }
 
@@ -0,0 +1,115 @@
+package eu.goodlike.io;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FileAppenderTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private static final String TEXT = "ascii, ąčę, €, 😀";
+
+    @Test
+    public void tryChannel_shouldWriteSameAsWriter() throws Exception {
+        Path writerFile = folder.getRoot().toPath().resolve("writer.txt");
+        Path channelFile = folder.getRoot().toPath().resolve("channel.txt");
+        try (FileAppender writer = FileAppender.ofFile(writerFile).get();
+             FileAppender channel = FileAppender.ofChannel(channelFile, SyncPolicy.never()).get()) {
+            for (int i = 0; i < 5_000; i++) {
+                writer.appendLine(TEXT).append(String.valueOf(i));
+                channel.appendLine(TEXT).append(String.valueOf(i));
+            }
+        }
+
+        assertThat(Files.readAllBytes(channelFile)).isEqualTo(Files.readAllBytes(writerFile));
+    }
+
+    @Test
+    public void tryUnpairedSurrogates_shouldBeReplaced() throws Exception {
+        Path file = folder.newFile().toPath();
+        try (FileAppender appender = FileAppender.ofChannel(file, SyncPolicy.never()).get()) {
+            appender.append("lone \uD83D and \uDE00, split \uD83D").append("\uDE00, last \uD83D");
+        }
+
+        assertThat(new String(Files.readAllBytes(file), UTF_8)).isEqualTo("lone ? and ?, split 😀, last ?");
+    }
+
+    @Test
+    public void tryChannel_shouldAppendToExistingFile() throws Exception {
+        Path file = folder.newFile().toPath();
+        Files.write(file, "first".getBytes(UTF_8));
+        try (FileAppender appender = FileAppender.ofChannel(file, SyncPolicy.everyBytes(1)).get()) {
+            appender.append(", second");
+        }
+
+        assertThat(new String(Files.readAllBytes(file), UTF_8)).isEqualTo("first, second");
+    }
+
+    @Test
+    public void trySyncPolicy_shouldWriteOnceSynced() throws Exception {
+        Path bytesFile = folder.newFile().toPath();
+        Path timeFile = folder.newFile().toPath();
+        try (FileAppender bytes = FileAppender.ofChannel(bytesFile, SyncPolicy.everyBytes(4)).get();
+             FileAppender time = FileAppender.ofChannel(timeFile, SyncPolicy.every(1, TimeUnit.NANOSECONDS)).get()) {
+            bytes.append("synced");
+            time.append("synced");
+
+            assertThat(new String(Files.readAllBytes(bytesFile), UTF_8)).isEqualTo("synced");
+            assertThat(new String(Files.readAllBytes(timeFile), UTF_8)).isEqualTo("synced");
+        }
+    }
+
+    @Test
+    public void tryClosedChannel_shouldFail() throws Exception {
+        FileAppender appender = FileAppender.ofChannel(folder.newFile().toPath(), SyncPolicy.never()).get();
+        appender.close();
+
+        assertThatThrownBy(() -> appender.append("late")).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void tryConcurrentAppendLine_shouldKeepLinesWhole() throws Exception {
+        Path writerFile = folder.getRoot().toPath().resolve("writer.txt");
+        Path channelFile = folder.getRoot().toPath().resolve("channel.txt");
+        try (FileAppender writer = FileAppender.ofFile(writerFile).get();
+             FileAppender channel = FileAppender.ofChannel(channelFile, SyncPolicy.never()).get()) {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            for (int producer = 0; producer < 4; producer++)
+                executor.execute(() -> {
+                    try {
+                        for (int i = 0; i < 5_000; i++) {
+                            writer.appendLine(TEXT);
+                            channel.appendLine(TEXT);
+                        }
+                    } catch (IOException e) {
+                        throw new AssertionError(e);
+                    }
+                });
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(Files.readAllLines(writerFile)).hasSize(20_000).containsOnly(TEXT);
+        assertThat(Files.readAllLines(channelFile)).hasSize(20_000).containsOnly(TEXT);
+    }
+
+    @Test
+    public void tryInvalidSyncPolicy_shouldFail() {
+        assertThatThrownBy(() -> SyncPolicy.everyBytes(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SyncPolicy.every(-1, TimeUnit.SECONDS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,182 @@
+package eu.goodlike.io;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeTrue;
+
+public class FileNameAllocatorTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private void create(String... fileNames) throws IOException {
+        for (String fileName : fileNames)
+            folder.newFile(fileName);
+    }
+
+    @Test
+    public void tryFindAvailableName_shouldReturnLowestFreeCopy() throws Exception {
+        create("a.txt", "a (1).txt", "a (2).txt", "a (4).txt", "a (3).csv", "b");
+        try (FileNameAllocator allocator = FileNameAllocator.forDirectory(folder.getRoot().toPath()).get()) {
+            assertThat(allocator.findAvailableName("a.txt")).isEqualTo("a (3).txt");
+            assertThat(allocator.findAvailableName("a.csv")).isEqualTo("a.csv");
+            assertThat(allocator.findAvailableName("b")).isEqualTo("b (1)");
+            assertThat(allocator.findAvailableName("a (1).txt")).isEqualTo("a (1) (1).txt");
+        }
+    }
+
+    @Test
+    public void tryFindAvailableName_shouldBeSameAsFileUtils() throws Exception {
+        create("report.pdf", "report (1).pdf", "notes", "notes (1)", "notes (2)");
+        String directory = folder.getRoot().getPath();
+        try (FileNameAllocator allocator = FileNameAllocator.forDirectory(folder.getRoot().toPath()).get()) {
+            for (String name : new String[] {"report.pdf", "notes", "new.txt"})
+                assertThat(allocator.findAvailableName(name)).isEqualTo(FileUtils.findAvailableName(directory, name));
+        }
+    }
+
+    @Test
+    public void tryFilesCreatedLater_shouldNotBeReturned() throws Exception {
+        create("a.txt");
+        try (FileNameAllocator allocator = FileNameAllocator.forDirectory(folder.getRoot().toPath()).get()) {
+            create("a (1).txt", "a (2).txt");
+
+            assertThat(allocator.findAvailableName("a.txt")).isEqualTo("a (3).txt");
+        }
+    }
+
+    @Test
+    public void tryAllocatorsSharingWatchService_shouldEachSeeTheirOwnDirectory() throws Exception {
+        File other = folder.newFolder("other");
+        create("a.txt");
+        try (WatchService watchService = folder.getRoot().toPath().getFileSystem().newWatchService()) {
+            FileNameAllocator first = FileNameAllocator.forDirectory(folder.getRoot().toPath(), watchService).get();
+            FileNameAllocator second = FileNameAllocator.forDirectory(other.toPath(), watchService).get();
+            assertThat(first.findAvailableName("a.txt")).isEqualTo("a (1).txt");
+            assertThat(second.findAvailableName("a.txt")).isEqualTo("a.txt");
+
+            create("a (1).txt", "other/a.txt", "other/a (1).txt");
+            first.close();
+
+            assertThatThrownBy(() -> first.findAvailableName("a.txt")).isInstanceOf(IllegalStateException.class);
+            assertThat(second.findAvailableName("a.txt")).isEqualTo("a (2).txt");
+            second.close();
+        }
+    }
+
+    @Test
+    public void tryFileUtilsAfterCopyDeleted_shouldReturnLowestFreeCopy() throws Exception {
+        create("a.txt", "a (1).txt", "a (2).txt");
+        String directory = folder.getRoot().getPath();
+        assertThat(FileUtils.findAvailableName(directory, "a.txt")).isEqualTo("a (3).txt");
+
+        create("a (3).txt");
+        assertThat(FileUtils.findAvailableName(directory, "a.txt")).isEqualTo("a (4).txt");
+
+        Files.delete(folder.getRoot().toPath().resolve("a (1).txt"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!FileUtils.findAvailableName(directory, "a.txt").equals("a (1).txt") && System.nanoTime() < deadline)
+            Thread.sleep(10);
+
+        assertThat(FileUtils.findAvailableName(directory, "a.txt")).isEqualTo("a (1).txt");
+    }
+
+    @Test
+    public void tryFileUtilsForManyDirectories_shouldBeSameAsProbing() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            File directory = folder.newFolder("dir" + i);
+            create("dir" + i + "/a.txt", "dir" + i + "/a (1).txt");
+            assertThat(FileUtils.findAvailableName(directory.getPath(), "a.txt")).isEqualTo("a (2).txt");
+        }
+        for (int i = 0; i < 100; i++)
+            assertThat(FileUtils.findAvailableName(folder.getRoot().getPath() + "/dir" + i, "a.txt"))
+                    .isEqualTo("a (2).txt");
+    }
+
+    @Test
+    public void tryReserve_shouldCreateFiles() throws Exception {
+        create("a.txt");
+        try (FileNameAllocator allocator = FileNameAllocator.forDirectory(folder.getRoot().toPath()).get()) {
+            Path first = allocator.reserve("a.txt");
+            Path second = allocator.reserve("a.txt");
+
+            assertThat(first.getFileName().toString()).isEqualTo("a (1).txt");
+            assertThat(second.getFileName().toString()).isEqualTo("a (2).txt");
+            assertThat(first).exists();
+            assertThat(second).exists();
+        }
+    }
+
+    @Test
+    public void tryConcurrentReserve_shouldNeverReturnSameName() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        Set<Path> reserved = ConcurrentHashMap.newKeySet();
+        try (FileNameAllocator first = FileNameAllocator.forDirectory(directory).get();
+             FileNameAllocator second = FileNameAllocator.forDirectory(directory).get()) {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            for (int i = 0; i < 200; i++) {
+                FileNameAllocator allocator = i % 2 == 0 ? first : second;
+                executor.execute(() -> {
+                    try {
+                        reserved.add(allocator.reserve("same.log"));
+                    } catch (IOException e) {
+                        throw new AssertionError(e);
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(reserved).hasSize(200);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    public void tryLargeCopyNumbers_shouldNotAffectLowestFree() throws Exception {
+        create("x.txt", "x (16000000).txt", "x (999999999).txt", "x (1).txt");
+        try (FileNameAllocator allocator = FileNameAllocator.forDirectory(folder.getRoot().toPath()).get()) {
+            assertThat(allocator.findAvailableName("x.txt")).isEqualTo("x (2).txt");
+        }
+    }
+
+    @Test
+    public void tryNameWithBackslash_shouldBeSameAsFileUtils() throws Exception {
+        assumeTrue(File.separatorChar == '/');
+
+        create("a\\b.txt");
+        String directory = folder.getRoot().getPath();
+        try (FileNameAllocator allocator = FileNameAllocator.forDirectory(folder.getRoot().toPath()).get()) {
+            assertThat(allocator.findAvailableName("a\\b.txt"))
+                    .isEqualTo(FileUtils.findAvailableName(directory, "a\\b.txt"))
+                    .isEqualTo("a\\b (1).txt");
+        }
+    }
+
+    @Test
+    public void tryInvalidName_shouldFail() throws Exception {
+        try (FileNameAllocator allocator = FileNameAllocator.forDirectory(folder.getRoot().toPath()).get()) {
+            assertThatThrownBy(() -> allocator.findAvailableName("sub/a.txt"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+}
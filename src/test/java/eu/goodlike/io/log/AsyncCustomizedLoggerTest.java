@@ -0,0 +1,163 @@
+package eu.goodlike.io.log;
+
+import eu.goodlike.io.log.AsyncCustomizedLogger.FullQueuePolicy;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncCustomizedLoggerTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void tryManyProducers_shouldLogEverythingInOrderPerProducer() throws InterruptedException {
+        AsyncCustomizedLogger logger = AsyncCustomizedLogger.of(lines::add, 64, FullQueuePolicy.BLOCK);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int producer = 0; producer < 4; producer++) {
+            String prefix = producer + ":";
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++)
+                    logger.logMessage(prefix + i);
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        logger.close();
+
+        assertThat(lines).hasSize(40_000);
+        int[] next = new int[4];
+        for (String line : lines) {
+            int producer = line.charAt(0) - '0';
+            assertThat(line).isEqualTo(producer + ":" + next[producer]++);
+        }
+        assertThat(logger.getDroppedCount()).isZero();
+    }
+
+    @Test
+    public void tryDropNew_shouldCountDroppedLines() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncCustomizedLogger logger = AsyncCustomizedLogger.of(blockingLogger(release), 4, FullQueuePolicy.DROP_NEW);
+        logger.logMessage("first");
+        waitUntilTaken();
+        for (int i = 0; i < 10; i++)
+            logger.logMessage(String.valueOf(i));
+        release.countDown();
+        logger.close();
+
+        assertThat(lines).containsExactly("first", "0", "1", "2", "3");
+        assertThat(logger.getDroppedCount()).isEqualTo(6);
+    }
+
+    @Test
+    public void tryDropOldest_shouldKeepNewestLines() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncCustomizedLogger logger =
+                AsyncCustomizedLogger.of(blockingLogger(release), 4, FullQueuePolicy.DROP_OLDEST);
+        logger.logMessage("first");
+        waitUntilTaken();
+        for (int i = 0; i < 10; i++)
+            logger.logMessage(String.valueOf(i));
+        release.countDown();
+        logger.close();
+
+        assertThat(lines).containsExactly("first", "6", "7", "8", "9");
+        assertThat(logger.getDroppedCount()).isEqualTo(6);
+    }
+
+    @Test
+    public void tryLogAfterClose_shouldLogOnCaller() {
+        AsyncCustomizedLogger logger = CustomizedLoggers.async(lines::add);
+        logger.logMessage("before");
+        logger.close();
+        logger.logMessage("after");
+
+        assertThat(lines).containsExactly("before", "after");
+    }
+
+    @Test
+    public void tryOwningFileLogger_shouldWriteBufferBeforeClosingFile() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("async.log");
+        FileCustomizedLogger fileLogger = FileCustomizedLogger.forFile(file).get();
+        AsyncCustomizedLogger logger = AsyncCustomizedLogger.of(fileLogger, 8192, FullQueuePolicy.BLOCK, true);
+        for (int i = 0; i < 10_000; i++)
+            logger.logMessage(String.valueOf(i));
+        logger.close();
+        fileLogger.logMessage("after the file is closed");
+
+        logger.logMessage("after the async logger is closed");
+
+        List<String> written = Files.readAllLines(file);
+        assertThat(written).hasSize(10_000);
+        assertThat(written.get(9_999)).isEqualTo("9999");
+        assertThat(logger.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void tryOwningBinaryLog_shouldNotThrowAfterClose() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        BinaryLog binaryLog = BinaryLog.open(directory, "async").get();
+        AsyncCustomizedLogger logger = AsyncCustomizedLogger.of(binaryLog, 16, FullQueuePolicy.BLOCK, true);
+        logger.logMessage("before");
+        logger.close();
+        logger.logMessage("after");
+        binaryLog.logMessage("directly after");
+
+        assertThat(BinaryLogReader.read(BinaryLogReader.segments(directory, "async").get(0)))
+                .extracting(BinaryLogReader.Entry::getMessage)
+                .containsExactly("before");
+        assertThat(logger.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void tryWrappingSharedFileLogger_shouldKeepItOpen() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("shared.log");
+        CustomizedLogger shared = CustomizedLoggers.forFile(file);
+        AsyncCustomizedLogger logger = CustomizedLoggers.async(shared);
+        logger.logMessage("async");
+        logger.close();
+        shared.logMessage("shared");
+
+        assertThat(CustomizedLoggers.forFile(file)).isSameAs(shared);
+        assertThatThrownBy(() -> AsyncCustomizedLogger.of(shared, 16, FullQueuePolicy.BLOCK, true))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        ((FileCustomizedLogger) shared).close();
+        assertThat(Files.readAllLines(file)).containsExactly("async", "shared");
+    }
+
+    private final CountDownLatch taken = new CountDownLatch(1);
+
+    private CustomizedLogger blockingLogger(CountDownLatch release) {
+        return line -> {
+            taken.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            lines.add(line);
+        };
+    }
+
+    private void waitUntilTaken() throws InterruptedException {
+        assertThat(taken.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+}
@@ -0,0 +1,116 @@
+package eu.goodlike.io.log;
+
+import eu.goodlike.io.log.BinaryLogReader.Entry;
+import eu.goodlike.test.Allocations;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeTrue;
+
+public class BinaryLogTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void tryLog_shouldReadSameMessages() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (BinaryLog log = BinaryLog.open(directory, "audit").get()) {
+            int failed = log.register("User {} failed {} times");
+            int rate = log.register("Rate is {}");
+            int all = log.register("{} {} {} {}");
+
+            log.log(failed, "bob", 3);
+            log.log(rate, 0.25);
+            log.log(all, 1, 2.5f, 'c', null);
+            log.logMessage("plain line");
+        }
+
+        List<Entry> entries = BinaryLogReader.read(BinaryLogReader.segments(directory, "audit").get(0));
+        assertThat(entries).extracting(Entry::getMessage)
+                .containsExactly("User bob failed 3 times", "Rate is 0.25", "1 2.5 c null", "plain line");
+        assertThat(entries.get(0).getArguments()).containsExactly("bob", 3L);
+        assertThat(entries.get(0).getTimestamp()).isPositive();
+    }
+
+    @Test
+    public void tryFullSegment_shouldRollOver() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (BinaryLog log = BinaryLog.open(directory, "roll", 4096).get()) {
+            int pattern = log.register("Value {} of {}");
+            for (int i = 0; i < 1000; i++)
+                log.log(pattern, i, 1000);
+        }
+
+        List<Path> segments = BinaryLogReader.segments(directory, "roll");
+        assertThat(segments.size()).isGreaterThan(1);
+
+        List<String> messages = new ArrayList<>();
+        for (Path segment : segments)
+            for (Entry entry : BinaryLogReader.read(segment))
+                messages.add(entry.getMessage());
+        assertThat(messages).hasSize(1000);
+        for (int i = 0; i < 1000; i++)
+            assertThat(messages.get(i)).isEqualTo("Value " + i + " of 1000");
+
+        StringBuilder text = new StringBuilder();
+        BinaryLogReader.formatAll(directory, "roll", text);
+        assertThat(text.toString()).contains("Value 999 of 1000" + System.lineSeparator());
+    }
+
+    @Test
+    public void tryReopen_shouldContinueWithNextSegment() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        BinaryLog.open(directory, "reopen").get().close();
+        try (BinaryLog log = BinaryLog.open(directory, "reopen").get()) {
+            log.logMessage("second");
+        }
+
+        List<Path> segments = BinaryLogReader.segments(directory, "reopen");
+        assertThat(segments).hasSize(2);
+        assertThat(BinaryLogReader.read(segments.get(0))).isEmpty();
+        assertThat(BinaryLogReader.read(segments.get(1))).extracting(Entry::getMessage).containsExactly("second");
+    }
+
+    @Test
+    public void tryLogMessageAfterClose_shouldBeIgnored() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        BinaryLog log = BinaryLog.open(directory, "closed").get();
+        int pattern = log.register("Value {}");
+        log.logMessage("before");
+        log.close();
+        log.logMessage("after");
+
+        assertThatThrownBy(() -> log.log(pattern, 1)).isInstanceOf(IllegalStateException.class);
+        assertThat(BinaryLogReader.read(BinaryLogReader.segments(directory, "closed").get(0)))
+                .extracting(Entry::getMessage)
+                .containsExactly("before");
+    }
+
+    @Test
+    public void tryUnknownPattern_shouldFail() {
+        try (BinaryLog log = BinaryLog.open(folder.getRoot().toPath(), "unknown").get()) {
+            assertThatThrownBy(() -> log.log(42, 1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void tryLogPrimitives_shouldNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+
+        try (BinaryLog log = BinaryLog.open(folder.getRoot().toPath(), "alloc").get()) {
+            int pattern = log.register("Value {} of {}");
+            long allocated = Allocations.measure(10_000, () -> log.log(pattern, 42L, 1000L));
+            assertThat(allocated).isLessThan(1024);
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package eu.goodlike.libraries.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static eu.goodlike.validate.CommonValidators.*;
+import static eu.goodlike.validate.Validate.aBoolean;
+import static eu.goodlike.validate.Validate.aDouble;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonStreamValidatorTest {
+
+    private final JsonStreamValidator validator = JsonStreamValidator.builder()
+            .path("$.name", MANDATORY_JSON_STRING)
+            .path("$.items[*].id", MANDATORY_JSON_ID)
+            .path("$.items[*].price", aDouble().not().isNull().isAtLeast(0.0))
+            .path("$.flags.*", aBoolean().not().isNull())
+            .build();
+
+    @Test
+    public void tryValidJson_shouldHaveNoViolation() throws IOException {
+        assertThat(validator.validate("{\"name\":\"x\",\"other\":{\"deep\":[1,2,{}]}," +
+                "\"items\":[{\"id\":1,\"price\":2.5},{\"id\":2,\"price\":0,\"extra\":[]}],\"flags\":{\"a\":true}}"))
+                .isEmpty();
+    }
+
+    @Test
+    public void tryInvalidValue_shouldReportItsPath() throws IOException {
+        assertViolation("{\"name\":\"x\",\"items\":[{\"id\":1,\"price\":1},{\"id\":0,\"price\":1}]}",
+                "$.items[1].id", "invalid value");
+    }
+
+    @Test
+    public void tryMissingMandatoryField_shouldReportIt() throws IOException {
+        assertViolation("{\"name\":\"x\",\"items\":[{\"price\":1}]}", "$.items[0].id", "missing");
+        assertViolation("{\"items\":[]}", "$.name", "missing");
+    }
+
+    @Test
+    public void tryWrongType_shouldReportIt() throws IOException {
+        assertViolation("{\"name\":1}", "$.name", "expected String");
+        assertViolation("{\"name\":\"x\",\"items\":[{\"id\":10000000000,\"price\":1}]}", "$.items[0].id", "expected Integer");
+        assertViolation("{\"name\":\"x\",\"items\":{}}", "$.items", "expected array");
+        assertViolation("{\"name\":\"x\",\"flags\":{\"a\":\"true\"}}", "$.flags.a", "expected Boolean");
+    }
+
+    @Test
+    public void tryMalformedJson_shouldReportIt() throws IOException {
+        Optional<JsonStreamValidator.Violation> violation = validator.validate("{\"name\":\"x\",\"items\":[{\"id\":1,");
+
+        assertThat(violation).isPresent();
+        assertThat(violation.get().getReason()).startsWith("malformed JSON");
+    }
+
+    @Test
+    public void tryInvalidValue_shouldStopReading() throws IOException {
+        try (JsonParser parser = Json.mapper().getFactory().createParser("{\"name\":\"\",\"items\":[{\"id\":1}]} garbage")) {
+            assertThat(validator.isValid(parser)).isFalse();
+            assertThat(parser.getCurrentName()).isEqualTo("name");
+        }
+    }
+
+    @Test
+    public void tryNullContainers_shouldBeAccepted() throws IOException {
+        assertThat(validator.validate("{\"name\":\"x\",\"items\":null,\"flags\":null}")).isEmpty();
+    }
+
+    @Test
+    public void tryMalformedPath_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> JsonStreamValidator.builder().path("items", MANDATORY_JSON_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonStreamValidator.builder().path("$.items[0]", MANDATORY_JSON_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void tryConflictingPaths_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> JsonStreamValidator.builder().path("$.a", MANDATORY_JSON_ID).path("$.a.b", MANDATORY_JSON_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonStreamValidator.builder().path("$.a[*]", MANDATORY_JSON_ID).path("$.a.b", MANDATORY_JSON_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void assertViolation(String json, String path, String reason) throws IOException {
+        Optional<JsonStreamValidator.Violation> violation = validator.validate(json);
+
+        assertThat(violation).isPresent();
+        assertThat(violation.get().getPath()).isEqualTo(path);
+        assertThat(violation.get().getReason()).isEqualTo(reason);
+    }
+
+}
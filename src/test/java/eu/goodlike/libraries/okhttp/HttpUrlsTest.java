@@ -1,10 +1,12 @@
 package eu.goodlike.libraries.okhttp;
 
 import com.google.common.collect.ImmutableMap;
+import eu.goodlike.test.Allocations;
 import okhttp3.HttpUrl;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
 
 public class HttpUrlsTest {
 
@@ -61,4 +63,16 @@ public class HttpUrlsTest {
                 .isEqualTo(HttpUrl.parse("https://localhost/"));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void tryCheckedHelpers_shouldNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+
+        HttpUrl url = HttpUrl.parse("https://localhost/part/file.txt");
+        long allocated = Allocations.measure(10_000, () -> {
+            HttpUrls.getLastPathPart(url);
+            HttpUrls.isPathVariable(":id");
+        });
+        assertThat(allocated).isLessThan(1024);
+    }
+
+}
@@ -0,0 +1,112 @@
+package eu.goodlike.misc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import eu.goodlike.libraries.jackson.custom.serializer.FixedDecimalSerializer;
+import eu.goodlike.test.Allocations;
+import eu.goodlike.validate.Validate;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeTrue;
+
+public class FixedDecimalTest {
+
+    @Test
+    public void tryConvertingBigDecimal_shouldKeepValue() {
+        BigDecimal bigDecimal = new BigDecimal("-12.34");
+
+        assertThat(FixedDecimal.of(bigDecimal).getUnscaled()).isEqualTo(-123400);
+        assertThat(FixedDecimal.of(bigDecimal).toBigDecimal()).isEqualByComparingTo(bigDecimal);
+    }
+
+    @Test
+    public void tryConvertingBigDecimalWithMoreDigits_shouldThrowArithmeticException() {
+        assertThat(FixedDecimal.fits(new BigDecimal("0.00001"))).isFalse();
+        assertThatThrownBy(() -> FixedDecimal.of(new BigDecimal("0.00001"))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void tryConvertingBigDecimalOutOfRange_shouldThrowArithmeticException() {
+        BigDecimal max = FixedDecimal.toBigDecimal(Long.MAX_VALUE);
+        BigDecimal tooBig = max.add(new BigDecimal("0.0001"));
+
+        assertThat(FixedDecimal.fits(max)).isTrue();
+        assertThat(FixedDecimal.fits(tooBig)).isFalse();
+        assertThatThrownBy(() -> FixedDecimal.of(tooBig)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void tryEqualsWithDifferentScales_shouldBeEqual() {
+        FixedDecimal decimal = FixedDecimal.parse("10");
+        FixedDecimal sameDecimal = FixedDecimal.parse("10.000");
+
+        assertThat(decimal).isEqualTo(sameDecimal);
+        assertThat(decimal.hashCode()).isEqualTo(sameDecimal.hashCode());
+    }
+
+    @Test
+    public void tryArithmetic_shouldMatchBigDecimal() {
+        long[] values = {0, 1, -1, 5000, -5000, 15000, 123456789, -987654321, 1L << 40, -(1L << 45), 4_999_999_999L};
+        for (long left : values)
+            for (long right : values) {
+                BigDecimal expected = FixedDecimal.toBigDecimal(left).multiply(FixedDecimal.toBigDecimal(right))
+                        .setScale(FixedDecimal.SCALE, RoundingMode.HALF_EVEN);
+                if (FixedDecimal.fits(expected))
+                    assertThat(FixedDecimal.multiply(left, right)).isEqualTo(FixedDecimal.toUnscaled(expected));
+                else
+                    assertThatThrownBy(() -> FixedDecimal.multiply(left, right)).isInstanceOf(ArithmeticException.class);
+
+                assertThat(FixedDecimal.toBigDecimal(FixedDecimal.add(left, right)))
+                        .isEqualByComparingTo(FixedDecimal.toBigDecimal(left).add(FixedDecimal.toBigDecimal(right)));
+            }
+    }
+
+    @Test
+    public void tryOverflow_shouldThrowArithmeticException() {
+        assertThatThrownBy(() -> FixedDecimal.ofUnscaled(Long.MAX_VALUE).add(FixedDecimal.ofUnscaled(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> FixedDecimal.of(Long.MAX_VALUE)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void tryToString_shouldHaveAllDigits() {
+        assertThat(FixedDecimal.parse("12.5")).hasToString("12.5000");
+        assertThat(FixedDecimal.parse("-0.0005")).hasToString("-0.0005");
+        assertThat(FixedDecimal.ZERO).hasToString("0.0000");
+        assertThat(FixedDecimal.ofUnscaled(Long.MIN_VALUE)).hasToString("-922337203685477.5808");
+    }
+
+    @Test
+    public void tryUnscaledArithmetic_shouldNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+
+        long[] sink = new long[1];
+        long allocated = Allocations.measure(10_000, () -> {
+            long total = FixedDecimal.multiply(sink[0] + 12345, 20000);
+            sink[0] = FixedDecimal.add(total, FixedDecimal.hashCode(total)) & 0xFFFF;
+        });
+        assertThat(allocated).isLessThan(1024);
+    }
+
+    @Test
+    public void tryValidator_shouldCompareDecimals() {
+        assertThat(Validate.fixedDecimal().isPositive().isAtMost(FixedDecimal.of(100)).test(FixedDecimal.parse("99.99")))
+                .isTrue();
+        assertThat(Validate.fixedDecimal().isPositive().isAtMost(FixedDecimal.of(100)).test(FixedDecimal.parse("100.01")))
+                .isFalse();
+    }
+
+    @Test
+    public void trySerializer_shouldWriteNumber() throws Exception {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(new FixedDecimalSerializer()));
+
+        assertThat(mapper.writeValueAsString(FixedDecimal.parse("-1.25"))).isEqualTo("-1.2500");
+    }
+
+}
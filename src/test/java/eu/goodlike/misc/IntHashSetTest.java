@@ -0,0 +1,67 @@
+package eu.goodlike.misc;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IntHashSetTest {
+
+    @Test
+    public void tryAddingSameValueTwice_shouldAddItOnce() {
+        IntHashSet set = new IntHashSet();
+
+        assertThat(set.add(5)).isTrue();
+        assertThat(set.add(5)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void tryAddingZero_shouldContainIt() {
+        IntHashSet set = new IntHashSet();
+
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.toSortedArray()).containsExactly(0);
+    }
+
+    @Test
+    public void tryRandomValues_shouldMatchHashSet() {
+        Random random = new Random(7);
+        IntHashSet set = new IntHashSet(0);
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            int value = random.nextInt(5000) - 2500;
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+
+        for (int value = -3000; value < 3000; value++)
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+
+        assertThat(set.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    public void tryLongValues_shouldMatchHashSet() {
+        Random random = new Random(7);
+        LongHashSet set = LongHashSet.of(Long.MIN_VALUE, 0, Long.MAX_VALUE);
+        Set<Long> expected = new HashSet<>();
+        expected.add(Long.MIN_VALUE);
+        expected.add(0L);
+        expected.add(Long.MAX_VALUE);
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextInt(5000) * 0x1_0000_0000L;
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        assertThat(set.contains(Long.MIN_VALUE)).isTrue();
+        assertThat(set.contains(1)).isFalse();
+    }
+
+}
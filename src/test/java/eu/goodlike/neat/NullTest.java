@@ -1,13 +1,17 @@
 package eu.goodlike.neat;
 
+import eu.goodlike.test.Allocations;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.Assume.assumeTrue;
 
 public class NullTest {
 
@@ -229,10 +233,84 @@ public class NullTest {
                 .withMessageStartingWith("Cannot be null: multipleFields");
     }
 
+    @Test
+    public void tryRequireNotNull_shouldPass() {
+        Null.require("Should pass", 1, 2, 3, 4, 5);
+        Null.requireArray("Should pass", new Object[] {1, 2});
+        Null.requireCollection("Should pass", Arrays.asList(1, 2));
+    }
+
+    @Test
+    public void tryRequireSomeNull_givesSameMessageAsCheck() {
+        Object[] objects = {1, null, 3};
+        String expectedMessage = messageOf(() -> Null.check(1, null, 3).ifAny("Some message"));
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Null.require("Some message", 1, null, 3))
+                .withMessage(expectedMessage);
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Null.requireArray("Some message", objects))
+                .withMessage(expectedMessage);
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Null.requireCollection("Some message", Arrays.asList(objects)))
+                .withMessage(expectedMessage);
+    }
+
+    @Test
+    public void tryRequireCollectionWhichRejectsNullQueries_shouldPass() {
+        Collection<Integer> set = new TreeSet<>(Arrays.asList(1, 2));
+        Collection<Integer> concurrentSet = ConcurrentHashMap.newKeySet();
+        concurrentSet.add(1);
+
+        Null.requireCollection("Should pass", set);
+        Null.requireCollection("Should pass", concurrentSet);
+    }
+
+    @Test
+    public void tryRequireJustNull_throwsWithMessage() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Null.require("Some message", null))
+                .withMessage("Some message");
+    }
+
+    @Test
+    public void tryRequireNullMessage_throwsNullPointer() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Null.require(null, 1, 2))
+                .withMessage("Message cannot be null");
+    }
+
+    @Test
+    public void tryRequireNotNull_shouldNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+
+        Object one = 1;
+        Object[] array = {one, one};
+        List<Object> list = Arrays.asList(one, one);
+        long allocated = Allocations.measure(10_000, () -> {
+            Null.require("Cannot be null: one", one);
+            Null.require("Cannot be null: one, two, three", one, one, one);
+            Null.require("Cannot be null: one, two, three, four, five", one, one, one, one, one);
+            Null.requireArray("Cannot be or contain null: array", array);
+            Null.requireCollection("Cannot be or contain null: list", list);
+            Null.check(one).as("one");
+        });
+        assertThat(allocated).isLessThan(1024);
+    }
+
     @Test
     public void tryNoArgCheck_throwsIllegalState() {
         assertThatExceptionOfType(IllegalStateException.class)
                 .isThrownBy(Null::check);
     }
 
+    private static String messageOf(Runnable action) {
+        try {
+            action.run();
+        } catch (NullPointerException e) {
+            return e.getMessage();
+        }
+        throw new AssertionError("Expected NullPointerException");
+    }
+
 }
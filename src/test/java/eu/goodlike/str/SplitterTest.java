@@ -0,0 +1,75 @@
+package eu.goodlike.str;
+
+import eu.goodlike.functional.IntIntConsumer;
+import eu.goodlike.test.Allocations;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeTrue;
+
+public class SplitterTest {
+
+    @Test
+    public void trySplit_shouldKeepEmptyTokens() {
+        assertThat(Str.splitter(':').splitToList(":a::b:")).containsExactly("", "a", "", "b", "");
+        assertThat(Str.splitter(':').splitToList("")).containsExactly("");
+        assertThat(Str.splitter(':').splitToList("abc")).containsExactly("abc");
+    }
+
+    @Test
+    public void trySplit_shouldNotUseRegex() {
+        assertThat(Str.splitter(".").splitToList("a.b|c")).containsExactly("a", "b|c");
+        assertThat(Str.splitter("|").splitToList("a.b|c")).containsExactly("a.b", "c");
+        assertThat(Str.splitter("->").splitToList("a->b-->c")).containsExactly("a", "b-", "c");
+    }
+
+    @Test
+    public void trySplitCharSequence_shouldBeSameAsString() {
+        Splitter splitter = Str.splitter("::");
+        String string = "::a:b::::c::";
+
+        assertThat(splitter.splitToList(new StringBuilder(string))).isEqualTo(splitter.splitToList(string));
+    }
+
+    @Test
+    public void trySplitLazily_shouldReturnViews() {
+        List<String> tokens = new ArrayList<>();
+        for (CharSequence token : Str.splitter(", ").split("one, two, three")) {
+            tokens.add(token.toString());
+            assertThat(token.subSequence(1, token.length()).toString()).isEqualTo(token.toString().substring(1));
+        }
+
+        assertThat(tokens).containsExactly("one", "two", "three");
+    }
+
+    @Test
+    public void tryForEachToken_shouldPassIndexes() {
+        List<String> tokens = new ArrayList<>();
+        String string = "a,bc,,d";
+        Str.splitter(',').forEachToken(string, (start, end) -> tokens.add(string.substring(start, end)));
+
+        assertThat(tokens).containsExactly("a", "bc", "", "d");
+    }
+
+    @Test
+    public void tryEmptySeparator_shouldFail() {
+        assertThatThrownBy(() -> Str.splitter("")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void tryForEachToken_shouldNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+
+        Splitter splitter = Str.splitter(',');
+        String string = "some,comma,separated,values,,";
+        int[] length = new int[1];
+        IntIntConsumer consumer = (start, end) -> length[0] += end - start;
+        long allocated = Allocations.measure(10_000, () -> splitter.forEachToken(string, consumer));
+        assertThat(allocated).isLessThan(1024);
+    }
+
+}
@@ -3,6 +3,12 @@ package eu.goodlike.str;
 import eu.goodlike.str.impl.str.StringBuilderWrapper;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class StrTest {
@@ -28,4 +34,28 @@ public class StrTest {
         assertThat(Str.of(builder1, o1, o2)).isEqualTo(new StringBuilderWrapper(builder2));
     }
 
+    @Test
+    public void tryToAppendable_shouldAppendSameAsBuilder() {
+        List<Object> list = Arrays.asList("a", 1, null);
+        StringWriter writer = new StringWriter();
+        Str.to(writer).and(o1, o2).andSome("[", list, "]").andIf(false, "skipped");
+
+        assertThat(writer.toString()).isEqualTo(Str.of(o1, o2).andSome("[", list, "]").toString());
+    }
+
+    @Test
+    public void tryToOutputStream_shouldWriteUtf8() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Str.to(outputStream).and("ąčę", o2).andSome(",", Arrays.asList("x", "y")).flush();
+
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("ąčę1,x,y");
+    }
+
+    @Test
+    public void tryPooled_shouldReuseBuilderSafely() {
+        assertThat(Str.pooled(sb -> sb.and(o1, o2))).isEqualTo("test1");
+        assertThat(Str.pooled(sb -> sb.and(Str.pooled(inner -> inner.and(o2)), o1))).isEqualTo("1test");
+        assertThat(Str.pooled(sb -> sb.and(o2))).isEqualTo("1");
+    }
+
 }
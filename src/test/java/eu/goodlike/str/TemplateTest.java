@@ -0,0 +1,96 @@
+package eu.goodlike.str;
+
+import eu.goodlike.test.Allocations;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class TemplateTest {
+
+    @Test
+    public void tryFormat_shouldBeSameAsStrFormat() {
+        String[] patterns = {"", "{}", "User {} failed {} times", "{}{}{}", "no placeholders", "a \\{} b {}",
+                "a \\\\{} b {}", "{} trailing {", "{ } {} }", "{} \\{}", "{} and {} \\{}", "\\{} {} \\\\{} {}"};
+        RuntimeException error = new RuntimeException("boom");
+        for (String pattern : patterns) {
+            Template template = Str.template(pattern);
+
+            assertThat(template.format()).isEqualTo(Str.format(pattern, new Object[0]));
+            assertThat(template.format("x")).isEqualTo(Str.format(pattern, "x"));
+            assertThat(template.renderTo(new StringBuilder(), 7L).toString()).isEqualTo(Str.format(pattern, 7L));
+            assertThat(template.format("x", 1, null)).isEqualTo(Str.format(pattern, "x", 1, null));
+            assertThat(template.format(new int[] {1, 2}, "y")).isEqualTo(Str.format(pattern, new int[] {1, 2}, "y"));
+            assertThat(template.format("x", 1, 2, 3, 4)).isEqualTo(Str.format(pattern, "x", 1, 2, 3, 4));
+            assertThat(template.renderTo(new StringBuilder(), "x", 1L).toString())
+                    .isEqualTo(Str.format(pattern, "x", 1L));
+            assertThat(template.format((Object) error)).isEqualTo(Str.format(pattern, error));
+            assertThat(template.format("x", error)).isEqualTo(Str.format(pattern, "x", error));
+            assertThat(template.format("x", 1, error)).isEqualTo(Str.format(pattern, "x", 1, error));
+            assertThat(template.format("x", 1, 2, error)).isEqualTo(Str.format(pattern, "x", 1, 2, error));
+            assertThat(template.format(error, "x")).isEqualTo(Str.format(pattern, error, "x"));
+        }
+    }
+
+    @Test
+    public void tryFewerArguments_shouldKeepPlaceholders() {
+        assertThat(Str.template("{} and {}").format("one")).isEqualTo("one and {}");
+    }
+
+    @Test
+    public void tryPrimitives_shouldRenderThem() {
+        Template template = Str.template("User {} failed {} times");
+
+        assertThat(template.renderTo(new StringBuilder(), "bob", 3L).toString()).isEqualTo("User bob failed 3 times");
+        assertThat(template.renderTo(new StringBuilder(), 7, 3).toString()).isEqualTo("User 7 failed 3 times");
+        assertThat(template.renderTo(new StringBuilder(), 1.5).toString()).isEqualTo("User 1.5 failed {} times");
+    }
+
+    @Test
+    public void trySegments_shouldRenderPieceByPiece() {
+        Template template = Str.template("User {} failed {} times");
+        StringBuilder builder = new StringBuilder();
+        template.appendSegment(builder, 0).append('x');
+        template.appendSegment(builder, 1).append(true);
+        template.appendSegment(builder, 2);
+
+        assertThat(template.getSlotCount()).isEqualTo(2);
+        assertThat(builder.toString()).isEqualTo("User x failed true times");
+    }
+
+    @Test
+    public void tryAppendable_shouldRenderIntoIt() throws IOException {
+        StringWriter writer = new StringWriter();
+        Str.template("{} = {}").renderTo(writer, "a", 1);
+
+        assertThat(writer.toString()).isEqualTo("a = 1");
+    }
+
+    @Test
+    public void tryTrailingThrowable_shouldNotBeAnArgument() throws IOException {
+        RuntimeException error = new RuntimeException("boom");
+        StringWriter writer = new StringWriter();
+        Str.template("{} = {}").renderTo(writer, "a", error);
+
+        assertThat(writer.toString()).isEqualTo("a = {}");
+        assertThat(Str.template("x {}").format((Object) error)).isEqualTo("x {}");
+    }
+
+    @Test
+    public void tryRenderingPrimitives_shouldNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+
+        Template template = Str.template("User {} failed {} times");
+        StringBuilder builder = new StringBuilder(64);
+        long allocated = Allocations.measure(10_000, () -> {
+            builder.setLength(0);
+            template.renderTo(builder, "bob", 12345L);
+            template.renderTo(builder.delete(0, builder.length()), 42, 7);
+        });
+        assertThat(allocated).isLessThan(1024);
+    }
+
+}
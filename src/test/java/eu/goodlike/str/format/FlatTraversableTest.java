@@ -0,0 +1,66 @@
+package eu.goodlike.str.format;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlatTraversableTest {
+
+    @Test
+    public void tryJson_shouldBeSameAsJsonTraversable() throws IOException {
+        JsonNode json = new ObjectMapper().readTree(
+                "{\"replace\":{\"me\":\"Just\",\"deep\":{\"er\":1}},"
+                        + "\"with\":\"an example\",\"none\":null,\"list\":[1,2]}");
+        Traversable jsonTraversable = new JsonTraversable(json);
+        Traversable flatTraversable = FlatTraversable.of(json);
+
+        String[][] paths = {{"replace", "me"}, {"replace", "deep", "er"}, {"replace"}, {"with"}, {"none"}, {"list"},
+                {"list", "0"}, {"values", "of"}, {"with", "more"}};
+        for (String[] path : paths) {
+            String[] otherSteps = Arrays.copyOfRange(path, 1, path.length);
+            assertThat(flatTraversable.getValueAt(path[0], otherSteps))
+                    .isEqualTo(jsonTraversable.getValueAt(path[0], otherSteps));
+        }
+    }
+
+    @Test
+    public void tryMap_shouldFlattenNestedMaps() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("replace", ImmutableMap.of("me", "Just", "count", 2));
+        map.put("with", "an example");
+        map.put("none", null);
+        FlatTraversable traversable = FlatTraversable.of(map);
+
+        assertThat(traversable.getValueAt("replace", "me")).contains("Just");
+        assertThat(traversable.getValueAt("replace", "count")).contains("2");
+        assertThat(traversable.getValueAt("with")).contains("an example");
+        assertThat(traversable.getValueAt("replace")).isEmpty();
+        assertThat(traversable.getValueAt("none")).isEmpty();
+        assertThat(traversable.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void tryProperties_shouldUseKeysAsSteps() {
+        Properties properties = new Properties();
+        properties.setProperty("db.url", "localhost");
+
+        assertThat(FlatTraversable.of(properties).getValueAt("db.url")).contains("localhost");
+    }
+
+    @Test
+    public void tryFormatter_shouldUseFlatTraversable() {
+        FlatTraversable traversable = FlatTraversable.of(ImmutableMap.of("replace", ImmutableMap.of("me", "Just")));
+
+        assertThat(new TraversableFormatter(traversable).format("<replace:me> <with>")).contains("Just ");
+    }
+
+}
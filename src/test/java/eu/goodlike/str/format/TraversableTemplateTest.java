@@ -0,0 +1,106 @@
+package eu.goodlike.str.format;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TraversableTemplateTest {
+
+    private static Traversable traversable(String... pathsAndValues) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < pathsAndValues.length; i += 2)
+            values.put(pathsAndValues[i], pathsAndValues[i + 1]);
+
+        return (firstStep, otherSteps) -> {
+            StringBuilder path = new StringBuilder(firstStep);
+            for (String step : otherSteps)
+                path.append(':').append(step);
+            return Optional.ofNullable(values.get(path.toString()));
+        };
+    }
+
+    private final Traversable traversable = traversable("replace:me", "Just", "with", "an example");
+
+    @Test
+    public void tryRender_shouldBeSameAsFormatter() {
+        String[] strings = {"", "no steps", "<replace:me> <with> <values:of:some:kind>", "<with><with>", "<>", "a > b",
+                "<with:> <:with> <with::>", "<replace:me>"};
+        TraversableFormatter formatter = new TraversableFormatter(traversable);
+        for (String string : strings) {
+            TraversableTemplate template = TraversableFormatter.compile(string);
+            assertThat(template.render(traversable)).isEqualTo(formatter.format(string).get());
+        }
+    }
+
+    @Test
+    public void tryStepsWithEmptyAffixes_shouldKeepEmptySteps() {
+        List<List<String>> paths = new ArrayList<>();
+        Traversable recorder = (firstStep, otherSteps) -> {
+            List<String> path = new ArrayList<>();
+            path.add(firstStep);
+            path.addAll(Arrays.asList(otherSteps));
+            paths.add(path);
+            return Optional.empty();
+        };
+        new TraversableFormatter(recorder).format("<:a> <a:> <a::b>");
+
+        assertThat(paths)
+                .containsExactly(Arrays.asList("", "", "a"), Arrays.asList("a", ""), Arrays.asList("a", "", "b"));
+    }
+
+    @Test
+    public void tryRender_shouldReplaceSteps() {
+        assertThat(TraversableFormatter.compile("<replace:me> <with> <values:of:some:kind>").render(traversable))
+                .isEqualTo("Just an example ");
+    }
+
+    @Test
+    public void tryOverrides_shouldPreferThem() {
+        TraversableTemplate template = TraversableFormatter.compile("<replace:me> <with>");
+        Traversable overrides = traversable("with", "overridden");
+
+        assertThat(template.render(traversable, overrides)).isEqualTo("Just overridden");
+        assertThat(new TraversableFormatter(traversable, overrides).format(template)).isEqualTo("Just overridden");
+    }
+
+    @Test
+    public void tryUnclosedStep_shouldFail() {
+        assertThat(new TraversableFormatter(traversable).format("<with> <replace")).isEmpty();
+        assertThatThrownBy(() -> TraversableFormatter.compile("<with> <replace"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void tryRenderAll_shouldKeepOrder() {
+        TraversableTemplate template = TraversableFormatter.compile("#<id>");
+        List<Traversable> traversables = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            traversables.add(traversable("id", String.valueOf(i)));
+            expected.add("#" + i);
+        }
+
+        assertThat(template.renderAll(traversables)).isEqualTo(expected);
+        assertThat(template.renderAll(Arrays.asList(traversable, traversable), traversable("id", "1")))
+                .containsExactly("#1", "#1");
+    }
+
+    @Test
+    public void tryRenderTo_shouldAppend() throws IOException {
+        StringWriter writer = new StringWriter().append("> ");
+
+        assertThat(TraversableFormatter.compile("<replace:me>!").renderTo(writer, traversable).toString())
+                .isEqualTo("> Just!");
+    }
+
+}
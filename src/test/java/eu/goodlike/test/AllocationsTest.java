@@ -0,0 +1,33 @@
+package eu.goodlike.test;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class AllocationsTest {
+
+    @Test
+    public void tryMeasuringAllocatingCode_shouldBePositive() {
+        assumeTrue(Allocations.isSupported());
+        List<Object> objects = new ArrayList<>();
+
+        long allocated = Allocations.measure(100, () -> objects.add(new byte[1024]));
+
+        assertThat(allocated).isGreaterThanOrEqualTo(100 * 1024);
+    }
+
+    @Test
+    public void tryMeasuringNonAllocatingCode_shouldBeNearZero() {
+        assumeTrue(Allocations.isSupported());
+        int[] counter = new int[1];
+
+        long allocated = Allocations.measure(10_000, () -> counter[0]++);
+
+        assertThat(allocated).isLessThan(1000);
+    }
+
+}
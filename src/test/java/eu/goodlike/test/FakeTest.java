@@ -67,6 +67,11 @@ public class FakeTest {
         assertThat(set).hasSize(10);
     }
 
+    @Test
+    public void tryFixedWages_shouldMatchWages() {
+        assertThat(Fake.fixedWage(10).toBigDecimal()).isEqualTo(Fake.wage(10));
+    }
+
     @Test
     public void tryDays_shouldBeUnique() {
         assertThat(Some.of(Fake::day).oneUpToStream(31).collect(toSet())).hasSize(31);
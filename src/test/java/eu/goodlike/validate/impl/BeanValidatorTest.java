@@ -0,0 +1,205 @@
+package eu.goodlike.validate.impl;
+
+import com.google.common.io.ByteStreams;
+import eu.goodlike.validate.Validate;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+
+import static eu.goodlike.validate.CommonValidators.NOT_NULL_NOT_BLANK;
+import static eu.goodlike.validate.Validate.aPrimInt;
+import static eu.goodlike.validate.Validate.anInt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BeanValidatorTest {
+
+    private BeanValidator<Person> validator;
+
+    @Before
+    public void setup() {
+        validator = Validate.bean(Person.class)
+                .field("name", NOT_NULL_NOT_BLANK)
+                .field("age", anInt().isBetween(0, 150))
+                .field("active", Boolean.TRUE::equals);
+    }
+
+    @Test
+    public void tryValidBean_shouldBeTrue() {
+        assertThat(validator.test(new Person("Bob", 30, true))).isTrue();
+    }
+
+    @Test
+    public void tryInvalidBean_shouldBeFalse() {
+        assertThat(validator.test(new Person("Bob", 200, true))).isFalse();
+        assertThat(validator.test(new Person(" ", 30, true))).isFalse();
+        assertThat(validator.test(new Person("Bob", 30, false))).isFalse();
+    }
+
+    @Test
+    public void tryNullBean_shouldBeFalse() {
+        assertThat(validator.test(null)).isFalse();
+    }
+
+    @Test
+    public void tryFailuresWithInvalidBean_shouldReturnAllFailedPropertiesInOrder() {
+        assertThat(validator.failures(new Person(null, -1, false))).containsExactly("name", "age", "active");
+        assertThat(validator.failures(new Person("Bob", -1, true))).containsExactly("age");
+        assertThat(validator.failures(new Person("Bob", 30, true))).isEmpty();
+    }
+
+    @Test
+    public void tryFirstFailureWithInvalidBean_shouldReturnFirstFailedProperty() {
+        assertThat(validator.firstFailure(new Person("Bob", -1, false))).contains("age");
+        assertThat(validator.firstFailure(new Person("Bob", 30, true))).isEmpty();
+    }
+
+    @Test
+    public void tryAccessorsAndFields_shouldReadThem() {
+        BeanValidator<Point> pointValidator = Validate.bean(Point.class)
+                .intField("x", aPrimInt().isAtLeast(0))
+                .longField("y", y -> y < 10)
+                .doubleField("weight", w -> w > 0.5);
+
+        assertThat(pointValidator.test(new Point(1, 2, 1))).isTrue();
+        assertThat(pointValidator.failures(new Point(-1, 20, 0))).containsExactly("x", "y", "weight");
+    }
+
+    @Test
+    public void tryNonPublicBean_shouldReadProperties() {
+        BeanValidator<Hidden> hiddenValidator = Validate.bean(Hidden.class).field("value", "ok"::equals);
+
+        assertThat(hiddenValidator.test(new Hidden("ok"))).isTrue();
+        assertThat(hiddenValidator.test(new Hidden("not ok"))).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void tryBeanFromChildClassLoader_shouldReadProperties() throws Exception {
+        Class<Object> childPerson =
+                (Class<Object>) new ChildFirstClassLoader(Person.class).loadClass(Person.class.getName());
+        assertThat(childPerson).isNotSameAs(Person.class);
+
+        Constructor<?> constructor = childPerson.getDeclaredConstructor(String.class, int.class, boolean.class);
+        constructor.setAccessible(true);
+        Object bean = constructor.newInstance("Bob", 30, true);
+
+        BeanValidator<Object> childValidator = Validate.bean(childPerson)
+                .field("name", NOT_NULL_NOT_BLANK)
+                .intField("age", aPrimInt().isBetween(0, 150));
+        assertThat(childValidator.failures(bean)).isEmpty();
+    }
+
+    @Test
+    public void tryUnknownProperty_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> Validate.bean(Person.class).field("height", anInt()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void tryNarrowingProperty_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> Validate.bean(Point.class).intField("y", y -> true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void tryOtherPredicates_shouldBeCombined() {
+        BeanValidator<Person> eitherValidator = validator.or().passes(person -> person.getAge() == 1000);
+
+        assertThat(eitherValidator.test(new Person("Bob", 1000, true))).isTrue();
+        assertThat(eitherValidator.failures(new Person("Bob", 1000, true))).containsExactly("age");
+    }
+
+    /**
+     * Loads given class itself, rather than delegating to its parent, same as class loaders of containers do
+     */
+    private static final class ChildFirstClassLoader extends ClassLoader {
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(ownClass.getName()))
+                return super.loadClass(name, resolve);
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null)
+                    return loaded;
+
+                String resource = name.replace('.', '/') + ".class";
+                try (InputStream input = ownClass.getClassLoader().getResourceAsStream(resource)) {
+                    byte[] bytes = ByteStreams.toByteArray(input);
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+
+        private ChildFirstClassLoader(Class<?> ownClass) {
+            super(ownClass.getClassLoader());
+            this.ownClass = ownClass;
+        }
+
+        private final Class<?> ownClass;
+    }
+
+    public static final class Person {
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        private Person(String name, int age, boolean active) {
+            this.name = name;
+            this.age = age;
+            this.active = active;
+        }
+
+        private final String name;
+        private final int age;
+        private final boolean active;
+    }
+
+    public static final class Point {
+        public int x() {
+            return x;
+        }
+
+        public long getY() {
+            return y;
+        }
+
+        public final double weight;
+
+        private Point(int x, long y, double weight) {
+            this.x = x;
+            this.y = y;
+            this.weight = weight;
+        }
+
+        private final int x;
+        private final long y;
+    }
+
+    private static final class Hidden {
+        public String getValue() {
+            return value;
+        }
+
+        private Hidden(String value) {
+            this.value = value;
+        }
+
+        private final String value;
+    }
+
+}
@@ -6,11 +6,15 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static eu.goodlike.validate.Validate.anInt;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class CollectionValidatorTest {
 
@@ -109,4 +113,130 @@ public class CollectionValidatorTest {
         validator.forFailing(anInt().isAtMost(5)).doThrowWith(i -> new RuntimeException("Found int above 5: " + i)).test(testList);
     }
 
+    @SuppressWarnings("deprecation")
+    @Test
+    public void tryContainsDuplicatesWithDuplicates_shouldBeFalse() {
+        assertThat(validator.containsDuplicates().test(Arrays.asList(1, 2, 1))).isFalse();
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void tryContainsDuplicatesWithoutDuplicates_shouldBeTrue() {
+        assertThat(validator.containsDuplicates().test(testList)).isTrue();
+    }
+
+    @Test
+    public void tryHasDuplicatesWithDuplicates_shouldBeTrue() {
+        assertThat(validator.hasDuplicates().test(Arrays.asList(1, 2, 1))).isTrue();
+        assertThat(validator.hasNoDuplicates().test(Arrays.asList(1, 2, 1))).isFalse();
+    }
+
+    @Test
+    public void tryHasDuplicatesWithoutDuplicates_shouldBeFalse() {
+        assertThat(validator.hasDuplicates().test(testList)).isFalse();
+        assertThat(validator.hasNoDuplicates().test(testList)).isTrue();
+    }
+
+    @Test
+    public void tryHasNoDuplicatesByWithEarlyDuplicate_shouldStopAtIt() {
+        CollectionValidator<Integer> noDuplicates = validator.hasNoDuplicatesBy(i -> {
+            actionCounter.incrementAndGet();
+            return i;
+        });
+
+        assertThat(noDuplicates.test(Arrays.asList(1, 1, 2, 3, 4))).isFalse();
+        assertThat(actionCounter.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void tryHasNoDuplicatesByKey_shouldCompareKeys() {
+        assertThat(validator.hasNoDuplicatesBy(i -> i % 3).test(Arrays.asList(1, 2, 3))).isTrue();
+        assertThat(validator.hasNoDuplicatesBy(i -> i % 3).test(Arrays.asList(1, 2, 4))).isFalse();
+        assertThat(validator.hasNoDuplicatesByInt(i -> i % 3).test(Arrays.asList(1, 2, 4))).isFalse();
+        assertThat(validator.hasNoDuplicatesByLong(i -> i % 3).test(Arrays.asList(0, 1, 2))).isTrue();
+    }
+
+    @Test
+    public void tryContainsAllByKey_shouldCompareKeys() {
+        assertThat(validator.containsAllBy(Arrays.asList(11, 12), i -> i % 10).test(testList)).isTrue();
+        assertThat(validator.containsAllBy(Arrays.asList(11, 16), i -> i % 10).test(testList)).isFalse();
+        assertThat(validator.containsAllByInt(Arrays.asList(11, 12), i -> i % 10).test(testList)).isTrue();
+        assertThat(validator.containsAllByLong(Arrays.asList(11, 16), i -> i % 10).test(testList)).isFalse();
+        assertThat(validator.containsAllByInt(new ArrayList<>(), i -> i).test(new ArrayList<>())).isTrue();
+    }
+
+    @Test
+    public void tryContainsAnyByKey_shouldCompareKeys() {
+        assertThat(validator.containsAnyBy(Arrays.asList(16, 15), i -> i % 10).test(testList)).isTrue();
+        assertThat(validator.containsAnyByInt(Arrays.asList(16, 17), i -> i % 10).test(testList)).isFalse();
+        assertThat(validator.containsAnyByLong(Arrays.asList(0, 11), i -> i % 10).test(testList)).isTrue();
+    }
+
+    @Test
+    public void tryIsSubsetOfByKey_shouldCompareKeys() {
+        List<Integer> reference = Arrays.asList(11, 12, 13, 14, 15, 16);
+
+        assertThat(validator.isSubsetOfBy(reference, i -> i % 10).test(testList)).isTrue();
+        assertThat(validator.isSubsetOfByInt(reference.subList(1, 6), i -> i % 10).test(testList)).isFalse();
+        assertThat(validator.isSubsetOfByLong(reference, i -> i % 10).test(testList)).isTrue();
+    }
+
+    @Test
+    public void tryIsSubsetOfByIntWithManyIds_shouldBeTrue() {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++)
+            ids.add(i * 7);
+
+        assertThat(validator.isSubsetOfByInt(ids, i -> i).test(ids)).isTrue();
+        assertThat(validator.containsAllByInt(ids, i -> i).test(ids)).isTrue();
+        assertThat(validator.hasNoDuplicatesByInt(i -> i).test(ids)).isTrue();
+    }
+
+    @Test
+    public void tryParallelAllMatch_shouldUseMultipleThreads() {
+        List<Integer> ids = Some.ints().oneUpTo(10_000);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        boolean allMatch = validator.parallel(100).allMatch(i -> threads.add(Thread.currentThread()) || i > 0).test(ids);
+
+        assertThat(allMatch).isTrue();
+        assertThat(threads.size()).isGreaterThanOrEqualTo(Runtime.getRuntime().availableProcessors() > 1 ? 2 : 1);
+    }
+
+    @Test
+    public void tryParallelRules_shouldMatchSequentialOnes() {
+        List<Integer> ids = Some.ints().oneUpTo(10_000);
+        CollectionValidator<Integer> parallel = validator.parallel(100);
+
+        assertThat(parallel.allMatch(i -> i < 5000).test(ids)).isFalse();
+        assertThat(parallel.anyMatch(i -> i == 9999).test(ids)).isTrue();
+        assertThat(parallel.hasExactly(100, i -> i % 100 == 0).test(ids)).isTrue();
+        assertThat(parallel.forEachFailingRun(i -> i % 10 != 0, actionCounter::incrementAndGet).test(ids)).isFalse();
+        assertThat(actionCounter.get()).isEqualTo(1000);
+    }
+
+    @Test
+    public void tryParallelForFirstFailingThrowWith_shouldThrowGivenException() {
+        List<Integer> ids = Some.ints().oneUpTo(10_000);
+        IllegalStateException exception = new IllegalStateException();
+
+        assertThatThrownBy(() -> validator.parallel(100).forFirstFailingThrowWith(i -> i != 5000, i -> exception).test(ids))
+                .isSameAs(exception);
+    }
+
+    @Test
+    public void tryParallelThenSequential_shouldOnlyAffectRulesInBetween() {
+        List<Integer> ids = Some.ints().oneUpTo(10_000);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        validator.parallel(100).sequential().allMatch(i -> threads.add(Thread.currentThread()) || i > 0).test(ids);
+
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tryParallelWithZeroThreshold_shouldThrow() {
+        validator.parallel(0);
+    }
+
 }
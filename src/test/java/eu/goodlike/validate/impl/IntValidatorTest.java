@@ -1,9 +1,15 @@
 package eu.goodlike.validate.impl;
 
+import eu.goodlike.functional.Some;
+import eu.goodlike.validate.CommonValidators;
 import eu.goodlike.validate.Validate;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class IntValidatorTest {
@@ -155,4 +161,69 @@ public class IntValidatorTest {
         assertThat(validator.isDayOfMonth(2016, 2).test(29)).isTrue();
     }
 
+    @Test
+    public void tryOptimized_shouldBeSameAsNotOptimized() {
+        List<IntValidator> validators = Arrays.asList(
+                validator.isAtLeast(1).isAtMost(100),
+                validator.not().isNull().isMoreThan(0).isLessThan(50).isAtLeast(10).isBetween(5, 30),
+                validator.isBetweenExclusive(1, 10).isBetweenExclusiveLeft(3, 8).isBetweenExclusiveRight(2, 8),
+                validator.isAtLeast(10).isAtMost(5).or().isEqual(7),
+                validator.isNull().or().isIn(1, 2, 3).isIn(2, 3, 4).or().isIn(10, 11).or().isEqual(12),
+                validator.not().isNull().isIn(1, 2, 3).not().isEqual(2).or().isMoreThan(100).isMoreThan(105),
+                validator.isNull().not().isNull().or().isEqualComparably(5).isAtLeast(5),
+                validator.isNull().isIn(1, null).or().isNull().isIn(1),
+                validator.isAtLeast(5).or(),
+                validator.isAtLeast(5).or().isNull(),
+                validator.isAtLeast(5).isIn(1, 2).isIn(3).or().isEqual(1),
+                validator.isIn(1, 2).or().isAtMost(10).or().isIn(3, null),
+                CommonValidators.OPTIONAL_JSON_ID,
+                CommonValidators.MANDATORY_JSON_ID);
+
+        for (IntValidator notOptimized : validators) {
+            IntValidator optimized = notOptimized.optimize();
+            for (Integer i : Some.ints().oneUpTo(120))
+                assertThat(optimized.test(i)).isEqualTo(notOptimized.test(i));
+            assertThat(optimized.test(-1)).isEqualTo(notOptimized.test(-1));
+            assertThat(outcome(optimized, null)).isEqualTo(outcome(notOptimized, null));
+        }
+    }
+
+    private static Object outcome(IntValidator validator, Integer value) {
+        try {
+            return validator.test(value);
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    @Test
+    public void tryOptimizedWithDanglingOr_shouldNotCallPredicates() {
+        List<Integer> calls = new ArrayList<>();
+        IntValidator optimized = validator.passes(calls::add).or().optimize();
+
+        assertThat(optimized.test(1)).isTrue();
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    public void tryOptimizedWithEmptyRange_shouldNotCallPredicates() {
+        List<Integer> calls = new ArrayList<>();
+        IntValidator optimized = validator.not().isNull().passes(calls::add).isAtLeast(10).isLessThan(10).optimize();
+
+        assertThat(optimized.test(10)).isFalse();
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    public void tryAddingAfterOptimized_shouldBeSameAsNotOptimized() {
+        IntValidator optimized = validator.isAtLeast(1).optimize().isAtMost(10).or().isEqual(20);
+
+        assertThat(optimized.test(0)).isFalse();
+        assertThat(optimized.test(10)).isTrue();
+        assertThat(optimized.test(11)).isFalse();
+        assertThat(optimized.test(20)).isTrue();
+        assertThat(optimized.optimize().test(11)).isFalse();
+        assertThat(optimized.optimize().test(20)).isTrue();
+    }
+
 }
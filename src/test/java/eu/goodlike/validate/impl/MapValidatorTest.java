@@ -0,0 +1,94 @@
+package eu.goodlike.validate.impl;
+
+import com.google.common.collect.ImmutableMap;
+import eu.goodlike.validate.Validate;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static eu.goodlike.validate.CommonValidators.NOT_NULL_NOT_BLANK;
+import static eu.goodlike.validate.Validate.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MapValidatorTest {
+
+    private final MapValidator<String, String> validator = Validate.Maps.stringToString().schema()
+            .required("host", NOT_NULL_NOT_BLANK)
+            .required("port", string().isInt(port -> port > 0 && port < 65536))
+            .optional("user", NOT_NULL_NOT_BLANK)
+            .build();
+
+    @Test
+    public void trySchemaWithValidMap_shouldBeTrue() {
+        assertThat(validator.test(ImmutableMap.of("host", "localhost", "port", "80"))).isTrue();
+        assertThat(validator.test(ImmutableMap.of("host", "localhost", "port", "80", "user", "admin"))).isTrue();
+    }
+
+    @Test
+    public void trySchemaWithMissingRequiredKey_shouldBeFalse() {
+        assertThat(validator.test(ImmutableMap.of("host", "localhost"))).isFalse();
+        assertThat(validator.test(ImmutableMap.of("host", "localhost", "user", "admin"))).isFalse();
+    }
+
+    @Test
+    public void trySchemaWithInvalidValue_shouldBeFalse() {
+        assertThat(validator.test(ImmutableMap.of("host", "localhost", "port", "0"))).isFalse();
+        assertThat(validator.test(ImmutableMap.of("host", "localhost", "port", "80", "user", " "))).isFalse();
+    }
+
+    @Test
+    public void trySchemaWithUnknownKey_shouldBeFalse() {
+        assertThat(validator.test(ImmutableMap.of("host", "localhost", "port", "80", "password", "secret"))).isFalse();
+    }
+
+    @Test
+    public void trySchemaAllowingUnknownKeys_shouldIgnoreThem() {
+        MapValidator<String, String> lenientValidator = Validate.Maps.stringToString().schema()
+                .required("host", NOT_NULL_NOT_BLANK)
+                .allowUnknownKeys()
+                .build();
+
+        assertThat(lenientValidator.test(ImmutableMap.of("host", "localhost", "password", ""))).isTrue();
+        assertThat(lenientValidator.test(ImmutableMap.of("password", "", "other", ""))).isFalse();
+    }
+
+    @Test
+    public void trySchemaWithNullKeyAndValue_shouldValidateThem() {
+        MapValidator<String, String> nullValidator = Validate.Maps.stringToString().schema()
+                .required(null, NOT_NULL_NOT_BLANK)
+                .optional("value", v -> v == null)
+                .build();
+        Map<String, String> map = new HashMap<>();
+        map.put(null, "x");
+        map.put("value", null);
+
+        assertThat(nullValidator.test(map)).isTrue();
+    }
+
+    @Test
+    public void trySchemaWithManyKeys_shouldFindAll() {
+        MapValidator.KeySchema<String, String> schema = Validate.Maps.stringToString().schema();
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            schema.required("key" + i, ("value" + i)::equals);
+            map.put("key" + i, "value" + i);
+        }
+        MapValidator<String, String> manyValidator = schema.build();
+
+        assertThat(manyValidator.test(map)).isTrue();
+
+        map.put("key500", "wrong");
+        assertThat(manyValidator.test(map)).isFalse();
+    }
+
+    @Test
+    public void trySchemaWithDuplicateKey_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> Validate.Maps.stringToString().schema()
+                .required("host", NOT_NULL_NOT_BLANK)
+                .optional("host", NOT_NULL_NOT_BLANK))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -1,14 +1,17 @@
 package eu.goodlike.validate.impl;
 
 import eu.goodlike.functional.Some;
+import eu.goodlike.validate.Instrumentation;
 import eu.goodlike.validate.Validate;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class ObjectValidatorTest {
 
@@ -100,4 +103,154 @@ public class ObjectValidatorTest {
         validator.isNull().ifInvalid(null).thenThrowWith(i -> new RuntimeException("Not null found: " + i));
     }
 
+    @Test
+    public void tryCompiled_shouldBeSameAsNotCompiled() {
+        ObjectValidator<Integer> notCompiled = validator.isNull().or().not().isNull().isIn(1, 2, 3).not().isEqual(2)
+                .or().isEqual(10);
+        ObjectValidator<Integer> compiled = notCompiled.compile();
+
+        for (Integer i : Arrays.asList(null, 0, 1, 2, 3, 4, 10))
+            assertThat(compiled.test(i)).isEqualTo(notCompiled.test(i));
+    }
+
+    @Test
+    public void tryCompiledWithoutPredicates_shouldBeTrue() {
+        assertThat(validator.compile().test(1)).isTrue();
+    }
+
+    @Test
+    public void tryCompiledWithDanglingOr_shouldBeTrue() {
+        assertThat(validator.isNull().or().compile().test(1)).isTrue();
+    }
+
+    @Test
+    public void tryAddingAfterCompiled_shouldBeSameAsNotCompiled() {
+        ObjectValidator<Integer> compiled = validator.isNull().or().isEqual(1).compile().isIn(1, 2).or().isEqual(3);
+
+        assertThat(compiled.test(null)).isTrue();
+        assertThat(compiled.test(1)).isTrue();
+        assertThat(compiled.test(2)).isFalse();
+        assertThat(compiled.test(3)).isTrue();
+        assertThat(compiled.compile().test(2)).isFalse();
+        assertThat(compiled.compile().test(3)).isTrue();
+    }
+
+    @Test
+    public void tryCompiledWithNegatedPredicate_shouldBeSameAsNotCompiled() {
+        ObjectValidator<Integer> compiled = validator.not().passes(i -> i > 1).compile();
+
+        assertThat(compiled.test(1)).isTrue();
+        assertThat(compiled.test(2)).isFalse();
+    }
+
+    @Test
+    public void tryTestAll_shouldMarkInvalidIndexes() {
+        BitSet failures = validator.isIn(1, 3).testAll(Arrays.asList(1, 2, 3, 4, null));
+
+        assertThat(failures.stream().toArray()).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    public void tryTestAllArray_shouldMarkInvalidIndexes() {
+        BitSet failures = validator.not().isNull().testAll(new Integer[] {null, 1, null});
+
+        assertThat(failures.stream().toArray()).containsExactly(0, 2);
+    }
+
+    @Test
+    public void tryTestAllInParallel_shouldBeSameAsSequential() {
+        ObjectValidator<Integer> isEven = validator.passes(i -> i % 2 == 0);
+        List<Integer> ints = new ArrayList<>(Some.ints().oneUpTo(10000));
+
+        BitSet parallel = isEven.testAll(ints, 100);
+
+        assertThat(parallel).isEqualTo(isEven.testAll(ints, Integer.MAX_VALUE));
+        assertThat(parallel.cardinality()).isEqualTo(5000);
+        assertThat(parallel.get(0)).isTrue();
+        assertThat(parallel.get(1)).isFalse();
+    }
+
+    @Test
+    public void tryTestAllNotRandomAccess_shouldMarkInvalidIndexes() {
+        BitSet failures = validator.isNull().testAll(new LinkedList<>(Arrays.asList(null, 1, null, 2)));
+
+        assertThat(failures.stream().toArray()).containsExactly(1, 3);
+    }
+
+    @Test
+    public void tryFilterValid_shouldLeaveOnlyValid() {
+        assertThat(validator.isIn(1, 3).filterValid(Stream.of(1, 2, 3, 4))).containsExactly(1, 3);
+    }
+
+    @Test
+    public void tryPartition_shouldSplitIntoValidAndInvalid() {
+        Map<Boolean, List<Integer>> partition = validator.isIn(1, 3).partition(Some.ints().oneUpTo(5), 2);
+
+        assertThat(partition.get(true)).containsExactly(1, 3);
+        assertThat(partition.get(false)).containsExactly(2, 4, 5);
+    }
+
+    @Test
+    public void tryIsInWithEnums_shouldCheckMembership() {
+        ObjectValidator<TimeUnit> isIn = Validate.a(TimeUnit.class).isIn(TimeUnit.SECONDS, TimeUnit.DAYS, null);
+
+        assertThat(isIn.test(TimeUnit.DAYS)).isTrue();
+        assertThat(isIn.test(null)).isTrue();
+        assertThat(isIn.test(TimeUnit.HOURS)).isFalse();
+    }
+
+    @Test
+    public void tryIsInWithManyValues_shouldCheckMembership() {
+        Integer[] values = Stream.iterate(0, i -> i + 3).limit(1000).toArray(Integer[]::new);
+        ObjectValidator<Integer> isIn = validator.isIn(values);
+
+        assertThat(isIn.test(2997)).isTrue();
+        assertThat(isIn.test(2998)).isFalse();
+        assertThat(isIn.test(null)).isFalse();
+    }
+
+    @Test
+    public void tryInstrumented_shouldCountEveryRule() {
+        ObjectValidator<Integer> instrumented = validator.not().isNull().passes(i -> i > 10).or().isNull()
+                .instrumented("objectValidatorTest");
+
+        Stream.of(5, 15, 20, null).forEach(instrumented::test);
+
+        List<Instrumentation.RuleSnapshot> rules = Instrumentation.forName("objectValidatorTest")
+                .orElseThrow(AssertionError::new)
+                .snapshot();
+        assertThat(rules).extracting(Instrumentation.RuleSnapshot::getBlock).containsExactly(0, 0, 1);
+        assertThat(rules).extracting(Instrumentation.RuleSnapshot::getDescription).containsExactly("notNull", "custom", "isNull");
+        assertThat(rules).extracting(Instrumentation.RuleSnapshot::getInvocations).containsExactly(4L, 3L, 2L);
+        assertThat(rules).extracting(Instrumentation.RuleSnapshot::getRejections).containsExactly(1L, 1L, 1L);
+    }
+
+    @Test
+    public void tryInstrumentedAfterReset_shouldCountFromZero() {
+        ObjectValidator<Integer> instrumented = validator.isIn(1, 2, 3).instrumented("objectValidatorResetTest");
+        instrumented.test(1);
+
+        Instrumentation instrumentation = Instrumentation.forName("objectValidatorResetTest").orElseThrow(AssertionError::new);
+        instrumentation.reset();
+        instrumented.test(4);
+
+        assertThat(instrumentation.snapshot()).extracting(Instrumentation.RuleSnapshot::getRejections).containsExactly(1L);
+        assertThat(instrumentation.snapshot()).extracting(Instrumentation.RuleSnapshot::getInvocations).containsExactly(1L);
+    }
+
+    @Test
+    public void tryInstrumentedWithTakenName_shouldFailUntilUnregistered() {
+        validator.isIn(1, 2, 3).instrumented("objectValidatorDuplicateTest");
+        Instrumentation first = Instrumentation.forName("objectValidatorDuplicateTest").orElseThrow(AssertionError::new);
+
+        assertThatThrownBy(() -> validator.isNull().instrumented("objectValidatorDuplicateTest"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(Instrumentation.forName("objectValidatorDuplicateTest")).containsSame(first);
+
+        Instrumentation.unregister("objectValidatorDuplicateTest");
+        validator.isNull().instrumented("objectValidatorDuplicateTest");
+        assertThat(Instrumentation.forName("objectValidatorDuplicateTest").orElseThrow(AssertionError::new))
+                .isNotSameAs(first);
+    }
+
 }
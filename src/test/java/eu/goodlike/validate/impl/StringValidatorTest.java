@@ -1,11 +1,20 @@
 package eu.goodlike.validate.impl;
 
+import eu.goodlike.test.Allocations;
 import eu.goodlike.test.Fake;
+import eu.goodlike.validate.CommonValidators;
 import eu.goodlike.validate.Validate;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
 
 public class StringValidatorTest {
 
@@ -262,4 +271,193 @@ public class StringValidatorTest {
         assertThat(validator.hasChars(10).test("test")).isFalse();
     }
 
+    @Test
+    public void tryCodePointsUpToWithSurrogates_shouldMatchCodePointCount() {
+        String[] strings = {"", "a", "test", "\uD83D\uDE00", "a\uD83D\uDE00b", "\uD83D", "\uDE00\uD83D", "\uD83D\uDE00\uD83D"};
+        for (String string : strings) {
+            int codePoints = string.codePointCount(0, string.length());
+            for (int limit = 0; limit <= 4; limit++)
+                assertThat(StringValidator.codePointsUpTo(string, limit)).isEqualTo(Math.min(codePoints, limit));
+        }
+    }
+
+    @Test
+    public void tryCodePointsWithSurrogatePairs_shouldCountPairsOnce() {
+        String smileys = "\uD83D\uDE00\uD83D\uDE00";
+
+        assertThat(validator.hasCodePoints(2).test(smileys)).isTrue();
+        assertThat(validator.hasAtLeastCodePoints(3).test(smileys)).isFalse();
+        assertThat(validator.hasAtMostCodePoints(2).test(smileys)).isTrue();
+        assertThat(validator.hasLessThanCodePoints(2).test(smileys)).isFalse();
+        assertThat(validator.hasMoreThanCodePoints(1).test(smileys)).isTrue();
+    }
+
+    @Test
+    public void tryCodePointsWithNegativeAmount_shouldBehaveLikeSizeChecks() {
+        assertThat(validator.hasCodePoints(-1).test("")).isFalse();
+        assertThat(validator.hasAtLeastCodePoints(-1).test("")).isTrue();
+        assertThat(validator.hasAtMostCodePoints(-1).test("")).isFalse();
+        assertThat(validator.hasLessThanCodePoints(-1).test("")).isFalse();
+        assertThat(validator.hasMoreThanCodePoints(-1).test("")).isTrue();
+    }
+
+    @Test
+    public void tryAnyCodePointPasses_shouldSeeWholeCodePoints() {
+        assertThat(validator.anyCodePointPasses(c -> c == 0x1F600).test("a\uD83D\uDE00")).isTrue();
+        assertThat(validator.anyCodePointPasses(c -> c == 0xD83D).test("a\uD83D\uDE00")).isFalse();
+    }
+
+    @Test
+    public void tryJsonStringValidation_shouldNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+        String json = "Some kind of \uD83D\uDE00 json string";
+
+        long allocated = Allocations.measure(10_000, () -> CommonValidators.MANDATORY_JSON_STRING.test(json));
+
+        assertThat(allocated).isLessThan(1000);
+    }
+
+    @Test
+    public void tryCodePointChecks_shouldNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+        StringValidator codePoints = validator.hasAtLeastCodePoints(2).hasAtMostCodePoints(100).not().isBlank();
+
+        long allocated = Allocations.measure(10_000, () -> codePoints.test("\uD83D\uDE00 test"));
+
+        assertThat(allocated).isLessThan(1000);
+    }
+
+    @Test
+    public void tryAnyCodePointPasses_shouldNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+        StringValidator anyEmoji = validator.anyCodePointPasses(c -> c == 0x1F600);
+
+        long allocated = Allocations.measure(10_000, () -> anyEmoji.test("test \uD83D\uDE00"));
+
+        assertThat(allocated).isLessThan(1000);
+    }
+
+    @Test
+    public void tryIntWithBounds_shouldDetectOverflow() {
+        assertThat(StringValidator.isInt("2147483647")).isTrue();
+        assertThat(StringValidator.isInt("-2147483648")).isTrue();
+        assertThat(StringValidator.isInt("2147483648")).isFalse();
+        assertThat(StringValidator.isInt("-2147483649")).isFalse();
+        assertThat(StringValidator.isInt("+0002147483647")).isTrue();
+    }
+
+    @Test
+    public void tryLongWithBounds_shouldDetectOverflow() {
+        assertThat(StringValidator.isLong("9223372036854775807")).isTrue();
+        assertThat(StringValidator.isLong("-9223372036854775808")).isTrue();
+        assertThat(StringValidator.isLong("9223372036854775808")).isFalse();
+        assertThat(StringValidator.isLong("-9223372036854775809")).isFalse();
+    }
+
+    @Test
+    public void tryIntegerWithOnlySign_shouldBeFalse() {
+        assertThat(StringValidator.isInteger("-")).isFalse();
+        assertThat(StringValidator.isInt("+")).isFalse();
+        assertThat(validator.isInt(i -> true).test("-")).isFalse();
+    }
+
+    @Test
+    public void tryParseIntOrSentinel_shouldParseOnlyInts() {
+        assertThat(StringValidator.parseIntOrSentinel("-2147483648")).isEqualTo(Integer.MIN_VALUE);
+        assertThat(StringValidator.parseIntOrSentinel("+42")).isEqualTo(42);
+        assertThat(StringValidator.parseIntOrSentinel("2147483648")).isEqualTo(StringValidator.NOT_AN_INT);
+        assertThat(StringValidator.parseIntOrSentinel("4 2")).isEqualTo(StringValidator.NOT_AN_INT);
+    }
+
+    @Test
+    public void tryParseLongOrDefault_shouldParseOnlyLongs() {
+        assertThat(StringValidator.parseLongOrDefault("-9223372036854775808", 0)).isEqualTo(Long.MIN_VALUE);
+        assertThat(StringValidator.parseLongOrDefault("9223372036854775808", -1)).isEqualTo(-1);
+    }
+
+    @Test
+    public void tryCommaSeparatedListOfIntegersWithEmptyParts_shouldIgnoreOnlyTrailingOnes() {
+        assertThat(StringValidator.isCommaSeparatedListOfIntegers("1,2,")).isTrue();
+        assertThat(StringValidator.isCommaSeparatedListOfIntegers(",1")).isFalse();
+        assertThat(StringValidator.isCommaSeparatedListOfIntegers("1,,2")).isFalse();
+        assertThat(StringValidator.isCommaSeparatedListOfIntegers("")).isFalse();
+    }
+
+    @Test
+    public void tryCommaSeparatedListOfIntegersWithPredicate_shouldTestEveryInt() {
+        assertThat(StringValidator.isCommaSeparatedListOfIntegers("1,-2,3", i -> i > 0)).isFalse();
+        assertThat(StringValidator.isCommaSeparatedListOfIntegers("1,2,3", i -> i > 0)).isTrue();
+        assertThat(StringValidator.isCommaSeparatedListOfIntegers("1,99999999999", i -> i > 0)).isFalse();
+    }
+
+    @Test
+    public void trySimpleEmailWithInvalidParts_shouldBeFalse() {
+        assertThat(StringValidator.isSimpleEmail("a@b.c")).isTrue();
+        assertThat(StringValidator.isSimpleEmail("@b.c")).isFalse();
+        assertThat(StringValidator.isSimpleEmail("a@")).isFalse();
+        assertThat(StringValidator.isSimpleEmail("a@b@c")).isFalse();
+        assertThat(StringValidator.isSimpleEmail(".a@b")).isFalse();
+        assertThat(StringValidator.isSimpleEmail("a.@b")).isFalse();
+        assertThat(StringValidator.isSimpleEmail("a@b..c")).isFalse();
+        assertThat(StringValidator.isSimpleEmail("a@b.")).isFalse();
+        assertThat(StringValidator.isSimpleEmail(" @b")).isFalse();
+    }
+
+    @Test
+    public void tryContainsAnyWithOverlappingPatterns_shouldFindThem() {
+        StringValidator containsAny = validator.containsAny(Arrays.asList("he", "she", "hers", "his"));
+
+        assertThat(containsAny.test("ushers")).isTrue();
+        assertThat(containsAny.test("ahishers")).isTrue();
+        assertThat(containsAny.test("shh, h-e")).isFalse();
+        assertThat(validator.containsAny(Collections.singletonList("abcd")).test("xabcabcdx")).isTrue();
+    }
+
+    @Test
+    public void tryContainsAnyWithNoPatterns_shouldBeFalse() {
+        assertThat(validator.containsAny(Collections.emptyList()).test("anything")).isFalse();
+        assertThat(validator.containsNone(Collections.emptyList()).test("anything")).isTrue();
+    }
+
+    @Test
+    public void tryContainsAnyWithEmptyPattern_shouldBeTrue() {
+        assertThat(validator.containsAny(Collections.singletonList("")).test("")).isTrue();
+    }
+
+    @Test
+    public void tryContainsAnyIgnoringAsciiCase_shouldIgnoreOnlyAsciiCase() {
+        List<String> patterns = Arrays.asList("Spam", "\u00C4pfel");
+
+        assertThat(validator.containsAnyIgnoringAsciiCase(patterns).test("no SPAM here")).isTrue();
+        assertThat(validator.containsAnyIgnoringAsciiCase(patterns).test("\u00E4PFEL")).isFalse();
+        assertThat(validator.containsNoneIgnoringAsciiCase(patterns).test("\u00C4PFEL")).isFalse();
+        assertThat(validator.containsAny(patterns).test("no SPAM here")).isFalse();
+    }
+
+    @Test
+    public void tryContainsAnyWithRandomPatterns_shouldMatchStringContains() {
+        Random random = new Random(42);
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 200; i++)
+            patterns.add(randomString(random, 1 + random.nextInt(5)));
+
+        StringValidator containsAny = validator.containsAny(patterns);
+        StringValidator containsNone = validator.containsNone(patterns);
+        for (int i = 0; i < 1000; i++) {
+            String text = randomString(random, random.nextInt(30));
+            boolean expected = patterns.stream().anyMatch(text::contains);
+
+            assertThat(containsAny.test(text)).isEqualTo(expected);
+            assertThat(containsNone.test(text)).isEqualTo(!expected);
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++)
+            builder.append((char) ('a' + random.nextInt(4)));
+
+        return builder.toString();
+    }
+
 }
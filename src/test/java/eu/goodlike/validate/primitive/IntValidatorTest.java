@@ -1,14 +1,24 @@
 package eu.goodlike.validate.primitive;
 
 import eu.goodlike.functional.Some;
+import eu.goodlike.test.Allocations;
+import eu.goodlike.validate.Instrumentation;
 import eu.goodlike.validate.Validate;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
 
 public class IntValidatorTest {
 
@@ -290,4 +300,182 @@ public class IntValidatorTest {
         assertThat(validator.isDayOfMonth(2016, 2).test(29)).isTrue();
     }
 
+    @Test
+    public void tryCompiled_shouldBeSameAsNotCompiled() {
+        PrimitiveIntValidator notCompiled = validator.isBetween(1, 10).not().isEqual(5).or().isIn(20, 30)
+                .or().not().isBetween(-100, 100).isMoreThan(0);
+        PrimitiveIntValidator compiled = notCompiled.compile();
+
+        for (int i = -200; i <= 200; i++)
+            assertThat(compiled.test(i)).isEqualTo(notCompiled.test(i));
+    }
+
+    @Test
+    public void tryCompiledWithoutPredicates_shouldBeTrue() {
+        assertThat(validator.compile().test(1)).isTrue();
+    }
+
+    @Test
+    public void tryAddingAfterCompiled_shouldBeSameAsNotCompiled() {
+        PrimitiveIntValidator compiled = validator.isEqual(1).compile().or().isHourOfDay().isMoreThan(20);
+
+        assertThat(compiled.test(1)).isTrue();
+        assertThat(compiled.test(2)).isFalse();
+        assertThat(compiled.test(21)).isTrue();
+        assertThat(compiled.compile().test(21)).isTrue();
+        assertThat(compiled.compile().test(24)).isFalse();
+    }
+
+    @Test
+    public void tryOptimized_shouldBeSameAsNotOptimized() {
+        List<PrimitiveIntValidator> validators = Arrays.asList(
+                validator.isAtLeast(1).isAtMost(100).isBetween(5, 200),
+                validator.isMoreThan(Integer.MAX_VALUE).or().isLessThan(Integer.MIN_VALUE).or().isEqual(3),
+                validator.isBetweenExclusive(1, 10).isBetweenExclusiveLeft(3, 8).isBetweenExclusiveRight(2, 8),
+                validator.not().isBetween(-5, 5).isAtMost(50).or().isHourOfDay().isEqualComparably(7),
+                validator.isAtLeast(10).isAtMost(5).or().passes(i -> i % 3 == 0),
+                validator.isIn(1, 2, 3).or());
+
+        for (PrimitiveIntValidator notOptimized : validators) {
+            PrimitiveIntValidator optimized = notOptimized.optimize();
+            for (int i = -100; i <= 300; i++)
+                assertThat(optimized.test(i)).isEqualTo(notOptimized.test(i));
+            for (int i : new int[] {Integer.MIN_VALUE, Integer.MAX_VALUE})
+                assertThat(optimized.test(i)).isEqualTo(notOptimized.test(i));
+        }
+    }
+
+    @Test
+    public void tryTestAllWithRange_shouldMarkInvalidIndexes() {
+        BitSet failures = validator.isHourOfDay().testAll(new int[] {0, 24, 23, -1, 12});
+
+        assertThat(failures.stream().toArray()).containsExactly(1, 3);
+    }
+
+    @Test
+    public void tryTestAllWithManyRanges_shouldMarkInvalidIndexes() {
+        BitSet failures = validator.isBetween(1, 2).or().isBetween(5, 6).testAll(new int[] {0, 1, 2, 3, 4, 5, 6, 7});
+
+        assertThat(failures.stream().toArray()).containsExactly(0, 3, 4, 7);
+    }
+
+    @Test
+    public void tryTestAllWithCustomPredicate_shouldMarkInvalidIndexes() {
+        BitSet failures = validator.isAtLeast(0).passes(i -> i % 2 == 0).testAll(new int[] {-2, 1, 2, 3});
+
+        assertThat(failures.stream().toArray()).containsExactly(0, 1, 3);
+    }
+
+    @Test
+    public void tryTestAllInParallel_shouldBeSameAsSequential() {
+        int[] values = IntStream.range(0, 10000).map(i -> i % 100).toArray();
+        PrimitiveIntValidator minutes = validator.isMinuteOfHour();
+
+        BitSet parallel = minutes.testAll(values, 100);
+
+        assertThat(parallel).isEqualTo(minutes.testAll(values, Integer.MAX_VALUE));
+        assertThat(parallel.cardinality()).isEqualTo(4000);
+    }
+
+    @Test
+    public void tryAllValidWithValid_shouldBeTrue() {
+        assertThat(validator.isMonthOfYear().allValid(new int[] {1, 6, 12})).isTrue();
+    }
+
+    @Test
+    public void tryAllValidInRangeWithInvalidOutsideRange_shouldBeTrue() {
+        assertThat(validator.isMonthOfYear().allValid(new int[] {0, 6, 12, 13}, 1, 3)).isTrue();
+    }
+
+    @Test
+    public void tryAllValidWithInvalid_shouldBeFalse() {
+        assertThat(validator.isMonthOfYear().allValid(new int[] {1, 13})).isFalse();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void tryAllValidWithInvalidRange_shouldThrow() {
+        validator.isMonthOfYear().allValid(new int[] {1, 13}, 1, 3);
+    }
+
+    @Test
+    public void tryFirstInvalidIndex_shouldFindFirstInvalid() {
+        assertThat(validator.isMonthOfYear().firstInvalidIndex(new int[] {1, 13, 0})).isEqualTo(1);
+    }
+
+    @Test
+    public void tryFirstInvalidIndexWithAllValid_shouldBeNegative() {
+        assertThat(validator.isMonthOfYear().firstInvalidIndex(new int[] {1, 12})).isEqualTo(-1);
+    }
+
+    @Test
+    public void tryFilterValid_shouldLeaveOnlyValid() {
+        assertThat(validator.isMonthOfYear().filterValid(IntStream.of(0, 1, 12, 13)).toArray()).containsExactly(1, 12);
+    }
+
+    @Test
+    public void tryIsInWithVariousSizes_shouldMatchHashSet() {
+        Random random = new Random(9);
+        for (int size : new int[] {10, 1000, 100_000}) {
+            int[] values = random.ints(size, -size * 4, size * 4).toArray();
+            Set<Integer> expected = IntStream.of(values).boxed().collect(Collectors.toSet());
+            PrimitiveIntValidator isIn = validator.isIn(values);
+
+            for (int i = -size * 5; i < size * 5; i += 1 + size / 1000)
+                assertThat(isIn.test(i)).isEqualTo(expected.contains(i));
+        }
+    }
+
+    @Test
+    public void tryIsInWithoutGaps_shouldBeOptimizedLikeRange() {
+        PrimitiveIntValidator isIn = validator.isIn(5, 3, 4, 3).isBetween(4, 10).optimize();
+
+        assertThat(isIn.testAll(new int[] {2, 3, 4, 5, 6})).isEqualTo(BitSet.valueOf(new long[] {0b10011}));
+    }
+
+    @Test
+    public void tryIsInWithBoxedNulls_shouldIgnoreThem() {
+        assertThat(validator.isIn(new Integer[] {1, null, 3}).test(3)).isTrue();
+        assertThat(validator.isIn(new Integer[] {null}).test(0)).isFalse();
+    }
+
+    @Test
+    public void tryDoubleIsIn_shouldUseDoubleEquals() {
+        PrimitiveDoubleValidator isIn = Validate.aPrimDouble().isIn(0.0, Double.NaN, 1.5);
+
+        assertThat(isIn.test(Double.NaN)).isTrue();
+        assertThat(isIn.test(1.5)).isTrue();
+        assertThat(isIn.test(-0.0)).isFalse();
+        assertThat(Validate.aPrimDouble().isIn(-0.0).test(0.0)).isFalse();
+        assertThat(Validate.aPrimDouble().isIn(DoubleStream.iterate(0, d -> d + 0.5).limit(100).toArray()).test(49.5)).isTrue();
+    }
+
+    @Test
+    public void tryInstrumented_shouldCountAndSampleEveryRule() {
+        PrimitiveIntValidator instrumented = validator.isAtLeast(0).isAtMost(100).instrumented("intValidatorTest");
+
+        for (int i = -1000; i < 1000; i++)
+            instrumented.test(i);
+
+        List<Instrumentation.RuleSnapshot> rules = Instrumentation.snapshotAll().get("intValidatorTest");
+        assertThat(rules).extracting(Instrumentation.RuleSnapshot::getDescription)
+                .containsExactly("range [0, 2147483647]", "range [-2147483648, 100]");
+        assertThat(rules).extracting(Instrumentation.RuleSnapshot::getInvocations).containsExactly(2000L, 1000L);
+        assertThat(rules).extracting(Instrumentation.RuleSnapshot::getRejections).containsExactly(1000L, 899L);
+        assertThat(rules.get(0).getSamples()).isPositive().isLessThan(2000);
+    }
+
+    @Test
+    public void tryValidatingRange_shouldNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+
+        PrimitiveIntValidator range = validator.isMoreThan(0).isLessThan(100);
+        Runnable failure = () -> actionTester.add(-1);
+        long allocated = Allocations.measure(10_000, () -> {
+            range.ifInvalidRun(50, failure);
+            range.ifInvalidThrow(50, IllegalArgumentException::new);
+        });
+        assertThat(allocated).isLessThan(1024);
+        assertThat(actionTester).isEmpty();
+    }
+
 }
@@ -6,7 +6,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -290,4 +292,51 @@ public class LongValidatorTest {
         assertThat(validator.isDayOfMonth(2016, 2).test(29)).isTrue();
     }
 
+    @Test
+    public void tryOptimized_shouldBeSameAsNotOptimized() {
+        PrimitiveLongValidator notOptimized = validator.isMoreThan(Long.MAX_VALUE).or().isAtLeast(10L).isLessThan(20L)
+                .isBetweenExclusive(5L, 15L).or().isLessThan(Long.MIN_VALUE).or().isEqual(-3L);
+        PrimitiveLongValidator optimized = notOptimized.optimize();
+
+        for (long i = -30; i <= 30; i++)
+            assertThat(optimized.test(i)).isEqualTo(notOptimized.test(i));
+        for (long i : new long[] {Long.MIN_VALUE, Long.MAX_VALUE})
+            assertThat(optimized.test(i)).isEqualTo(notOptimized.test(i));
+    }
+
+    @Test
+    public void tryTestAll_shouldMarkInvalidIndexes() {
+        BitSet failures = validator.isAtLeast(0L).testAll(new long[] {0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE});
+
+        assertThat(failures.stream().toArray()).containsExactly(1, 3);
+    }
+
+    @Test
+    public void tryFirstInvalidIndex_shouldFindFirstInvalid() {
+        assertThat(validator.isAtLeast(0L).firstInvalidIndex(new long[] {1L, 2L, -1L})).isEqualTo(2);
+    }
+
+    @Test
+    public void tryFilterValid_shouldLeaveOnlyValid() {
+        assertThat(validator.isAtLeast(0L).filterValid(LongStream.of(-1L, 0L, 1L)).toArray()).containsExactly(0L, 1L);
+    }
+
+    @Test
+    public void tryIsInWithExtremes_shouldFindThem() {
+        PrimitiveLongValidator isIn = validator.isIn(Long.MIN_VALUE, 0, Long.MAX_VALUE);
+
+        assertThat(isIn.test(Long.MIN_VALUE)).isTrue();
+        assertThat(isIn.test(Long.MAX_VALUE)).isTrue();
+        assertThat(isIn.test(-1)).isFalse();
+    }
+
+    @Test
+    public void tryIsInWithManyValues_shouldFindOnlyThem() {
+        long[] values = LongStream.range(0, 1000).map(l -> l * 1_000_000_007L).toArray();
+        PrimitiveLongValidator isIn = validator.isIn(values);
+
+        assertThat(LongStream.of(values).allMatch(isIn::test)).isTrue();
+        assertThat(isIn.test(1_000_000_008L)).isFalse();
+    }
+
 }